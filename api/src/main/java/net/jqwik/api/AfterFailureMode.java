@@ -40,6 +40,17 @@ public enum AfterFailureMode {
 	 */
 	SAMPLE_FIRST,
 
+	/**
+	 * Use the previous random seed and run the try that detected a failure first,
+	 * if that succeeds run all tries of the previous seed.
+	 *
+	 * The failing try is generated without generating the tries before it.
+	 * Only works for randomized generation.
+	 * Will use previous seed otherwise.
+	 */
+	@API(status = EXPERIMENTAL, since = "1.3.0")
+	PREVIOUS_TRY_FIRST,
+
 	NOT_SET
 
 }
@@ -50,6 +50,10 @@ public class Arbitraries {
 
 		public abstract <M> ActionSequenceArbitrary<M> sequences(Arbitrary<? extends Action<M>> actionArbitrary);
 
+		public abstract <M> ActionSequenceArbitrary<M> sequences(List<ActionType<M>> actionTypes);
+
+		public abstract <S, M> ConcurrentActionSequenceArbitrary<S, M> concurrentSequences(Arbitrary<? extends ConcurrentAction<S, M>> actionArbitrary);
+
 		public abstract <T> Arbitrary<T> frequencyOf(List<Tuple2<Integer, Arbitrary<T>>> frequencies);
 
 		public abstract IntegerArbitrary integers();
@@ -585,6 +589,34 @@ public class Arbitraries {
 		return ArbitrariesFacade.implementation.sequences(actionArbitrary);
 	}
 
+	/**
+	 * Create an arbitrary to create a sequence of actions from several action types.
+	 * In each step one of the action types enabled for the current model is chosen randomly
+	 * and only then an action of this type is generated.
+	 *
+	 * @param actionTypes The types of actions to choose from
+	 * @param <M>         The type of the model
+	 * @return a new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.3.0")
+	public static <M> ActionSequenceArbitrary<M> sequences(List<ActionType<M>> actionTypes) {
+		return ArbitrariesFacade.implementation.sequences(actionTypes);
+	}
+
+	/**
+	 * Create an arbitrary to create a sequential prefix of actions followed by several
+	 * branches of actions that are run concurrently. Useful for testing thread safe systems.
+	 *
+	 * @param actionArbitrary The arbitrary to generate individual actions.
+	 * @param <S>             The type of the system under test
+	 * @param <M>             The type of the model
+	 * @return a new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.3.0")
+	public static <S, M> ConcurrentActionSequenceArbitrary<S, M> concurrentSequences(Arbitrary<? extends ConcurrentAction<S, M>> actionArbitrary) {
+		return ArbitrariesFacade.implementation.concurrentSequences(actionArbitrary);
+	}
+
 	/**
 	 * Create an arbitrary to create instances of {@linkplain Map}.
 	 * The generated maps are mutable.
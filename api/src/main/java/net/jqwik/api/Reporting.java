@@ -8,7 +8,10 @@ import static org.apiguardian.api.API.Status.*;
 
 @API(status = MAINTAINED, since = "1.0")
 public enum Reporting {
-	GENERATED, FALSIFIED;
+	GENERATED, FALSIFIED,
+
+	@API(status = EXPERIMENTAL, since = "1.3.0")
+	PERFORMANCE;
 
 	public boolean containedIn(Reporting[] reporting) {
 		return Arrays.stream(reporting).anyMatch(this::equals);
@@ -75,4 +75,22 @@ public interface DoubleArbitrary extends Arbitrary<Double> {
 	 */
 	@API(status = EXPERIMENTAL, since = "1.1.5")
 	DoubleArbitrary shrinkTowards(double target);
+
+	/**
+	 * Add {@code special} to the values that can be generated, e.g. {@code Double.NaN}.
+	 * Special values are generated as edge cases and are not restricted by range or scale.
+	 *
+	 * @param special A value that is generated in addition to the configured range
+	 */
+	@API(status = EXPERIMENTAL, since = "1.3.0")
+	DoubleArbitrary withSpecialValue(double special);
+
+	/**
+	 * Add {@code NaN}, positive and negative infinity, {@code -0.0}, {@code Double.MIN_VALUE}
+	 * and {@code Double.MIN_NORMAL} to the values that can be generated.
+	 *
+	 * @see #withSpecialValue(double)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.3.0")
+	DoubleArbitrary withStandardSpecialValues();
 }
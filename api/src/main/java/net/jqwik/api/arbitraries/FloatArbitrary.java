@@ -73,4 +73,22 @@ public interface FloatArbitrary extends Arbitrary<Float> {
 	 */
 	@API(status = EXPERIMENTAL, since = "1.1.5")
 	FloatArbitrary shrinkTowards(float target);
+
+	/**
+	 * Add {@code special} to the values that can be generated, e.g. {@code Float.NaN}.
+	 * Special values are generated as edge cases and are not restricted by range or scale.
+	 *
+	 * @param special A value that is generated in addition to the configured range
+	 */
+	@API(status = EXPERIMENTAL, since = "1.3.0")
+	FloatArbitrary withSpecialValue(float special);
+
+	/**
+	 * Add {@code NaN}, positive and negative infinity, {@code -0.0}, {@code Float.MIN_VALUE}
+	 * and {@code Float.MIN_NORMAL} to the values that can be generated.
+	 *
+	 * @see #withSpecialValue(float)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.3.0")
+	FloatArbitrary withStandardSpecialValues();
 }
@@ -93,4 +93,59 @@ public interface StringArbitrary extends Arbitrary<String> {
 	 * but only in plane 0 (aka Basic Multilingual Plane)
 	 */
 	StringArbitrary all();
+
+	/**
+	 * Allow all unicode code points within {@code from} (included) and {@code to} (included)
+	 * to show up in generated strings. In contrast to {@linkplain #withCharRange(char, char)}
+	 * this includes supplementary code points beyond the Basic Multilingual Plane.
+	 *
+	 * <p>
+	 * Can be combined with other methods that allow chars or code points.
+	 * As soon as code points are used the length of generated strings is counted in code points,
+	 * which means that {@linkplain String#length()} can be larger than the configured maximum length.
+	 * Code points cannot be combined with {@linkplain #withChars(Arbitrary)}.
+	 * </p>
+	 *
+	 * <p>
+	 * Surrogate code points {@code 0xD800} to {@code 0xDFFF} are never generated since two of them
+	 * could form a single supplementary code point.
+	 * A range that consists of surrogates only is rejected.
+	 * </p>
+	 */
+	@API(status = EXPERIMENTAL, since = "1.3.0")
+	StringArbitrary withCodePoints(int from, int to);
+
+	/**
+	 * Allow all unicode code points of the given general categories to show up in generated strings,
+	 * e.g. {@code withUnicodeCategories(Character.UPPERCASE_LETTER, Character.LOWERCASE_LETTER)}
+	 * for letters from any script.
+	 * Each code point will be shrunk towards the lowest allowed code point of its category.
+	 *
+	 * <p>
+	 * Can be combined with other methods that allow chars or code points.
+	 * See {@linkplain #withCodePoints(int, int)} for how code points change the length of generated strings.
+	 * </p>
+	 *
+	 * @param categories Constants as returned by {@linkplain Character#getType(int)}
+	 */
+	@API(status = EXPERIMENTAL, since = "1.3.0")
+	StringArbitrary withUnicodeCategories(int... categories);
+
+	/**
+	 * Generate only strings that match the given regular expression as a whole.
+	 * Supported are literals, escapes, character classes, {@code .}, groups, alternatives
+	 * and greedy or reluctant quantifiers. Constructs that do not describe a regular language,
+	 * like back references, lookarounds, possessive quantifiers or embedded flags,
+	 * will lead to an exception.
+	 *
+	 * <p>
+	 * All other settings for allowed chars or code points are ignored.
+	 * The configured minimum and maximum length is counted in code points.
+	 * Shrinking of generated strings will only produce strings that also match.
+	 * </p>
+	 *
+	 * @param regex A regular expression in the syntax of {@linkplain java.util.regex.Pattern}
+	 */
+	@API(status = EXPERIMENTAL, since = "1.3.0")
+	StringArbitrary matching(String regex);
 }
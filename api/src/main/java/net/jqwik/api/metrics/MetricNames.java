@@ -0,0 +1,70 @@
+package net.jqwik.api.metrics;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Names of all metrics that jqwik hands to {@linkplain MetricsRecorder} implementations.
+ */
+@API(status = EXPERIMENTAL, since = "1.3.0")
+public class MetricNames {
+
+	private MetricNames() {
+	}
+
+	/**
+	 * Counter: Number of tries, i.e. calls to a property method.
+	 */
+	public static final String TRIES = "jqwik.tries";
+
+	/**
+	 * Counter: Number of tries that were rejected by an assumption.
+	 */
+	public static final String DISCARDS = "jqwik.discards";
+
+	/**
+	 * Counter: Number of generated values that were rejected by a filter.
+	 */
+	public static final String FILTER_MISSES = "jqwik.filter.misses";
+
+	/**
+	 * Histogram: Number of filter misses before a value was accepted.
+	 */
+	public static final String FILTER_MISSES_PER_VALUE = "jqwik.filter.misses.per.value";
+
+	/**
+	 * Counter: Number of tries whose parameters were taken from edge cases.
+	 */
+	public static final String EDGE_CASES = "jqwik.edge.cases";
+
+	/**
+	 * Histogram: Number of successful shrinking steps of a falsified property.
+	 */
+	public static final String SHRINKING_STEPS = "jqwik.shrinking.steps";
+
+	/**
+	 * Timer: Duration of a single try including generation of its parameters.
+	 */
+	public static final String TRY_DURATION = "jqwik.try.duration";
+
+	/**
+	 * Timer: Duration of shrinking a falsified property.
+	 */
+	public static final String SHRINKING_DURATION = "jqwik.shrinking.duration";
+
+	/**
+	 * Timer: Duration of reading the test run database.
+	 */
+	public static final String DATABASE_READ = "jqwik.database.read";
+
+	/**
+	 * Timer: Duration of writing a single test run to the test run database.
+	 */
+	public static final String DATABASE_WRITE = "jqwik.database.write";
+
+	/**
+	 * Timer: Duration of discovering all properties and containers of a test run.
+	 */
+	public static final String DISCOVERY_DURATION = "jqwik.discovery.duration";
+}
@@ -0,0 +1,61 @@
+package net.jqwik.api.metrics;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * Implement this interface to observe jqwik's engine internals, e.g. to export them
+ * to a monitoring system. All methods have a no-op default implementation
+ * so that you only have to override the kinds of metrics you are interested in.
+ *
+ * <p>
+ * Recorders are registered either through Java's {@linkplain java.util.ServiceLoader}
+ * mechanism, i.e. listing the implementation class in
+ * {@code META-INF/services/net.jqwik.api.metrics.MetricsRecorder},
+ * or by setting property {@code metricsRecorder} in {@code jqwik.properties}
+ * to the fully qualified name of the implementation class.
+ * Implementations must have a default constructor.
+ * </p>
+ *
+ * <p>
+ * Metrics are recorded from the thread that executes a property,
+ * so implementations must be thread safe. See {@linkplain MetricNames} for all metrics being recorded.
+ * </p>
+ */
+@API(status = EXPERIMENTAL, since = "1.3.0")
+public interface MetricsRecorder {
+
+	/**
+	 * Increment a counter.
+	 *
+	 * @param metric     The name of the metric, one of {@linkplain MetricNames}
+	 * @param propertyId The unique id of the current property or an empty string
+	 *                   if the metric does not belong to a property
+	 * @param increment  The value to add
+	 */
+	default void count(String metric, String propertyId, long increment) {
+	}
+
+	/**
+	 * Record the duration of an operation.
+	 *
+	 * @param metric     The name of the metric, one of {@linkplain MetricNames}
+	 * @param propertyId The unique id of the current property or an empty string
+	 *                   if the metric does not belong to a property
+	 * @param nanos      The duration in nanoseconds
+	 */
+	default void time(String metric, String propertyId, long nanos) {
+	}
+
+	/**
+	 * Record a single value of a distribution.
+	 *
+	 * @param metric     The name of the metric, one of {@linkplain MetricNames}
+	 * @param propertyId The unique id of the current property or an empty string
+	 *                   if the metric does not belong to a property
+	 * @param value      The value to record
+	 */
+	default void record(String metric, String propertyId, long value) {
+	}
+}
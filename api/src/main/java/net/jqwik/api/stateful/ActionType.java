@@ -0,0 +1,69 @@
+package net.jqwik.api.stateful;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.apiguardian.api.*;
+
+import net.jqwik.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * A type of actions whose precondition only depends on the model and not on an action's parameters.
+ * When generating an {@linkplain ActionSequence} from several action types only types
+ * enabled for the current model are considered so that no actions are generated in vain.
+ *
+ * @param <M> The type of the model
+ * @see Arbitraries#sequences(List)
+ */
+@API(status = EXPERIMENTAL, since = "1.3.0")
+public class ActionType<M> {
+
+	/**
+	 * An action type that is enabled for all models.
+	 *
+	 * @param actions the arbitrary to generate actions of this type
+	 */
+	public static <M> ActionType<M> of(Arbitrary<? extends Action<M>> actions) {
+		return new ActionType<>(null, actions);
+	}
+
+	/**
+	 * An action type that is only enabled if {@code precondition} is true for the current model.
+	 * The precondition is also checked when a shrunk sequence is run.
+	 *
+	 * @param precondition the condition for actions of this type
+	 * @param actions the arbitrary to generate actions of this type
+	 */
+	public static <M> ActionType<M> of(Predicate<M> precondition, Arbitrary<? extends Action<M>> actions) {
+		if (precondition == null) {
+			throw new IllegalArgumentException("Precondition of action type must not be null");
+		}
+		return new ActionType<>(precondition, actions);
+	}
+
+	private final Predicate<M> precondition;
+	private final Arbitrary<Action<M>> actions;
+
+	@SuppressWarnings("unchecked")
+	private ActionType(Predicate<M> precondition, Arbitrary<? extends Action<M>> actions) {
+		if (actions == null) {
+			throw new IllegalArgumentException("Actions of action type must not be null");
+		}
+		this.precondition = precondition;
+		this.actions = (Arbitrary<Action<M>>) actions;
+	}
+
+	public Optional<Predicate<M>> precondition() {
+		return Optional.ofNullable(precondition);
+	}
+
+	public boolean isEnabled(M model) {
+		return precondition == null || precondition.test(model);
+	}
+
+	public Arbitrary<Action<M>> actions() {
+		return actions;
+	}
+}
@@ -0,0 +1,45 @@
+package net.jqwik.api.stateful;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * An action that is run concurrently with other actions against a shared system under test {@code S}.
+ * Its sequential specification is given by an immutable model {@code M}.
+ *
+ * @param <S> The type of the system under test
+ * @param <M> The type of the model
+ * @see ConcurrentActionSequence
+ */
+@API(status = EXPERIMENTAL, since = "1.3.0")
+public interface ConcurrentAction<S, M> {
+
+	/**
+	 * Perform the action on the system under test.
+	 * Will be called concurrently with other actions on the same system.
+	 *
+	 * @param system the shared system under test
+	 * @return the observable result of the action, e.g. the value returned by the called method
+	 */
+	Object run(S system);
+
+	/**
+	 * Check if {@code result} is a valid result when the action is applied to {@code model}.
+	 *
+	 * @param model the model state before the action
+	 * @param result the result returned by {@linkplain #run(Object)}
+	 * @return true if the result is valid
+	 */
+	boolean postcondition(M model, Object result);
+
+	/**
+	 * Apply the action to the model. Models must not be changed in place.
+	 * They should implement {@code equals()} and {@code hashCode()}
+	 * so that the check for a valid sequential order can recognize states it has already visited.
+	 *
+	 * @param model the model state before the action
+	 * @return the model state after the action
+	 */
+	M nextModel(M model);
+}
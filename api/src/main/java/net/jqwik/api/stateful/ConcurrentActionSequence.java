@@ -0,0 +1,46 @@
+package net.jqwik.api.stateful;
+
+import java.util.*;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * A sequential prefix of {@linkplain ConcurrentAction concurrent actions} followed by
+ * several branches of actions that are run on separate threads against the same system.
+ *
+ * <p>
+ * The results of a run are accepted if they are linearizable, i.e. if there is a
+ * sequential order of all actions that respects the real-time order of non-overlapping actions
+ * and in which each action's result satisfies its postcondition on the model.
+ * </p>
+ *
+ * @param <S> The type of the system under test
+ * @param <M> The type of the model
+ */
+@API(status = EXPERIMENTAL, since = "1.3.0")
+public interface ConcurrentActionSequence<S, M> {
+
+	List<ConcurrentAction<S, M>> prefix();
+
+	List<List<ConcurrentAction<S, M>>> branches();
+
+	/**
+	 * Run the prefix and then all branches concurrently and check that their results are linearizable.
+	 *
+	 * @param system the shared system under test
+	 * @param model the model state corresponding to the initial state of {@code system}
+	 * @return the system after running all actions
+	 * @throws AssertionError if an action fails or if no sequential order explains the results
+	 */
+	S run(S system, M model);
+
+	ActionSequence.RunState runState();
+
+	/**
+	 * @return the duration in nanoseconds of each branch action in the order of invocation.
+	 * Empty if the sequence has not been run.
+	 */
+	List<Long> branchActionDurations();
+}
@@ -0,0 +1,35 @@
+package net.jqwik.api.stateful;
+
+import java.time.*;
+
+import org.apiguardian.api.*;
+
+import net.jqwik.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+@API(status = EXPERIMENTAL, since = "1.3.0")
+public interface ConcurrentActionSequenceArbitrary<S, M> extends Arbitrary<ConcurrentActionSequence<S, M>> {
+
+	/**
+	 * Set the maximum number of actions run sequentially before the branches start. Default is 5.
+	 */
+	ConcurrentActionSequenceArbitrary<S, M> ofMaxPrefixSize(int maxPrefixSize);
+
+	/**
+	 * Set the maximum number of actions in each branch. Default is 10.
+	 */
+	ConcurrentActionSequenceArbitrary<S, M> ofMaxBranchSize(int maxBranchSize);
+
+	/**
+	 * Set the number of branches, each running on its own thread. Default is 2.
+	 */
+	ConcurrentActionSequenceArbitrary<S, M> withBranches(int numberOfBranches);
+
+	/**
+	 * Set the maximum time to wait for all branches to finish. Default is 10 seconds.
+	 * Branches that are still running then are interrupted and the sequence fails
+	 * with the history of actions that have finished so far.
+	 */
+	ConcurrentActionSequenceArbitrary<S, M> withTimeout(Duration timeout);
+}
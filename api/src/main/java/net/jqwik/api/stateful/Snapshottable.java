@@ -0,0 +1,37 @@
+package net.jqwik.api.stateful;
+
+import org.apiguardian.api.*;
+
+import static org.apiguardian.api.API.Status.*;
+
+/**
+ * A model that can capture its current state and restore it later on.
+ * When shrinking an {@linkplain ActionSequence} the state after the actions
+ * a candidate shares with a previously run candidate is then restored
+ * instead of running those actions again. Actions, invariants and peekers
+ * are not called for the restored actions.
+ *
+ * <p>
+ * Only models that are changed in place are restored,
+ * i.e. all actions must return the model instance they were given.
+ * A snapshot is taken after each successful action during shrinking.
+ * </p>
+ *
+ * @param <S> The type of the snapshot
+ */
+@API(status = EXPERIMENTAL, since = "1.3.0")
+public interface Snapshottable<S> {
+
+	/**
+	 * @return the current state, including the state of any system under test
+	 * the model controls. The snapshot must not change when the model changes.
+	 */
+	S snapshot();
+
+	/**
+	 * Bring a freshly created model into the state captured by {@code snapshot}.
+	 *
+	 * @param snapshot a snapshot taken by a model of the same type
+	 */
+	void restore(S snapshot);
+}
@@ -0,0 +1,78 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+/**
+ * Measures the overhead of {@linkplain Combinators} compared to generating the combined values directly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombinatorsBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private Random random;
+
+	private RandomGenerator<Integer> combine2;
+	private RandomGenerator<Integer> combine4;
+	private RandomGenerator<Integer> combine8;
+	private RandomGenerator<Integer> combineList;
+	private RandomGenerator<String> builder;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		random = SourceOfRandomness.newRandom(42L);
+		Arbitrary<Integer> ints = Arbitraries.integers();
+
+		combine2 = Combinators.combine(ints, ints).as((i1, i2) -> i1 ^ i2).generator(GEN_SIZE);
+		combine4 = Combinators.combine(ints, ints, ints, ints)
+							  .as((i1, i2, i3, i4) -> i1 ^ i2 ^ i3 ^ i4)
+							  .generator(GEN_SIZE);
+		combine8 = Combinators.combine(ints, ints, ints, ints, ints, ints, ints, ints)
+							  .as((i1, i2, i3, i4, i5, i6, i7, i8) -> i1 ^ i2 ^ i3 ^ i4 ^ i5 ^ i6 ^ i7 ^ i8)
+							  .generator(GEN_SIZE);
+		combineList = Combinators.combine(Collections.nCopies(8, ints))
+								 .as(list -> list.stream().reduce(0, (a, b) -> a ^ b))
+								 .generator(GEN_SIZE);
+		builder = Combinators.withBuilder(StringBuilder::new)
+							 .use(Arbitraries.strings().alpha().ofLength(5)).in(StringBuilder::append)
+							 .use(ints).in(StringBuilder::append)
+							 .build(StringBuilder::toString)
+							 .generator(GEN_SIZE);
+	}
+
+	@Benchmark
+	public Integer combine2() {
+		return combine2.next(random).value();
+	}
+
+	@Benchmark
+	public Integer combine4() {
+		return combine4.next(random).value();
+	}
+
+	@Benchmark
+	public Integer combine8() {
+		return combine8.next(random).value();
+	}
+
+	@Benchmark
+	public Integer combineList() {
+		return combineList.next(random).value();
+	}
+
+	@Benchmark
+	public String builder() {
+		return builder.next(random).value();
+	}
+}
@@ -0,0 +1,49 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.engine.discovery.*;
+import org.junit.platform.launcher.core.*;
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.engine.*;
+
+/**
+ * Measures the time the engine needs to discover the synthetic suite in {@linkplain DiscoveryProperties}.
+ * Results are reported per discovered property.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiscoveryBenchmarks {
+
+	private EngineDiscoveryRequest request;
+
+	@Setup
+	public void createRequest() {
+		List<ClassSelector> containers =
+			Arrays.stream(DiscoveryProperties.class.getDeclaredClasses())
+				  .filter(aClass -> aClass.getSimpleName().startsWith("Container"))
+				  .map(DiscoverySelectors::selectClass)
+				  .collect(Collectors.toList());
+		request = LauncherDiscoveryRequestBuilder.request().selectors(containers).build();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(DiscoveryProperties.PROPERTIES)
+	public TestDescriptor discoverSuite() {
+		TestDescriptor engineDescriptor = new JqwikTestEngine().discover(request, UniqueId.forEngine(JqwikTestEngine.ENGINE_ID));
+		long properties = engineDescriptor.getDescendants().stream().filter(TestDescriptor::isTest).count();
+		if (properties != DiscoveryProperties.PROPERTIES) {
+			throw new IllegalStateException(String.format("Discovered %s instead of %s properties", properties, DiscoveryProperties.PROPERTIES));
+		}
+		return engineDescriptor;
+	}
+
+}
@@ -0,0 +1,1085 @@
+package net.jqwik.benchmarks;
+
+import net.jqwik.api.*;
+
+/**
+ * A synthetic suite of {@value #PROPERTIES} properties discovered by {@linkplain DiscoveryBenchmarks}.
+ * Properties are inherited from {@linkplain HundredProperties} by groups nested two levels deep
+ * within ten containers.
+ */
+public class DiscoveryProperties {
+
+	static final int PROPERTIES = 10 * 5 * 2 * 100;
+
+	public static abstract class HundredProperties {
+		@Property
+		boolean property00(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property01(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property02(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property03(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property04(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property05(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property06(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property07(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property08(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property09(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property10(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property11(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property12(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property13(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property14(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property15(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property16(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property17(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property18(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property19(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property20(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property21(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property22(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property23(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property24(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property25(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property26(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property27(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property28(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property29(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property30(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property31(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property32(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property33(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property34(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property35(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property36(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property37(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property38(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property39(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property40(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property41(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property42(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property43(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property44(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property45(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property46(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property47(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property48(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property49(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property50(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property51(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property52(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property53(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property54(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property55(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property56(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property57(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property58(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property59(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property60(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property61(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property62(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property63(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property64(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property65(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property66(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property67(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property68(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property69(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property70(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property71(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property72(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property73(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property74(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property75(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property76(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property77(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property78(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property79(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property80(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property81(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property82(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property83(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property84(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property85(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property86(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property87(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property88(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property89(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property90(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property91(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property92(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property93(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property94(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property95(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property96(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property97(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property98(@ForAll int anInt) {
+			return true;
+		}
+
+		@Property
+		boolean property99(@ForAll int anInt) {
+			return true;
+		}
+	}
+
+	public static class Container0 {
+		@Group
+		class Group0 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group1 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group2 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group3 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group4 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+	}
+
+	public static class Container1 {
+		@Group
+		class Group0 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group1 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group2 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group3 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group4 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+	}
+
+	public static class Container2 {
+		@Group
+		class Group0 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group1 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group2 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group3 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group4 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+	}
+
+	public static class Container3 {
+		@Group
+		class Group0 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group1 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group2 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group3 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group4 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+	}
+
+	public static class Container4 {
+		@Group
+		class Group0 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group1 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group2 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group3 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group4 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+	}
+
+	public static class Container5 {
+		@Group
+		class Group0 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group1 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group2 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group3 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group4 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+	}
+
+	public static class Container6 {
+		@Group
+		class Group0 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group1 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group2 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group3 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group4 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+	}
+
+	public static class Container7 {
+		@Group
+		class Group0 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group1 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group2 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group3 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group4 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+	}
+
+	public static class Container8 {
+		@Group
+		class Group0 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group1 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group2 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group3 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group4 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+	}
+
+	public static class Container9 {
+		@Group
+		class Group0 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group1 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group2 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group3 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+
+		@Group
+		class Group4 {
+			@Group
+			class SubGroup0 extends HundredProperties {
+			}
+
+			@Group
+			class SubGroup1 extends HundredProperties {
+			}
+		}
+	}
+}
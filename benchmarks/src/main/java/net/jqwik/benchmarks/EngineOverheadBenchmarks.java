@@ -0,0 +1,61 @@
+package net.jqwik.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.*;
+import org.junit.platform.testkit.engine.*;
+import org.openjdk.jmh.annotations.*;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.*;
+
+/**
+ * Measures the overhead the engine adds to each try by running properties with trivial bodies
+ * through the full JUnit platform execution path. Results are reported per try.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EngineOverheadBenchmarks {
+
+	@Benchmark
+	@OperationsPerInvocation(EngineOverheadProperties.TRIES)
+	public EngineExecutionResults oneParameter() {
+		return execute(selectMethod(EngineOverheadProperties.class, "oneParameter", "int"));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(EngineOverheadProperties.TRIES)
+	public EngineExecutionResults threeParameters() {
+		return execute(selectMethod(EngineOverheadProperties.class, "threeParameters", "int, java.lang.String, java.util.List"));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(EngineOverheadProperties.TRIES)
+	public EngineExecutionResults withTryLifecycleMethods() {
+		return execute(selectClass(EngineOverheadProperties.WithTryLifecycleMethods.class));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(EngineOverheadProperties.TRIES)
+	public EngineExecutionResults withAssumptions() {
+		return execute(selectMethod(EngineOverheadProperties.class, "withAssumptions", "int"));
+	}
+
+	@Benchmark
+	public EngineExecutionResults singleTry() {
+		return execute(selectMethod(EngineOverheadProperties.class, "singleTry", "int"));
+	}
+
+	private static EngineExecutionResults execute(DiscoverySelector selector) {
+		EngineExecutionResults results = EngineTestKit.engine("jqwik").selectors(selector).execute();
+		long failures = results.testEvents().failed().count();
+		if (failures > 0) {
+			throw new IllegalStateException(String.format("Benchmark property failed: %s", selector));
+		}
+		return results;
+	}
+
+}
@@ -0,0 +1,59 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Properties with trivial bodies executed by {@linkplain EngineOverheadBenchmarks}.
+ */
+public class EngineOverheadProperties {
+
+	static final int TRIES = 1000;
+
+	@Property(tries = TRIES, seed = "42")
+	boolean oneParameter(@ForAll int anInt) {
+		return true;
+	}
+
+	@Property(tries = TRIES, seed = "42")
+	boolean threeParameters(@ForAll int anInt, @ForAll String aString, @ForAll List<Integer> aList) {
+		return true;
+	}
+
+	@Property(tries = TRIES, seed = "42", maxDiscardRatio = 10)
+	boolean withAssumptions(@ForAll int anInt) {
+		Assume.that(anInt % 2 == 0);
+		return true;
+	}
+
+	@Property(tries = 1, seed = "42")
+	boolean singleTry(@ForAll int anInt) {
+		return true;
+	}
+
+	@Group
+	class WithTryLifecycleMethods {
+
+		private int counter;
+
+		@BeforeTry
+		void resetCounter() {
+			counter = 0;
+		}
+
+		@Property(tries = TRIES, seed = "42")
+		boolean incrementCounter(@ForAll int anInt) {
+			counter++;
+			return counter == 1;
+		}
+
+		@AfterTry
+		void checkCounter() {
+			if (counter != 1) {
+				throw new IllegalStateException("counter should be 1");
+			}
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Measures full iteration of exhaustive generators. Each benchmark iterates over all values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExhaustiveGenerationBenchmarks {
+
+	private ExhaustiveGenerator<Integer> integers;
+	private ExhaustiveGenerator<Character> chars;
+	private ExhaustiveGenerator<String> strings;
+	private ExhaustiveGenerator<List<Integer>> lists;
+	private ExhaustiveGenerator<Set<Integer>> sets;
+	private ExhaustiveGenerator<Integer> combined;
+	private ExhaustiveGenerator<Integer> filtered;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		integers = exhaustive(Arbitraries.integers().between(0, 9999));
+		chars = exhaustive(Arbitraries.chars().range('a', 'z').digit());
+		strings = exhaustive(Arbitraries.strings().withCharRange('a', 'e').ofMaxLength(4));
+		lists = exhaustive(Arbitraries.integers().between(0, 9).list().ofMaxSize(4));
+		sets = exhaustive(Arbitraries.integers().between(0, 9).set().ofMaxSize(4));
+		combined = exhaustive(Combinators.combine(
+			Arbitraries.integers().between(0, 99),
+			Arbitraries.integers().between(0, 99)
+		).as((i1, i2) -> i1 * i2));
+		filtered = exhaustive(Arbitraries.integers().between(0, 9999).filter(i -> i % 3 == 0));
+	}
+
+	private static <T> ExhaustiveGenerator<T> exhaustive(Arbitrary<T> arbitrary) {
+		return arbitrary.exhaustive().orElseThrow(() -> new IllegalStateException("No exhaustive generator available"));
+	}
+
+	@Benchmark
+	public void integers(Blackhole blackhole) {
+		integers.forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public void chars(Blackhole blackhole) {
+		chars.forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public void strings(Blackhole blackhole) {
+		strings.forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public void lists(Blackhole blackhole) {
+		lists.forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public void sets(Blackhole blackhole) {
+		sets.forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public void combined(Blackhole blackhole) {
+		combined.forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public void filtered(Blackhole blackhole) {
+		filtered.forEach(blackhole::consume);
+	}
+}
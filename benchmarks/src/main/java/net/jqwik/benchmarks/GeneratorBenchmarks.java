@@ -0,0 +1,158 @@
+package net.jqwik.benchmarks;
+
+import java.math.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+/**
+ * Measures the cost of generating a single value with each of the default arbitraries.
+ * Values are generated through {@linkplain RandomGenerator#next(Random)} and then
+ * materialized with {@linkplain Shrinkable#value()} as the engine would do in a try.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratorBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private Random random;
+
+	private RandomGenerator<Integer> integers;
+	private RandomGenerator<Long> longs;
+	private RandomGenerator<Short> shorts;
+	private RandomGenerator<Byte> bytes;
+	private RandomGenerator<BigInteger> bigIntegers;
+	private RandomGenerator<Float> floats;
+	private RandomGenerator<Double> doubles;
+	private RandomGenerator<BigDecimal> bigDecimals;
+	private RandomGenerator<Character> chars;
+	private RandomGenerator<String> strings;
+	private RandomGenerator<String> alphaStrings;
+	private RandomGenerator<Function<String, Integer>> functions;
+	private RandomGenerator<Person> types;
+	private RandomGenerator<List<Integer>> lists;
+	private RandomGenerator<Set<Integer>> sets;
+	private RandomGenerator<int[]> intArrays;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		random = SourceOfRandomness.newRandom(42L);
+
+		integers = Arbitraries.integers().generator(GEN_SIZE);
+		longs = Arbitraries.longs().generator(GEN_SIZE);
+		shorts = Arbitraries.shorts().generator(GEN_SIZE);
+		bytes = Arbitraries.bytes().generator(GEN_SIZE);
+		bigIntegers = Arbitraries.bigIntegers().generator(GEN_SIZE);
+		floats = Arbitraries.floats().generator(GEN_SIZE);
+		doubles = Arbitraries.doubles().generator(GEN_SIZE);
+		bigDecimals = Arbitraries.bigDecimals().generator(GEN_SIZE);
+		chars = Arbitraries.chars().generator(GEN_SIZE);
+		strings = Arbitraries.strings().generator(GEN_SIZE);
+		alphaStrings = Arbitraries.strings().alpha().ofMaxLength(50).generator(GEN_SIZE);
+		functions = Functions.function(Function.class).<Function<String, Integer>, Integer>returns(Arbitraries.integers()).generator(GEN_SIZE);
+		types = Arbitraries.forType(Person.class).generator(GEN_SIZE);
+		lists = Arbitraries.integers().list().ofMaxSize(50).generator(GEN_SIZE);
+		sets = Arbitraries.integers().between(0, 1000).set().ofMaxSize(50).generator(GEN_SIZE);
+		intArrays = Arbitraries.integers().array(int[].class).ofMaxSize(50).generator(GEN_SIZE);
+	}
+
+	@Benchmark
+	public Integer integers() {
+		return integers.next(random).value();
+	}
+
+	@Benchmark
+	public Long longs() {
+		return longs.next(random).value();
+	}
+
+	@Benchmark
+	public Short shorts() {
+		return shorts.next(random).value();
+	}
+
+	@Benchmark
+	public Byte bytes() {
+		return bytes.next(random).value();
+	}
+
+	@Benchmark
+	public BigInteger bigIntegers() {
+		return bigIntegers.next(random).value();
+	}
+
+	@Benchmark
+	public Float floats() {
+		return floats.next(random).value();
+	}
+
+	@Benchmark
+	public Double doubles() {
+		return doubles.next(random).value();
+	}
+
+	@Benchmark
+	public BigDecimal bigDecimals() {
+		return bigDecimals.next(random).value();
+	}
+
+	@Benchmark
+	public Character chars() {
+		return chars.next(random).value();
+	}
+
+	@Benchmark
+	public String strings() {
+		return strings.next(random).value();
+	}
+
+	@Benchmark
+	public String alphaStrings() {
+		return alphaStrings.next(random).value();
+	}
+
+	@Benchmark
+	public Integer functions() {
+		return functions.next(random).value().apply("a string");
+	}
+
+	@Benchmark
+	public Person types() {
+		return types.next(random).value();
+	}
+
+	@Benchmark
+	public List<Integer> lists() {
+		return lists.next(random).value();
+	}
+
+	@Benchmark
+	public Set<Integer> sets() {
+		return sets.next(random).value();
+	}
+
+	@Benchmark
+	public int[] intArrays() {
+		return intArrays.next(random).value();
+	}
+
+	public static class Person {
+		private final String name;
+		private final int age;
+
+		public Person(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Measures full shrinking with {@linkplain PropertyShrinker} of canonical failures.
+ * The falsified samples are generated once per trial with a fixed seed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShrinkingBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	private Shrinkable<Object> intAboveThreshold;
+	private Shrinkable<Object> listWithBadElement;
+	private Shrinkable<Object> nestedLists;
+	private Shrinkable<Object> stringWithBadChar;
+
+	private final Predicate<Integer> intBelowThreshold = i -> i < 1000;
+	private final Predicate<List<Integer>> noBadElement = list -> list.stream().allMatch(i -> i <= 900);
+	private final Predicate<List<List<Integer>>> fewNestedElements = lists -> lists.stream().mapToInt(List::size).sum() < 10;
+	private final Predicate<String> noBadChar = s -> s.indexOf('x') < 0;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Random random = SourceOfRandomness.newRandom(42L);
+
+		intAboveThreshold = falsifiedSample(
+			Arbitraries.integers().between(0, 1_000_000),
+			intBelowThreshold,
+			random
+		);
+		listWithBadElement = falsifiedSample(
+			Arbitraries.integers().between(0, 1000).list().ofMinSize(20).ofMaxSize(100),
+			noBadElement,
+			random
+		);
+		nestedLists = falsifiedSample(
+			Arbitraries.integers().between(0, 100).list().ofMaxSize(10).list().ofMaxSize(10),
+			fewNestedElements,
+			random
+		);
+		stringWithBadChar = falsifiedSample(
+			Arbitraries.strings().withCharRange('a', 'z').ofMinLength(20).ofMaxLength(100),
+			noBadChar,
+			random
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Shrinkable<Object> falsifiedSample(Arbitrary<T> arbitrary, Predicate<T> property, Random random) {
+		RandomGenerator<T> generator = arbitrary.generator(GEN_SIZE);
+		while (true) {
+			Shrinkable<T> shrinkable = generator.next(random);
+			if (!property.test(shrinkable.value())) {
+				return (Shrinkable<Object>) shrinkable;
+			}
+		}
+	}
+
+	@Benchmark
+	public List<Object> intThreshold() {
+		return shrink(intAboveThreshold, intBelowThreshold);
+	}
+
+	@Benchmark
+	public List<Object> listWithBadElement() {
+		return shrink(listWithBadElement, noBadElement);
+	}
+
+	@Benchmark
+	public List<Object> nestedLists() {
+		return shrink(nestedLists, fewNestedElements);
+	}
+
+	@Benchmark
+	public List<Object> stringWithBadChar() {
+		return shrink(stringWithBadChar, noBadChar);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> List<Object> shrink(Shrinkable<Object> sample, Predicate<T> property) {
+		PropertyShrinker shrinker = new PropertyShrinker(
+			Collections.singletonList(sample),
+			ShrinkingMode.FULL,
+			entry -> {},
+			new Reporting[0]
+		);
+		Falsifier<List<Object>> falsifier = params -> {
+			if (property.test((T) params.get(0))) {
+				return TryExecutionResult.satisfied();
+			}
+			return TryExecutionResult.falsified(null);
+		};
+		return shrinker.shrink(falsifier, null).values();
+	}
+}
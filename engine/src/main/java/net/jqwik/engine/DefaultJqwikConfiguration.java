@@ -7,14 +7,22 @@ import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
+import net.jqwik.api.metrics.*;
+import net.jqwik.engine.discovery.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.metrics.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.recording.*;
 
 public class DefaultJqwikConfiguration implements JqwikConfiguration {
 
 	private static final Logger LOG = Logger.getLogger(JqwikConfiguration.class.getName());
 
+	private static final String DISCOVERY_INDEX_SUFFIX = "-discovery-index";
+
 	private final JqwikProperties properties;
 	private TestEngineConfiguration testEngineConfiguration = null;
+	private List<MetricsRecorder> metricsRecorders = null;
 
 	DefaultJqwikConfiguration() {
 		this(new JqwikProperties());
@@ -31,7 +39,8 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			properties.defaultMaxDiscardRatio(),
 			properties.defaultAfterFailure(),
 			properties.defaultGeneration(),
-			properties.defaultEdgeCases()
+			properties.defaultEdgeCases(),
+			TryPartition.parse(properties.tryPartition(), properties.tryPartitionSeed())
 		);
 	}
 
@@ -53,6 +62,38 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 		return properties.reportOnlyFailures();
 	}
 
+	@Override
+	public boolean reportPerformance() {
+		return properties.reportPerformance();
+	}
+
+	@Override
+	public List<MetricsRecorder> metricsRecorders() {
+		if (null == metricsRecorders) {
+			metricsRecorders = RegisteredMetricsRecorders.load(properties.metricsRecorder());
+		}
+		return metricsRecorders;
+	}
+
+	@Override
+	public Shard shard() {
+		return Shard.of(properties.shardIndex(), properties.shardCount(), properties.shardByDuration());
+	}
+
+	@Override
+	public IncrementalRun incrementalRun() {
+		return IncrementalRun.of(
+			properties.incremental(),
+			IncrementalRun.parseClasspath(properties.incrementalClasspath()),
+			properties.incrementalFullRunAfter()
+		);
+	}
+
+	@Override
+	public boolean runLongestFirst() {
+		return properties.runLongestFirst();
+	}
+
 	private TestEngineConfiguration createTestEngineConfiguration() {
 		String databasePath = properties.databasePath();
 		if (databasePath == null || databasePath.trim().isEmpty()) {
@@ -101,6 +142,11 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 					return Collections.emptySet();
 				return previousRun.allNonSuccessfulTests().map(TestRun::getUniqueId).collect(Collectors.toSet());
 			}
+
+			@Override
+			public DiscoveryIndex discoveryIndex() {
+				return DiscoveryIndex.persistent(Paths.get(databasePath + DISCOVERY_INDEX_SUFFIX));
+			}
 		};
 	}
 }
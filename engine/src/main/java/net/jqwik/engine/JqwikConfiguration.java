@@ -1,5 +1,10 @@
 package net.jqwik.engine;
 
+import java.util.*;
+
+import net.jqwik.api.metrics.*;
+import net.jqwik.engine.execution.*;
+
 public interface JqwikConfiguration {
 	PropertyDefaultValues propertyDefaultValues();
 
@@ -8,4 +13,20 @@ public interface JqwikConfiguration {
 	boolean useJunitPlatformReporter();
 
 	boolean reportOnlyFailures();
+
+	boolean reportPerformance();
+
+	List<MetricsRecorder> metricsRecorders();
+
+	default Shard shard() {
+		return Shard.all();
+	}
+
+	default IncrementalRun incrementalRun() {
+		return IncrementalRun.off();
+	}
+
+	default boolean runLongestFirst() {
+		return false;
+	}
 }
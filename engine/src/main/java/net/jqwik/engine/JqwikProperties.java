@@ -13,13 +13,24 @@ public class JqwikProperties {
 	private static final String[] SUPPORTED_PROPERTIES = new String[]{
 		"database",
 		"runFailuresFirst",
+		"runLongestFirst",
 		"defaultTries",
 		"defaultMaxDiscardRatio",
 		"useJunitPlatformReporter",
 		"defaultAfterFailure",
 		"reportOnlyFailures",
 		"defaultGeneration",
-		"defaultEdgeCases"
+		"defaultEdgeCases",
+		"reportPerformance",
+		"metricsRecorder",
+		"shardIndex",
+		"shardCount",
+		"shardByDuration",
+		"tryPartition",
+		"tryPartitionSeed",
+		"incremental",
+		"incrementalClasspath",
+		"incrementalFullRunAfter"
 	};
 
 	private static final String PROPERTIES_FILE_NAME = "jqwik.properties";
@@ -27,12 +38,23 @@ public class JqwikProperties {
 
 	private static final String DEFAULT_DATABASE_PATH = ".jqwik-database";
 	private static final String DEFAULT_RERUN_FAILURES_FIRST = "false";
+	private static final String DEFAULT_RUN_LONGEST_FIRST = "false";
 	private static final String DEFAULT_TRIES_VALUE = Integer.toString(DEFAULT_TRIES);
 	private static final String DEFAULT_MAX_DISCARD_RATIO = "5";
 	private static final String DEFAULT_AFTER_FAILURE = AfterFailureMode.PREVIOUS_SEED.name();
 	private static final String DEFAULT_REPORT_ONLY_FAILURES = "false";
 	private static final String DEFAULT_GENERATION = GenerationMode.AUTO.name();
 	private static final String DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN.name();
+	private static final String DEFAULT_REPORT_PERFORMANCE = "false";
+	private static final String DEFAULT_METRICS_RECORDER = "";
+	private static final String DEFAULT_SHARD_INDEX = "0";
+	private static final String DEFAULT_SHARD_COUNT = "1";
+	private static final String DEFAULT_SHARD_BY_DURATION = "false";
+	private static final String DEFAULT_TRY_PARTITION = "";
+	private static final String DEFAULT_TRY_PARTITION_SEED = "";
+	private static final String DEFAULT_INCREMENTAL = "false";
+	private static final String DEFAULT_INCREMENTAL_CLASSPATH = "";
+	private static final String DEFAULT_INCREMENTAL_FULL_RUN_AFTER = "10";
 
 	// TODO: Change default to true as soon as Gradle has support for platform reporter
 	// see https://github.com/gradle/gradle/issues/4605
@@ -40,6 +62,7 @@ public class JqwikProperties {
 
 	private String databasePath;
 	private boolean runFailuresFirst;
+	private boolean runLongestFirst;
 	private int defaultTries;
 	private int defaultMaxDiscardRatio;
 	private boolean useJunitPlatformReporter;
@@ -47,6 +70,16 @@ public class JqwikProperties {
 	private boolean reportOnlyFailures;
 	private GenerationMode defaultGeneration;
 	private EdgeCasesMode defaultEdgeCases;
+	private boolean reportPerformance;
+	private String metricsRecorder;
+	private int shardIndex;
+	private int shardCount;
+	private boolean shardByDuration;
+	private String tryPartition;
+	private String tryPartitionSeed;
+	private boolean incremental;
+	private String incrementalClasspath;
+	private int incrementalFullRunAfter;
 
 	public String databasePath() {
 		return databasePath;
@@ -56,6 +89,10 @@ public class JqwikProperties {
 		return runFailuresFirst;
 	}
 
+	public boolean runLongestFirst() {
+		return runLongestFirst;
+	}
+
 	public int defaultTries() {
 		return defaultTries;
 	}
@@ -76,6 +113,46 @@ public class JqwikProperties {
 		return reportOnlyFailures;
 	}
 
+	public boolean reportPerformance() {
+		return reportPerformance;
+	}
+
+	public String metricsRecorder() {
+		return metricsRecorder;
+	}
+
+	public int shardIndex() {
+		return shardIndex;
+	}
+
+	public int shardCount() {
+		return shardCount;
+	}
+
+	public boolean shardByDuration() {
+		return shardByDuration;
+	}
+
+	public String tryPartition() {
+		return tryPartition;
+	}
+
+	public String tryPartitionSeed() {
+		return tryPartitionSeed;
+	}
+
+	public boolean incremental() {
+		return incremental;
+	}
+
+	public String incrementalClasspath() {
+		return incrementalClasspath;
+	}
+
+	public int incrementalFullRunAfter() {
+		return incrementalFullRunAfter;
+	}
+
 	public GenerationMode defaultGeneration() {
 		return defaultGeneration;
 	}
@@ -105,6 +182,7 @@ public class JqwikProperties {
 			warnOnUnsupportedProperties(properties);
 			databasePath = properties.getProperty("database", DEFAULT_DATABASE_PATH);
 			runFailuresFirst = Boolean.parseBoolean(properties.getProperty("runFailuresFirst", DEFAULT_RERUN_FAILURES_FIRST));
+			runLongestFirst = Boolean.parseBoolean(properties.getProperty("runLongestFirst", DEFAULT_RUN_LONGEST_FIRST));
 			defaultTries = Integer.parseInt(properties.getProperty("defaultTries", DEFAULT_TRIES_VALUE));
 			defaultMaxDiscardRatio = Integer.parseInt(properties.getProperty("defaultMaxDiscardRatio", DEFAULT_MAX_DISCARD_RATIO));
 			useJunitPlatformReporter =
@@ -113,6 +191,17 @@ public class JqwikProperties {
 			reportOnlyFailures = Boolean.parseBoolean(properties.getProperty("reportOnlyFailures", DEFAULT_REPORT_ONLY_FAILURES));
 			defaultGeneration = GenerationMode.valueOf(properties.getProperty("defaultGeneration", DEFAULT_GENERATION));
 			defaultEdgeCases = EdgeCasesMode.valueOf(properties.getProperty("defaultEdgeCases", DEFAULT_EDGE_CASES));
+			reportPerformance = Boolean.parseBoolean(properties.getProperty("reportPerformance", DEFAULT_REPORT_PERFORMANCE));
+			metricsRecorder = properties.getProperty("metricsRecorder", DEFAULT_METRICS_RECORDER);
+			shardIndex = Integer.parseInt(properties.getProperty("shardIndex", DEFAULT_SHARD_INDEX));
+			shardCount = Integer.parseInt(properties.getProperty("shardCount", DEFAULT_SHARD_COUNT));
+			shardByDuration = Boolean.parseBoolean(properties.getProperty("shardByDuration", DEFAULT_SHARD_BY_DURATION));
+			tryPartition = properties.getProperty("tryPartition", DEFAULT_TRY_PARTITION);
+			tryPartitionSeed = properties.getProperty("tryPartitionSeed", DEFAULT_TRY_PARTITION_SEED);
+			incremental = Boolean.parseBoolean(properties.getProperty("incremental", DEFAULT_INCREMENTAL));
+			incrementalClasspath = properties.getProperty("incrementalClasspath", DEFAULT_INCREMENTAL_CLASSPATH);
+			incrementalFullRunAfter =
+				Integer.parseInt(properties.getProperty("incrementalFullRunAfter", DEFAULT_INCREMENTAL_FULL_RUN_AFTER));
 		} catch (Throwable throwable) {
 			String message = String.format("Error while reading properties file [%s]", propertiesFileName);
 			throw new JqwikException(message, throwable);
@@ -9,6 +9,8 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.metrics.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
@@ -45,35 +47,67 @@ public class JqwikTestEngine implements TestEngine {
 			return JqwikExceptionSupport.throwAsUncheckedException(startupThrowable);
 		}
 
+		EngineMetrics.use(configuration.metricsRecorders());
 		TestDescriptor engineDescriptor = new JqwikEngineDescriptor(uniqueId);
-		new JqwikDiscoverer(configuration.testEngineConfiguration().previousRun(), configuration.propertyDefaultValues())
-			.discover(request, engineDescriptor);
+		TestEngineConfiguration testEngineConfiguration = configuration.testEngineConfiguration();
+		new JqwikDiscoverer(
+			testEngineConfiguration.previousRun(),
+			propertyDefaultValues(request.getConfigurationParameters()),
+			testEngineConfiguration.discoveryIndex()
+		).discover(request, engineDescriptor);
 
 		return engineDescriptor;
 	}
 
+	private PropertyDefaultValues propertyDefaultValues(ConfigurationParameters configurationParameters) {
+		PropertyDefaultValues defaultValues = configuration.propertyDefaultValues();
+		return defaultValues.withTryPartition(defaultValues.tryPartition().overriddenBy(configurationParameters));
+	}
+
 	@Override
 	public void execute(ExecutionRequest request) {
 		TestDescriptor root = request.getRootTestDescriptor();
 		EngineExecutionListener engineExecutionListener = request.getEngineExecutionListener();
 		try {
+			EngineMetrics.use(configuration.metricsRecorders());
 			registerLifecycleHooks(root, request.getConfigurationParameters());
-			executeTests(root, engineExecutionListener);
+			ConfigurationParameters configurationParameters = request.getConfigurationParameters();
+			executeTests(
+				root,
+				engineExecutionListener,
+				configuration.shard().overriddenBy(configurationParameters),
+				configuration.incrementalRun().overriddenBy(configurationParameters),
+				configurationParameters.getBoolean(JqwikExecutor.RUN_LONGEST_FIRST_PARAMETER).orElse(configuration.runLongestFirst())
+			);
 		} catch (Throwable throwable) {
 			LOG.log(Level.SEVERE, throwable.getMessage(), throwable);
 			//noinspection ResultOfMethodCallIgnored
 			JqwikExceptionSupport.throwAsUncheckedException(throwable);
+		} finally {
+			JqwikAnnotationSupport.clearCaches();
+			OverriddenMethodAnnotationSupport.clearCache();
 		}
 	}
 
-	private void executeTests(TestDescriptor root, EngineExecutionListener listener) {
+	private void executeTests(
+		TestDescriptor root,
+		EngineExecutionListener listener,
+		Shard shard,
+		IncrementalRun incrementalRun,
+		boolean runLongestFirst
+	) {
 		try (TestRunRecorder recorder = configuration.testEngineConfiguration().recorder()) {
 			new JqwikExecutor(
 				lifecycleRegistry,
 				recorder,
+				configuration.testEngineConfiguration().previousRun(),
 				configuration.testEngineConfiguration().previousFailures(),
+				shard,
+				incrementalRun,
+				runLongestFirst,
 				configuration.useJunitPlatformReporter(),
-				configuration.reportOnlyFailures()
+				configuration.reportOnlyFailures(),
+				configuration.reportPerformance()
 			).execute(root, listener);
 		}
 	}
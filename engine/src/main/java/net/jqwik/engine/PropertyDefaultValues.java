@@ -1,6 +1,7 @@
 package net.jqwik.engine;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
 
 public interface PropertyDefaultValues {
 	int tries();
@@ -10,12 +11,31 @@ public interface PropertyDefaultValues {
 	GenerationMode generation();
 	EdgeCasesMode edgeCases();
 
+	default TryPartition tryPartition() {
+		return TryPartition.ALL;
+	}
+
+	default PropertyDefaultValues withTryPartition(TryPartition changedTryPartition) {
+		return with(tries(), maxDiscardRatio(), afterFailure(), generation(), edgeCases(), changedTryPartition);
+	}
+
 	static PropertyDefaultValues with(
 		int tries,
 		int maxDiscardRatio,
 		AfterFailureMode afterFailureMode,
 		GenerationMode generationMode,
 		final EdgeCasesMode edgeCasesMode
+	) {
+		return with(tries, maxDiscardRatio, afterFailureMode, generationMode, edgeCasesMode, TryPartition.ALL);
+	}
+
+	static PropertyDefaultValues with(
+		int tries,
+		int maxDiscardRatio,
+		AfterFailureMode afterFailureMode,
+		GenerationMode generationMode,
+		final EdgeCasesMode edgeCasesMode,
+		TryPartition tryPartition
 	) {
 		return new PropertyDefaultValues() {
 			@Override
@@ -42,6 +62,11 @@ public interface PropertyDefaultValues {
 			public EdgeCasesMode edgeCases() {
 				return edgeCasesMode;
 			}
+
+			@Override
+			public TryPartition tryPartition() {
+				return tryPartition;
+			}
 		};
 	}
 }
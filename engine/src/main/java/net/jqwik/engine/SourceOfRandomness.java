@@ -37,6 +37,20 @@ public class SourceOfRandomness {
 		return new XORShiftRandom(seed);
 	}
 
+	/**
+	 * Create a random that only depends on {@code seed} and {@code index}
+	 * so that values can be generated independently and in any order,
+	 * e.g. the elements of a lazily generated list.
+	 */
+	public static Random newRandom(final long seed, final long index) {
+		// Mix bits like SplitMix64 since similar seeds produce similar sequences in XORShiftRandom
+		long mixed = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+		mixed = (mixed ^ (mixed >>> 30)) * 0xBF58476D1CE4E5B9L;
+		mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+		mixed = mixed ^ (mixed >>> 31);
+		return newRandom(mixed == 0L ? 1L : mixed);
+	}
+
 	public static Random current() {
 		return current.get();
 	}
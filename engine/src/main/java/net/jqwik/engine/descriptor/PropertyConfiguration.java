@@ -4,6 +4,7 @@ import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.*;
+import net.jqwik.engine.properties.*;
 
 public class PropertyConfiguration {
 
@@ -12,6 +13,16 @@ public class PropertyConfiguration {
 		PropertyDefaultValues propertyDefaultValues,
 		String previousSeed,
 		List<Object> falsifiedSample
+	) {
+		return from(property, propertyDefaultValues, previousSeed, falsifiedSample, null);
+	}
+
+	public static PropertyConfiguration from(
+		Property property,
+		PropertyDefaultValues propertyDefaultValues,
+		String previousSeed,
+		List<Object> falsifiedSample,
+		Integer previousFailingTry
 	) {
 		int tries = property.tries() == Property.TRIES_NOT_SET
 						? propertyDefaultValues.tries()
@@ -38,12 +49,14 @@ public class PropertyConfiguration {
 			property.seed(),
 			previousSeed,
 			falsifiedSample,
+			previousFailingTry,
 			tries,
 			maxDiscardRatio,
 			property.shrinking(),
 			generation,
 			afterFailure,
-			edgeCasesMode
+			edgeCasesMode,
+			propertyDefaultValues.tryPartition()
 		);
 	}
 
@@ -51,35 +64,41 @@ public class PropertyConfiguration {
 	private final String seed;
 	private final String previousSeed;
 	private final List<Object> falsifiedSample;
+	private final Integer previousFailingTry;
 	private final int tries;
 	private final int maxDiscardRatio;
 	private final ShrinkingMode shrinkingMode;
 	private final GenerationMode generationMode;
 	private final AfterFailureMode afterFailureMode;
 	private final EdgeCasesMode edgeCasesMode;
+	private final TryPartition tryPartition;
 
 	public PropertyConfiguration(
 		String stereotype,
 		String seed,
 		String previousSeed,
 		List<Object> falsifiedSample,
+		Integer previousFailingTry,
 		int tries,
 		int maxDiscardRatio,
 		ShrinkingMode shrinkingMode,
 		GenerationMode generationMode,
 		AfterFailureMode afterFailureMode,
-		EdgeCasesMode edgeCasesMode
+		EdgeCasesMode edgeCasesMode,
+		TryPartition tryPartition
 	) {
 		this.stereotype = stereotype;
 		this.seed = seed;
 		this.previousSeed = previousSeed;
 		this.falsifiedSample = falsifiedSample;
+		this.previousFailingTry = previousFailingTry;
 		this.tries = tries;
 		this.maxDiscardRatio = maxDiscardRatio;
 		this.shrinkingMode = shrinkingMode;
 		this.generationMode = generationMode;
 		this.afterFailureMode = afterFailureMode;
 		this.edgeCasesMode = edgeCasesMode;
+		this.tryPartition = tryPartition;
 	}
 
 	public PropertyConfiguration withSeed(String changedSeed) {
@@ -88,12 +107,14 @@ public class PropertyConfiguration {
 			changedSeed,
 			this.previousSeed,
 			this.falsifiedSample,
+			this.previousFailingTry,
 			this.tries,
 			this.maxDiscardRatio,
 			this.shrinkingMode,
 			this.generationMode,
 			this.afterFailureMode,
-			this.edgeCasesMode
+			this.edgeCasesMode,
+			this.tryPartition
 		);
 	}
 
@@ -103,12 +124,14 @@ public class PropertyConfiguration {
 			this.seed,
 			this.previousSeed,
 			this.falsifiedSample,
+			this.previousFailingTry,
 			this.tries,
 			this.maxDiscardRatio,
 			this.shrinkingMode,
 			changedGenerationMode,
 			this.afterFailureMode,
-			this.edgeCasesMode
+			this.edgeCasesMode,
+			this.tryPartition
 		);
 	}
 
@@ -118,12 +141,14 @@ public class PropertyConfiguration {
 			this.seed,
 			this.previousSeed,
 			this.falsifiedSample,
+			this.previousFailingTry,
 			changedTries,
 			this.maxDiscardRatio,
 			this.shrinkingMode,
 			this.generationMode,
 			this.afterFailureMode,
-			this.edgeCasesMode
+			this.edgeCasesMode,
+			this.tryPartition
 		);
 	}
 
@@ -139,6 +164,10 @@ public class PropertyConfiguration {
 		return falsifiedSample;
 	}
 
+	public Integer getPreviousFailingTry() {
+		return previousFailingTry;
+	}
+
 	public String getStereotype() {
 		return stereotype;
 	}
@@ -166,4 +195,8 @@ public class PropertyConfiguration {
 	public EdgeCasesMode getEdgeCasesMode() {
 		return edgeCasesMode;
 	}
+
+	public TryPartition getTryPartition() {
+		return tryPartition;
+	}
 }
@@ -0,0 +1,100 @@
+package net.jqwik.engine.discovery;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.logging.*;
+
+import net.jqwik.engine.support.*;
+
+/**
+ * Remembers which scanned classes are test containers together with a hash
+ * of the class files they depend on. Unchanged classes can then skip
+ * the reflection needed to find properties and groups.
+ *
+ * <p>
+ * The hash covers the class itself, its superclasses and interfaces
+ * and the member classes of all of them since these determine
+ * which properties and groups a container has.
+ * </p>
+ */
+public class DiscoveryIndex {
+
+	private static final Logger LOG = Logger.getLogger(DiscoveryIndex.class.getName());
+
+	private static final int FORMAT_VERSION = 1;
+
+	private static class Entry implements Serializable {
+		private final long hash;
+		private final boolean isTestContainer;
+
+		private Entry(long hash, boolean isTestContainer) {
+			this.hash = hash;
+			this.isTestContainer = isTestContainer;
+		}
+	}
+
+	public static DiscoveryIndex inMemory() {
+		return new DiscoveryIndex(null, new ConcurrentHashMap<>());
+	}
+
+	public static DiscoveryIndex persistent(Path indexPath) {
+		return new DiscoveryIndex(indexPath, load(indexPath));
+	}
+
+	private final Path indexPath;
+	private final Map<String, Entry> entries;
+	private final ClassFileHashes classFileHashes = new ClassFileHashes();
+	private volatile boolean changed = false;
+
+	private DiscoveryIndex(Path indexPath, Map<String, Entry> entries) {
+		this.indexPath = indexPath;
+		this.entries = entries;
+	}
+
+	boolean isTestContainer(Class<?> candidate, Predicate<Class<?>> isTestContainer) {
+		Optional<Long> hash = classFileHashes.hierarchyHash(candidate);
+		if (!hash.isPresent()) {
+			return isTestContainer.test(candidate);
+		}
+		Entry entry = entries.get(candidate.getName());
+		if (entry != null && entry.hash == hash.get()) {
+			return entry.isTestContainer;
+		}
+		boolean result = isTestContainer.test(candidate);
+		entries.put(candidate.getName(), new Entry(hash.get(), result));
+		changed = true;
+		return result;
+	}
+
+	public void save() {
+		if (indexPath == null || !changed) {
+			return;
+		}
+		try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(indexPath))) {
+			out.writeInt(FORMAT_VERSION);
+			out.writeObject(new HashMap<>(entries));
+			changed = false;
+		} catch (IOException e) {
+			LOG.log(Level.WARNING, e, () -> String.format("Cannot write discovery index [%s]", indexPath.toAbsolutePath()));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Entry> load(Path indexPath) {
+		if (!Files.exists(indexPath)) {
+			return new ConcurrentHashMap<>();
+		}
+		try (ObjectInputStream in = new ObjectInputStream(Files.newInputStream(indexPath))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return new ConcurrentHashMap<>();
+			}
+			return new ConcurrentHashMap<>((Map<String, Entry>) in.readObject());
+		} catch (Exception e) {
+			LOG.log(Level.WARNING, e, () -> String.format("Cannot read discovery index [%s]", indexPath.toAbsolutePath()));
+			return new ConcurrentHashMap<>();
+		}
+	}
+}
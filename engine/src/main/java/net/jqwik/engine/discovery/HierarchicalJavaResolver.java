@@ -28,12 +28,25 @@ class HierarchicalJavaResolver {
 
 	private final TestDescriptor engineDescriptor;
 	private final Set<ElementResolver> resolvers;
+	private final Map<Class<?>, List<Method>> testMethodCandidates = new ConcurrentHashMap<>();
 
 	HierarchicalJavaResolver(TestDescriptor engineDescriptor, Set<ElementResolver> resolvers) {
 		this.engineDescriptor = engineDescriptor;
 		this.resolvers = resolvers;
 	}
 
+	/**
+	 * Look up test method candidates ahead of {@linkplain #resolveClass(Class)}. Can be called concurrently.
+	 */
+	void prepareClass(Class<?> testClass) {
+		try {
+			testMethodCandidates(testClass);
+		} catch (Throwable t) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(t);
+			// Will be reported when class is resolved
+		}
+	}
+
 	SelectorResolutionResult resolveClass(Class<?> testClass) {
 		return resolveSafely(() -> {
 			Set<TestDescriptor> resolvedDescriptors = resolveContainerWithParents(testClass);
@@ -162,8 +175,11 @@ class HierarchicalJavaResolver {
 	}
 
 	private void resolveContainedMethods(TestDescriptor containerDescriptor, Class<?> testClass) {
-		List<Method> testMethodCandidates = findMethods(testClass, isDiscoverableTestMethod, TOP_DOWN);
-		testMethodCandidates.forEach(method -> resolve(method, containerDescriptor));
+		testMethodCandidates(testClass).forEach(method -> resolve(method, containerDescriptor));
+	}
+
+	private List<Method> testMethodCandidates(Class<?> testClass) {
+		return testMethodCandidates.computeIfAbsent(testClass, aClass -> findMethods(aClass, isDiscoverableTestMethod, TOP_DOWN));
 	}
 
 	private Set<TestDescriptor> resolve(AnnotatedElement element, TestDescriptor parent) {
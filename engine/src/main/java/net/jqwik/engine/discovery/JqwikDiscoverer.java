@@ -2,65 +2,65 @@ package net.jqwik.engine.discovery;
 
 import java.util.*;
 import java.util.function.*;
+import java.util.logging.*;
+import java.util.stream.*;
 
+import org.junit.platform.commons.support.*;
 import org.junit.platform.engine.*;
 import org.junit.platform.engine.discovery.*;
 
+import net.jqwik.api.metrics.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.discovery.predicates.*;
+import net.jqwik.engine.metrics.*;
 import net.jqwik.engine.recording.*;
+import net.jqwik.engine.support.*;
 
 import static org.junit.platform.commons.support.ReflectionSupport.*;
 import static org.junit.platform.engine.Filter.*;
 
 public class JqwikDiscoverer {
 
+	private static final Logger LOG = Logger.getLogger(JqwikDiscoverer.class.getName());
+
 	private static final IsScannableContainerClass isScannableTestClass = new IsScannableContainerClass();
+	private static final IsPotentialTestContainer isPotentialTestContainer = new IsPotentialTestContainer();
 
 	private final TestRunData testRunData;
 	private final PropertyDefaultValues propertyDefaultValues;
+	private final DiscoveryIndex discoveryIndex;
 
 	public JqwikDiscoverer(TestRunData testRunData, PropertyDefaultValues propertyDefaultValues) {
+		this(testRunData, propertyDefaultValues, DiscoveryIndex.inMemory());
+	}
+
+	public JqwikDiscoverer(TestRunData testRunData, PropertyDefaultValues propertyDefaultValues, DiscoveryIndex discoveryIndex) {
 		this.testRunData = testRunData;
 		this.propertyDefaultValues = propertyDefaultValues;
+		this.discoveryIndex = discoveryIndex;
 	}
 
 	public void discover(EngineDiscoveryRequest request, TestDescriptor engineDescriptor) {
+		long start = EngineMetrics.startTiming();
 		HierarchicalJavaResolver javaElementsResolver = createHierarchicalResolver(engineDescriptor);
 		EngineDiscoveryListener discoveryListener = request.getDiscoveryListener();
 		Predicate<String> classNamePredicate = buildClassNamePredicate(request);
 
 		request.getSelectorsByType(ModuleSelector.class).forEach(selector -> {
-			findAllClassesInModule(selector.getModuleName(), isScannableTestClass, classNamePredicate)
-				.forEach(testClass -> {
-					discoveryListener.selectorProcessed(
-						engineDescriptor.getUniqueId(),
-						selector,
-						javaElementsResolver.resolveClass(testClass)
-					);
-				});
+			List<Class<?>> candidates = findAllClassesInModule(selector.getModuleName(), isPotentialTestClass(), classNamePredicate);
+			resolveScannedClasses(candidates, selector, engineDescriptor, javaElementsResolver, discoveryListener);
 		});
 		request.getSelectorsByType(ClasspathRootSelector.class).forEach(selector -> {
-			findAllClassesInClasspathRoot(selector.getClasspathRoot(), isScannableTestClass, classNamePredicate)
-				.forEach(testClass -> {
-					discoveryListener.selectorProcessed(
-						engineDescriptor.getUniqueId(),
-						selector,
-						javaElementsResolver.resolveClass(testClass)
-					);
-				});
+			List<Class<?>> candidates = findAllClassesInClasspathRoot(selector.getClasspathRoot(), isPotentialTestClass(), classNamePredicate);
+			resolveScannedClasses(candidates, selector, engineDescriptor, javaElementsResolver, discoveryListener);
 		});
 		request.getSelectorsByType(PackageSelector.class).forEach(selector -> {
-			findAllClassesInPackage(selector.getPackageName(), isScannableTestClass, classNamePredicate)
-				.forEach(testClass -> {
-					discoveryListener.selectorProcessed(
-						engineDescriptor.getUniqueId(),
-						selector,
-						javaElementsResolver.resolveClass(testClass)
-					);
-				});
+			List<Class<?>> candidates = findAllClassesInPackage(selector.getPackageName(), isPotentialTestClass(), classNamePredicate);
+			resolveScannedClasses(candidates, selector, engineDescriptor, javaElementsResolver, discoveryListener);
 		});
-		request.getSelectorsByType(ClassSelector.class).forEach(selector -> {
+		List<ClassSelector> classSelectors = request.getSelectorsByType(ClassSelector.class);
+		classSelectors.parallelStream().forEach(selector -> prepareSelectedClass(selector, javaElementsResolver));
+		classSelectors.forEach(selector -> {
 			discoveryListener.selectorProcessed(
 				engineDescriptor.getUniqueId(),
 				selector,
@@ -81,6 +81,55 @@ public class JqwikDiscoverer {
 				javaElementsResolver.resolveUniqueId(selector.getUniqueId())
 			);
 		});
+		discoveryIndex.save();
+		EngineMetrics.timeSince(MetricNames.DISCOVERY_DURATION, start);
+	}
+
+	private static Predicate<Class<?>> isPotentialTestClass() {
+		return candidate -> !ModifierSupport.isPrivate(candidate) && isPotentialTestContainer.test(candidate);
+	}
+
+	/**
+	 * Reflection over scanned classes is done in parallel. Building the descriptor tree is not thread safe
+	 * and therefore done sequentially and in the order the classes have been found.
+	 */
+	private void resolveScannedClasses(
+		List<Class<?>> candidates,
+		DiscoverySelector selector,
+		TestDescriptor engineDescriptor,
+		HierarchicalJavaResolver javaElementsResolver,
+		EngineDiscoveryListener discoveryListener
+	) {
+		List<Class<?>> testClasses = candidates.parallelStream()
+											   .filter(this::isTestContainer)
+											   .collect(Collectors.toList());
+		testClasses.parallelStream().forEach(javaElementsResolver::prepareClass);
+		testClasses.forEach(testClass -> {
+			discoveryListener.selectorProcessed(
+				engineDescriptor.getUniqueId(),
+				selector,
+				javaElementsResolver.resolveClass(testClass)
+			);
+		});
+	}
+
+	private void prepareSelectedClass(ClassSelector selector, HierarchicalJavaResolver javaElementsResolver) {
+		try {
+			javaElementsResolver.prepareClass(selector.getJavaClass());
+		} catch (Throwable throwable) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			// Will be reported when class is resolved
+		}
+	}
+
+	private boolean isTestContainer(Class<?> candidate) {
+		try {
+			return discoveryIndex.isTestContainer(candidate, isScannableTestClass);
+		} catch (Throwable throwable) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+			LOG.log(Level.FINE, throwable, () -> String.format("Class [%s] could not be scanned for properties", candidate.getName()));
+			return false;
+		}
 	}
 
 	private HierarchicalJavaResolver createHierarchicalResolver(TestDescriptor engineDescriptor) {
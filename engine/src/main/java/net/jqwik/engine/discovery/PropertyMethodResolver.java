@@ -85,7 +85,9 @@ class PropertyMethodResolver implements ElementResolver {
 		});
 		String previousSeed = previousSeed(uniqueId);
 		List<Object> falsifiedSample = falsifiedSample(uniqueId);
-		PropertyConfiguration propertyConfig = PropertyConfiguration.from(property, propertyDefaultValues, previousSeed, falsifiedSample);
+		Integer previousFailingTry = previousFailingTry(uniqueId);
+		PropertyConfiguration propertyConfig =
+			PropertyConfiguration.from(property, propertyDefaultValues, previousSeed, falsifiedSample, previousFailingTry);
 		return new PropertyMethodDescriptor(uniqueId, method, testClass, propertyConfig);
 	}
 
@@ -103,6 +105,13 @@ class PropertyMethodResolver implements ElementResolver {
 						  .orElse(null);
 	}
 
+	private Integer previousFailingTry(UniqueId uniqueId) {
+		return testRunData.byUniqueId(uniqueId)
+						  .filter(TestRun::isNotSuccessful)
+						  .flatMap(TestRun::failingTry)
+						  .orElse(null);
+	}
+
 	private String getSegmentType() {
 		return JqwikUniqueIDs.PROPERTY_SEGMENT_TYPE;
 	}
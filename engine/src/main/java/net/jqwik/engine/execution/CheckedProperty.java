@@ -56,7 +56,8 @@ public class CheckedProperty {
 	public PropertyCheckResult check(Consumer<ReportEntry> publisher, Reporting[] reporting) {
 		PropertyConfiguration effectiveConfiguration = configurationWithEffectiveSeed();
 		try {
-			return createGenericProperty(effectiveConfiguration).check(publisher, reporting);
+			PropertyCheckResult checkResult = createGenericProperty(effectiveConfiguration).check(publisher, reporting);
+			return withFailingTry(checkResult, effectiveConfiguration);
 		} catch (CannotFindArbitraryException cannotFindArbitraryException) {
 			return PropertyCheckResult.failed(
 				effectiveConfiguration.getStereotype(), propertyName, 0, 0,
@@ -70,12 +71,33 @@ public class CheckedProperty {
 		if (!configuration.getSeed().equals(Property.SEED_NOT_SET)) {
 			return configuration.withSeed(configuration.getSeed());
 		}
+		if (configuration.getTryPartition().isPartitioned()) {
+			return configuration.withSeed(configuration.getTryPartition().seedFor(propertyName));
+		}
 		if (configuration.getPreviousSeed() != null && configuration.getAfterFailureMode() != AfterFailureMode.RANDOM_SEED) {
 			return configuration.withSeed(configuration.getPreviousSeed());
 		}
 		return configuration.withSeed(SourceOfRandomness.createRandomSeed());
 	}
 
+	/**
+	 * The failing try is the index of the falsifying try within the tries generated with the effective seed
+	 * so that it can be reproduced without generating all tries before it.
+	 */
+	private PropertyCheckResult withFailingTry(PropertyCheckResult checkResult, PropertyConfiguration configuration) {
+		if (checkResult.status() != PropertyExecutionResult.Status.FAILED || checkResult.generation() != GenerationMode.RANDOMIZED) {
+			return checkResult;
+		}
+		configuration = configuration.withGenerationMode(checkResult.generation());
+		boolean firstTryIsReplayed = replaysPreviousTry(configuration) || replaysFalsifiedSample(configuration);
+		if (firstTryIsReplayed && checkResult.countTries() == 1) {
+			return replaysPreviousTry(configuration) ? checkResult.withFailingTry(configuration.getPreviousFailingTry()) : checkResult;
+		}
+		int firstTry = configuration.getTryPartition().firstTry(configuration.getTries());
+		int replayedTries = firstTryIsReplayed ? 1 : 0;
+		return checkResult.withFailingTry(firstTry + checkResult.countTries() - 1 - replayedTries);
+	}
+
 	private GenericProperty createGenericProperty(PropertyConfiguration configuration) {
 
 		if (configuration.getGenerationMode() == GenerationMode.RANDOMIZED) {
@@ -91,6 +113,10 @@ public class CheckedProperty {
 			configuration = chooseGenerationMode(configuration);
 		}
 		ForAllParametersGenerator shrinkablesGenerator = createShrinkablesGenerator(configuration);
+		if (configuration.getTryPartition().isPartitioned()) {
+			// Partitioning must come after generator creation which depends on the total number of tries
+			configuration = configuration.withTries(configuration.getTryPartition().countTries(configuration.getTries()));
+		}
 		ResolvingParametersGenerator parametersGenerator = new ResolvingParametersGenerator(
 			propertyParameters,
 			shrinkablesGenerator,
@@ -102,19 +128,44 @@ public class CheckedProperty {
 	}
 
 	private ForAllParametersGenerator createShrinkablesGenerator(PropertyConfiguration configuration) {
-		List<Object> falsifiedSample = configuration.getFalsifiedSample();
-		if (falsifiedSample != null && !falsifiedSample.isEmpty()) {
+		if (replaysFalsifiedSample(configuration)) {
 			if (configuration.getAfterFailureMode() == AfterFailureMode.SAMPLE_ONLY) {
 				return createSampleOnlyShrinkableGenerator(configuration);
-			} else if (configuration.getAfterFailureMode() == AfterFailureMode.SAMPLE_FIRST) {
+			} else {
 				return createSampleOnlyShrinkableGenerator(configuration)
 						   .andThen(() -> createDefaultShrinkablesGenerator(configuration));
 			}
 		}
+		if (replaysPreviousTry(configuration)) {
+			return createPreviousTryShrinkablesGenerator(configuration)
+					   .andThen(() -> createDefaultShrinkablesGenerator(configuration));
+		}
 		return createDefaultShrinkablesGenerator(configuration);
 	}
 
+	private boolean replaysFalsifiedSample(PropertyConfiguration configuration) {
+		List<Object> falsifiedSample = configuration.getFalsifiedSample();
+		if (falsifiedSample == null || falsifiedSample.isEmpty()) {
+			return false;
+		}
+		return configuration.getAfterFailureMode() == AfterFailureMode.SAMPLE_ONLY
+				   || configuration.getAfterFailureMode() == AfterFailureMode.SAMPLE_FIRST;
+	}
+
+	private boolean replaysPreviousTry(PropertyConfiguration configuration) {
+		return configuration.getAfterFailureMode() == AfterFailureMode.PREVIOUS_TRY_FIRST
+				   && configuration.getPreviousFailingTry() != null
+				   && configuration.getGenerationMode() == GenerationMode.RANDOMIZED
+				   && configuration.getSeed().equals(configuration.getPreviousSeed());
+	}
+
 	private ForAllParametersGenerator createDefaultShrinkablesGenerator(PropertyConfiguration configuration) {
+		ForAllParametersGenerator generator = createGeneratorForGenerationMode(configuration);
+		generator.skip(configuration.getTryPartition().firstTry(configuration.getTries()));
+		return generator;
+	}
+
+	private ForAllParametersGenerator createGeneratorForGenerationMode(PropertyConfiguration configuration) {
 		switch (configuration.getGenerationMode()) {
 			case EXHAUSTIVE:
 				return getOptionalExhaustive().get();
@@ -180,16 +231,22 @@ public class CheckedProperty {
 	}
 
 	private ForAllParametersGenerator createRandomizedShrinkablesGenerator(PropertyConfiguration configuration) {
-		Random random = SourceOfRandomness.create(configuration.getSeed());
+		SourceOfRandomness.create(configuration.getSeed());
 		return RandomizedShrinkablesGenerator.forParameters(
 			forAllParameters,
 			arbitraryResolver,
-			random,
+			Long.parseLong(configuration.getSeed()),
 			configuration.getTries(),
 			configuration.getEdgeCasesMode()
 		);
 	}
 
+	private ForAllParametersGenerator createPreviousTryShrinkablesGenerator(PropertyConfiguration configuration) {
+		ForAllParametersGenerator generator = createRandomizedShrinkablesGenerator(configuration);
+		generator.skip(configuration.getPreviousFailingTry());
+		return generator.limit(1);
+	}
+
 	private ForAllParametersGenerator createSampleOnlyShrinkableGenerator(PropertyConfiguration configuration) {
 		return new SampleOnlyShrinkablesGenerator(forAllParameters, configuration.getFalsifiedSample());
 	}
@@ -10,6 +10,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.profiling.*;
 import net.jqwik.engine.facades.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
@@ -72,7 +73,19 @@ public class CheckedPropertyFactory {
 	}
 
 	private TryExecutor createRawExecutor(PropertyMethodDescriptor propertyMethodDescriptor, Object testInstance) {
-		return createRawFunction(propertyMethodDescriptor, testInstance);
+		CheckedFunction rawFunction = createRawFunction(propertyMethodDescriptor, testInstance);
+		PropertyProfile profile = PropertyProfile.current();
+		if (!profile.isEnabled()) {
+			return rawFunction;
+		}
+		return parameters -> {
+			long start = profile.startTiming();
+			try {
+				return rawFunction.execute(parameters);
+			} finally {
+				profile.bodyFinished(start);
+			}
+		};
 	}
 
 	private CheckedFunction createRawFunction(PropertyMethodDescriptor propertyMethodDescriptor, Object testInstance) {
@@ -129,7 +129,8 @@ class ContainerTaskCreator {
 		PropertyExecutionListener propertyExecutionListener
 	) {
 		ExecutionTask[] childrenTasks = new ExecutionTask[0];
-		return children.stream()
+		return pipeline.schedule(children)
+					   .stream()
 					   .map(child -> childTaskCreator.createTask(child, pipeline, propertyExecutionListener))
 					   .collect(Collectors.toList()).toArray(childrenTasks);
 	}
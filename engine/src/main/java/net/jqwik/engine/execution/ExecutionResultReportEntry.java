@@ -8,6 +8,7 @@ import org.opentest4j.*;
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
 public class ExecutionResultReportEntry {
@@ -18,6 +19,8 @@ public class ExecutionResultReportEntry {
 	private static final String EDGE_CASES_KEY = "edge-cases";
 	private static final String AFTER_FAILURE_KEY = "after-failure";
 	private static final String SEED_KEY = "seed";
+	private static final String FAILING_TRY_KEY = "failing-try";
+	private static final String TRY_PARTITION_KEY = "try-partition";
 	private static final String SAMPLE_KEY = "sample";
 	private static final String ORIGINAL_SAMPLE_KEY = "original-sample";
 
@@ -26,18 +29,28 @@ public class ExecutionResultReportEntry {
 		ExtendedPropertyExecutionResult executionResult,
 		AfterFailureMode afterFailureMode
 	) {
-		return buildJqwikReport(propertyName, executionResult, afterFailureMode);
+		return from(propertyName, executionResult, afterFailureMode, TryPartition.ALL);
+	}
+
+	public static ReportEntry from(
+		String propertyName,
+		ExtendedPropertyExecutionResult executionResult,
+		AfterFailureMode afterFailureMode,
+		TryPartition tryPartition
+	) {
+		return buildJqwikReport(propertyName, executionResult, afterFailureMode, tryPartition);
 	}
 
 	private static ReportEntry buildJqwikReport(
 		String propertyName,
 		ExtendedPropertyExecutionResult executionResult,
-		AfterFailureMode afterFailureMode
+		AfterFailureMode afterFailureMode,
+		TryPartition tryPartition
 	) {
 		StringBuilder reportLines = new StringBuilder();
 
 		appendThrowableMessage(reportLines, executionResult);
-		appendFixedSizedProperties(reportLines, executionResult, afterFailureMode);
+		appendFixedSizedProperties(reportLines, executionResult, afterFailureMode, tryPartition);
 		appendSamples(reportLines, executionResult);
 
 		return ReportEntry.from(propertyName, reportLines.toString());
@@ -69,7 +82,8 @@ public class ExecutionResultReportEntry {
 	private static void appendFixedSizedProperties(
 		StringBuilder reportLines,
 		ExtendedPropertyExecutionResult executionResult,
-		AfterFailureMode afterFailureMode
+		AfterFailureMode afterFailureMode,
+		TryPartition tryPartition
 	) {
 		List<String> propertiesLines = new ArrayList<>();
 		int countTries = 0;
@@ -98,6 +112,14 @@ public class ExecutionResultReportEntry {
 		}
 		appendProperty(propertiesLines, EDGE_CASES_KEY, edgeCasesMode, helpEdgeCasesMode);
 		appendProperty(propertiesLines, SEED_KEY, randomSeed, "random seed to reproduce generated values");
+		if (executionResult.isExtended()) {
+			executionResult.failingTry().ifPresent(
+				failingTry -> appendProperty(propertiesLines, FAILING_TRY_KEY, Integer.toString(failingTry), "index of try that failed with seed")
+			);
+		}
+		if (tryPartition.isPartitioned()) {
+			appendProperty(propertiesLines, TRY_PARTITION_KEY, tryPartition.toString(), "slice of tries checked in this run");
+		}
 
 		int halfBorderLength =
 			(propertiesLines.stream().mapToInt(String::length).max().orElse(50) - 37) / 2 + 1;
@@ -129,8 +151,10 @@ public class ExecutionResultReportEntry {
 				return "only try the previously failed sample";
 			case SAMPLE_FIRST:
 				return "try previously failed sample, then previous seed";
+			case PREVIOUS_TRY_FIRST:
+				return "try previously failed try, then previous seed";
 			default:
-				return "RANDOM_SEED, PREVIOUS_SEED or SAMPLE_FIRST";
+				return "RANDOM_SEED, PREVIOUS_SEED, SAMPLE_FIRST or PREVIOUS_TRY_FIRST";
 		}
 	}
 
@@ -0,0 +1,199 @@
+package net.jqwik.engine.execution;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.*;
+import java.util.stream.*;
+import java.util.zip.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.recording.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Skips properties that have been successful in the previous run and whose fingerprint has not changed since.
+ * The fingerprint covers the class files of a property's container classes, the content of
+ * a configured classpath - e.g. the production classes or jars under test - and the property's configuration.
+ *
+ * <p>
+ * Code that is neither part of a property's container classes nor of the configured classpath
+ * is not covered. That's why a property is run anyway after having been skipped {@code fullRunAfter} times in a row.
+ * </p>
+ */
+public class IncrementalRun {
+
+	public static final String PARAMETER = "jqwik.incremental";
+	public static final String CLASSPATH_PARAMETER = "jqwik.incremental.classpath";
+	public static final String FULL_RUN_AFTER_PARAMETER = "jqwik.incremental.fullRunAfter";
+
+	static final String SKIPPING_REASON = "unchanged since last successful run";
+
+	private static final Logger LOG = Logger.getLogger(IncrementalRun.class.getName());
+
+	public static IncrementalRun off() {
+		return new IncrementalRun(false, Collections.emptyList(), 0);
+	}
+
+	public static IncrementalRun of(boolean enabled, List<Path> classpath, int fullRunAfter) {
+		if (fullRunAfter < 0) {
+			throw new JqwikException(String.format("Number of incremental runs before a full run [%s] must not be negative", fullRunAfter));
+		}
+		return new IncrementalRun(enabled, classpath, fullRunAfter);
+	}
+
+	/**
+	 * @param classpath Paths of directories or jar files separated by comma or the platform's path separator
+	 */
+	public static List<Path> parseClasspath(String classpath) {
+		if (classpath == null) {
+			return Collections.emptyList();
+		}
+		return Arrays.stream(classpath.split("[," + File.pathSeparator + "]"))
+					 .map(String::trim)
+					 .filter(entry -> !entry.isEmpty())
+					 .map(Paths::get)
+					 .collect(Collectors.toList());
+	}
+
+	private final boolean enabled;
+	private final List<Path> classpath;
+	private final int fullRunAfter;
+	private final ClassFileHashes classFileHashes = new ClassFileHashes();
+	private Optional<Long> classpathHash = null;
+
+	private IncrementalRun(boolean enabled, List<Path> classpath, int fullRunAfter) {
+		this.enabled = enabled;
+		this.classpath = classpath;
+		this.fullRunAfter = fullRunAfter;
+	}
+
+	/**
+	 * Configuration parameters - which also cover system properties - take precedence
+	 * so that a full run can be forced with {@code jqwik.incremental=false}.
+	 */
+	public IncrementalRun overriddenBy(ConfigurationParameters parameters) {
+		boolean enabled = parameters.getBoolean(PARAMETER).orElse(this.enabled);
+		List<Path> classpath = parameters.get(CLASSPATH_PARAMETER).map(IncrementalRun::parseClasspath).orElse(this.classpath);
+		int fullRunAfter = parameters.get(FULL_RUN_AFTER_PARAMETER, Integer::parseInt).orElse(this.fullRunAfter);
+		return of(enabled, classpath, fullRunAfter);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public List<Path> classpath() {
+		return classpath;
+	}
+
+	public int fullRunAfter() {
+		return fullRunAfter;
+	}
+
+	/**
+	 * @return empty if one of the relevant class files or classpath entries cannot be read
+	 */
+	Optional<String> fingerprint(PropertyMethodDescriptor property) {
+		Optional<Long> classpathHash = classpathHash();
+		if (!classpathHash.isPresent()) {
+			return Optional.empty();
+		}
+		long containersHash = 1;
+		for (Class<?> container = property.getContainerClass(); container != null; container = container.getEnclosingClass()) {
+			Optional<Long> containerHash = classFileHashes.hierarchyHash(container);
+			if (!containerHash.isPresent()) {
+				return Optional.empty();
+			}
+			containersHash = 31 * containersHash + containerHash.get();
+		}
+		String fingerprint = String.format(
+			"%x:%x:%s",
+			containersHash,
+			classpathHash.get(),
+			configurationFingerprint(property.getConfiguration())
+		);
+		return Optional.of(fingerprint);
+	}
+
+	boolean isUnchanged(TestRun previousRun, String fingerprint) {
+		if (!enabled || previousRun.isNotSuccessful()) {
+			return false;
+		}
+		if (previousRun.countSkippedAsUnchanged() >= fullRunAfter) {
+			return false;
+		}
+		return previousRun.fingerprint().map(fingerprint::equals).orElse(false);
+	}
+
+	private static String configurationFingerprint(PropertyConfiguration configuration) {
+		return String.join(
+			",",
+			configuration.getStereotype(),
+			configuration.getSeed(),
+			Integer.toString(configuration.getTries()),
+			Integer.toString(configuration.getMaxDiscardRatio()),
+			configuration.getShrinkingMode().name(),
+			configuration.getGenerationMode().name(),
+			configuration.getAfterFailureMode().name(),
+			configuration.getEdgeCasesMode().name(),
+			configuration.getTryPartition().toString()
+		);
+	}
+
+	private synchronized Optional<Long> classpathHash() {
+		//noinspection OptionalAssignedToNull
+		if (classpathHash == null) {
+			classpathHash = calculateClasspathHash();
+		}
+		return classpathHash;
+	}
+
+	private Optional<Long> calculateClasspathHash() {
+		CRC32 crc = new CRC32();
+		for (Path entry : classpath) {
+			updateWithName(crc, entry.toString());
+			try {
+				if (Files.isDirectory(entry)) {
+					updateWithDirectory(crc, entry);
+				} else if (Files.isRegularFile(entry)) {
+					updateWithFile(crc, entry);
+				}
+			} catch (IOException | UncheckedIOException e) {
+				LOG.log(Level.WARNING, e, () -> String.format("Cannot read classpath entry [%s]", entry.toAbsolutePath()));
+				return Optional.empty();
+			}
+		}
+		return Optional.of(crc.getValue());
+	}
+
+	private static void updateWithDirectory(CRC32 crc, Path directory) throws IOException {
+		List<Path> files;
+		try (Stream<Path> paths = Files.walk(directory)) {
+			files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+		}
+		for (Path file : files) {
+			updateWithName(crc, directory.relativize(file).toString());
+			updateWithFile(crc, file);
+		}
+	}
+
+	private static void updateWithFile(CRC32 crc, Path file) throws IOException {
+		try (InputStream content = Files.newInputStream(file)) {
+			ClassFileHashes.updateWithContent(crc, content);
+		}
+	}
+
+	private static void updateWithName(CRC32 crc, String name) {
+		crc.update(name.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public String toString() {
+		return String.format("IncrementalRun[%s%s]", enabled ? "on" : "off", enabled ? " with full run after " + fullRunAfter : "");
+	}
+}
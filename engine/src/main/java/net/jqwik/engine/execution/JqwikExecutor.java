@@ -1,6 +1,8 @@
 package net.jqwik.engine.execution;
 
+import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.logging.*;
 
 import org.junit.platform.engine.*;
@@ -8,15 +10,26 @@ import org.junit.platform.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.pipeline.*;
+import net.jqwik.engine.execution.profiling.*;
 import net.jqwik.engine.recording.*;
 
 public class JqwikExecutor {
 
+	public static final String RUN_LONGEST_FIRST_PARAMETER = "jqwik.runLongestFirst";
+
 	private final LifecycleHooksRegistry registry;
 	private final TestRunRecorder recorder;
+	private final TestRunData previousRun;
 	private final Set<UniqueId> previousFailedTests;
+	private final Map<UniqueId, Duration> previousDurations;
+	private final Shard shard;
+	private Set<UniqueId> ownedDescriptors = null;
+	private final IncrementalRun incrementalRun;
+	private final boolean runLongestFirst;
+	private final Map<UniqueId, String> fingerprints = new ConcurrentHashMap<>();
 	private final boolean useJunitPlatformReporter;
 	private final boolean reportOnlyFailures;
+	private final PropertyProfiles propertyProfiles;
 	private final PropertyTaskCreator propertyTaskCreator = new PropertyTaskCreator();
 	private final ContainerTaskCreator containerTaskCreator = new ContainerTaskCreator();
 	private final ExecutionTaskCreator childTaskCreator = this::createTask;
@@ -28,22 +41,126 @@ public class JqwikExecutor {
 		TestRunRecorder recorder,
 		Set<UniqueId> previousFailedTests,
 		boolean useJunitPlatformReporter,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		boolean reportPerformance
+	) {
+		this(registry, recorder, new TestRunData(), previousFailedTests, Shard.all(), useJunitPlatformReporter, reportOnlyFailures, reportPerformance);
+	}
+
+	public JqwikExecutor(
+		LifecycleHooksRegistry registry,
+		TestRunRecorder recorder,
+		TestRunData previousRun,
+		Set<UniqueId> previousFailedTests,
+		Shard shard,
+		boolean useJunitPlatformReporter,
+		boolean reportOnlyFailures,
+		boolean reportPerformance
+	) {
+		this(
+			registry, recorder, previousRun, previousFailedTests, shard, IncrementalRun.off(),
+			useJunitPlatformReporter, reportOnlyFailures, reportPerformance
+		);
+	}
+
+	public JqwikExecutor(
+		LifecycleHooksRegistry registry,
+		TestRunRecorder recorder,
+		TestRunData previousRun,
+		Set<UniqueId> previousFailedTests,
+		Shard shard,
+		IncrementalRun incrementalRun,
+		boolean useJunitPlatformReporter,
+		boolean reportOnlyFailures,
+		boolean reportPerformance
+	) {
+		this(
+			registry, recorder, previousRun, previousFailedTests, shard, incrementalRun, false,
+			useJunitPlatformReporter, reportOnlyFailures, reportPerformance
+		);
+	}
+
+	public JqwikExecutor(
+		LifecycleHooksRegistry registry,
+		TestRunRecorder recorder,
+		TestRunData previousRun,
+		Set<UniqueId> previousFailedTests,
+		Shard shard,
+		IncrementalRun incrementalRun,
+		boolean runLongestFirst,
+		boolean useJunitPlatformReporter,
+		boolean reportOnlyFailures,
+		boolean reportPerformance
 	) {
 		this.registry = registry;
 		this.recorder = recorder;
+		this.previousRun = previousRun;
+		this.previousDurations = previousRun.allDurations();
 		this.previousFailedTests = previousFailedTests;
+		this.shard = shard;
+		this.incrementalRun = incrementalRun;
+		this.runLongestFirst = runLongestFirst;
 		this.useJunitPlatformReporter = useJunitPlatformReporter;
 		this.reportOnlyFailures = reportOnlyFailures;
+		this.propertyProfiles = new PropertyProfiles(reportPerformance);
 	}
 
 	public void execute(TestDescriptor descriptor, EngineExecutionListener engineExecutionListener) {
-		PropertyExecutionListener recordingListener = new RecordingExecutionListener(recorder, engineExecutionListener, useJunitPlatformReporter);
+		TestRunRecorder fingerprintingRecorder = testRun -> recorder.record(withFingerprint(testRun));
+		PropertyExecutionListener recordingListener =
+			new RecordingExecutionListener(fingerprintingRecorder, engineExecutionListener, useJunitPlatformReporter);
 		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener);
+		selectOwnedDescriptors(descriptor);
+		letLongestTestsExecuteFirst(pipeline);
 		ExecutionTask mainTask = createTask(descriptor, pipeline, recordingListener);
 		pipeline.submit(mainTask);
 		letNonSuccessfulTestsExecuteFirst(pipeline);
 		pipeline.runToTermination();
+		reportSlowestProperties(descriptor, recordingListener);
+	}
+
+	private void reportSlowestProperties(TestDescriptor descriptor, PropertyExecutionListener listener) {
+		propertyProfiles.summary().ifPresent(entry -> listener.reportingEntryPublished(descriptor, entry));
+	}
+
+	private void selectOwnedDescriptors(TestDescriptor root) {
+		if (shard.isAll()) {
+			return;
+		}
+		ownedDescriptors = shard.ownedDescriptors(root, previousDurations);
+		ownedDescriptors.add(root.getUniqueId());
+	}
+
+	private boolean isOwnedByShard(TestDescriptor descriptor) {
+		return ownedDescriptors == null || ownedDescriptors.contains(descriptor.getUniqueId());
+	}
+
+	private TestRun withFingerprint(TestRun testRun) {
+		if (fingerprints.isEmpty()) {
+			return testRun;
+		}
+		String fingerprint = fingerprints.get(testRun.getUniqueId());
+		return fingerprint == null ? testRun : testRun.withFingerprint(fingerprint);
+	}
+
+	private Optional<TestRun> unchangedSinceLastSuccessfulRun(PropertyMethodDescriptor propertyMethodDescriptor) {
+		if (!incrementalRun.isEnabled()) {
+			return Optional.empty();
+		}
+		Optional<String> fingerprint = incrementalRun.fingerprint(propertyMethodDescriptor);
+		if (!fingerprint.isPresent()) {
+			return Optional.empty();
+		}
+		fingerprints.put(propertyMethodDescriptor.getUniqueId(), fingerprint.get());
+		return previousRun.byUniqueId(propertyMethodDescriptor.getUniqueId())
+						  .filter(run -> incrementalRun.isUnchanged(run, fingerprint.get()));
+	}
+
+	private void letLongestTestsExecuteFirst(ExecutionPipeline pipeline) {
+		if (!runLongestFirst || previousDurations.isEmpty()) {
+			return;
+		}
+		pipeline.executeLongestFirst(uniqueId -> previousDurations.getOrDefault(uniqueId, Duration.ZERO).toNanos());
 	}
 
 	private void letNonSuccessfulTestsExecuteFirst(ExecutionPipeline pipeline) {
@@ -51,6 +168,9 @@ public class JqwikExecutor {
 	}
 
 	private ExecutionTask createTask(TestDescriptor descriptor, Pipeline pipeline, PropertyExecutionListener propertyExecutionListener) {
+		if (!isOwnedByShard(descriptor)) {
+			return createSkippingTask(descriptor, shard.skippingReason());
+		}
 		if (descriptor.getClass().equals(JqwikEngineDescriptor.class)) {
 			return createContainerTask(descriptor, pipeline, propertyExecutionListener);
 		}
@@ -74,10 +194,19 @@ public class JqwikExecutor {
 	}
 
 	private ExecutionTask createSkippingTask(SkipExecutionDecorator descriptor, Pipeline pipeline) {
-		String taskDescription = String.format("Skipping [%s] due to: %s", descriptor.getDisplayName(), descriptor.getSkippingReason());
+		return createSkippingTask(descriptor, descriptor.getSkippingReason());
+	}
+
+	private ExecutionTask createSkippingTask(TestDescriptor descriptor, String reason) {
+		return createSkippingTask(descriptor, reason, () -> {});
+	}
+
+	private ExecutionTask createSkippingTask(TestDescriptor descriptor, String reason, Runnable beforeSkipping) {
+		String taskDescription = String.format("Skipping [%s] due to: %s", descriptor.getDisplayName(), reason);
 		return ExecutionTask.from(
 			(listener, predecessorResult) -> {
-				listener.executionSkipped(descriptor, descriptor.getSkippingReason());
+				beforeSkipping.run();
+				listener.executionSkipped(descriptor, reason);
 				return TaskExecutionResult.success();
 			},
 			descriptor, taskDescription
@@ -88,7 +217,13 @@ public class JqwikExecutor {
 		PropertyMethodDescriptor propertyMethodDescriptor,
 		Pipeline pipeline
 	) {
-		return propertyTaskCreator.createTask(propertyMethodDescriptor, registry, reportOnlyFailures);
+		Optional<TestRun> unchangedRun = unchangedSinceLastSuccessfulRun(propertyMethodDescriptor);
+		if (unchangedRun.isPresent()) {
+			// Keep the previous run's data so that the property can be skipped again next time
+			TestRun skippedRun = unchangedRun.get().skippedAsUnchanged();
+			return createSkippingTask(propertyMethodDescriptor, IncrementalRun.SKIPPING_REASON, () -> recorder.record(skippedRun));
+		}
+		return propertyTaskCreator.createTask(propertyMethodDescriptor, registry, reportOnlyFailures, propertyProfiles);
 	}
 
 	private ExecutionTask createContainerTask(TestDescriptor containerDescriptor, Pipeline pipeline, PropertyExecutionListener listener) {
@@ -13,6 +13,7 @@ import net.jqwik.api.domains.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.profiling.*;
 import net.jqwik.engine.facades.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
@@ -24,16 +25,19 @@ public class PropertyMethodExecutor {
 	private final PropertyMethodDescriptor methodDescriptor;
 	private final PropertyLifecycleContext propertyLifecycleContext;
 	private final boolean reportOnlyFailures;
+	private final PropertyProfiles propertyProfiles;
 	private final CheckedPropertyFactory checkedPropertyFactory = new CheckedPropertyFactory();
 
 	public PropertyMethodExecutor(
 		PropertyMethodDescriptor methodDescriptor,
 		PropertyLifecycleContext propertyLifecycleContext,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		PropertyProfiles propertyProfiles
 	) {
 		this.methodDescriptor = methodDescriptor;
 		this.propertyLifecycleContext = propertyLifecycleContext;
 		this.reportOnlyFailures = reportOnlyFailures;
+		this.propertyProfiles = propertyProfiles;
 	}
 
 	public PropertyExecutionResult execute(LifecycleHooksSupplier lifecycleSupplier, PropertyExecutionListener listener) {
@@ -83,7 +87,8 @@ public class PropertyMethodExecutor {
 		AroundTryHook aroundTry = lifecycleSupplier.aroundTryHook(methodDescriptor);
 		ResolveParameterHook resolveParameter = lifecycleSupplier.resolveParameterHook(methodDescriptor);
 
-		PropertyExecutionResult propertyExecutionResult;
+		PropertyExecutionResult propertyExecutionResult = null;
+		PropertyProfile profile = propertyProfiles.start(methodDescriptor);
 		try {
 			propertyExecutionResult = aroundProperty.aroundProperty(
 				propertyLifecycleContext,
@@ -97,10 +102,13 @@ public class PropertyMethodExecutor {
 				throwable,
 				methodDescriptor.getConfiguration().getSeed()
 			);
+		} finally {
+			propertyProfiles.finish(profile, propertyExecutionResult);
 		}
 		StoreRepository.getCurrent().finishProperty(methodDescriptor);
 		StoreRepository.getCurrent().finishScope(methodDescriptor);
 		reportResult(publisher, propertyExecutionResult);
+		reportPerformance(publisher, profile);
 		return propertyExecutionResult;
 	}
 
@@ -143,7 +151,8 @@ public class PropertyMethodExecutor {
 				ReportEntry reportEntry = ExecutionResultReportEntry.from(
 					methodDescriptor.extendedLabel(),
 					(ExtendedPropertyExecutionResult) executionResult,
-					methodDescriptor.getConfiguration().getAfterFailureMode()
+					methodDescriptor.getConfiguration().getAfterFailureMode(),
+					methodDescriptor.getConfiguration().getTryPartition()
 				);
 				publisher.accept(reportEntry);
 			}
@@ -153,6 +162,12 @@ public class PropertyMethodExecutor {
 		}
 	}
 
+	private void reportPerformance(Consumer<ReportEntry> publisher, PropertyProfile profile) {
+		if (profile.isEnabled()) {
+			publisher.accept(PerformanceReportEntry.from(profile));
+		}
+	}
+
 	private boolean isReportWorthy(ExtendedPropertyExecutionResult executionResult) {
 		if (executionResult.status() != PropertyExecutionResult.Status.SUCCESSFUL) {
 			return true;
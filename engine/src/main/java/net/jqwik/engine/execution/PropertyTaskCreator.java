@@ -11,6 +11,7 @@ import net.jqwik.api.lifecycle.SkipExecutionHook.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.pipeline.*;
+import net.jqwik.engine.execution.profiling.*;
 import net.jqwik.engine.support.*;
 
 class PropertyTaskCreator {
@@ -18,7 +19,8 @@ class PropertyTaskCreator {
 	ExecutionTask createTask(
 		PropertyMethodDescriptor methodDescriptor,
 		LifecycleHooksSupplier lifecycleSupplier,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		PropertyProfiles propertyProfiles
 	) {
 		return ExecutionTask.from(
 			(listener, predecessorResult) -> {
@@ -53,7 +55,7 @@ class PropertyTaskCreator {
 
 				listener.executionStarted(methodDescriptor);
 				PropertyExecutionResult executionResult = executeTestMethod(
-					methodDescriptor, propertyLifecycleContext, lifecycleSupplier, listener, reportOnlyFailures
+					methodDescriptor, propertyLifecycleContext, lifecycleSupplier, listener, reportOnlyFailures, propertyProfiles
 				);
 				listener.executionFinished(methodDescriptor, executionResult);
 
@@ -123,9 +125,12 @@ class PropertyTaskCreator {
 		PropertyLifecycleContext propertyLifecycleContext,
 		LifecycleHooksSupplier lifecycleSupplier,
 		PropertyExecutionListener listener,
-		boolean reportOnlyFailures
+		boolean reportOnlyFailures,
+		PropertyProfiles propertyProfiles
 	) {
-		PropertyMethodExecutor executor = new PropertyMethodExecutor(methodDescriptor, propertyLifecycleContext, reportOnlyFailures);
+		PropertyMethodExecutor executor = new PropertyMethodExecutor(
+			methodDescriptor, propertyLifecycleContext, reportOnlyFailures, propertyProfiles
+		);
 		return executor.execute(lifecycleSupplier, listener);
 	}
 
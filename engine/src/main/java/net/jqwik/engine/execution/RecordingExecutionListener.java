@@ -1,12 +1,15 @@
 package net.jqwik.engine.execution;
 
 import java.io.*;
+import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.junit.platform.engine.*;
 import org.junit.platform.engine.reporting.*;
 
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.recording.*;
 
 public class RecordingExecutionListener implements PropertyExecutionListener {
@@ -14,6 +17,7 @@ public class RecordingExecutionListener implements PropertyExecutionListener {
 	private final TestRunRecorder recorder;
 	private final EngineExecutionListener listener;
 	private final boolean useJunitPlatformReporter;
+	private final Map<UniqueId, Long> startTimes = new ConcurrentHashMap<>();
 
 	RecordingExecutionListener(TestRunRecorder recorder, EngineExecutionListener listener, boolean useJunitPlatformReporter) {
 		this.recorder = recorder;
@@ -28,6 +32,7 @@ public class RecordingExecutionListener implements PropertyExecutionListener {
 
 	@Override
 	public void executionStarted(TestDescriptor testDescriptor) {
+		startTimes.put(testDescriptor.getUniqueId(), System.nanoTime());
 		listener.executionStarted(testDescriptor);
 	}
 
@@ -55,10 +60,27 @@ public class RecordingExecutionListener implements PropertyExecutionListener {
 		List<Object> sample = executionResult.falsifiedSample()
 											 .filter(this::isSerializable)
 											 .orElse(null);
-		TestRun run = new TestRun(testDescriptor.getUniqueId(), executionResult.status(), seed, sample);
+		Duration duration = duration(testDescriptor);
+		Integer failingTry = failingTry(executionResult).orElse(null);
+		TestRun run = new TestRun(testDescriptor.getUniqueId(), executionResult.status(), seed, sample, duration, executionResult.countTries(), failingTry);
 		recorder.record(run);
 	}
 
+	private Optional<Integer> failingTry(PropertyExecutionResult executionResult) {
+		if (executionResult instanceof ExtendedPropertyExecutionResult) {
+			return ((ExtendedPropertyExecutionResult) executionResult).failingTry();
+		}
+		return Optional.empty();
+	}
+
+	private Duration duration(TestDescriptor testDescriptor) {
+		Long start = startTimes.remove(testDescriptor.getUniqueId());
+		if (start == null) {
+			return null;
+		}
+		return Duration.ofNanos(System.nanoTime() - start);
+	}
+
 	private boolean isSerializable(List<Object> sample) {
 		if (!(sample instanceof Serializable)) {
 			return false;
@@ -0,0 +1,152 @@
+package net.jqwik.engine.execution;
+
+import java.nio.charset.*;
+import java.time.*;
+import java.util.*;
+import java.util.stream.*;
+import java.util.zip.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.descriptor.*;
+
+/**
+ * The part of a test suite that is executed by one of several JVM forks or CI nodes.
+ * Properties are assigned to a shard by a stable hash of their unique id
+ * or - if {@code byDuration} is set - balanced by their previously recorded durations.
+ * Balancing only works if all shards see the same recorded durations.
+ * As long as not all properties have a recorded duration, assignment falls back to hashes.
+ *
+ * <p>
+ * Properties that belong to another shard are skipped.
+ * So are containers none of whose properties belong to this shard.
+ * </p>
+ */
+public class Shard {
+
+	public static final String INDEX_PARAMETER = "jqwik.shard.index";
+	public static final String COUNT_PARAMETER = "jqwik.shard.count";
+	public static final String BY_DURATION_PARAMETER = "jqwik.shard.byDuration";
+
+	public static Shard all() {
+		return new Shard(0, 1, false);
+	}
+
+	public static Shard of(int index, int count, boolean byDuration) {
+		if (count < 1) {
+			throw new JqwikException(String.format("Shard count [%s] must be at least 1", count));
+		}
+		if (index < 0 || index >= count) {
+			throw new JqwikException(String.format("Shard index [%s] must be within [0..%s]", index, count - 1));
+		}
+		return new Shard(index, count, byDuration);
+	}
+
+	private final int index;
+	private final int count;
+	private final boolean byDuration;
+
+	private Shard(int index, int count, boolean byDuration) {
+		this.index = index;
+		this.count = count;
+		this.byDuration = byDuration;
+	}
+
+	public int index() {
+		return index;
+	}
+
+	public int count() {
+		return count;
+	}
+
+	public boolean byDuration() {
+		return byDuration;
+	}
+
+	/**
+	 * Configuration parameters - which also cover system properties - take precedence
+	 * so that each fork or node can select its shard individually.
+	 */
+	public Shard overriddenBy(ConfigurationParameters parameters) {
+		int index = parameters.get(INDEX_PARAMETER, Integer::parseInt).orElse(this.index);
+		int count = parameters.get(COUNT_PARAMETER, Integer::parseInt).orElse(this.count);
+		boolean byDuration = parameters.getBoolean(BY_DURATION_PARAMETER).orElse(this.byDuration);
+		return of(index, count, byDuration);
+	}
+
+	public boolean isAll() {
+		return count == 1;
+	}
+
+	String skippingReason() {
+		return String.format("Not part of shard [%s] of [%s]", index, count);
+	}
+
+	/**
+	 * @return the unique ids of all properties owned by this shard together with the containers they belong to
+	 */
+	Set<UniqueId> ownedDescriptors(TestDescriptor root, Map<UniqueId, Duration> previousDurations) {
+		List<TestDescriptor> properties = root.getDescendants()
+											  .stream()
+											  .filter(descriptor -> descriptor instanceof PropertyMethodDescriptor)
+											  .sorted(Comparator.comparing(descriptor -> descriptor.getUniqueId().toString()))
+											  .collect(Collectors.toList());
+		Set<UniqueId> owned = new HashSet<>();
+		for (TestDescriptor property : assignedProperties(properties, previousDurations)) {
+			addWithAncestors(property, owned);
+		}
+		return owned;
+	}
+
+	private List<TestDescriptor> assignedProperties(List<TestDescriptor> properties, Map<UniqueId, Duration> previousDurations) {
+		if (!byDuration || !allHaveDurations(properties, previousDurations)) {
+			return properties.stream().filter(property -> shardByHash(property) == index).collect(Collectors.toList());
+		}
+		List<TestDescriptor> assigned = new ArrayList<>();
+		List<TestDescriptor> byLongestDuration = new ArrayList<>(properties);
+		// Longest first to the shard with the least load balances all shards well
+		byLongestDuration.sort(Comparator.comparing((TestDescriptor property) -> previousDurations.get(property.getUniqueId())).reversed());
+		Duration[] loads = new Duration[count];
+		Arrays.fill(loads, Duration.ZERO);
+		for (TestDescriptor property : byLongestDuration) {
+			int leastLoaded = 0;
+			for (int shard = 1; shard < count; shard++) {
+				if (loads[shard].compareTo(loads[leastLoaded]) < 0) {
+					leastLoaded = shard;
+				}
+			}
+			loads[leastLoaded] = loads[leastLoaded].plus(previousDurations.get(property.getUniqueId()));
+			if (leastLoaded == index) {
+				assigned.add(property);
+			}
+		}
+		return assigned;
+	}
+
+	/**
+	 * Shards with different recorded durations - e.g. because each node only records the durations
+	 * of its own shard - would balance differently and could skip a property on every node.
+	 * Partially recorded durations are therefore a sign to fall back to stable hashes.
+	 */
+	private static boolean allHaveDurations(List<TestDescriptor> properties, Map<UniqueId, Duration> previousDurations) {
+		return properties.stream().allMatch(property -> previousDurations.containsKey(property.getUniqueId()));
+	}
+
+	private int shardByHash(TestDescriptor property) {
+		CRC32 crc = new CRC32();
+		crc.update(property.getUniqueId().toString().getBytes(StandardCharsets.UTF_8));
+		return (int) (crc.getValue() % count);
+	}
+
+	private static void addWithAncestors(TestDescriptor descriptor, Set<UniqueId> collector) {
+		collector.add(descriptor.getUniqueId());
+		descriptor.getParent().ifPresent(parent -> addWithAncestors(parent, collector));
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Shard[%s of %s%s]", index, count, byDuration ? " by duration" : "");
+	}
+}
@@ -17,4 +17,9 @@ public interface ExtendedPropertyExecutionResult extends PropertyExecutionResult
 
 	EdgeCasesMode edgeCases();
 
+	/**
+	 * @return the index of the try that detected the failure with {@linkplain #randomSeed()} if known
+	 */
+	Optional<Integer> failingTry();
+
 }
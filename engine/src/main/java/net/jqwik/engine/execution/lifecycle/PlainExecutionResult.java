@@ -94,6 +94,11 @@ public class PlainExecutionResult implements ExtendedPropertyExecutionResult {
 		return EdgeCasesMode.NOT_SET;
 	}
 
+	@Override
+	public Optional<Integer> failingTry() {
+		return Optional.empty();
+	}
+
 	@Override
 	public String randomSeed() {
 		return Long.toString(0L);
@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.pipeline;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import org.junit.platform.engine.*;
@@ -13,6 +14,7 @@ public class ExecutionPipeline implements Pipeline {
 	private final Map<ExecutionTask, Boolean> taskFinished = new IdentityHashMap<>();
 	private final Map<ExecutionTask, ExecutionTask[]> taskPredecessors = new IdentityHashMap<>();
 	private final PropertyExecutionListener executionListener;
+	private Comparator<TestDescriptor> schedulingOrder = null;
 
 	public ExecutionPipeline(PropertyExecutionListener executionListener) {
 		this.executionListener = executionListener;
@@ -28,6 +30,30 @@ public class ExecutionPipeline implements Pipeline {
 			tasks.add(task);
 	}
 
+	/**
+	 * Schedule independent tasks - i.e. the children of a container - so that the ones
+	 * with the longest expected duration are executed first. This reduces the overall time
+	 * when tasks are distributed across parallel workers or forks. Tasks with the same
+	 * expected duration keep their order.
+	 *
+	 * <p>
+	 * Must be called before tasks are created.
+	 * </p>
+	 */
+	public void executeLongestFirst(ToLongFunction<UniqueId> expectedDuration) {
+		Comparator<TestDescriptor> byDuration = Comparator.comparingLong(descriptor -> expectedDuration.applyAsLong(descriptor.getUniqueId()));
+		schedulingOrder = byDuration.reversed();
+	}
+
+	@Override
+	public List<TestDescriptor> schedule(Collection<? extends TestDescriptor> independentDescriptors) {
+		List<TestDescriptor> scheduled = new ArrayList<>(independentDescriptors);
+		if (schedulingOrder != null) {
+			scheduled.sort(schedulingOrder);
+		}
+		return scheduled;
+	}
+
 	private void ensurePredecessorsSubmitted(ExecutionTask task, ExecutionTask[] predecessors) {
 		for (ExecutionTask predecessor : predecessors) {
 			if (!taskFinished.containsKey(predecessor))
@@ -1,6 +1,18 @@
 package net.jqwik.engine.execution.pipeline;
 
+import java.util.*;
+
+import org.junit.platform.engine.*;
+
 public interface Pipeline {
 
 	void submit(ExecutionTask task, ExecutionTask... predecessors);
+
+	/**
+	 * Tasks are executed in the order their descriptors are returned
+	 * unless predecessors or previous failures require otherwise.
+	 */
+	default List<TestDescriptor> schedule(Collection<? extends TestDescriptor> independentDescriptors) {
+		return new ArrayList<>(independentDescriptors);
+	}
 }
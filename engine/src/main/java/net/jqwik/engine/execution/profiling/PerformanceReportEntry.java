@@ -0,0 +1,86 @@
+package net.jqwik.engine.execution.profiling;
+
+import java.util.*;
+
+import org.junit.platform.engine.reporting.*;
+
+public class PerformanceReportEntry {
+
+	private static final String TOTAL_KEY = "total-time";
+	private static final String GENERATION_KEY = "generation";
+	private static final String BODY_KEY = "property-body";
+	private static final String LIFECYCLE_KEY = "lifecycle-hooks";
+	private static final String SHRINKING_KEY = "shrinking";
+	private static final String TRIES_PER_SECOND_KEY = "tries-per-second";
+	private static final String AVERAGE_TRY_KEY = "avg-try";
+	private static final String P99_TRY_KEY = "p99-try";
+	private static final String FILTER_MISSES_KEY = "filter-misses";
+	private static final String EDGE_CASES_KEY = "edge-cases";
+
+	private static final int MAX_SLOWEST_PROPERTIES = 10;
+
+	public static ReportEntry from(PropertyProfile profile) {
+		StringBuilder reportLines = new StringBuilder();
+		long total = profile.totalNanos();
+
+		reportLines.append(String.format("%n"));
+		appendProperty(reportLines, TOTAL_KEY, formatNanos(total), "time from first hook to last hook");
+		appendProperty(reportLines, GENERATION_KEY, formatNanos(profile.generationNanos()), share(profile.generationNanos(), total));
+		appendProperty(reportLines, BODY_KEY, formatNanos(profile.bodyNanos()), share(profile.bodyNanos(), total));
+		appendProperty(reportLines, LIFECYCLE_KEY, formatNanos(profile.lifecycleNanos()), share(profile.lifecycleNanos(), total));
+		appendProperty(reportLines, SHRINKING_KEY, formatNanos(profile.shrinkingNanos()), share(profile.shrinkingNanos(), total));
+		appendProperty(
+			reportLines,
+			TRIES_PER_SECOND_KEY,
+			String.format("%.1f", profile.triesPerSecond()),
+			String.format("%d tries", profile.countTries())
+		);
+		appendProperty(reportLines, AVERAGE_TRY_KEY, formatNanos(profile.averageTryNanos()), "average latency of a try incl. generation");
+		appendProperty(reportLines, P99_TRY_KEY, formatNanos(profile.p99TryNanos()), "99th percentile of try latency");
+		appendProperty(reportLines, FILTER_MISSES_KEY, Long.toString(profile.filterMisses()), "# of values rejected by filters");
+		appendProperty(
+			reportLines,
+			EDGE_CASES_KEY,
+			Integer.toString(profile.edgeCases()),
+			share(profile.edgeCases(), profile.countTries()) + " of tries"
+		);
+
+		return ReportEntry.from(key(profile.propertyName()), reportLines.toString());
+	}
+
+	public static ReportEntry slowestProperties(Collection<PropertyProfile> profiles) {
+		StringBuilder reportLines = new StringBuilder();
+		reportLines.append(String.format("%n"));
+		profiles.stream()
+				.sorted(Comparator.comparingLong(PropertyProfile::totalNanos).reversed())
+				.limit(MAX_SLOWEST_PROPERTIES)
+				.forEach(profile -> reportLines.append(buildLine(
+					formatNanos(profile.totalNanos()),
+					String.format("| %s (%d tries)", profile.propertyName(), profile.countTries())
+				)));
+		return ReportEntry.from("slowest properties", reportLines.toString());
+	}
+
+	static String key(String propertyName) {
+		return String.format("%s performance", propertyName);
+	}
+
+	private static String share(long part, long total) {
+		if (total == 0) {
+			return "0.0%";
+		}
+		return String.format("%.1f%%", part * 100.0 / total);
+	}
+
+	private static String formatNanos(long nanos) {
+		return String.format("%.3f ms", nanos / 1_000_000.0);
+	}
+
+	private static void appendProperty(StringBuilder reportLines, String key, String value, String help) {
+		reportLines.append(buildLine(String.format("%s = %s", key, value), String.format("| %s", help)));
+	}
+
+	private static String buildLine(String body, String helpString) {
+		return String.format("%-30s%s%n", body, helpString);
+	}
+}
@@ -0,0 +1,215 @@
+package net.jqwik.engine.execution.profiling;
+
+import java.util.*;
+
+/**
+ * Collects timings and counts of a single property run. The profile of the currently running
+ * property is bound to the executing thread; if profiling is switched off {@linkplain #current()}
+ * returns a disabled instance that ignores all recordings.
+ */
+public class PropertyProfile {
+
+	private static final PropertyProfile DISABLED = new PropertyProfile("", false);
+
+	// Bounds the memory of properties with many tries; below that latencies are exact
+	static final int MAX_SAMPLED_LATENCIES = 1024;
+
+	private static final ThreadLocal<PropertyProfile> current = ThreadLocal.withInitial(() -> DISABLED);
+
+	public static PropertyProfile current() {
+		return current.get();
+	}
+
+	static PropertyProfile disabled() {
+		return DISABLED;
+	}
+
+	private final String propertyName;
+	private final boolean enabled;
+
+	private PropertyProfile previous = DISABLED;
+	private long startTime;
+	private long totalNanos;
+	private long generationNanos;
+	private long bodyNanos;
+	private long shrinkingNanos;
+	private long filterMisses;
+	private int edgeCases;
+	private int countTries;
+	private int countChecks;
+	private boolean shrinking = false;
+
+	private final long[] sampledLatencies = new long[MAX_SAMPLED_LATENCIES];
+	private final Random samplingRandom = new Random(42);
+	private long countLatencies = 0;
+	private long sumLatencies = 0;
+
+	PropertyProfile(String propertyName) {
+		this(propertyName, true);
+	}
+
+	private PropertyProfile(String propertyName, boolean enabled) {
+		this.propertyName = propertyName;
+		this.enabled = enabled;
+	}
+
+	void start() {
+		previous = current.get();
+		current.set(this);
+		startTime = System.nanoTime();
+	}
+
+	void finish(int countTries, int countChecks) {
+		totalNanos = System.nanoTime() - startTime;
+		this.countTries = countTries;
+		this.countChecks = countChecks;
+		current.set(previous);
+		previous = DISABLED;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return A start time to hand to one of the {@code *Finished} methods, or 0 if profiling is disabled
+	 */
+	public long startTiming() {
+		return enabled ? System.nanoTime() : 0L;
+	}
+
+	public void generationFinished(long start) {
+		if (!enabled) {
+			return;
+		}
+		generationNanos += System.nanoTime() - start;
+	}
+
+	public void tryFinished(long start) {
+		if (!enabled) {
+			return;
+		}
+		long latency = System.nanoTime() - start;
+		sumLatencies += latency;
+		countLatencies++;
+		// Reservoir sampling keeps each latency with the same probability
+		if (countLatencies <= MAX_SAMPLED_LATENCIES) {
+			sampledLatencies[(int) countLatencies - 1] = latency;
+		} else {
+			long index = (long) (samplingRandom.nextDouble() * countLatencies);
+			if (index < MAX_SAMPLED_LATENCIES) {
+				sampledLatencies[(int) index] = latency;
+			}
+		}
+	}
+
+	public void bodyFinished(long start) {
+		if (!enabled || shrinking) {
+			return;
+		}
+		bodyNanos += System.nanoTime() - start;
+	}
+
+	public void shrinkingStarted() {
+		shrinking = enabled;
+	}
+
+	public void shrinkingFinished(long start) {
+		if (!enabled) {
+			return;
+		}
+		shrinking = false;
+		shrinkingNanos += System.nanoTime() - start;
+	}
+
+	public void filterMissed(long count) {
+		if (!enabled) {
+			return;
+		}
+		filterMisses += count;
+	}
+
+	public void edgeCaseGenerated() {
+		if (!enabled) {
+			return;
+		}
+		edgeCases++;
+	}
+
+	public String propertyName() {
+		return propertyName;
+	}
+
+	public long totalNanos() {
+		return totalNanos;
+	}
+
+	public long generationNanos() {
+		return generationNanos;
+	}
+
+	public long bodyNanos() {
+		return bodyNanos;
+	}
+
+	public long shrinkingNanos() {
+		return shrinkingNanos;
+	}
+
+	/**
+	 * Everything that is neither generation nor property body nor shrinking,
+	 * which is mostly the time spent in lifecycle hooks.
+	 */
+	public long lifecycleNanos() {
+		return Math.max(0, totalNanos - generationNanos - bodyNanos - shrinkingNanos);
+	}
+
+	public long filterMisses() {
+		return filterMisses;
+	}
+
+	public int edgeCases() {
+		return edgeCases;
+	}
+
+	public int countTries() {
+		return countTries;
+	}
+
+	public int countChecks() {
+		return countChecks;
+	}
+
+	public double triesPerSecond() {
+		if (totalNanos == 0) {
+			return 0.0;
+		}
+		return countTries * 1_000_000_000.0 / totalNanos;
+	}
+
+	public long averageTryNanos() {
+		if (countLatencies == 0) {
+			return 0;
+		}
+		return sumLatencies / countLatencies;
+	}
+
+	/**
+	 * Exact for up to {@linkplain #MAX_SAMPLED_LATENCIES} tries, estimated from a uniform sample otherwise.
+	 */
+	public long p99TryNanos() {
+		if (countLatencies == 0) {
+			return 0;
+		}
+		int countSamples = (int) Math.min(countLatencies, MAX_SAMPLED_LATENCIES);
+		long[] sorted = Arrays.copyOf(sampledLatencies, countSamples);
+		Arrays.sort(sorted);
+		int index = (int) Math.ceil(0.99 * countSamples) - 1;
+		return sorted[Math.max(0, index)];
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PropertyProfile[%s: %d ms]", propertyName, totalNanos / 1_000_000);
+	}
+}
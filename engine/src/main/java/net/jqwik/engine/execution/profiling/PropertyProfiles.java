@@ -0,0 +1,59 @@
+package net.jqwik.engine.execution.profiling;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.reporting.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.descriptor.*;
+
+/**
+ * Creates the profiles of all properties in a test run and keeps
+ * the finished ones to summarize the slowest properties at the end.
+ */
+public class PropertyProfiles {
+
+	private final boolean profileAllProperties;
+	private final Queue<PropertyProfile> finishedProfiles = new ConcurrentLinkedQueue<>();
+
+	public PropertyProfiles(boolean profileAllProperties) {
+		this.profileAllProperties = profileAllProperties;
+	}
+
+	public PropertyProfile start(PropertyMethodDescriptor methodDescriptor) {
+		if (!isProfiled(methodDescriptor)) {
+			return PropertyProfile.disabled();
+		}
+		PropertyProfile profile = new PropertyProfile(methodDescriptor.extendedLabel());
+		profile.start();
+		return profile;
+	}
+
+	/**
+	 * @param executionResult Is null if property execution was aborted by a blacklisted exception
+	 */
+	public void finish(PropertyProfile profile, PropertyExecutionResult executionResult) {
+		if (!profile.isEnabled()) {
+			return;
+		}
+		if (executionResult == null) {
+			profile.finish(0, 0);
+			return;
+		}
+		profile.finish(executionResult.countTries(), executionResult.countChecks());
+		finishedProfiles.add(profile);
+	}
+
+	public Optional<ReportEntry> summary() {
+		if (finishedProfiles.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(PerformanceReportEntry.slowestProperties(finishedProfiles));
+	}
+
+	private boolean isProfiled(PropertyMethodDescriptor methodDescriptor) {
+		return profileAllProperties || Reporting.PERFORMANCE.containedIn(methodDescriptor.getReporting());
+	}
+}
@@ -102,6 +102,19 @@ public class ArbitrariesFacadeImpl extends Arbitraries.ArbitrariesFacade {
 		return new DefaultActionSequenceArbitrary<>(actionArbitrary);
 	}
 
+	@Override
+	public <M> ActionSequenceArbitrary<M> sequences(List<ActionType<M>> actionTypes) {
+		if (actionTypes.isEmpty()) {
+			throw new JqwikException("At least one action type is required");
+		}
+		return new DefaultActionSequenceArbitrary<>(actionTypes);
+	}
+
+	@Override
+	public <S, M> ConcurrentActionSequenceArbitrary<S, M> concurrentSequences(Arbitrary<? extends ConcurrentAction<S, M>> actionArbitrary) {
+		return new DefaultConcurrentActionSequenceArbitrary<>(actionArbitrary);
+	}
+
 	@Override
 	public <T> Arbitrary<T> frequencyOf(List<Tuple.Tuple2<Integer, Arbitrary<T>>> frequencies) {
 		return new FrequencyOfArbitrary<>(frequencies);
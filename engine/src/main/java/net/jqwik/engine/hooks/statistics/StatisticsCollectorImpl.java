@@ -1,6 +1,8 @@
 package net.jqwik.engine.hooks.statistics;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -14,11 +16,17 @@ import net.jqwik.engine.facades.*;
 public class StatisticsCollectorImpl implements StatisticsCollector {
 	public static final Object COLLECTORS_ID = Tuple.of(StatisticsCollectorImpl.class, "collectors");
 
-	private final Map<List<Object>, Integer> counts = new HashMap<>();
-	private final List<Consumer<StatisticsCoverage>> coverageCheckers = new ArrayList<>();
+	private static final int KEY_SIZE_NOT_SET = -1;
+
+	// Single values are used as keys directly to avoid allocation of a list per call.
+	// Only null and List values are wrapped so that keys of size 1 stay unambiguous.
+	private final Map<Object, LongAdder> counts = new ConcurrentHashMap<>();
+	private final LongAdder countAll = new LongAdder();
+	private final AtomicInteger keySize = new AtomicInteger(KEY_SIZE_NOT_SET);
+	private final CopyOnWriteArrayList<Consumer<StatisticsCoverage>> coverageCheckers = new CopyOnWriteArrayList<>();
 	private final String label;
 
-	private List<StatisticsEntryImpl> statisticsEntries = null;
+	private volatile CalculatedEntries calculatedEntries = null;
 
 	public StatisticsCollectorImpl(String label) {
 		this.label = label;
@@ -27,42 +35,58 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	@Override
 	public StatisticsCollector collect(Object... values) {
 		ensureAtLeastOneParameter(values);
-		List<Object> key = keyFrom(values);
-		ensureSameNumberOfValues(key);
-		updateCounts(key);
+		ensureSameNumberOfValues(values == null ? 1 : values.length);
+		updateCounts(keyFrom(values));
 		return this;
 	}
 
-	private void updateCounts(List<Object> key) {
-		int count = counts.computeIfAbsent(key, any -> 0);
-		counts.put(key, ++count);
-		statisticsEntries = null;
+	private void updateCounts(Object key) {
+		LongAdder count = counts.get(key);
+		if (count == null) {
+			count = counts.computeIfAbsent(key, any -> new LongAdder());
+		}
+		count.increment();
+		countAll.increment();
 	}
 
 	private void ensureAtLeastOneParameter(Object[] values) {
-		if (Arrays.equals(values, new Object[0])) {
+		if (values != null && values.length == 0) {
 			String message = String.format("StatisticsCollector[%s] must be called with at least one value", label);
 			throw new IllegalArgumentException(message);
 		}
 	}
 
-	private void ensureSameNumberOfValues(List<Object> keyCandidate) {
-		if (counts.isEmpty()) {
+	private void ensureSameNumberOfValues(int numberOfValues) {
+		int expectedSize = keySize.get();
+		if (expectedSize == KEY_SIZE_NOT_SET && keySize.compareAndSet(KEY_SIZE_NOT_SET, numberOfValues)) {
 			return;
 		}
-		List<Object> anyKey = counts.keySet().iterator().next();
-		if (anyKey.size() != keyCandidate.size()) {
+		if (keySize.get() != numberOfValues) {
 			String message = String.format("StatisticsCollector[%s] must always be called with same number of values", label);
 			throw new IllegalArgumentException(message);
 		}
 	}
 
-	private List<Object> keyFrom(Object[] values) {
-		if (values != null) {
-			return Arrays.asList(values);
-		} else {
+	private Object keyFrom(Object[] values) {
+		if (values == null) {
 			return Collections.singletonList(null);
 		}
+		if (values.length == 1) {
+			Object value = values[0];
+			if (value == null || value instanceof List) {
+				return Collections.singletonList(value);
+			}
+			return value;
+		}
+		return Arrays.asList(values);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Object> keyAsList(Object key) {
+		if (key instanceof List) {
+			return (List<Object>) key;
+		}
+		return Collections.singletonList(key);
 	}
 
 	// Currently only used for testing
@@ -71,7 +95,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	private StatisticsEntry statisticsEntry(Object[] values) {
-		List<Object> key = keyFrom(values);
+		List<Object> key = keyAsList(keyFrom(values));
 		return statisticsEntries()
 				   .stream()
 				   .filter(entry -> entry.key.equals(key))
@@ -90,7 +114,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	public int countAllCollects() {
-		return counts.values().stream().mapToInt(aCount -> aCount).sum();
+		return countAll.intValue();
 	}
 
 	// Currently only used for testing
@@ -101,9 +125,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	@Override
 	public void coverage(Consumer<StatisticsCoverage> checker) {
 		// The same checker shall only be used once
-		if (!coverageCheckers.contains(checker)) {
-			coverageCheckers.add(checker);
-		}
+		coverageCheckers.addIfAbsent(checker);
 	}
 
 	public void checkCoverage() {
@@ -114,41 +136,36 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	public Map<List<Object>, Integer> getCounts() {
-		return counts;
+		Map<List<Object>, Integer> countsByKey = new HashMap<>();
+		counts.forEach((key, count) -> countsByKey.put(keyAsList(key), count.intValue()));
+		return countsByKey;
 	}
 
+	/**
+	 * Entries are only calculated when they are requested, i.e. for reporting and coverage checking,
+	 * and recalculated only if values have been collected since.
+	 */
 	public List<StatisticsEntryImpl> statisticsEntries() {
-		if (statisticsEntries != null) {
-			return statisticsEntries;
-		}
-		statisticsEntries = calculateStatistics();
-		return statisticsEntries;
-	}
-
-	private List<StatisticsEntryImpl> calculateStatistics() {
 		int sum = countAllCollects();
-		return counts.entrySet()
-					 .stream()
-					 .sorted(this::compareStatisticsEntries)
-					 .filter(entry -> !entry.getKey().equals(Collections.emptyList()))
-					 .map(entry -> {
-						 double percentage = entry.getValue() * 100.0 / sum;
-						 return new StatisticsEntryImpl(
-							 entry.getKey(),
-							 displayKey(entry.getKey()),
-							 entry.getValue(), percentage
-						 );
-					 })
-					 .collect(Collectors.toList());
+		CalculatedEntries current = calculatedEntries;
+		if (current != null && current.sum == sum) {
+			return current.entries;
+		}
+		List<StatisticsEntryImpl> entries = calculateStatistics(sum);
+		calculatedEntries = new CalculatedEntries(sum, entries);
+		return entries;
 	}
 
-	private int compareStatisticsEntries(Map.Entry<List<Object>, Integer> e1, Map.Entry<List<Object>, Integer> e2) {
-		List<Object> k1 = e1.getKey();
-		List<Object> k2 = e2.getKey();
-		if (k1.size() != k2.size()) {
-			return Integer.compare(k1.size(), k2.size());
-		}
-		return e2.getValue().compareTo(e1.getValue());
+	private List<StatisticsEntryImpl> calculateStatistics(int sum) {
+		List<StatisticsEntryImpl> entries = new ArrayList<>(counts.size());
+		counts.forEach((key, count) -> {
+			List<Object> keyList = keyAsList(key);
+			int entryCount = count.intValue();
+			double percentage = entryCount * 100.0 / sum;
+			entries.add(new StatisticsEntryImpl(keyList, displayKey(keyList), entryCount, percentage));
+		});
+		entries.sort((e1, e2) -> Integer.compare(e2.count(), e1.count()));
+		return entries;
 	}
 
 	private String displayKey(List<Object> key) {
@@ -163,6 +180,16 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 		return label.equals(StatisticsFacadeImpl.DEFAULT_LABEL) ? "" : String.format(" for label \"%s\"", label);
 	}
 
+	private static class CalculatedEntries {
+		private final int sum;
+		private final List<StatisticsEntryImpl> entries;
+
+		private CalculatedEntries(int sum, List<StatisticsEntryImpl> entries) {
+			this.sum = sum;
+			this.entries = entries;
+		}
+	}
+
 	private class StatisticsCoverageImpl implements StatisticsCoverage {
 
 		@Override
@@ -0,0 +1,12 @@
+package net.jqwik.engine.jfr;
+
+import jdk.jfr.*;
+
+@Name("net.jqwik.FilterMisses")
+@Label("Filter Misses")
+@Description("Values rejected by a filter before an accepted value was found")
+class FilterMissesEvent extends JqwikEvent {
+
+	@Label("Misses")
+	long misses;
+}
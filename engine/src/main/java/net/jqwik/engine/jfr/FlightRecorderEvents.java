@@ -0,0 +1,64 @@
+package net.jqwik.engine.jfr;
+
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * The only class to create JFR events. Must not be loaded if JFR is not available.
+ */
+class FlightRecorderEvents {
+
+	// Properties are stacked because one property might run others, e.g. in jqwik's own tests
+	private static final ThreadLocal<PropertyContext> currentProperty = new ThreadLocal<>();
+
+	private FlightRecorderEvents() {
+	}
+
+	static PropertyRecording startProperty(String seed) {
+		PropertyContext context = new PropertyContext(currentUniqueId(), seed, currentProperty.get());
+		currentProperty.set(context);
+		PropertyEvent event = new PropertyEvent(context);
+		event.begin();
+		return event;
+	}
+
+	static void finishProperty(PropertyContext context) {
+		currentProperty.set(context.previous);
+	}
+
+	static TryRecording startTry() {
+		TryEvent event = new TryEvent();
+		event.begin();
+		return event;
+	}
+
+	static GenerationRecording startGeneration() {
+		GenerationEvent event = new GenerationEvent();
+		event.begin();
+		return event;
+	}
+
+	static ShrinkingRecording startShrinking() {
+		ShrinkingEvent event = new ShrinkingEvent();
+		event.begin();
+		return event;
+	}
+
+	static void filterMisses(long misses) {
+		FilterMissesEvent event = new FilterMissesEvent();
+		if (event.shouldCommit()) {
+			event.misses = misses;
+			event.commitInPhase("generation");
+		}
+	}
+
+	static PropertyContext currentContext() {
+		return currentProperty.get();
+	}
+
+	private static String currentUniqueId() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return null;
+		}
+		return CurrentTestDescriptor.get().getUniqueId().toString();
+	}
+}
@@ -0,0 +1,18 @@
+package net.jqwik.engine.jfr;
+
+import jdk.jfr.*;
+
+@Name("net.jqwik.Generation")
+@Label("Generation")
+@Description("Random generation of all parameters for a single try")
+@Threshold("1 ms")
+class GenerationEvent extends JqwikEvent implements GenerationRecording {
+
+	@Override
+	public void finish() {
+		end();
+		if (shouldCommit()) {
+			commitInPhase("generation");
+		}
+	}
+}
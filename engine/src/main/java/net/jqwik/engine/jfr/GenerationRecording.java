@@ -0,0 +1,8 @@
+package net.jqwik.engine.jfr;
+
+public interface GenerationRecording {
+
+	GenerationRecording NONE = () -> {};
+
+	void finish();
+}
@@ -0,0 +1,36 @@
+package net.jqwik.engine.jfr;
+
+import jdk.jfr.*;
+
+@Category("jqwik")
+@StackTrace(false)
+abstract class JqwikEvent extends Event {
+
+	@Label("Property")
+	@Description("Unique id of the property")
+	String property;
+
+	@Label("Seed")
+	String seed;
+
+	@Label("Phase")
+	String phase;
+
+	@Label("Try Index")
+	@Description("Index of the current try starting with 1; 0 outside of tries")
+	int tryIndex;
+
+	void commitInPhase(String phase) {
+		commitInPhase(phase, FlightRecorderEvents.currentContext());
+	}
+
+	void commitInPhase(String phase, PropertyContext context) {
+		this.phase = phase;
+		if (context != null) {
+			this.property = context.uniqueId;
+			this.seed = context.seed;
+			this.tryIndex = context.tryIndex;
+		}
+		commit();
+	}
+}
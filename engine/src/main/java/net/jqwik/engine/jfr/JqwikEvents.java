@@ -0,0 +1,59 @@
+package net.jqwik.engine.jfr;
+
+import java.util.logging.*;
+
+/**
+ * Entry point for all Java Flight Recorder events emitted by the engine.
+ *
+ * <p>
+ * Events are only created if the running JVM comes with JFR. Otherwise all recordings do nothing.
+ * Disabled events are discarded by JFR itself before any event data is collected.
+ * </p>
+ */
+public class JqwikEvents {
+
+	private static final Logger LOG = Logger.getLogger(JqwikEvents.class.getName());
+
+	private static final boolean FLIGHT_RECORDER_AVAILABLE = isFlightRecorderAvailable();
+
+	private JqwikEvents() {
+	}
+
+	public static PropertyRecording startProperty(String seed) {
+		if (!FLIGHT_RECORDER_AVAILABLE) {
+			return PropertyRecording.NONE;
+		}
+		return FlightRecorderEvents.startProperty(seed);
+	}
+
+	public static GenerationRecording startGeneration() {
+		if (!FLIGHT_RECORDER_AVAILABLE) {
+			return GenerationRecording.NONE;
+		}
+		return FlightRecorderEvents.startGeneration();
+	}
+
+	public static ShrinkingRecording startShrinking() {
+		if (!FLIGHT_RECORDER_AVAILABLE) {
+			return ShrinkingRecording.NONE;
+		}
+		return FlightRecorderEvents.startShrinking();
+	}
+
+	public static void filterMisses(long misses) {
+		if (!FLIGHT_RECORDER_AVAILABLE) {
+			return;
+		}
+		FlightRecorderEvents.filterMisses(misses);
+	}
+
+	private static boolean isFlightRecorderAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			LOG.fine("Java Flight Recorder is not available. No jqwik events will be emitted.");
+			return false;
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package net.jqwik.engine.jfr;
+
+class PropertyContext {
+
+	final String uniqueId;
+	final String seed;
+	final PropertyContext previous;
+
+	int tryIndex = 0;
+
+	PropertyContext(String uniqueId, String seed, PropertyContext previous) {
+		this.uniqueId = uniqueId;
+		this.seed = seed;
+		this.previous = previous;
+	}
+}
@@ -0,0 +1,47 @@
+package net.jqwik.engine.jfr;
+
+import jdk.jfr.*;
+
+@Name("net.jqwik.Property")
+@Label("Property")
+@Description("Check of a property from first try to end of shrinking")
+class PropertyEvent extends JqwikEvent implements PropertyRecording {
+
+	@Label("Status")
+	String status;
+
+	@Label("Tries")
+	int countTries;
+
+	@Label("Checks")
+	int countChecks;
+
+	private final transient PropertyContext context;
+
+	PropertyEvent(PropertyContext context) {
+		this.context = context;
+	}
+
+	@Override
+	public void nextTry(int tryIndex) {
+		context.tryIndex = tryIndex;
+	}
+
+	@Override
+	public TryRecording startTry() {
+		return FlightRecorderEvents.startTry();
+	}
+
+	@Override
+	public void finish(String status, int countTries, int countChecks) {
+		end();
+		context.tryIndex = 0;
+		FlightRecorderEvents.finishProperty(context);
+		if (shouldCommit()) {
+			this.status = status;
+			this.countTries = countTries;
+			this.countChecks = countChecks;
+			commitInPhase("property", context);
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package net.jqwik.engine.jfr;
+
+/**
+ * Records the run of a single property. All tries, generations and shrinkings
+ * recorded until {@linkplain #finish(String, int, int)} is called belong to this property.
+ */
+public interface PropertyRecording {
+
+	PropertyRecording NONE = new PropertyRecording() {
+		@Override
+		public void nextTry(int tryIndex) {
+		}
+
+		@Override
+		public TryRecording startTry() {
+			return TryRecording.NONE;
+		}
+
+		@Override
+		public void finish(String status, int countTries, int countChecks) {
+		}
+	};
+
+	void nextTry(int tryIndex);
+
+	TryRecording startTry();
+
+	void finish(String status, int countTries, int countChecks);
+}
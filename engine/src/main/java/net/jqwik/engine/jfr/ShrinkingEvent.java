@@ -0,0 +1,27 @@
+package net.jqwik.engine.jfr;
+
+import jdk.jfr.*;
+
+@Name("net.jqwik.Shrinking")
+@Label("Shrinking")
+@Description("Shrinking of a falsified sample")
+class ShrinkingEvent extends JqwikEvent implements ShrinkingRecording {
+
+	@Label("Steps")
+	@Description("Number of successful shrinking steps")
+	int steps;
+
+	@Label("Falsifier Calls")
+	@Description("Number of times the property was executed during shrinking")
+	int falsifierCalls;
+
+	@Override
+	public void finish(int steps, int falsifierCalls) {
+		end();
+		if (shouldCommit()) {
+			this.steps = steps;
+			this.falsifierCalls = falsifierCalls;
+			commitInPhase("shrinking");
+		}
+	}
+}
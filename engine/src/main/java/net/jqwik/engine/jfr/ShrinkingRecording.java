@@ -0,0 +1,8 @@
+package net.jqwik.engine.jfr;
+
+public interface ShrinkingRecording {
+
+	ShrinkingRecording NONE = (steps, falsifierCalls) -> {};
+
+	void finish(int steps, int falsifierCalls);
+}
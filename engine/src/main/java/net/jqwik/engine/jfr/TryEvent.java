@@ -0,0 +1,24 @@
+package net.jqwik.engine.jfr;
+
+import jdk.jfr.*;
+
+import net.jqwik.api.lifecycle.*;
+
+@Name("net.jqwik.Try")
+@Label("Try")
+@Description("Execution of a single try including around try hooks")
+@Threshold("1 ms")
+class TryEvent extends JqwikEvent implements TryRecording {
+
+	@Label("Status")
+	String status;
+
+	@Override
+	public void finish(TryExecutionResult.Status status) {
+		end();
+		if (shouldCommit()) {
+			this.status = status.name();
+			commitInPhase("try");
+		}
+	}
+}
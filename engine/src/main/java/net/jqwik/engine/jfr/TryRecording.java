@@ -0,0 +1,10 @@
+package net.jqwik.engine.jfr;
+
+import net.jqwik.api.lifecycle.*;
+
+public interface TryRecording {
+
+	TryRecording NONE = status -> {};
+
+	void finish(TryExecutionResult.Status status);
+}
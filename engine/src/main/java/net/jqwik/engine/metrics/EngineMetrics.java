@@ -0,0 +1,95 @@
+package net.jqwik.engine.metrics;
+
+import java.util.*;
+
+import net.jqwik.api.metrics.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Facade through which the engine hands its metrics to all registered {@linkplain MetricsRecorder} instances.
+ * Without any registered recorder all methods return immediately.
+ * Callers that have to compute a metric first, e.g. a duration, should check {@linkplain #isEnabled()} before.
+ */
+public class EngineMetrics {
+
+	private static volatile MetricsRecorder recorder = null;
+
+	public static void use(List<MetricsRecorder> recorders) {
+		if (recorders.isEmpty()) {
+			recorder = null;
+		} else if (recorders.size() == 1) {
+			recorder = recorders.get(0);
+		} else {
+			recorder = new CompositeMetricsRecorder(new ArrayList<>(recorders));
+		}
+	}
+
+	public static boolean isEnabled() {
+		return recorder != null;
+	}
+
+	public static long startTiming() {
+		return recorder != null ? System.nanoTime() : 0L;
+	}
+
+	public static void count(String metric, long increment) {
+		MetricsRecorder current = recorder;
+		if (current == null) {
+			return;
+		}
+		current.count(metric, currentPropertyId(), increment);
+	}
+
+	public static void timeSince(String metric, long start) {
+		MetricsRecorder current = recorder;
+		if (current == null) {
+			return;
+		}
+		current.time(metric, currentPropertyId(), System.nanoTime() - start);
+	}
+
+	public static void record(String metric, long value) {
+		MetricsRecorder current = recorder;
+		if (current == null) {
+			return;
+		}
+		current.record(metric, currentPropertyId(), value);
+	}
+
+	private static String currentPropertyId() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return "";
+		}
+		return CurrentTestDescriptor.get().getUniqueId().toString();
+	}
+
+	private static class CompositeMetricsRecorder implements MetricsRecorder {
+
+		private final List<MetricsRecorder> recorders;
+
+		private CompositeMetricsRecorder(List<MetricsRecorder> recorders) {
+			this.recorders = recorders;
+		}
+
+		@Override
+		public void count(String metric, String propertyId, long increment) {
+			for (MetricsRecorder recorder : recorders) {
+				recorder.count(metric, propertyId, increment);
+			}
+		}
+
+		@Override
+		public void time(String metric, String propertyId, long nanos) {
+			for (MetricsRecorder recorder : recorders) {
+				recorder.time(metric, propertyId, nanos);
+			}
+		}
+
+		@Override
+		public void record(String metric, String propertyId, long value) {
+			for (MetricsRecorder recorder : recorders) {
+				recorder.record(metric, propertyId, value);
+			}
+		}
+	}
+}
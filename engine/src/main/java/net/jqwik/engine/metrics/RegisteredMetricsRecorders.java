@@ -0,0 +1,36 @@
+package net.jqwik.engine.metrics;
+
+import java.util.*;
+
+import org.junit.platform.commons.support.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.metrics.*;
+
+public class RegisteredMetricsRecorders {
+
+	/**
+	 * @param configuredRecorderClass The fully qualified class name given in jqwik.properties, may be empty
+	 */
+	public static List<MetricsRecorder> load(String configuredRecorderClass) {
+		List<MetricsRecorder> recorders = new ArrayList<>();
+		for (MetricsRecorder recorder : ServiceLoader.load(MetricsRecorder.class)) {
+			recorders.add(recorder);
+		}
+		if (configuredRecorderClass != null && !configuredRecorderClass.trim().isEmpty()) {
+			recorders.add(createRecorder(configuredRecorderClass.trim()));
+		}
+		return recorders;
+	}
+
+	private static MetricsRecorder createRecorder(String recorderClassName) {
+		Class<?> recorderClass = ReflectionSupport.tryToLoadClass(recorderClassName).toOptional().orElseThrow(
+			() -> new JqwikException(String.format("Cannot load metrics recorder class [%s]", recorderClassName))
+		);
+		if (!MetricsRecorder.class.isAssignableFrom(recorderClass)) {
+			String message = String.format("Class [%s] does not implement %s", recorderClassName, MetricsRecorder.class.getName());
+			throw new JqwikException(message);
+		}
+		return (MetricsRecorder) ReflectionSupport.newInstance(recorderClass);
+	}
+}
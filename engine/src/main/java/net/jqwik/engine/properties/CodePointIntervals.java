@@ -0,0 +1,225 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+/**
+ * An immutable set of code points stored as sorted, disjoint and non-adjacent intervals.
+ * Code points can be accessed by their index within the set
+ * so that uniform sampling does not need any rejection.
+ */
+public class CodePointIntervals {
+
+	public static final CodePointIntervals EMPTY = new CodePointIntervals(new int[0], new int[0]);
+
+	public static CodePointIntervals of(int min, int max) {
+		if (min > max) {
+			throw new IllegalArgumentException(String.format("Min value [%s] must not be greater that max value [%s].", min, max));
+		}
+		return new CodePointIntervals(new int[]{min}, new int[]{max});
+	}
+
+	public static CodePointIntervals ofChars(char[] chars) {
+		int[] codePoints = new int[chars.length];
+		for (int i = 0; i < chars.length; i++) {
+			codePoints[i] = chars[i];
+		}
+		return ofCodePoints(codePoints);
+	}
+
+	public static CodePointIntervals ofCodePoints(int[] codePoints) {
+		int[] sorted = codePoints.clone();
+		Arrays.sort(sorted);
+		Builder builder = new Builder();
+		for (int codePoint : sorted) {
+			builder.add(codePoint, codePoint);
+		}
+		return builder.build();
+	}
+
+	private final int[] starts;
+	private final int[] ends;
+	// offsets[i] is the index of starts[i] within the whole set
+	private final int[] offsets;
+	private final int size;
+
+	private CodePointIntervals(int[] starts, int[] ends) {
+		this.starts = starts;
+		this.ends = ends;
+		this.offsets = new int[starts.length];
+		int count = 0;
+		for (int i = 0; i < starts.length; i++) {
+			offsets[i] = count;
+			count += ends[i] - starts[i] + 1;
+		}
+		this.size = count;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int countIntervals() {
+		return starts.length;
+	}
+
+	public int min() {
+		return starts[0];
+	}
+
+	public int max() {
+		return ends[ends.length - 1];
+	}
+
+	public int codePointAt(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index [%s] is not within [0..%s]", index, size - 1));
+		}
+		int interval = Arrays.binarySearch(offsets, index);
+		if (interval < 0) {
+			interval = -interval - 2;
+		}
+		return starts[interval] + (index - offsets[interval]);
+	}
+
+	/**
+	 * @return -1 if code point is not contained
+	 */
+	public int indexOf(int codePoint) {
+		int interval = intervalOf(codePoint);
+		if (interval < 0) {
+			return -1;
+		}
+		return offsets[interval] + (codePoint - starts[interval]);
+	}
+
+	public boolean contains(int codePoint) {
+		return intervalOf(codePoint) >= 0;
+	}
+
+	private int intervalOf(int codePoint) {
+		int interval = Arrays.binarySearch(starts, codePoint);
+		if (interval >= 0) {
+			return interval;
+		}
+		interval = -interval - 2;
+		if (interval < 0 || codePoint > ends[interval]) {
+			return -1;
+		}
+		return interval;
+	}
+
+	public CodePointIntervals union(CodePointIntervals other) {
+		Builder builder = new Builder();
+		int i = 0;
+		int j = 0;
+		while (i < starts.length || j < other.starts.length) {
+			if (j == other.starts.length || (i < starts.length && starts[i] <= other.starts[j])) {
+				builder.add(starts[i], ends[i]);
+				i++;
+			} else {
+				builder.add(other.starts[j], other.ends[j]);
+				j++;
+			}
+		}
+		return builder.build();
+	}
+
+	public CodePointIntervals minus(CodePointIntervals other) {
+		Builder builder = new Builder();
+		int j = 0;
+		for (int i = 0; i < starts.length; i++) {
+			int start = starts[i];
+			int end = ends[i];
+			while (j < other.starts.length && other.ends[j] < start) {
+				j++;
+			}
+			int k = j;
+			while (start <= end && k < other.starts.length && other.starts[k] <= end) {
+				if (other.starts[k] > start) {
+					builder.add(start, other.starts[k] - 1);
+				}
+				if (other.ends[k] >= end) {
+					start = end + 1;
+				} else {
+					start = Math.max(start, other.ends[k] + 1);
+				}
+				k++;
+			}
+			if (start <= end) {
+				builder.add(start, end);
+			}
+		}
+		return builder.build();
+	}
+
+	public CodePointIntervals intersect(CodePointIntervals other) {
+		return minus(minus(other));
+	}
+
+	public void forEachInterval(BiConsumer<Integer, Integer> minAndMaxConsumer) {
+		for (int i = 0; i < starts.length; i++) {
+			minAndMaxConsumer.accept(starts[i], ends[i]);
+		}
+	}
+
+	public IntStream codePoints() {
+		return IntStream.range(0, starts.length)
+						.flatMap(interval -> IntStream.rangeClosed(starts[interval], ends[interval]));
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		CodePointIntervals that = (CodePointIntervals) o;
+		return Arrays.equals(starts, that.starts) && Arrays.equals(ends, that.ends);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner joiner = new StringJoiner(", ", "CodePointIntervals[", "]");
+		for (int i = 0; i < starts.length; i++) {
+			joiner.add(String.format("%x..%x", starts[i], ends[i]));
+		}
+		return joiner.toString();
+	}
+
+	/**
+	 * Intervals must be added in ascending order of their start.
+	 */
+	static class Builder {
+		private final List<int[]> intervals = new ArrayList<>();
+
+		void add(int start, int end) {
+			if (!intervals.isEmpty()) {
+				int[] last = intervals.get(intervals.size() - 1);
+				if (start <= last[1] + 1) {
+					last[1] = Math.max(last[1], end);
+					return;
+				}
+			}
+			intervals.add(new int[]{start, end});
+		}
+
+		CodePointIntervals build() {
+			int[] starts = new int[intervals.size()];
+			int[] ends = new int[intervals.size()];
+			for (int i = 0; i < intervals.size(); i++) {
+				starts[i] = intervals.get(i)[0];
+				ends[i] = intervals.get(i)[1];
+			}
+			return new CodePointIntervals(starts, ends);
+		}
+	}
+}
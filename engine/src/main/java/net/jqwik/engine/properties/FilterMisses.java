@@ -0,0 +1,29 @@
+package net.jqwik.engine.properties;
+
+import net.jqwik.api.metrics.*;
+import net.jqwik.engine.execution.profiling.*;
+import net.jqwik.engine.jfr.*;
+import net.jqwik.engine.metrics.*;
+
+/**
+ * Counts the values a filter rejected while looking for a single accepted value.
+ * Only filters count misses since other users of {@linkplain MaxTriesLoop}
+ * - e.g. generators of sets or unique values - loop for other reasons.
+ */
+public class FilterMisses {
+
+	private long count = 0;
+
+	public void missed() {
+		count++;
+	}
+
+	public void report() {
+		if (count > 0) {
+			JqwikEvents.filterMisses(count);
+			PropertyProfile.current().filterMissed(count);
+			EngineMetrics.count(MetricNames.FILTER_MISSES, count);
+		}
+		EngineMetrics.record(MetricNames.FILTER_MISSES_PER_VALUE, count);
+	}
+}
@@ -7,6 +7,36 @@ import net.jqwik.api.*;
 
 public interface ForAllParametersGenerator extends Iterator<List<Shrinkable<Object>>> {
 
+	/**
+	 * Skip the next {@code countTries} tries as if their parameters had been generated.
+	 */
+	default void skip(int countTries) {
+		for (int i = 0; i < countTries && hasNext(); i++) {
+			next();
+		}
+	}
+
+	default ForAllParametersGenerator limit(int maxTries) {
+		ForAllParametersGenerator generator = this;
+		return new ForAllParametersGenerator() {
+			private int countTries = 0;
+
+			@Override
+			public boolean hasNext() {
+				return countTries < maxTries && generator.hasNext();
+			}
+
+			@Override
+			public List<Shrinkable<Object>> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException(String.format("Already generated %s tries", maxTries));
+				}
+				countTries++;
+				return generator.next();
+			}
+		};
+	}
+
 	default ForAllParametersGenerator andThen(Supplier<ForAllParametersGenerator> generatorCreator) {
 		ForAllParametersGenerator first = this;
 		ForAllParametersGenerator afterSuccessGenerator = generatorCreator.get();
@@ -8,9 +8,13 @@ import org.junit.platform.engine.reporting.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.metrics.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.execution.profiling.*;
+import net.jqwik.engine.jfr.*;
+import net.jqwik.engine.metrics.*;
 import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
@@ -37,6 +41,24 @@ public class GenericProperty {
 	}
 
 	public PropertyCheckResult check(Consumer<ReportEntry> reporter, Reporting[] reporting) {
+		PropertyRecording recording = JqwikEvents.startProperty(configuration.getSeed());
+		PropertyCheckResult checkResult = null;
+		try {
+			checkResult = checkTries(reporter, reporting, recording);
+			return checkResult;
+		} finally {
+			if (checkResult != null) {
+				recording.finish(checkResult.checkStatus().name(), checkResult.countTries(), checkResult.countChecks());
+				EngineMetrics.count(MetricNames.TRIES, checkResult.countTries());
+				EngineMetrics.count(MetricNames.DISCARDS, checkResult.countTries() - checkResult.countChecks());
+			} else {
+				recording.finish("ABORTED", 0, 0);
+			}
+		}
+	}
+
+	private PropertyCheckResult checkTries(Consumer<ReportEntry> reporter, Reporting[] reporting, PropertyRecording recording) {
+		PropertyProfile profile = PropertyProfile.current();
 		int maxTries = configuration.getTries();
 		int countChecks = 0;
 		int countTries = 0;
@@ -49,14 +71,27 @@ public class GenericProperty {
 				break;
 			}
 			countTries++;
+			recording.nextTry(countTries);
 
+			long tryStart = profile.startTiming();
+			long metricsTryStart = EngineMetrics.startTiming();
 			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
 			List<Shrinkable<Object>> shrinkableParams = parametersGenerator.next(tryLifecycleContext);
 			List<Object> sample = extractParams(shrinkableParams);
+			profile.generationFinished(tryStart);
 
 			try {
 				countChecks++;
-				TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reporting);
+				TryRecording tryRecording = recording.startTry();
+				TryExecutionResult tryExecutionResult = null;
+				try {
+					tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reporting);
+				} finally {
+					// A try that throws fails the property like a falsified one
+					tryRecording.finish(tryExecutionResult == null ? TryExecutionResult.Status.FALSIFIED : tryExecutionResult.status());
+					profile.tryFinished(tryStart);
+					EngineMetrics.timeSince(MetricNames.TRY_DURATION, metricsTryStart);
+				}
 				switch (tryExecutionResult.status()) {
 					case SATISFIED:
 						finishEarly = tryExecutionResult.shouldPropertyFinishEarly();
@@ -156,7 +191,16 @@ public class GenericProperty {
 		//       Maybe introduce some decorator for ShrinkingSequence(s)
 		PropertyShrinker shrinker = new PropertyShrinker(shrinkables, configuration.getShrinkingMode(), reporter, reporting);
 		Falsifier<List<Object>> forAllFalsifier = createFalsifier(tryLifecycleContextSupplier, tryLifecycleExecutor);
-		return shrinker.shrink(forAllFalsifier, exceptionOrAssertionError);
+		PropertyProfile profile = PropertyProfile.current();
+		long shrinkingStart = profile.startTiming();
+		long metricsShrinkingStart = EngineMetrics.startTiming();
+		profile.shrinkingStarted();
+		try {
+			return shrinker.shrink(forAllFalsifier, exceptionOrAssertionError);
+		} finally {
+			profile.shrinkingFinished(shrinkingStart);
+			EngineMetrics.timeSince(MetricNames.SHRINKING_DURATION, metricsShrinkingStart);
+		}
 	}
 
 	private Falsifier<List<Object>> createFalsifier(
@@ -36,6 +36,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCases,
 			null,
 			null,
+			null,
 			null
 		);
 	}
@@ -62,7 +63,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCases,
 			sample,
 			originalSample,
-			throwable
+			throwable,
+			null
 		);
 	}
 
@@ -86,6 +88,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCases,
 			null,
 			null,
+			null,
 			null
 		);
 	}
@@ -101,6 +104,7 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private final List<Object> sample;
 	private final List<Object> originalSample;
 	private final Throwable throwable;
+	private final Integer failingTry;
 
 	private PropertyCheckResult(
 		CheckStatus status, String stereotype,
@@ -112,7 +116,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		EdgeCasesMode edgeCases,
 		List<Object> sample,
 		List<Object> originalSample,
-		Throwable throwable
+		Throwable throwable,
+		Integer failingTry
 	) {
 		this.stereotype = stereotype;
 		this.status = status;
@@ -125,6 +130,24 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		this.sample = sample;
 		this.originalSample = originalSample;
 		this.throwable = determineThrowable(status, throwable);
+		this.failingTry = failingTry;
+	}
+
+	public PropertyCheckResult withFailingTry(int failingTry) {
+		return new PropertyCheckResult(
+			status,
+			stereotype,
+			propertyName,
+			tries,
+			checks,
+			randomSeed,
+			generation,
+			edgeCases,
+			sample,
+			originalSample,
+			throwable,
+			failingTry
+		);
 	}
 
 	private Throwable determineThrowable(CheckStatus status, Throwable throwable) {
@@ -174,7 +197,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCases,
 					sample,
 					originalSample,
-					throwable
+					throwable,
+					failingTry
 				);
 			case SUCCESSFUL:
 				return new PropertyCheckResult(
@@ -188,7 +212,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCases,
 					sample,
 					originalSample,
-					throwable
+					throwable,
+					failingTry
 				);
 			default:
 				throw new IllegalStateException(String.format("Unknown state: %s", newStatus.name()));
@@ -232,6 +257,11 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		return edgeCases;
 	}
 
+	@Override
+	public Optional<Integer> failingTry() {
+		return Optional.ofNullable(failingTry);
+	}
+
 	@Override
 	public String toString() {
 		String header = String.format("%s [%s] failed", stereotype, propertyName);
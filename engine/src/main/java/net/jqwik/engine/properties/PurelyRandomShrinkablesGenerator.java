@@ -5,6 +5,7 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.providers.*;
+import net.jqwik.engine.jfr.*;
 
 class PurelyRandomShrinkablesGenerator {
 
@@ -15,11 +16,16 @@ class PurelyRandomShrinkablesGenerator {
 	}
 
 	List<Shrinkable<Object>> generateNext(Random random) {
-		Map<TypeUsage, Arbitrary<Object>> generatorsCache = new HashMap<>();
-		return parameterGenerators
-				   .stream()
-				   .map(generator -> generator.next(random, generatorsCache))
-				   .collect(Collectors.toList());
+		GenerationRecording recording = JqwikEvents.startGeneration();
+		try {
+			Map<TypeUsage, Arbitrary<Object>> generatorsCache = new HashMap<>();
+			return parameterGenerators
+					   .stream()
+					   .map(generator -> generator.next(random, generatorsCache))
+					   .collect(Collectors.toList());
+		} finally {
+			recording.finish();
+		}
 	}
 
 }
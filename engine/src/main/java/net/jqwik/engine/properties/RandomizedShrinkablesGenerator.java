@@ -4,17 +4,25 @@ import java.util.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.metrics.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.execution.profiling.*;
 import net.jqwik.engine.facades.*;
+import net.jqwik.engine.metrics.*;
 import net.jqwik.engine.support.*;
 
 import static java.lang.Math.*;
 
+/**
+ * Each try gets its own random derived from the seed and the try's index.
+ * Tries can thereby be skipped without generating their values.
+ */
 public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator {
 
 	public static RandomizedShrinkablesGenerator forParameters(
 		List<MethodParameter> parameters,
 		ArbitraryResolver arbitraryResolver,
-		Random random,
+		long seed,
 		int genSize,
 		EdgeCasesMode edgeCasesMode
 	) {
@@ -26,7 +34,7 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 			new EdgeCasesGenerator(listOfEdgeCases),
 			edgeCasesMode,
 			calculateBaseToEdgeCaseRatio(listOfEdgeCases, genSize),
-			random
+			seed
 		);
 	}
 
@@ -107,22 +115,23 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 	private final EdgeCasesGenerator edgeCasesGenerator;
 	private final EdgeCasesMode edgeCasesMode;
 	private final int baseToEdgeCaseRatio;
-	private final Random random;
+	private final long seed;
 
 	private boolean edgeCasesGenerated = false;
+	private long tryIndex = 0;
 
 	private RandomizedShrinkablesGenerator(
 		PurelyRandomShrinkablesGenerator randomGenerator,
 		EdgeCasesGenerator edgeCasesGenerator,
 		EdgeCasesMode edgeCasesMode,
 		int baseToEdgeCaseRatio,
-		Random random
+		long seed
 	) {
 		this.randomGenerator = randomGenerator;
 		this.edgeCasesGenerator = edgeCasesGenerator;
 		this.edgeCasesMode = edgeCasesMode;
 		this.baseToEdgeCaseRatio = baseToEdgeCaseRatio;
-		this.random = random;
+		this.seed = seed;
 	}
 
 	@Override
@@ -133,25 +142,58 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 
 	@Override
 	public List<Shrinkable<Object>> next() {
-		if (!edgeCasesGenerated) {
-			if (edgeCasesMode.generateFirst()) {
+		Random random = nextTryRandom();
+		if (isEdgeCaseNext(random)) {
+			return nextEdgeCase();
+		}
+		return randomGenerator.generateNext(random);
+	}
+
+	/**
+	 * Only edge cases must be generated for skipped tries
+	 * since later tries take the edge cases that follow.
+	 */
+	@Override
+	public void skip(int countTries) {
+		for (int i = 0; i < countTries; i++) {
+			Random random = nextTryRandom();
+			if (isEdgeCaseNext(random)) {
+				edgeCasesGenerator.next();
+			}
+		}
+	}
+
+	private Random nextTryRandom() {
+		return SourceOfRandomness.newRandom(seed, tryIndex++);
+	}
+
+	private boolean isEdgeCaseNext(Random random) {
+		if (edgeCasesGenerated) {
+			return false;
+		}
+		if (edgeCasesMode.generateFirst()) {
+			if (edgeCasesGenerator.hasNext()) {
+				return true;
+			} else {
+				edgeCasesGenerated = true;
+			}
+		}
+		if (edgeCasesMode.mixIn()) {
+			if (shouldGenerateEdgeCase(random)) {
 				if (edgeCasesGenerator.hasNext()) {
-					return edgeCasesGenerator.next();
+					return true;
 				} else {
 					edgeCasesGenerated = true;
 				}
 			}
-			if (edgeCasesMode.mixIn()) {
-				if (shouldGenerateEdgeCase(random)) {
-					if (edgeCasesGenerator.hasNext()) {
-						return edgeCasesGenerator.next();
-					} else {
-						edgeCasesGenerated = true;
-					}
-				}
-			}
 		}
-		return randomGenerator.generateNext(random);
+		return false;
+	}
+
+	private List<Shrinkable<Object>> nextEdgeCase() {
+		PropertyProfile.current().edgeCaseGenerated();
+		EngineMetrics.count(MetricNames.EDGE_CASES, 1);
+		return edgeCasesGenerator.next();
 	}
 
 	private boolean shouldGenerateEdgeCase(Random localRandom) {
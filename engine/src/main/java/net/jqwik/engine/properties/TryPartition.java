@@ -0,0 +1,118 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+/**
+ * The slice of a property's tries that is checked by one of several JVM forks or CI nodes.
+ * Partition {@code k/n} checks the {@code k}th of {@code n} consecutive slices - counting from 0 -
+ * so that all partitions together check exactly the tries of a single unpartitioned run.
+ *
+ * <p>
+ * All partitions must use the same seed. Properties without a fixed seed therefore get one
+ * derived from the partition seed - or from their name if there is no partition seed.
+ * </p>
+ */
+public class TryPartition {
+
+	public static final String PARAMETER = "jqwik.tryPartition";
+	public static final String SEED_PARAMETER = "jqwik.tryPartition.seed";
+
+	public static final TryPartition ALL = new TryPartition(0, 1, null);
+
+	/**
+	 * @param partition Partition in the form {@code k/n} or empty for no partitioning
+	 * @param seed      Seed shared by all partitions or empty
+	 */
+	public static TryPartition parse(String partition, String seed) {
+		if (partition == null || partition.trim().isEmpty()) {
+			return ALL;
+		}
+		String[] parts = partition.trim().split("/");
+		try {
+			if (parts.length != 2) {
+				throw new NumberFormatException();
+			}
+			return of(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()), emptyToNull(seed));
+		} catch (NumberFormatException notANumber) {
+			throw new JqwikException(String.format("Try partition [%s] must have the form k/n", partition));
+		}
+	}
+
+	public static TryPartition of(int index, int count, String seed) {
+		if (count < 1) {
+			throw new JqwikException(String.format("Number of try partitions [%s] must be at least 1", count));
+		}
+		if (index < 0 || index >= count) {
+			throw new JqwikException(String.format("Try partition [%s] must be within [0..%s]", index, count - 1));
+		}
+		if (seed != null) {
+			parseSeed(seed);
+		}
+		return new TryPartition(index, count, seed);
+	}
+
+	private static long parseSeed(String seed) {
+		try {
+			return Long.parseLong(seed);
+		} catch (NumberFormatException nfe) {
+			throw new JqwikException(String.format("[%s] is not a valid random seed.", seed));
+		}
+	}
+
+	private static String emptyToNull(String aString) {
+		return aString == null || aString.trim().isEmpty() ? null : aString.trim();
+	}
+
+	private final int index;
+	private final int count;
+	private final String seed;
+
+	private TryPartition(int index, int count, String seed) {
+		this.index = index;
+		this.count = count;
+		this.seed = seed;
+	}
+
+	public TryPartition overriddenBy(ConfigurationParameters parameters) {
+		Optional<String> partition = parameters.get(PARAMETER);
+		String seed = parameters.get(SEED_PARAMETER).orElse(this.seed);
+		if (partition.isPresent()) {
+			return parse(partition.get(), seed);
+		}
+		return isPartitioned() ? of(index, count, emptyToNull(seed)) : this;
+	}
+
+	public boolean isPartitioned() {
+		return count > 1;
+	}
+
+	/**
+	 * @return the index of the first try of this partition
+	 */
+	public int firstTry(int tries) {
+		return (int) ((long) tries * index / count);
+	}
+
+	/**
+	 * @return the number of tries checked by this partition
+	 */
+	public int countTries(int tries) {
+		int end = (int) ((long) tries * (index + 1) / count);
+		return end - firstTry(tries);
+	}
+
+	public String seedFor(String propertyName) {
+		long baseSeed = seed == null ? 0L : parseSeed(seed);
+		return Long.toString(SourceOfRandomness.newRandom(baseSeed, propertyName.hashCode()).nextLong());
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s/%s", index, count);
+	}
+}
@@ -0,0 +1,53 @@
+package net.jqwik.engine.properties;
+
+import net.jqwik.api.*;
+
+/**
+ * Code point tables for all unicode general categories as returned by {@linkplain Character#getType(int)}.
+ * The tables are built once per JVM when they are first used.
+ */
+public class UnicodeCategories {
+
+	private UnicodeCategories() {
+	}
+
+	public static CodePointIntervals codePointsOf(int category) {
+		if (!isCategory(category)) {
+			throw new JqwikException(String.format("[%s] is not a unicode category constant of java.lang.Character", category));
+		}
+		return Tables.CATEGORIES[category];
+	}
+
+	public static boolean isCategory(int category) {
+		return category >= 0 && category < Tables.CATEGORIES.length && !Tables.CATEGORIES[category].isEmpty();
+	}
+
+	private static class Tables {
+		// There are 30 categories with values between 0 and 30 - value 17 is not used
+		private static final CodePointIntervals[] CATEGORIES = buildTables(31);
+
+		private static CodePointIntervals[] buildTables(int numberOfCategories) {
+			CodePointIntervals.Builder[] builders = new CodePointIntervals.Builder[numberOfCategories];
+			for (int i = 0; i < numberOfCategories; i++) {
+				builders[i] = new CodePointIntervals.Builder();
+			}
+			int start = Character.MIN_CODE_POINT;
+			int startCategory = Character.getType(start);
+			for (int codePoint = start + 1; codePoint <= Character.MAX_CODE_POINT; codePoint++) {
+				int category = Character.getType(codePoint);
+				if (category != startCategory) {
+					builders[startCategory].add(start, codePoint - 1);
+					start = codePoint;
+					startCategory = category;
+				}
+			}
+			builders[startCategory].add(start, Character.MAX_CODE_POINT);
+
+			CodePointIntervals[] tables = new CodePointIntervals[numberOfCategories];
+			for (int i = 0; i < numberOfCategories; i++) {
+				tables[i] = builders[i].build();
+			}
+			return tables;
+		}
+	}
+}
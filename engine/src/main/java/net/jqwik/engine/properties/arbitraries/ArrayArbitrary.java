@@ -2,11 +2,13 @@ package net.jqwik.engine.properties.arbitraries;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.configurators.*;
 import net.jqwik.api.providers.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.engine.properties.shrinking.*;
 
 public class ArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> implements SelfConfiguringArbitrary<A> {
@@ -20,9 +22,42 @@ public class ArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> implemen
 
 	@Override
 	public RandomGenerator<A> generator(int genSize) {
+		Optional<RandomGenerator<A>> primitiveArrayGenerator = primitiveArrayGenerator(genSize);
+		if (primitiveArrayGenerator.isPresent()) {
+			return primitiveArrayGenerator.get();
+		}
 		return createListGenerator(genSize).map(this::toArray);
 	}
 
+	private Optional<RandomGenerator<A>> primitiveArrayGenerator(int genSize) {
+		Optional<PrimitiveArrayType<A>> arrayType = primitiveArrayType();
+		return arrayType.flatMap(type -> primitiveElementGenerator(genSize).map(
+			elementGenerator -> RandomGenerators
+									.primitiveArrays(elementGenerator, type, minSize, maxSize, cutoffSize(genSize))
+									.withEdgeCases(genSize, RandomGenerators.primitiveArrayEdgeCases(elementGenerator, type, minSize, maxSize))
+		));
+	}
+
+	/**
+	 * Arrays of integral primitives are generated and shrunk without boxing their elements
+	 * as long as elements come unchanged from one of the default integral arbitraries.
+	 */
+	@SuppressWarnings("unchecked")
+	private Optional<PrimitiveArrayType<A>> primitiveArrayType() {
+		if (elementArbitrary.isUnique() || !(elementArbitrary instanceof PrimitiveIntegralArbitrary)) {
+			return Optional.empty();
+		}
+		Class<?> primitiveType = ((PrimitiveIntegralArbitrary) elementArbitrary).primitiveType();
+		if (arrayClass.getComponentType() != primitiveType) {
+			return Optional.empty();
+		}
+		return PrimitiveArrayType.forComponentType(primitiveType).map(type -> (PrimitiveArrayType<A>) type);
+	}
+
+	private Optional<PrimitiveIntegralGenerator> primitiveElementGenerator(int genSize) {
+		return ((PrimitiveIntegralArbitrary) elementArbitrary).primitiveGenerator(genSize);
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<A>> exhaustive(long maxNumberOfSamples) {
 		return ExhaustiveGenerators
@@ -32,6 +67,13 @@ public class ArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> implemen
 
 	@Override
 	public EdgeCases<A> edgeCases() {
+		Optional<PrimitiveArrayType<A>> arrayType = primitiveArrayType();
+		if (arrayType.isPresent()) {
+			Optional<PrimitiveIntegralGenerator> elementGenerator = primitiveElementGenerator(1);
+			if (elementGenerator.isPresent()) {
+				return RandomGenerators.primitiveArrayEdgeCases(elementGenerator.get(), arrayType.get(), minSize, maxSize);
+			}
+		}
 		return edgeCases(ShrinkableList::new).map(this::toArray);
 	}
 
@@ -46,8 +88,11 @@ public class ArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> implemen
 
 	@Override
 	protected Iterable<T> toIterable(A array) {
+		// Arrays of primitives cannot be cast to T[]
 		//noinspection unchecked
-		return () -> Arrays.stream((T[]) array).iterator();
+		return () -> IntStream.range(0, Array.getLength(array))
+							  .mapToObj(index -> (T) Array.get(array, index))
+							  .iterator();
 	}
 
 	@Override
@@ -0,0 +1,47 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+/**
+ * Behaves like {@linkplain Arbitraries#of(char[])}.
+ */
+class CharacterChoiceArbitrary implements Arbitrary<Character>, CharacterSetArbitrary {
+	private final char[] characters;
+	private final Arbitrary<Character> choice;
+
+	CharacterChoiceArbitrary(char[] characters) {
+		this.characters = characters;
+		this.choice = Arbitraries.of(characters);
+	}
+
+	@Override
+	public RandomGenerator<Character> generator(int genSize) {
+		return choice.generator(genSize);
+	}
+
+	@Override
+	public CodePointIntervals characters() {
+		return CodePointIntervals.ofChars(characters);
+	}
+
+	@Override
+	public char[] edgeCaseCharacters() {
+		if (characters.length < 2) {
+			return characters.clone();
+		}
+		return new char[]{characters[0], characters[characters.length - 1]};
+	}
+
+	@Override
+	public Optional<ExhaustiveGenerator<Character>> exhaustive(long maxNumberOfSamples) {
+		return choice.exhaustive(maxNumberOfSamples);
+	}
+
+	@Override
+	public EdgeCases<Character> edgeCases() {
+		return choice.edgeCases();
+	}
+}
@@ -10,7 +10,7 @@ import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.engine.properties.shrinking.*;
 
-public class CharacterRangeArbitrary implements Arbitrary<Character> {
+public class CharacterRangeArbitrary implements Arbitrary<Character>, CharacterSetArbitrary {
 	private final char min;
 	private final char max;
 
@@ -24,6 +24,16 @@ public class CharacterRangeArbitrary implements Arbitrary<Character> {
 		return RandomGenerators.chars(min, max).withEdgeCases(genSize, edgeCases());
 	}
 
+	@Override
+	public CodePointIntervals characters() {
+		return CodePointIntervals.of(min, max);
+	}
+
+	@Override
+	public char[] edgeCaseCharacters() {
+		return new char[]{min, max};
+	}
+
 	private List<Shrinkable<Character>> listOfEdgeCases() {
 		return Stream.of(min, max)
 					 .map(aCharacter -> new ShrinkableBigInteger(
@@ -0,0 +1,14 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import net.jqwik.engine.properties.*;
+
+/**
+ * A character arbitrary whose allowed characters can be compiled
+ * into a table together with other parts of a {@linkplain DefaultCharacterArbitrary}.
+ */
+interface CharacterSetArbitrary {
+
+	CodePointIntervals characters();
+
+	char[] edgeCaseCharacters();
+}
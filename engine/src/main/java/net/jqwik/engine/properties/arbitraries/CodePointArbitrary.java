@@ -0,0 +1,57 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+
+/**
+ * Generates unicode code points from a precomputed table. The lowest and highest code point are edge cases.
+ */
+class CodePointArbitrary implements Arbitrary<Integer> {
+
+	private final CodePointIntervals codePoints;
+
+	CodePointArbitrary(CodePointIntervals codePoints) {
+		this.codePoints = codePoints;
+	}
+
+	@Override
+	public RandomGenerator<Integer> generator(int genSize) {
+		return codePointGenerator(genSize).asRandomGenerator();
+	}
+
+	CodePointTableGenerator codePointGenerator(int genSize) {
+		return RandomGenerators.codePoints(codePoints, edgeCaseCodePoints(), genSize);
+	}
+
+	private int[] edgeCaseCodePoints() {
+		if (codePoints.isEmpty()) {
+			return new int[0];
+		}
+		if (codePoints.size() == 1) {
+			return new int[]{codePoints.min()};
+		}
+		return new int[]{codePoints.min(), codePoints.max()};
+	}
+
+	@Override
+	public Optional<ExhaustiveGenerator<Integer>> exhaustive(long maxNumberOfSamples) {
+		return ExhaustiveGenerators.fromIterable(() -> codePoints.codePoints().iterator(), codePoints.size(), maxNumberOfSamples);
+	}
+
+	@Override
+	public EdgeCases<Integer> edgeCases() {
+		if (codePoints.isEmpty()) {
+			return EdgeCases.none();
+		}
+		CodePointTableGenerator generator = codePointGenerator(1);
+		List<Shrinkable<Integer>> edgeCases = new ArrayList<>();
+		for (int edgeCase : edgeCaseCodePoints()) {
+			edgeCases.add(generator.shrinkableFor(edgeCase));
+		}
+		return EdgeCases.fromShrinkables(edgeCases);
+	}
+}
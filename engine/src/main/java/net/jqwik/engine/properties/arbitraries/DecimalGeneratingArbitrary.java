@@ -33,6 +33,70 @@ class DecimalGeneratingArbitrary implements Arbitrary<BigDecimal> {
 		return decimalGenerator(partitionPoints, genSize);
 	}
 
+	/**
+	 * @return empty if values cannot be generated as primitive doubles without changing them
+	 */
+	Optional<RandomGenerator<Double>> doubleGenerator(int genSize) {
+		return unscaledGenerator(genSize, MAX_EXACT_DOUBLE_UNSCALED, MAX_EXACT_DOUBLE_SCALE)
+				   .map(generator -> primitiveDoubles(generator, unscaledBigIntegerRange(range, scale), scale)
+										 .withEdgeCases(genSize, edgeCases().map(BigDecimal::doubleValue)));
+	}
+
+	/**
+	 * @return empty if values cannot be generated as primitive floats without changing them
+	 */
+	Optional<RandomGenerator<Float>> floatGenerator(int genSize) {
+		return unscaledGenerator(genSize, MAX_EXACT_FLOAT_UNSCALED, MAX_EXACT_FLOAT_SCALE)
+				   .map(generator -> primitiveFloats(generator, unscaledBigIntegerRange(range, scale), scale)
+										 .withEdgeCases(genSize, edgeCases().map(BigDecimal::floatValue)));
+	}
+
+	private Optional<PrimitiveIntegralGenerator> unscaledGenerator(int genSize, long maxUnscaled, int maxScale) {
+		if (scale < 0 || scale > maxScale || range.isSingular()) {
+			// Leave these cases and their error reporting to the default generator
+			return Optional.empty();
+		}
+		checkRange();
+		BigInteger minIncluded = unscaledBigInteger(range.min, scale).add(range.minIncluded ? BigInteger.ZERO : BigInteger.ONE);
+		BigInteger maxIncluded = unscaledBigInteger(range.max, scale).subtract(range.maxIncluded ? BigInteger.ZERO : BigInteger.ONE);
+		if (minIncluded.compareTo(maxIncluded) > 0 || !isWithin(minIncluded, maxUnscaled) || !isWithin(maxIncluded, maxUnscaled)) {
+			return Optional.empty();
+		}
+		long unscaledMin = minIncluded.longValueExact();
+		long unscaledMax = maxIncluded.longValueExact();
+
+		LongUnaryOperator unscaledShrinkingTarget;
+		if (shrinkingTarget == null) {
+			unscaledShrinkingTarget = PrimitiveIntegralGenerator.defaultShrinkingTarget(unscaledMin, unscaledMax);
+		} else {
+			BigInteger target;
+			try {
+				target = unscaledBigInteger(shrinkingTarget, scale);
+			} catch (ArithmeticException cannotBeScaled) {
+				return Optional.empty();
+			}
+			if (target.compareTo(minIncluded) < 0 || target.compareTo(maxIncluded) > 0) {
+				return Optional.empty();
+			}
+			long unscaledTarget = target.longValueExact();
+			unscaledShrinkingTarget = ignore -> unscaledTarget;
+		}
+
+		long[] unscaledPartitionPoints =
+			Arrays.stream(RandomGenerators.calculateDefaultPartitionPoints(genSize, range))
+				  .map(partitionPoint -> unscaledBigInteger(partitionPoint, scale))
+				  .filter(partitionPoint -> isWithin(partitionPoint, maxUnscaled))
+				  .mapToLong(BigInteger::longValueExact)
+				  .toArray();
+		return Optional.of(RandomGenerators.primitiveIntegrals(
+			unscaledMin, unscaledMax, unscaledShrinkingTarget, new long[0], genSize, unscaledPartitionPoints
+		));
+	}
+
+	private static boolean isWithin(BigInteger value, long maxAbsolute) {
+		return value.abs().compareTo(BigInteger.valueOf(maxAbsolute)) <= 0;
+	}
+
 	private void checkRange() {
 		checkScale(range.min);
 		checkScale(range.max);
@@ -5,8 +5,9 @@ import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class DefaultByteArbitrary extends AbstractArbitraryBase implements ByteArbitrary {
+public class DefaultByteArbitrary extends AbstractArbitraryBase implements ByteArbitrary, PrimitiveIntegralArbitrary, IndexedValuesArbitrary<Byte> {
 
 	private static final byte DEFAULT_MIN = Byte.MIN_VALUE;
 	private static final byte DEFAULT_MAX = Byte.MAX_VALUE;
@@ -22,6 +23,21 @@ public class DefaultByteArbitrary extends AbstractArbitraryBase implements ByteA
 		return generatingArbitrary.generator(genSize).map(BigInteger::byteValueExact);
 	}
 
+	@Override
+	public Class<?> primitiveType() {
+		return byte.class;
+	}
+
+	@Override
+	public Optional<PrimitiveIntegralGenerator> primitiveGenerator(int genSize) {
+		return generatingArbitrary.primitiveGenerator(genSize);
+	}
+
+	@Override
+	public Optional<IndexedValues<Byte>> indexedValues() {
+		return generatingArbitrary.indexedValues().map(values -> values.mapValues(BigInteger::byteValueExact));
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<Byte>> exhaustive(long maxNumberOfSamples) {
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::byteValueExact));
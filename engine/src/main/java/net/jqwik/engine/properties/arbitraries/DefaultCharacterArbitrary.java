@@ -5,8 +5,11 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class DefaultCharacterArbitrary extends AbstractArbitraryBase implements CharacterArbitrary {
+public class DefaultCharacterArbitrary extends AbstractArbitraryBase implements CharacterArbitrary, PrimitiveCharacterArbitrary {
 
 	static final char[] WHITESPACE_CHARS;
 
@@ -38,40 +41,122 @@ public class DefaultCharacterArbitrary extends AbstractArbitraryBase implements
 		return codepoint >= 0xe000 && codepoint <= 0xf8ff;
 	}
 
+	// All chars except noncharacters and private use characters
+	public static final CodePointIntervals DEFAULT_CHARACTERS =
+		CodePointIntervals.of(Character.MIN_VALUE, Character.MAX_VALUE)
+						  .minus(CodePointIntervals.of(0xd800, 0xdfff))
+						  .minus(CodePointIntervals.of(0xe000, 0xf8ff))
+						  .minus(CodePointIntervals.of(0xfdd0, 0xfdef))
+						  .minus(CodePointIntervals.of(0xfffe, 0xffff));
+
 	private List<Arbitrary<Character>> parts = new ArrayList<>();
 
+	// Lazily compiled from parts. Is null as long as it has not been compiled yet.
+	private CodePointIntervals compiledCharacters;
+
 	public DefaultCharacterArbitrary() {
 	}
 
 	@Override
 	public RandomGenerator<Character> generator(int genSize) {
+		Optional<PrimitiveCharacterGenerator> primitiveGenerator = primitiveGenerator(genSize);
+		if (primitiveGenerator.isPresent()) {
+			return primitiveGenerator.get().asRandomGenerator();
+		}
 		return arbitrary().generator(genSize);
 	}
 
 	private Arbitrary<Character> arbitrary() {
-		if (parts.isEmpty()) {
-			return defaultArbitrary();
-		}
 		if (parts.size() == 1) {
 			return parts.get(0);
 		}
 		return Arbitraries.oneOf(parts);
 	}
 
-	private Arbitrary<Character> defaultArbitrary() {
-		return rangeArbitrary(Character.MIN_VALUE, Character.MAX_VALUE)
-				   .filter(c -> !DefaultCharacterArbitrary.isNoncharacter(c)
-									&& !DefaultCharacterArbitrary.isPrivateUseCharacter(c));
+	/**
+	 * Ranges and sets of chars are compiled into a single table of code point intervals.
+	 * Only a character arbitrary that was added through {@linkplain #with(Arbitrary)}
+	 * prevents generation of primitive characters.
+	 */
+	@Override
+	public Optional<PrimitiveCharacterGenerator> primitiveGenerator(int genSize) {
+		if (!isCompilable()) {
+			return Optional.empty();
+		}
+		CodePointIntervals characters = compiledCharacters();
+		if (characters.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(RandomGenerators.chars(characters, edgeCaseCharacters(characters), genSize));
+	}
+
+	/**
+	 * @return empty if no characters have been explicitly allowed
+	 */
+	Optional<CodePointIntervals> explicitlyAllowedCharacters() {
+		if (parts.isEmpty()) {
+			return Optional.empty();
+		}
+		if (!isCompilable()) {
+			throw new JqwikException("Characters from an arbitrary cannot be combined with code points");
+		}
+		return Optional.of(compiledCharacters());
+	}
+
+	private boolean isCompilable() {
+		return parts.stream().allMatch(part -> part instanceof CharacterSetArbitrary);
+	}
+
+	private CodePointIntervals compiledCharacters() {
+		if (compiledCharacters == null) {
+			if (parts.isEmpty()) {
+				compiledCharacters = DEFAULT_CHARACTERS;
+			} else {
+				compiledCharacters = parts.stream()
+										  .map(part -> ((CharacterSetArbitrary) part).characters())
+										  .reduce(CodePointIntervals.EMPTY, CodePointIntervals::union);
+			}
+		}
+		return compiledCharacters;
+	}
+
+	private char[] edgeCaseCharacters(CodePointIntervals characters) {
+		if (parts.isEmpty()) {
+			return new char[]{(char) characters.min()};
+		}
+		StringBuilder edgeCases = new StringBuilder();
+		for (Arbitrary<Character> part : parts) {
+			for (char edgeCase : ((CharacterSetArbitrary) part).edgeCaseCharacters()) {
+				if (edgeCases.indexOf(String.valueOf(edgeCase)) < 0) {
+					edgeCases.append(edgeCase);
+				}
+			}
+		}
+		return edgeCases.toString().toCharArray();
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Character>> exhaustive(long maxNumberOfSamples) {
-		return arbitrary().exhaustive(maxNumberOfSamples);
+		if (!isCompilable()) {
+			return arbitrary().exhaustive(maxNumberOfSamples);
+		}
+		CodePointIntervals characters = compiledCharacters();
+		return ExhaustiveGenerators
+				   .fromIterable(() -> characters.codePoints().iterator(), characters.size(), maxNumberOfSamples)
+				   .map(generator -> generator.map(codePoint -> (char) (int) codePoint));
 	}
 
 	@Override
 	public EdgeCases<Character> edgeCases() {
-		return arbitrary().edgeCases();
+		Optional<PrimitiveCharacterGenerator> primitiveGenerator = primitiveGenerator(1);
+		if (!primitiveGenerator.isPresent()) {
+			return arbitrary().edgeCases();
+		}
+		List<Shrinkable<Character>> edgeCases = new ArrayList<>();
+		for (char edgeCase : edgeCaseCharacters(compiledCharacters())) {
+			edgeCases.add(primitiveGenerator.get().shrinkableFor(edgeCase));
+		}
+		return EdgeCases.fromShrinkables(edgeCases);
 	}
 
 	@Override
@@ -100,7 +185,7 @@ public class DefaultCharacterArbitrary extends AbstractArbitraryBase implements
 	}
 
 	private Arbitrary<Character> charsArbitrary(char[] allowedChars) {
-		return Arbitraries.of(allowedChars);
+		return new CharacterChoiceArbitrary(allowedChars);
 	}
 
 	@Override
@@ -127,6 +212,7 @@ public class DefaultCharacterArbitrary extends AbstractArbitraryBase implements
 		DefaultCharacterArbitrary clone = super.typedClone();
 		clone.parts = new ArrayList<>(parts);
 		clone.parts.add(part);
+		clone.compiledCharacters = null;
 		return clone;
 	}
 
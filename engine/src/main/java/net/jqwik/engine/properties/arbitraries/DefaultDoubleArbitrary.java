@@ -2,6 +2,8 @@ package net.jqwik.engine.properties.arbitraries;
 
 import java.math.*;
 import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
@@ -12,7 +14,12 @@ public class DefaultDoubleArbitrary extends AbstractArbitraryBase implements Dou
 	private static final double DEFAULT_MIN = -Double.MAX_VALUE;
 	private static final double DEFAULT_MAX = Double.MAX_VALUE;
 
+	private static final double[] STANDARD_SPECIAL_VALUES = {
+		Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, -0.0, Double.MIN_VALUE, Double.MIN_NORMAL
+	};
+
 	private final DecimalGeneratingArbitrary generatingArbitrary;
+	private Set<Double> specialValues = new LinkedHashSet<>();
 
 	public DefaultDoubleArbitrary() {
 		this.generatingArbitrary = new DecimalGeneratingArbitrary(Range.of(toBigDecimal(DEFAULT_MIN), toBigDecimal(DEFAULT_MAX)));
@@ -20,17 +27,34 @@ public class DefaultDoubleArbitrary extends AbstractArbitraryBase implements Dou
 
 	@Override
 	public RandomGenerator<Double> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigDecimal::doubleValue);
+		RandomGenerator<Double> decimalGenerator =
+			generatingArbitrary.doubleGenerator(genSize)
+							   .orElseGet(() -> generatingArbitrary.generator(genSize).map(BigDecimal::doubleValue));
+		return decimalGenerator.withEdgeCases(genSize, specialEdgeCases());
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Double>> exhaustive(long maxNumberOfSamples) {
+		if (!specialValues.isEmpty()) {
+			return Optional.empty();
+		}
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigDecimal::doubleValue));
 	}
 
 	@Override
 	public EdgeCases<Double> edgeCases() {
-		return generatingArbitrary.edgeCases().map(BigDecimal::doubleValue);
+		return EdgeCases.concat(
+			generatingArbitrary.edgeCases().map(BigDecimal::doubleValue),
+			specialEdgeCases()
+		);
+	}
+
+	private EdgeCases<Double> specialEdgeCases() {
+		return EdgeCases.fromSuppliers(
+			specialValues.stream()
+						 .map(special -> (Supplier<Shrinkable<Double>>) () -> Shrinkable.unshrinkable(special))
+						 .collect(Collectors.toList())
+		);
 	}
 
 	@Override
@@ -74,6 +98,24 @@ public class DefaultDoubleArbitrary extends AbstractArbitraryBase implements Dou
 		return clone;
 	}
 
+	@Override
+	public DoubleArbitrary withSpecialValue(double special) {
+		DefaultDoubleArbitrary clone = typedClone();
+		clone.specialValues = new LinkedHashSet<>(specialValues);
+		clone.specialValues.add(special);
+		return clone;
+	}
+
+	@Override
+	public DoubleArbitrary withStandardSpecialValues() {
+		DefaultDoubleArbitrary clone = typedClone();
+		clone.specialValues = new LinkedHashSet<>(specialValues);
+		for (double special : STANDARD_SPECIAL_VALUES) {
+			clone.specialValues.add(special);
+		}
+		return clone;
+	}
+
 	private BigDecimal toBigDecimal(double value) {
 		return new BigDecimal(Double.toString(value));
 	}
@@ -2,6 +2,8 @@ package net.jqwik.engine.properties.arbitraries;
 
 import java.math.*;
 import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
@@ -12,7 +14,12 @@ public class DefaultFloatArbitrary extends AbstractArbitraryBase implements Floa
 	private static final float DEFAULT_MIN = -Float.MAX_VALUE;
 	private static final float DEFAULT_MAX = Float.MAX_VALUE;
 
+	private static final float[] STANDARD_SPECIAL_VALUES = {
+		Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, -0.0f, Float.MIN_VALUE, Float.MIN_NORMAL
+	};
+
 	private final DecimalGeneratingArbitrary generatingArbitrary;
+	private Set<Float> specialValues = new LinkedHashSet<>();
 
 	public DefaultFloatArbitrary() {
 		this.generatingArbitrary = new DecimalGeneratingArbitrary(Range.of(toBigDecimal(DEFAULT_MIN), toBigDecimal(DEFAULT_MAX)));
@@ -20,17 +27,34 @@ public class DefaultFloatArbitrary extends AbstractArbitraryBase implements Floa
 
 	@Override
 	public RandomGenerator<Float> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigDecimal::floatValue);
+		RandomGenerator<Float> decimalGenerator =
+			generatingArbitrary.floatGenerator(genSize)
+							   .orElseGet(() -> generatingArbitrary.generator(genSize).map(BigDecimal::floatValue));
+		return decimalGenerator.withEdgeCases(genSize, specialEdgeCases());
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Float>> exhaustive(long maxNumberOfSamples) {
+		if (!specialValues.isEmpty()) {
+			return Optional.empty();
+		}
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigDecimal::floatValue));
 	}
 
 	@Override
 	public EdgeCases<Float> edgeCases() {
-		return generatingArbitrary.edgeCases().map(BigDecimal::floatValue);
+		return EdgeCases.concat(
+			generatingArbitrary.edgeCases().map(BigDecimal::floatValue),
+			specialEdgeCases()
+		);
+	}
+
+	private EdgeCases<Float> specialEdgeCases() {
+		return EdgeCases.fromSuppliers(
+			specialValues.stream()
+						 .map(special -> (Supplier<Shrinkable<Float>>) () -> Shrinkable.unshrinkable(special))
+						 .collect(Collectors.toList())
+		);
 	}
 
 	@Override
@@ -74,6 +98,24 @@ public class DefaultFloatArbitrary extends AbstractArbitraryBase implements Floa
 		return clone;
 	}
 
+	@Override
+	public FloatArbitrary withSpecialValue(float special) {
+		DefaultFloatArbitrary clone = typedClone();
+		clone.specialValues = new LinkedHashSet<>(specialValues);
+		clone.specialValues.add(special);
+		return clone;
+	}
+
+	@Override
+	public FloatArbitrary withStandardSpecialValues() {
+		DefaultFloatArbitrary clone = typedClone();
+		clone.specialValues = new LinkedHashSet<>(specialValues);
+		for (float special : STANDARD_SPECIAL_VALUES) {
+			clone.specialValues.add(special);
+		}
+		return clone;
+	}
+
 	private BigDecimal toBigDecimal(float value) {
 		return new BigDecimal(Float.toString(value));
 	}
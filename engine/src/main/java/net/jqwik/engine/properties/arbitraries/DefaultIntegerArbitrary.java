@@ -5,8 +5,9 @@ import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class DefaultIntegerArbitrary extends AbstractArbitraryBase implements IntegerArbitrary {
+public class DefaultIntegerArbitrary extends AbstractArbitraryBase implements IntegerArbitrary, PrimitiveIntegralArbitrary, IndexedValuesArbitrary<Integer> {
 
 	private static final int DEFAULT_MIN = Integer.MIN_VALUE;
 	private static final int DEFAULT_MAX = Integer.MAX_VALUE;
@@ -22,6 +23,21 @@ public class DefaultIntegerArbitrary extends AbstractArbitraryBase implements In
 		return generatingArbitrary.generator(genSize).map(BigInteger::intValueExact);
 	}
 
+	@Override
+	public Class<?> primitiveType() {
+		return int.class;
+	}
+
+	@Override
+	public Optional<PrimitiveIntegralGenerator> primitiveGenerator(int genSize) {
+		return generatingArbitrary.primitiveGenerator(genSize);
+	}
+
+	@Override
+	public Optional<IndexedValues<Integer>> indexedValues() {
+		return generatingArbitrary.indexedValues().map(values -> values.mapValues(BigInteger::intValueExact));
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<Integer>> exhaustive(long maxNumberOfSamples) {
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::intValueExact));
@@ -5,8 +5,9 @@ import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class DefaultLongArbitrary extends AbstractArbitraryBase implements LongArbitrary {
+public class DefaultLongArbitrary extends AbstractArbitraryBase implements LongArbitrary, PrimitiveIntegralArbitrary, IndexedValuesArbitrary<Long> {
 
 	private static final long DEFAULT_MIN = Long.MIN_VALUE;
 	private static final long DEFAULT_MAX = Long.MAX_VALUE;
@@ -22,6 +23,21 @@ public class DefaultLongArbitrary extends AbstractArbitraryBase implements LongA
 		return generatingArbitrary.generator(genSize).map(BigInteger::longValueExact);
 	}
 
+	@Override
+	public Class<?> primitiveType() {
+		return long.class;
+	}
+
+	@Override
+	public Optional<PrimitiveIntegralGenerator> primitiveGenerator(int genSize) {
+		return generatingArbitrary.primitiveGenerator(genSize);
+	}
+
+	@Override
+	public Optional<IndexedValues<Long>> indexedValues() {
+		return generatingArbitrary.indexedValues().map(values -> values.mapValues(BigInteger::longValueExact));
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<Long>> exhaustive(long maxNumberOfSamples) {
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::longValueExact));
@@ -5,8 +5,9 @@ import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
-public class DefaultShortArbitrary extends AbstractArbitraryBase implements ShortArbitrary {
+public class DefaultShortArbitrary extends AbstractArbitraryBase implements ShortArbitrary, PrimitiveIntegralArbitrary, IndexedValuesArbitrary<Short> {
 
 	private static final short DEFAULT_MIN = Short.MIN_VALUE;
 	private static final short DEFAULT_MAX = Short.MAX_VALUE;
@@ -22,6 +23,21 @@ public class DefaultShortArbitrary extends AbstractArbitraryBase implements Shor
 		return generatingArbitrary.generator(genSize).map(BigInteger::shortValueExact);
 	}
 
+	@Override
+	public Class<?> primitiveType() {
+		return short.class;
+	}
+
+	@Override
+	public Optional<PrimitiveIntegralGenerator> primitiveGenerator(int genSize) {
+		return generatingArbitrary.primitiveGenerator(genSize);
+	}
+
+	@Override
+	public Optional<IndexedValues<Short>> indexedValues() {
+		return generatingArbitrary.indexedValues().map(values -> values.mapValues(BigInteger::shortValueExact));
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<Short>> exhaustive(long maxNumberOfSamples) {
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::shortValueExact));
@@ -4,25 +4,53 @@ import java.util.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.arbitraries.regex.*;
 import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultStringArbitrary extends AbstractArbitraryBase implements StringArbitrary {
 
 	private CharacterArbitrary characterArbitrary = new DefaultCharacterArbitrary();
 
+	// Is null as long as neither code points nor unicode categories have been added
+	private CodePointIntervals codePoints = null;
+
+	// Is null as long as no regular expression has been set
+	private RegexAutomaton regexAutomaton = null;
+
 	private int minLength = 0;
 	private int maxLength = RandomGenerators.DEFAULT_COLLECTION_SIZE;
 
 	@Override
 	public RandomGenerator<String> generator(int genSize) {
 		final int cutoffLength = RandomGenerators.defaultCutoffSize(minLength, maxLength, genSize);
-		return RandomGenerators.strings(randomCharacterGenerator(), minLength, maxLength, cutoffLength).withEdgeCases(genSize, edgeCases());
+		return randomStringGenerator(cutoffLength).withEdgeCases(genSize, edgeCases());
+	}
+
+	private RandomGenerator<String> randomStringGenerator(int cutoffLength) {
+		if (usesRegex()) {
+			return new RegexStringGenerator(regexAutomaton, minLength, maxLength, cutoffLength);
+		}
+		if (usesCodePoints()) {
+			return RandomGenerators.strings(codePointArbitrary().codePointGenerator(1), minLength, maxLength, cutoffLength);
+		}
+		Optional<PrimitiveCharacterGenerator> primitiveGenerator = primitiveCharacterGenerator();
+		if (primitiveGenerator.isPresent()) {
+			return RandomGenerators.strings(primitiveGenerator.get(), minLength, maxLength, cutoffLength);
+		}
+		return RandomGenerators.strings(randomCharacterGenerator(), minLength, maxLength, cutoffLength);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<String>> exhaustive(long maxNumberOfSamples) {
+		if (usesRegex()) {
+			return Optional.empty();
+		}
+		if (usesCodePoints()) {
+			return ExhaustiveGenerators.codePointStrings(codePointArbitrary(), minLength, maxLength, maxNumberOfSamples);
+		}
 		return ExhaustiveGenerators.strings(
 			characterArbitrary,
 			minLength,
@@ -33,6 +61,9 @@ public class DefaultStringArbitrary extends AbstractArbitraryBase implements Str
 
 	@Override
 	public EdgeCases<String> edgeCases() {
+		if (usesRegex()) {
+			return RegexStringGenerator.edgeCases(regexAutomaton, minLength, maxLength);
+		}
 		EdgeCases<String> emptyStringEdgeCases =
 			hasEmptyStringEdgeCase() ? emptyStringEdgeCase() : EdgeCases.none();
 		EdgeCases<String> singleCharEdgeCases =
@@ -56,10 +87,21 @@ public class DefaultStringArbitrary extends AbstractArbitraryBase implements Str
 	}
 
 	private EdgeCases<String> emptyStringEdgeCase() {
+		if (usesCodePoints()) {
+			return EdgeCases.fromSupplier(() -> new ShrinkableCodePointString(Collections.emptyList(), minLength));
+		}
 		return EdgeCases.fromSupplier(() -> new ShrinkableString(Collections.emptyList(), minLength));
 	}
 
 	private EdgeCases<String> fixedSizedEdgeCases(int fixedSize) {
+		if (usesCodePoints()) {
+			return codePointArbitrary()
+					   .edgeCases()
+					   .mapShrinkable(shrinkableCodePoint -> {
+						   List<Shrinkable<Integer>> codePoints = new ArrayList<>(Collections.nCopies(fixedSize, shrinkableCodePoint));
+						   return new ShrinkableCodePointString(codePoints, minLength);
+					   });
+		}
 		return characterArbitrary
 				   .edgeCases()
 				   .mapShrinkable(shrinkableChar -> {
@@ -145,8 +187,74 @@ public class DefaultStringArbitrary extends AbstractArbitraryBase implements Str
 		return this.withCharRange(Character.MIN_VALUE, Character.MAX_VALUE);
 	}
 
+	@Override
+	public StringArbitrary withCodePoints(int from, int to) {
+		if (from < Character.MIN_CODE_POINT || to > Character.MAX_CODE_POINT || from > to) {
+			String message = String.format("[%s..%s] is not a valid range of unicode code points", from, to);
+			throw new JqwikException(message);
+		}
+		if (from >= Character.MIN_SURROGATE && to <= Character.MAX_SURROGATE) {
+			String message = String.format("[%s..%s] only contains surrogates which cannot be generated as single code points", from, to);
+			throw new JqwikException(message);
+		}
+		return withAdditionalCodePoints(CodePointIntervals.of(from, to));
+	}
+
+	@Override
+	public StringArbitrary withUnicodeCategories(int... categories) {
+		CodePointIntervals categoriesCodePoints = CodePointIntervals.EMPTY;
+		for (int category : categories) {
+			categoriesCodePoints = categoriesCodePoints.union(UnicodeCategories.codePointsOf(category));
+		}
+		return withAdditionalCodePoints(categoriesCodePoints);
+	}
+
+	private StringArbitrary withAdditionalCodePoints(CodePointIntervals additionalCodePoints) {
+		DefaultStringArbitrary clone = typedClone();
+		clone.codePoints = codePoints == null ? additionalCodePoints : codePoints.union(additionalCodePoints);
+		return clone;
+	}
+
+	@Override
+	public StringArbitrary matching(String regex) {
+		DefaultStringArbitrary clone = typedClone();
+		clone.regexAutomaton = RegexAutomaton.forRegex(regex);
+		return clone;
+	}
+
+	private boolean usesRegex() {
+		return regexAutomaton != null;
+	}
+
+	private boolean usesCodePoints() {
+		return codePoints != null;
+	}
+
+	private CodePointArbitrary codePointArbitrary() {
+		CodePointIntervals allowedCodePoints = codePoints;
+		if (characterArbitrary instanceof DefaultCharacterArbitrary) {
+			Optional<CodePointIntervals> allowedCharacters = ((DefaultCharacterArbitrary) characterArbitrary).explicitlyAllowedCharacters();
+			if (allowedCharacters.isPresent()) {
+				allowedCodePoints = allowedCodePoints.union(allowedCharacters.get());
+			}
+		}
+		// Adjacent high and low surrogates would be read back as a single supplementary code point
+		allowedCodePoints = allowedCodePoints.minus(CodePointIntervals.of(Character.MIN_SURROGATE, Character.MAX_SURROGATE));
+		if (allowedCodePoints.isEmpty()) {
+			throw new JqwikException("There are no code points left to generate after removing surrogates");
+		}
+		return new CodePointArbitrary(allowedCodePoints);
+	}
+
 	private RandomGenerator<Character> randomCharacterGenerator() {
 		return characterArbitrary.generator(1);
 	}
 
+	private Optional<PrimitiveCharacterGenerator> primitiveCharacterGenerator() {
+		if (characterArbitrary instanceof PrimitiveCharacterArbitrary) {
+			return ((PrimitiveCharacterArbitrary) characterArbitrary).primitiveGenerator(1);
+		}
+		return Optional.empty();
+	}
+
 }
@@ -0,0 +1,16 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+
+/**
+ * Arbitraries whose generated values come from a finite domain that can be accessed by index.
+ */
+interface IndexedValuesArbitrary<T> {
+
+	/**
+	 * @return empty if the domain is too large to be indexed
+	 */
+	Optional<IndexedValues<T>> indexedValues();
+}
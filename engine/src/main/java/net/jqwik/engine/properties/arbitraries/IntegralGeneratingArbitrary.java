@@ -31,6 +31,61 @@ class IntegralGeneratingArbitrary implements Arbitrary<BigInteger> {
 		return createGenerator(partitionPoints, genSize);
 	}
 
+	/**
+	 * @return empty if values or shrinking target do not fit into a {@code long}
+	 */
+	Optional<PrimitiveIntegralGenerator> primitiveGenerator(int genSize) {
+		if (!fitsIntoLong(min) || !fitsIntoLong(max)) {
+			return Optional.empty();
+		}
+		long primitiveMin = min.longValueExact();
+		long primitiveMax = max.longValueExact();
+		LongUnaryOperator primitiveShrinkingTarget;
+		if (shrinkingTarget == null) {
+			primitiveShrinkingTarget = PrimitiveIntegralGenerator.defaultShrinkingTarget(primitiveMin, primitiveMax);
+		} else if (shrinkingTarget.compareTo(min) >= 0 && shrinkingTarget.compareTo(max) <= 0) {
+			long target = shrinkingTarget.longValueExact();
+			primitiveShrinkingTarget = ignore -> target;
+		} else {
+			// Leave reporting of an invalid shrinking target to the default generator
+			return Optional.empty();
+		}
+		long[] partitionPoints = Arrays.stream(RandomGenerators.calculateDefaultPartitionPoints(genSize, min, max))
+									   .mapToLong(BigInteger::longValueExact)
+									   .toArray();
+		long[] edgeCases = streamEdgeCases().mapToLong(BigInteger::longValueExact).toArray();
+		return Optional.of(RandomGenerators.primitiveIntegrals(
+			primitiveMin, primitiveMax, primitiveShrinkingTarget, edgeCases, genSize, partitionPoints
+		));
+	}
+
+	/**
+	 * @return empty if the number of values does not fit into a {@code long}
+	 */
+	Optional<IndexedValues<BigInteger>> indexedValues() {
+		BigInteger size = max.subtract(min).add(ONE);
+		if (!fitsIntoLong(size)) {
+			return Optional.empty();
+		}
+		long primitiveSize = size.longValueExact();
+		return Optional.of(new IndexedValues<BigInteger>() {
+			@Override
+			public long size() {
+				return primitiveSize;
+			}
+
+			@Override
+			public Shrinkable<BigInteger> shrinkableAt(long index) {
+				BigInteger value = min.add(valueOf(index));
+				return new ShrinkableBigInteger(value, Range.of(min, max), shrinkingTarget(value));
+			}
+		});
+	}
+
+	private static boolean fitsIntoLong(BigInteger value) {
+		return value.bitLength() < Long.SIZE;
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<BigInteger>> exhaustive(long maxNumberOfSamples) {
 		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
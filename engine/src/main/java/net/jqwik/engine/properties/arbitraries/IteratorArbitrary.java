@@ -19,7 +19,7 @@ public class IteratorArbitrary<T> extends MultivalueArbitraryBase<T, Iterator<T>
 
 	@Override
 	public RandomGenerator<Iterator<T>> generator(int genSize) {
-		return createListGenerator(genSize).map(List::iterator);
+		return createLazyListGenerator(genSize).map(List::iterator);
 	}
 
 	@Override
@@ -63,6 +63,22 @@ abstract class MultivalueArbitraryBase<T, U> extends AbstractArbitraryBase imple
 				   .withEdgeCases(genSize, edgeCases);
 	}
 
+	/**
+	 * Elements are only generated when they are accessed,
+	 * which pays off for consumers that often use only a prefix, like streams and iterators.
+	 * Unique elements still require eager generation.
+	 */
+	protected RandomGenerator<List<T>> createLazyListGenerator(int genSize) {
+		if (elementsUnique) {
+			return createListGenerator(genSize);
+		}
+		RandomGenerator<T> elementGenerator = elementGenerator(elementArbitrary, genSize);
+		EdgeCases<List<T>> edgeCases = edgeCases(ShrinkableList::new);
+		return RandomGenerators
+				   .lazyList(elementGenerator, minSize, maxSize, cutoffSize(genSize))
+				   .withEdgeCases(genSize, edgeCases);
+	}
+
 	protected int cutoffSize(int genSize) {
 		return RandomGenerators.defaultCutoffSize(minSize, maxSize, genSize);
 	}
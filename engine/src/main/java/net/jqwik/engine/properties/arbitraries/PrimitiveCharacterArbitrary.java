@@ -0,0 +1,13 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+
+interface PrimitiveCharacterArbitrary {
+
+	/**
+	 * @return empty if characters cannot be generated as primitive values
+	 */
+	Optional<PrimitiveCharacterGenerator> primitiveGenerator(int genSize);
+}
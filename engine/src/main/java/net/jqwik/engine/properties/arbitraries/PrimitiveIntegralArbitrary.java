@@ -0,0 +1,18 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.util.*;
+
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+
+interface PrimitiveIntegralArbitrary {
+
+	/**
+	 * @return the primitive type of generated values, e.g. {@code int.class}
+	 */
+	Class<?> primitiveType();
+
+	/**
+	 * @return empty if values cannot be generated as primitive values
+	 */
+	Optional<PrimitiveIntegralGenerator> primitiveGenerator(int genSize);
+}
@@ -22,7 +22,22 @@ public class SetArbitrary<T> extends MultivalueArbitraryBase<T, Set<T>> {
 	public RandomGenerator<Set<T>> generator(int genSize) {
 		int cutoffSize = cutoffSize(genSize);
 		RandomGenerator<T> elementGenerator = elementGenerator(elementArbitrary, genSize);
-		return RandomGenerators.set(elementGenerator, minSize, maxSize, cutoffSize).withEdgeCases(genSize, edgeCases());
+		IndexedValues<T> domain = domain(elementGenerator);
+		return RandomGenerators.set(elementGenerator, domain, minSize, maxSize, cutoffSize).withEdgeCases(genSize, edgeCases());
+	}
+
+	/**
+	 * @return null if the element values cannot be accessed by index
+	 */
+	@SuppressWarnings("unchecked")
+	private IndexedValues<T> domain(RandomGenerator<T> elementGenerator) {
+		if (elementArbitrary instanceof IndexedValuesArbitrary) {
+			return ((IndexedValuesArbitrary<T>) elementArbitrary).indexedValues().orElse(null);
+		}
+		if (elementGenerator instanceof IndexedValues) {
+			return (IndexedValues<T>) elementGenerator;
+		}
+		return null;
 	}
 
 	@Override
@@ -20,7 +20,7 @@ public class StreamArbitrary<T> extends MultivalueArbitraryBase<T, Stream<T>> {
 
 	@Override
 	public RandomGenerator<Stream<T>> generator(int genSize) {
-		return createListGenerator(genSize).map(Collection::stream);
+		return createLazyListGenerator(genSize).map(Collection::stream);
 	}
 
 	@Override
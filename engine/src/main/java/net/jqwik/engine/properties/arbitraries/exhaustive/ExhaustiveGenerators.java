@@ -64,6 +64,20 @@ public class ExhaustiveGenerators {
 			));
 	}
 
+	public static Optional<ExhaustiveGenerator<String>> codePointStrings(
+		Arbitrary<Integer> codePointArbitrary,
+		int minLength,
+		int maxLength,
+		long maxNumberOfSamples
+	) {
+		return list(codePointArbitrary, minLength, maxLength, maxNumberOfSamples).map(
+			listGenerator -> listGenerator.map(
+				listOfCodePoints -> listOfCodePoints.stream()
+													.collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+													.toString()
+			));
+	}
+
 	public static <T> Optional<ExhaustiveGenerator<Set<T>>> set(Arbitrary<T> elementArbitrary, int minSize, int maxSize, long maxNumberOfSamples) {
 		Optional<Long> optionalMaxCount = SetExhaustiveGenerator.calculateMaxCount(elementArbitrary, minSize, maxSize, maxNumberOfSamples);
 		return optionalMaxCount.map(
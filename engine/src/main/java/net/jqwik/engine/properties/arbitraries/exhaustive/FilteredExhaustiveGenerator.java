@@ -48,24 +48,30 @@ public class FilteredExhaustiveGenerator<T> implements ExhaustiveGenerator<T> {
 			}
 
 			private T findNext() {
-				return MaxTriesLoop.loop(
-					() -> true,
-					next -> {
-						if (!mappedIterator.hasNext()) {
-							return Tuple.of(true, null);
+				FilterMisses misses = new FilterMisses();
+				try {
+					return MaxTriesLoop.loop(
+						() -> true,
+						next -> {
+							if (!mappedIterator.hasNext()) {
+								return Tuple.of(true, null);
+							}
+							next = mappedIterator.next();
+							if ((filter.test(next))) {
+								return Tuple.of(true, next);
+							}
+							misses.missed();
+							return Tuple.of(false, next);
+						},
+						maxMisses -> {
+							String message =
+								String.format("Filter missed more than %s times.", maxMisses);
+							return new TooManyFilterMissesException(message);
 						}
-						next = mappedIterator.next();
-						if ((filter.test(next))) {
-							return Tuple.of(true, next);
-						}
-						return Tuple.of(false, next);
-					},
-					maxMisses -> {
-						String message =
-							String.format("Filter missed more than %s times.", maxMisses);
-						return new TooManyFilterMissesException(message);
-					}
-				);
+					);
+				} finally {
+					misses.report();
+				}
 			}
 
 		};
@@ -0,0 +1,41 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Samples characters uniformly by their index in a precomputed table of code point intervals.
+ * Characters are shrunk towards the lowest character in the table.
+ */
+class CharacterTableGenerator implements PrimitiveCharacterGenerator {
+
+	private final CodePointIntervals characters;
+	private final char[] edgeCases;
+	private final int baseToEdgeCaseRatio;
+	private final Range<BigInteger> indexRange;
+
+	CharacterTableGenerator(CodePointIntervals characters, char[] edgeCases, int genSize) {
+		this.characters = characters;
+		this.edgeCases = edgeCases;
+		this.baseToEdgeCaseRatio = edgeCases.length == 0 ? 0 : WithEdgeCasesGenerator.calculateBaseToEdgeCaseRatio(genSize, edgeCases.length);
+		this.indexRange = Range.of(BigInteger.ZERO, BigInteger.valueOf(characters.size() - 1));
+	}
+
+	@Override
+	public char nextChar(Random random) {
+		if (baseToEdgeCaseRatio > 0 && random.nextInt(baseToEdgeCaseRatio) == 0) {
+			return edgeCases[random.nextInt(edgeCases.length)];
+		}
+		return (char) characters.codePointAt(random.nextInt(characters.size()));
+	}
+
+	@Override
+	public Shrinkable<Character> shrinkableFor(char value) {
+		return new ShrinkableBigInteger(BigInteger.valueOf(characters.indexOf(value)), indexRange, BigInteger.ZERO)
+				   .map(index -> (char) characters.codePointAt(index.intValueExact()));
+	}
+}
@@ -0,0 +1,38 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+class ChooseValueGenerator<U> implements RandomGenerator<U>, IndexedValues<U> {
+	private final List<U> values;
+	private List<U> distinctValues;
+
+	ChooseValueGenerator(List<U> values) {
+		this.values = values;
+	}
+
+	@Override
+	public Shrinkable<U> next(Random random) {
+		U value = RandomGenerators.chooseValue(values, random);
+		return new ChooseValueShrinkable<>(value, values);
+	}
+
+	@Override
+	public long size() {
+		return distinctValues().size();
+	}
+
+	@Override
+	public Shrinkable<U> shrinkableAt(long index) {
+		return new ChooseValueShrinkable<>(distinctValues().get((int) index), values);
+	}
+
+	private synchronized List<U> distinctValues() {
+		if (distinctValues == null) {
+			distinctValues = new ArrayList<>(new LinkedHashSet<>(values));
+		}
+		return distinctValues;
+	}
+}
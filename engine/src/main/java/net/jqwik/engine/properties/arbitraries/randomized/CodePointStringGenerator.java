@@ -0,0 +1,30 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+class CodePointStringGenerator implements RandomGenerator<String> {
+	private final CodePointTableGenerator codePointGenerator;
+	private final Function<Random, Integer> sizeGenerator;
+	private final int minLength;
+
+	CodePointStringGenerator(CodePointTableGenerator codePointGenerator, Function<Random, Integer> sizeGenerator, int minLength) {
+		this.codePointGenerator = codePointGenerator;
+		this.sizeGenerator = sizeGenerator;
+		this.minLength = minLength;
+	}
+
+	@Override
+	public Shrinkable<String> next(Random random) {
+		int length = sizeGenerator.apply(random);
+		int[] codePoints = new int[length];
+		for (int i = 0; i < length; i++) {
+			codePoints[i] = codePointGenerator.nextCodePoint(random);
+		}
+		return new ShrinkableCodePointString(new String(codePoints, 0, length), codePointGenerator::shrinkableFor, minLength);
+	}
+
+}
@@ -0,0 +1,53 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Samples code points uniformly by their index in a precomputed table of code point intervals.
+ * A code point is shrunk towards the lowest allowed code point of its own unicode category.
+ */
+public class CodePointTableGenerator {
+
+	private final CodePointIntervals codePoints;
+	private final int[] edgeCases;
+	private final int baseToEdgeCaseRatio;
+
+	// Allowed code points per unicode category. Computed on demand during shrinking.
+	private final CodePointIntervals[] codePointsPerCategory = new CodePointIntervals[Character.FINAL_QUOTE_PUNCTUATION + 1];
+
+	CodePointTableGenerator(CodePointIntervals codePoints, int[] edgeCases, int genSize) {
+		this.codePoints = codePoints;
+		this.edgeCases = edgeCases;
+		this.baseToEdgeCaseRatio = edgeCases.length == 0 ? 0 : WithEdgeCasesGenerator.calculateBaseToEdgeCaseRatio(genSize, edgeCases.length);
+	}
+
+	public int nextCodePoint(Random random) {
+		if (baseToEdgeCaseRatio > 0 && random.nextInt(baseToEdgeCaseRatio) == 0) {
+			return edgeCases[random.nextInt(edgeCases.length)];
+		}
+		return codePoints.codePointAt(random.nextInt(codePoints.size()));
+	}
+
+	public Shrinkable<Integer> shrinkableFor(int codePoint) {
+		CodePointIntervals sameCategory = allowedCodePointsOfCategory(Character.getType(codePoint));
+		Range<BigInteger> indexRange = Range.of(BigInteger.ZERO, BigInteger.valueOf(sameCategory.size() - 1));
+		return new ShrinkableBigInteger(BigInteger.valueOf(sameCategory.indexOf(codePoint)), indexRange, BigInteger.ZERO)
+				   .map(index -> sameCategory.codePointAt(index.intValueExact()));
+	}
+
+	public RandomGenerator<Integer> asRandomGenerator() {
+		return random -> shrinkableFor(nextCodePoint(random));
+	}
+
+	private CodePointIntervals allowedCodePointsOfCategory(int category) {
+		if (codePointsPerCategory[category] == null) {
+			codePointsPerCategory[category] = codePoints.intersect(UnicodeCategories.codePointsOf(category));
+		}
+		return codePointsPerCategory[category];
+	}
+}
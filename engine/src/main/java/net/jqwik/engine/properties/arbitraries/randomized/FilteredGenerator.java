@@ -27,20 +27,27 @@ public class FilteredGenerator<T> implements RandomGenerator<T> {
 	}
 
 	private Shrinkable<T> nextUntilAccepted(Random random, Function<Random, Shrinkable<T>> fetchShrinkable) {
-		Shrinkable<T> accepted = MaxTriesLoop.loop(
-			() -> true,
-			next -> {
-				next = fetchShrinkable.apply(random);
-				if (filterPredicate.test(next.value())) {
-					return Tuple.of(true, next);
+		FilterMisses misses = new FilterMisses();
+		Shrinkable<T> accepted;
+		try {
+			accepted = MaxTriesLoop.loop(
+				() -> true,
+				next -> {
+					next = fetchShrinkable.apply(random);
+					if (filterPredicate.test(next.value())) {
+						return Tuple.of(true, next);
+					}
+					misses.missed();
+					return Tuple.of(false, next);
+				},
+				(maxMisses) -> {
+					String message = String.format("%s missed more than %s times.", toString(), maxMisses);
+					return new TooManyFilterMissesException(message);
 				}
-				return Tuple.of(false, next);
-			},
-			(maxMisses) -> {
-				String message = String.format("%s missed more than %s times.", toString(), maxMisses);
-				return new TooManyFilterMissesException(message);
-			}
-		);
+			);
+		} finally {
+			misses.report();
+		}
 		return new FilteredShrinkable<>(accepted, filterPredicate);
 	}
 
@@ -12,6 +12,9 @@ import net.jqwik.engine.support.*;
 
 public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
+	// Bounds the memory of functions that are called with many different arguments
+	static final int MAX_MEMOIZED_RESULTS = 1000;
+
 	private final AtomicReference<Shrinkable<R>> lastResult = new AtomicReference<>();
 
 	public FunctionGenerator(
@@ -29,6 +32,7 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
 	private F createFunction(Random random) {
 		long baseSeed = random.nextLong();
+		Map<List<Object>, Shrinkable<R>> memoizedResults = createMemo();
 		InvocationHandler handler = (proxy, method, args) -> {
 			if (JqwikReflectionSupport.isToStringMethod(method)) {
 				return String.format(
@@ -38,8 +42,7 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 				);
 			}
 			return conditionalResult(args).orElseGet(() -> {
-				Random randomForArgs = SourceOfRandomness.newRandom(seedForArgs(baseSeed, args));
-				Shrinkable<R> shrinkableResult = resultGenerator.next(randomForArgs);
+				Shrinkable<R> shrinkableResult = memoizedResult(memoizedResults, baseSeed, args);
 				storeLastResult(shrinkableResult);
 				return new Object[]{shrinkableResult.value()};
 			})[0];
@@ -47,6 +50,45 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 		return createFunctionProxy(handler);
 	}
 
+	private Map<List<Object>, Shrinkable<R>> createMemo() {
+		return new LinkedHashMap<List<Object>, Shrinkable<R>>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, Shrinkable<R>> eldest) {
+				return size() > MAX_MEMOIZED_RESULTS;
+			}
+		};
+	}
+
+	private Shrinkable<R> memoizedResult(Map<List<Object>, Shrinkable<R>> memoizedResults, long baseSeed, Object[] args) {
+		List<Object> key = args == null ? Collections.emptyList() : Arrays.asList(args);
+		synchronized (memoizedResults) {
+			Shrinkable<R> result = memoizedResults.get(key);
+			if (result == null) {
+				Random randomForArgs = SourceOfRandomness.newRandom(seedForArgs(baseSeed, args));
+				result = resultGenerator.next(randomForArgs);
+				// Callers might change mutable results so those are not memoized
+				if (isImmutable(result.value())) {
+					memoizedResults.put(key, result);
+				}
+			}
+			return result;
+		}
+	}
+
+	private static boolean isImmutable(Object value) {
+		return value == null
+				   || value instanceof String
+				   || value instanceof Enum
+				   || value instanceof Boolean
+				   || value instanceof Character
+				   || value instanceof Byte
+				   || value instanceof Short
+				   || value instanceof Integer
+				   || value instanceof Long
+				   || value instanceof Float
+				   || value instanceof Double;
+	}
+
 	private void storeLastResult(Shrinkable<R> result) {
 		lastResult.set(result);
 	}
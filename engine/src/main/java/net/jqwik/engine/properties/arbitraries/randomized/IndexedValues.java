@@ -0,0 +1,32 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * A finite domain of distinct values that can be accessed by index.
+ * Allows to sample unique values without replacement instead of rejecting duplicates.
+ */
+public interface IndexedValues<T> {
+
+	long size();
+
+	Shrinkable<T> shrinkableAt(long index);
+
+	default <U> IndexedValues<U> mapValues(Function<T, U> mapper) {
+		IndexedValues<T> self = this;
+		return new IndexedValues<U>() {
+			@Override
+			public long size() {
+				return self.size();
+			}
+
+			@Override
+			public Shrinkable<U> shrinkableAt(long index) {
+				return self.shrinkableAt(index).map(mapper);
+			}
+		};
+	}
+
+}
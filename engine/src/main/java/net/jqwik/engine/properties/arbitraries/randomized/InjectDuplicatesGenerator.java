@@ -7,11 +7,18 @@ import net.jqwik.engine.*;
 
 public class InjectDuplicatesGenerator<T> implements RandomGenerator<T> {
 
-	private final List<Long> previousSeeds = new ArrayList<>();
+	// Duplicates are only injected from the most recent seeds so that memory use stays flat
+	static final int MAX_PREVIOUS_SEEDS = 1024;
+
+	private final long[] previousSeeds = new long[MAX_PREVIOUS_SEEDS];
+	private int numberOfPreviousSeeds = 0;
+	private int nextSeedIndex = 0;
+
 	private final RandomGenerator<T> base;
 	private final double duplicateProbability;
 
-	public InjectDuplicatesGenerator(RandomGenerator<T> base, double duplicateProbability) {this.base = base;
+	public InjectDuplicatesGenerator(RandomGenerator<T> base, double duplicateProbability) {
+		this.base = base;
 		this.duplicateProbability = duplicateProbability;
 	}
 
@@ -21,19 +28,25 @@ public class InjectDuplicatesGenerator<T> implements RandomGenerator<T> {
 		return base.next(SourceOfRandomness.newRandom(seed));
 	}
 
-	long chooseSeed(Random random) {
-		if (!previousSeeds.isEmpty()) {
+	synchronized long chooseSeed(Random random) {
+		if (numberOfPreviousSeeds > 0) {
 			if (random.nextDouble() <= duplicateProbability) {
 				return randomPreviousSeed(random);
 			}
 		}
 		long seed = random.nextLong();
-		previousSeeds.add(seed);
+		rememberSeed(seed);
 		return seed;
 	}
 
+	private void rememberSeed(long seed) {
+		previousSeeds[nextSeedIndex] = seed;
+		nextSeedIndex = (nextSeedIndex + 1) % MAX_PREVIOUS_SEEDS;
+		numberOfPreviousSeeds = Math.min(numberOfPreviousSeeds + 1, MAX_PREVIOUS_SEEDS);
+	}
+
 	private long randomPreviousSeed(Random random) {
-		int index = random.nextInt(previousSeeds.size());
-		return previousSeeds.get(index);
+		int index = random.nextInt(numberOfPreviousSeeds);
+		return previousSeeds[index];
 	}
 }
@@ -0,0 +1,28 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+class LazyListGenerator<T> implements RandomGenerator<List<T>> {
+	private final RandomGenerator<T> elementGenerator;
+	private final Function<Random, Integer> sizeGenerator;
+	private final int minSize;
+
+	LazyListGenerator(RandomGenerator<T> elementGenerator, Function<Random, Integer> sizeGenerator, int minSize) {
+		this.elementGenerator = elementGenerator;
+		this.sizeGenerator = sizeGenerator;
+		this.minSize = minSize;
+	}
+
+	@Override
+	public Shrinkable<List<T>> next(Random random) {
+		int listSize = sizeGenerator.apply(random);
+		// Only the seed is drawn from random; elements are generated on access
+		long seed = random.nextLong();
+		return new LazyShrinkableList<>(elementGenerator, seed, listSize, minSize);
+	}
+
+}
@@ -0,0 +1,101 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+class PrimitiveArrayGenerator<A> implements RandomGenerator<A> {
+	private final PrimitiveIntegralGenerator elementGenerator;
+	private final PrimitiveArrayType<A> arrayType;
+	private final Function<Random, Integer> sizeGenerator;
+	private final int minSize;
+	private final boolean fillBytesAtOnce;
+
+	PrimitiveArrayGenerator(
+		PrimitiveIntegralGenerator elementGenerator,
+		PrimitiveArrayType<A> arrayType,
+		Function<Random, Integer> sizeGenerator,
+		int minSize
+	) {
+		this.elementGenerator = elementGenerator;
+		this.arrayType = arrayType;
+		this.sizeGenerator = sizeGenerator;
+		this.minSize = minSize;
+		this.fillBytesAtOnce = arrayType == PrimitiveArrayType.BYTES && elementGenerator.isUniformOver(Byte.MIN_VALUE, Byte.MAX_VALUE);
+	}
+
+	@Override
+	public Shrinkable<A> next(Random random) {
+		int size = sizeGenerator.apply(random);
+		A array = arrayType.newArray(size);
+		if (fillBytesAtOnce) {
+			random.nextBytes((byte[]) array);
+			injectEdgeCases(array, size, random);
+		} else {
+			for (int i = 0; i < size; i++) {
+				arrayType.set(array, i, elementGenerator.next(random));
+			}
+		}
+		return new ShrinkablePrimitiveArray<>(array, arrayType, elementGenerator::shrinkingTarget, minSize);
+	}
+
+	/**
+	 * Replaces elements with edge cases at the same rate as {@linkplain PrimitiveIntegralGenerator#next(Random)} does.
+	 * The distance to the next replaced element is geometrically distributed so that only
+	 * replaced elements cost calls to random.
+	 */
+	private void injectEdgeCases(A array, int size, Random random) {
+		int baseToEdgeCaseRatio = elementGenerator.baseToEdgeCaseRatio();
+		if (baseToEdgeCaseRatio == 0) {
+			return;
+		}
+		long[] edgeCases = elementGenerator.edgeCases();
+		double logOfNoEdgeCase = Math.log(1.0 - 1.0 / baseToEdgeCaseRatio);
+		long index = elementsToSkip(random, logOfNoEdgeCase);
+		while (index < size) {
+			arrayType.set(array, (int) index, edgeCases[random.nextInt(edgeCases.length)]);
+			index += 1 + elementsToSkip(random, logOfNoEdgeCase);
+		}
+	}
+
+	private static long elementsToSkip(Random random, double logOfNoEdgeCase) {
+		return (long) (Math.log(1.0 - random.nextDouble()) / logOfNoEdgeCase);
+	}
+
+	static <A> EdgeCases<A> edgeCases(
+		PrimitiveIntegralGenerator elementGenerator,
+		PrimitiveArrayType<A> arrayType,
+		int minSize,
+		int maxSize
+	) {
+		List<Supplier<Shrinkable<A>>> suppliers = new ArrayList<>();
+		if (minSize == 0) {
+			suppliers.add(() -> shrinkableArray(0, 0L, elementGenerator, arrayType, minSize));
+		}
+		for (long edgeCase : elementGenerator.edgeCases()) {
+			if (minSize <= 1 && maxSize >= 1) {
+				suppliers.add(() -> shrinkableArray(1, edgeCase, elementGenerator, arrayType, minSize));
+			}
+			if (minSize == maxSize && minSize > 1) {
+				suppliers.add(() -> shrinkableArray(minSize, edgeCase, elementGenerator, arrayType, minSize));
+			}
+		}
+		return EdgeCases.fromSuppliers(suppliers);
+	}
+
+	// Every supplier call creates a new array so that edge cases cannot be changed by properties using them
+	private static <A> Shrinkable<A> shrinkableArray(
+		int size, long element,
+		PrimitiveIntegralGenerator elementGenerator,
+		PrimitiveArrayType<A> arrayType,
+		int minSize
+	) {
+		A array = arrayType.newArray(size);
+		for (int i = 0; i < size; i++) {
+			arrayType.set(array, i, element);
+		}
+		return new ShrinkablePrimitiveArray<>(array, arrayType, elementGenerator::shrinkingTarget, minSize);
+	}
+}
@@ -0,0 +1,21 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Generates characters as primitive values so that strings can be filled into a char array
+ * without creating a shrinkable for each character. A character's shrinkable is only created
+ * when a string is being shrunk.
+ */
+public interface PrimitiveCharacterGenerator {
+
+	char nextChar(Random random);
+
+	Shrinkable<Character> shrinkableFor(char value);
+
+	default RandomGenerator<Character> asRandomGenerator() {
+		return random -> shrinkableFor(nextChar(random));
+	}
+}
@@ -0,0 +1,111 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Generates integral values as primitive {@code long}s with the same partitions
+ * and the same shrinking targets as {@linkplain RandomIntegralGenerators#bigIntegers}.
+ */
+public class PrimitiveIntegralGenerator {
+
+	private final long min;
+	private final long max;
+	private final long[] partitionMins;
+	private final long[] partitionMaxs;
+	private final LongUnaryOperator shrinkingTarget;
+	private final long[] edgeCases;
+	private final int baseToEdgeCaseRatio;
+
+	PrimitiveIntegralGenerator(long min, long max, long[] partitionPoints, LongUnaryOperator shrinkingTarget, long[] edgeCases, int genSize) {
+		this.min = min;
+		this.max = max;
+		this.shrinkingTarget = shrinkingTarget;
+		this.edgeCases = edgeCases;
+		this.baseToEdgeCaseRatio = edgeCases.length == 0 ? 0 : WithEdgeCasesGenerator.calculateBaseToEdgeCaseRatio(genSize, edgeCases.length);
+
+		List<long[]> partitions = createPartitions(min, max, partitionPoints);
+		this.partitionMins = partitions.stream().mapToLong(partition -> partition[0]).toArray();
+		this.partitionMaxs = partitions.stream().mapToLong(partition -> partition[1]).toArray();
+	}
+
+	private static List<long[]> createPartitions(long min, long max, long[] partitionPoints) {
+		List<long[]> partitions = new ArrayList<>();
+		long[] sortedPoints = partitionPoints.clone();
+		Arrays.sort(sortedPoints);
+		long lower = min;
+		for (long upper : sortedPoints) {
+			if (upper <= lower) {
+				continue;
+			}
+			if (upper >= max) {
+				break;
+			}
+			partitions.add(new long[]{lower, upper - 1});
+			lower = upper;
+		}
+		partitions.add(new long[]{lower, max});
+		return partitions;
+	}
+
+	public static LongUnaryOperator defaultShrinkingTarget(long min, long max) {
+		if (min <= 0 && max >= 0) {
+			return ignore -> 0L;
+		}
+		return value -> value < 0 ? max : min;
+	}
+
+	public long next(Random random) {
+		if (baseToEdgeCaseRatio > 0 && random.nextInt(baseToEdgeCaseRatio) == 0) {
+			return edgeCases[random.nextInt(edgeCases.length)];
+		}
+		int partition = partitionMins.length == 1 ? 0 : random.nextInt(partitionMins.length);
+		return randomBetween(random, partitionMins[partition], partitionMaxs[partition]);
+	}
+
+	static long randomBetween(Random random, long min, long max) {
+		long range = max - min;
+		if (range >= 0 && range < Integer.MAX_VALUE) {
+			// Uses random the same way as generation of boxed integers does
+			return random.nextInt((int) range + 1) + min;
+		}
+		if (range < 0) {
+			// Range is larger than Long.MAX_VALUE
+			while (true) {
+				long value = random.nextLong();
+				if (value >= min && value <= max) {
+					return value;
+				}
+			}
+		}
+		int bits = 64 - Long.numberOfLeadingZeros(range);
+		while (true) {
+			long offset = random.nextLong() >>> (64 - bits);
+			if (offset <= range) {
+				return min + offset;
+			}
+		}
+	}
+
+	public long shrinkingTarget(long value) {
+		return shrinkingTarget.applyAsLong(value);
+	}
+
+	long[] edgeCases() {
+		return edgeCases;
+	}
+
+	/**
+	 * @return 0 if no edge cases are generated, otherwise one in that many values is an edge case
+	 */
+	int baseToEdgeCaseRatio() {
+		return baseToEdgeCaseRatio;
+	}
+
+	/**
+	 * @return true if all values in [min, max] are generated with the same probability
+	 */
+	boolean isUniformOver(long min, long max) {
+		return this.min == min && this.max == max && partitionMins.length == 1;
+	}
+}
@@ -6,9 +6,31 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 public class RandomDecimalGenerators {
 
+	// Dividing exactly representable unscaled values by exactly representable powers of ten
+	// is correctly rounded and thereby yields the same value as BigDecimal.doubleValue() or floatValue()
+	public static final long MAX_EXACT_DOUBLE_UNSCALED = 1L << 53;
+	public static final int MAX_EXACT_DOUBLE_SCALE = 22;
+	public static final long MAX_EXACT_FLOAT_UNSCALED = 1L << 24;
+	public static final int MAX_EXACT_FLOAT_SCALE = 10;
+
+	private static final double[] DOUBLE_POWERS_OF_TEN = new double[MAX_EXACT_DOUBLE_SCALE + 1];
+	private static final float[] FLOAT_POWERS_OF_TEN = new float[MAX_EXACT_FLOAT_SCALE + 1];
+
+	static {
+		DOUBLE_POWERS_OF_TEN[0] = 1.0;
+		for (int i = 1; i < DOUBLE_POWERS_OF_TEN.length; i++) {
+			DOUBLE_POWERS_OF_TEN[i] = DOUBLE_POWERS_OF_TEN[i - 1] * 10;
+		}
+		FLOAT_POWERS_OF_TEN[0] = 1.0f;
+		for (int i = 1; i < FLOAT_POWERS_OF_TEN.length; i++) {
+			FLOAT_POWERS_OF_TEN[i] = FLOAT_POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
 	public static RandomGenerator<BigDecimal> bigDecimals(
 		Range<BigDecimal> range,
 		int scale,
@@ -35,6 +57,53 @@ public class RandomDecimalGenerators {
 		return scaledBigDecimalGenerator(scaledBigIntegerGenerator, scale);
 	}
 
+	/**
+	 * Requires unscaled values to be within {@linkplain #MAX_EXACT_DOUBLE_UNSCALED}
+	 * and scale to be within {@linkplain #MAX_EXACT_DOUBLE_SCALE}.
+	 */
+	public static RandomGenerator<Double> primitiveDoubles(
+		PrimitiveIntegralGenerator unscaledGenerator,
+		Range<BigInteger> unscaledRange,
+		int scale
+	) {
+		double powerOfTen = DOUBLE_POWERS_OF_TEN[scale];
+		return primitiveDecimals(unscaledGenerator, unscaledRange, scale, unscaled -> unscaled / powerOfTen, BigDecimal::doubleValue);
+	}
+
+	/**
+	 * Requires unscaled values to be within {@linkplain #MAX_EXACT_FLOAT_UNSCALED}
+	 * and scale to be within {@linkplain #MAX_EXACT_FLOAT_SCALE}.
+	 */
+	public static RandomGenerator<Float> primitiveFloats(
+		PrimitiveIntegralGenerator unscaledGenerator,
+		Range<BigInteger> unscaledRange,
+		int scale
+	) {
+		float powerOfTen = FLOAT_POWERS_OF_TEN[scale];
+		return primitiveDecimals(unscaledGenerator, unscaledRange, scale, unscaled -> unscaled / powerOfTen, BigDecimal::floatValue);
+	}
+
+	// Big numbers are only created when a value is shrunk
+	private static <T> RandomGenerator<T> primitiveDecimals(
+		PrimitiveIntegralGenerator unscaledGenerator,
+		Range<BigInteger> unscaledRange,
+		int scale,
+		LongFunction<T> fromUnscaled,
+		Function<BigDecimal, T> fromDecimal
+	) {
+		return random -> {
+			long unscaled = unscaledGenerator.next(random);
+			return new DeferredShrinkable<>(
+				fromUnscaled.apply(unscaled),
+				() -> new ShrinkableBigInteger(
+					BigInteger.valueOf(unscaled),
+					unscaledRange,
+					BigInteger.valueOf(unscaledGenerator.shrinkingTarget(unscaled))
+				).map(value -> fromDecimal.apply(scaledBigDecimal(value, scale)))
+			);
+		};
+	}
+
 	private static BigInteger[] unscaledBigIntegerPartitions(final BigDecimal[] partitionPoints, final int scale) {
 		return Arrays.stream(partitionPoints).map(bigDecimal -> unscaledBigInteger(bigDecimal, scale))
 					 .toArray(BigInteger[]::new);
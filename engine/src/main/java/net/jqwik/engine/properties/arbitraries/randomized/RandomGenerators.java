@@ -17,10 +17,7 @@ public class RandomGenerators {
 		if (values.size() == 0) {
 			return fail("empty set of values");
 		}
-		return random -> {
-			U value = chooseValue(values, random);
-			return new ChooseValueShrinkable<>(value, values);
-		};
+		return new ChooseValueGenerator<>(values);
 	}
 
 	public static <U> U chooseValue(List<U> values, Random random) {
@@ -44,6 +41,20 @@ public class RandomGenerators {
 		return integers(min, max).map(anInt -> ((char) (int) anInt));
 	}
 
+	public static PrimitiveCharacterGenerator chars(CodePointIntervals characters, char[] edgeCases, int genSize) {
+		if (characters.isEmpty()) {
+			throw new JqwikException("empty set of characters");
+		}
+		return new CharacterTableGenerator(characters, edgeCases, genSize);
+	}
+
+	public static CodePointTableGenerator codePoints(CodePointIntervals codePoints, int[] edgeCases, int genSize) {
+		if (codePoints.isEmpty()) {
+			throw new JqwikException("empty set of code points");
+		}
+		return new CodePointTableGenerator(codePoints, edgeCases, genSize);
+	}
+
 	public static RandomGenerator<Integer> integers(int min, int max) {
 		return bigIntegers(
 			BigInteger.valueOf(min),
@@ -52,6 +63,17 @@ public class RandomGenerators {
 		).map(BigInteger::intValueExact);
 	}
 
+	public static PrimitiveIntegralGenerator primitiveIntegrals(
+		long min,
+		long max,
+		LongUnaryOperator shrinkingTarget,
+		long[] edgeCases,
+		int genSize,
+		long... partitionPoints
+	) {
+		return new PrimitiveIntegralGenerator(min, max, partitionPoints, shrinkingTarget, edgeCases, genSize);
+	}
+
 	public static RandomGenerator<BigInteger> bigIntegers(
 		BigInteger min,
 		BigInteger max,
@@ -95,6 +117,29 @@ public class RandomGenerators {
 		return container(elementGenerator, createShrinkable, minSize, maxSize, cutoffSize);
 	}
 
+	/**
+	 * Generate lists whose elements are generated only when being accessed.
+	 */
+	public static <T> RandomGenerator<List<T>> lazyList(
+		RandomGenerator<T> elementGenerator, int minSize, int maxSize, int cutoffSize
+	) {
+		Function<Random, Integer> sizeGenerator = sizeGenerator(minSize, maxSize, cutoffSize);
+		return new LazyListGenerator<>(elementGenerator, sizeGenerator, minSize);
+	}
+
+	public static <A> RandomGenerator<A> primitiveArrays(
+		PrimitiveIntegralGenerator elementGenerator, PrimitiveArrayType<A> arrayType, int minSize, int maxSize, int cutoffSize
+	) {
+		Function<Random, Integer> sizeGenerator = sizeGenerator(minSize, maxSize, cutoffSize);
+		return new PrimitiveArrayGenerator<>(elementGenerator, arrayType, sizeGenerator, minSize);
+	}
+
+	public static <A> EdgeCases<A> primitiveArrayEdgeCases(
+		PrimitiveIntegralGenerator elementGenerator, PrimitiveArrayType<A> arrayType, int minSize, int maxSize
+	) {
+		return PrimitiveArrayGenerator.edgeCases(elementGenerator, arrayType, minSize, maxSize);
+	}
+
 	public static <T> RandomGenerator<T> oneOf(List<RandomGenerator<T>> all) {
 		return choose(all).flatMap(Function.identity());
 	}
@@ -114,6 +159,20 @@ public class RandomGenerators {
 		return container(elementGenerator, createShrinkable, minLength, maxLength, cutoffLength);
 	}
 
+	public static RandomGenerator<String> strings(
+		PrimitiveCharacterGenerator characterGenerator, int minLength, int maxLength, int cutoffLength
+	) {
+		Function<Random, Integer> sizeGenerator = sizeGenerator(minLength, maxLength, cutoffLength);
+		return new StringGenerator(characterGenerator, sizeGenerator, minLength);
+	}
+
+	public static RandomGenerator<String> strings(
+		CodePointTableGenerator codePointGenerator, int minLength, int maxLength, int cutoffLength
+	) {
+		Function<Random, Integer> sizeGenerator = sizeGenerator(minLength, maxLength, cutoffLength);
+		return new CodePointStringGenerator(codePointGenerator, sizeGenerator, minLength);
+	}
+
 	public static RandomGenerator<String> strings(
 		RandomGenerator<Character> elementGenerator, int minLength, int maxLength
 	) {
@@ -162,33 +221,18 @@ public class RandomGenerators {
 
 	public static <T> RandomGenerator<Set<T>> set(
 		RandomGenerator<T> elementGenerator, int minSize, int maxSize, int cutoffSize
+	) {
+		return set(elementGenerator, null, minSize, maxSize, cutoffSize);
+	}
+
+	/**
+	 * @param domain All values of elementGenerator or null if unknown
+	 */
+	public static <T> RandomGenerator<Set<T>> set(
+		RandomGenerator<T> elementGenerator, IndexedValues<T> domain, int minSize, int maxSize, int cutoffSize
 	) {
 		Function<Random, Integer> sizeGenerator = sizeGenerator(minSize, maxSize, cutoffSize);
-		return random -> {
-			int listSize = sizeGenerator.apply(random);
-			Set<Shrinkable<T>> elements = new HashSet<>();
-			Set<T> values = new HashSet<>();
-			MaxTriesLoop.loop(
-				() -> elements.size() < listSize,
-				ignore -> {
-					Shrinkable<T> next = elementGenerator.next(random);
-					if (values.contains(next.value())) {
-						return Tuple.of(false, ignore);
-					}
-					elements.add(next);
-					values.add(next.value());
-					return Tuple.of(false, ignore);
-				},
-				maxMisses -> {
-					String message = String.format(
-						"Generating values for set of size %s missed more than %s times.",
-						listSize, maxMisses
-					);
-					return new JqwikException(message);
-				}
-			);
-			return new ShrinkableSet<>(elements, minSize);
-		};
+		return new SetGenerator<>(elementGenerator, domain, sizeGenerator, minSize);
 	}
 
 	public static <T> RandomGenerator<T> samplesFromShrinkables(List<Shrinkable<T>> samples) {
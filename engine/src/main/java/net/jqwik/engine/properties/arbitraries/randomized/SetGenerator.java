@@ -0,0 +1,88 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Generates sets by rejecting duplicate elements. If the elements come from a finite
+ * domain and the set would contain more than half of it, elements are sampled
+ * without replacement instead since rejection would miss most of the time.
+ */
+class SetGenerator<T> implements RandomGenerator<Set<T>> {
+	private final RandomGenerator<T> elementGenerator;
+	private final IndexedValues<T> domain;
+	private final Function<Random, Integer> sizeGenerator;
+	private final int minSize;
+
+	SetGenerator(RandomGenerator<T> elementGenerator, IndexedValues<T> domain, Function<Random, Integer> sizeGenerator, int minSize) {
+		this.elementGenerator = elementGenerator;
+		this.domain = domain;
+		this.sizeGenerator = sizeGenerator;
+		this.minSize = minSize;
+	}
+
+	@Override
+	public Shrinkable<Set<T>> next(Random random) {
+		int setSize = sizeGenerator.apply(random);
+		if (domain != null && setSize > domain.size() / 2) {
+			return sampleFromDomain(setSize, random);
+		}
+		return generateWithRejection(setSize, random);
+	}
+
+	private Shrinkable<Set<T>> sampleFromDomain(int setSize, Random random) {
+		long domainSize = domain.size();
+		if (setSize > domainSize) {
+			String message = String.format("Cannot generate set of size %s from only %s distinct values", setSize, domainSize);
+			throw new JqwikException(message);
+		}
+		Set<Shrinkable<T>> elements = new HashSet<>();
+		// Choosing the smaller number of excluded values needs less random numbers and less memory
+		Set<Long> excluded = sampleIndexes(domainSize, (int) (domainSize - setSize), random);
+		for (long index = 0; index < domainSize; index++) {
+			if (!excluded.contains(index)) {
+				elements.add(domain.shrinkableAt(index));
+			}
+		}
+		return new ShrinkableSet<>(elements, minSize);
+	}
+
+	/**
+	 * Choose {@code count} distinct indexes uniformly from {@code [0, size)} with Robert Floyd's algorithm.
+	 * It only needs {@code count} random numbers and memory for {@code count} indexes.
+	 */
+	static Set<Long> sampleIndexes(long size, int count, Random random) {
+		Set<Long> chosen = new HashSet<>();
+		for (long upper = size - count; upper < size; upper++) {
+			long candidate = PrimitiveIntegralGenerator.randomBetween(random, 0, upper);
+			if (!chosen.add(candidate)) {
+				chosen.add(upper);
+			}
+		}
+		return chosen;
+	}
+
+	private Shrinkable<Set<T>> generateWithRejection(int setSize, Random random) {
+		Map<T, Shrinkable<T>> elements = new HashMap<>();
+		MaxTriesLoop.loop(
+			() -> elements.size() < setSize,
+			ignore -> {
+				Shrinkable<T> next = elementGenerator.next(random);
+				elements.putIfAbsent(next.value(), next);
+				return Tuple.of(false, ignore);
+			},
+			maxMisses -> {
+				String message = String.format(
+					"Generating values for set of size %s missed more than %s times.",
+					setSize, maxMisses
+				);
+				return new JqwikException(message);
+			}
+		);
+		return new ShrinkableSet<>(new HashSet<>(elements.values()), minSize);
+	}
+}
@@ -0,0 +1,30 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+class StringGenerator implements RandomGenerator<String> {
+	private final PrimitiveCharacterGenerator characterGenerator;
+	private final Function<Random, Integer> sizeGenerator;
+	private final int minLength;
+
+	StringGenerator(PrimitiveCharacterGenerator characterGenerator, Function<Random, Integer> sizeGenerator, int minLength) {
+		this.characterGenerator = characterGenerator;
+		this.sizeGenerator = sizeGenerator;
+		this.minLength = minLength;
+	}
+
+	@Override
+	public Shrinkable<String> next(Random random) {
+		int length = sizeGenerator.apply(random);
+		char[] chars = new char[length];
+		for (int i = 0; i < length; i++) {
+			chars[i] = characterGenerator.nextChar(random);
+		}
+		return new ShrinkableString(new String(chars), characterGenerator::shrinkableFor, minLength);
+	}
+
+}
@@ -31,7 +31,7 @@ class WithEdgeCasesGenerator<T> implements RandomGenerator<T> {
 		return random -> RandomGenerators.chooseValue(suppliers, random).get();
 	}
 
-	private static int calculateBaseToEdgeCaseRatio(int genSize, int size) {
+	static int calculateBaseToEdgeCaseRatio(int genSize, int size) {
 		return Math.min(
 			Math.max(genSize / 5, 1),
 			100 / size
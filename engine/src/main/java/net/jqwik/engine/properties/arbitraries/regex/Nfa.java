@@ -0,0 +1,63 @@
+package net.jqwik.engine.properties.arbitraries.regex;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+/**
+ * A non-deterministic finite automaton built from a {@linkplain RegexNode} by Thompson's construction.
+ */
+class Nfa {
+	private static final int MAX_STATES = 100_000;
+
+	private final List<List<Integer>> epsilons = new ArrayList<>();
+	private final List<List<CodePointIntervals>> transitionCodePoints = new ArrayList<>();
+	private final List<List<Integer>> transitionTargets = new ArrayList<>();
+
+	int newState() {
+		if (epsilons.size() >= MAX_STATES) {
+			throw new JqwikException("Regular expression is too complex to be generated from");
+		}
+		epsilons.add(new ArrayList<>());
+		transitionCodePoints.add(new ArrayList<>());
+		transitionTargets.add(new ArrayList<>());
+		return epsilons.size() - 1;
+	}
+
+	void addEpsilon(int from, int to) {
+		epsilons.get(from).add(to);
+	}
+
+	void addTransition(int from, CodePointIntervals codePoints, int to) {
+		if (codePoints.isEmpty()) {
+			return;
+		}
+		transitionCodePoints.get(from).add(codePoints);
+		transitionTargets.get(from).add(to);
+	}
+
+	List<CodePointIntervals> transitionCodePoints(int state) {
+		return transitionCodePoints.get(state);
+	}
+
+	List<Integer> transitionTargets(int state) {
+		return transitionTargets.get(state);
+	}
+
+	BitSet closure(BitSet states) {
+		BitSet closure = (BitSet) states.clone();
+		Deque<Integer> toVisit = new ArrayDeque<>();
+		states.stream().forEach(toVisit::push);
+		while (!toVisit.isEmpty()) {
+			int state = toVisit.pop();
+			for (int next : epsilons.get(state)) {
+				if (!closure.get(next)) {
+					closure.set(next);
+					toVisit.push(next);
+				}
+			}
+		}
+		return closure;
+	}
+}
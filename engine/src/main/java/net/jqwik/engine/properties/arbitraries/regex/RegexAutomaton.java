@@ -0,0 +1,333 @@
+package net.jqwik.engine.properties.arbitraries.regex;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+/**
+ * A deterministic - but not minimized - finite automaton that accepts exactly the strings
+ * matching a regular expression. Transitions are labelled with sets of code points.
+ * States from which no accepting state can be reached are removed.
+ *
+ * <p>
+ * Automatons of the most recently used regular expressions are cached since compiling them is expensive.
+ * </p>
+ */
+public class RegexAutomaton {
+
+	private static final int MAX_STATES = 10_000;
+
+	static final int MAX_CACHED_AUTOMATONS = 256;
+
+	private static final Map<String, RegexAutomaton> automatons = new LinkedHashMap<String, RegexAutomaton>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, RegexAutomaton> eldest) {
+			return size() > MAX_CACHED_AUTOMATONS;
+		}
+	};
+
+	public static RegexAutomaton forRegex(String regex) {
+		synchronized (automatons) {
+			return automatons.computeIfAbsent(regex, RegexAutomaton::compile);
+		}
+	}
+
+	private static RegexAutomaton compile(String regex) {
+		RegexNode node = new RegexParser(regex).parse();
+		Nfa nfa = new Nfa();
+		int nfaStart = nfa.newState();
+		int nfaEnd = node.addTo(nfa, nfaStart);
+		return determinize(regex, nfa, nfaStart, nfaEnd);
+	}
+
+	private static RegexAutomaton determinize(String regex, Nfa nfa, int nfaStart, int nfaEnd) {
+		Map<BitSet, Integer> stateIds = new HashMap<>();
+		List<BitSet> states = new ArrayList<>();
+		List<List<CodePointIntervals>> transitionCodePoints = new ArrayList<>();
+		List<List<Integer>> transitionTargets = new ArrayList<>();
+
+		BitSet start = new BitSet();
+		start.set(nfaStart);
+		start = nfa.closure(start);
+		stateIds.put(start, 0);
+		states.add(start);
+
+		for (int state = 0; state < states.size(); state++) {
+			Map<BitSet, CodePointIntervals> targets = new LinkedHashMap<>();
+			for (Map.Entry<CodePointIntervals, BitSet> piece : partition(nfa, states.get(state)).entrySet()) {
+				BitSet target = nfa.closure(piece.getValue());
+				targets.merge(target, piece.getKey(), CodePointIntervals::union);
+			}
+			List<CodePointIntervals> codePoints = new ArrayList<>();
+			List<Integer> targetIds = new ArrayList<>();
+			for (Map.Entry<BitSet, CodePointIntervals> target : targets.entrySet()) {
+				Integer targetId = stateIds.get(target.getKey());
+				if (targetId == null) {
+					if (states.size() >= MAX_STATES) {
+						throw new JqwikException(String.format("Regular expression [%s] is too complex to be generated from", regex));
+					}
+					targetId = states.size();
+					stateIds.put(target.getKey(), targetId);
+					states.add(target.getKey());
+				}
+				codePoints.add(target.getValue());
+				targetIds.add(targetId);
+			}
+			transitionCodePoints.add(codePoints);
+			transitionTargets.add(targetIds);
+		}
+
+		boolean[] accepting = new boolean[states.size()];
+		for (int state = 0; state < states.size(); state++) {
+			accepting[state] = states.get(state).get(nfaEnd);
+		}
+		RegexAutomaton automaton = new RegexAutomaton(accepting, transitionCodePoints, transitionTargets);
+		if (!automaton.isLive(0)) {
+			throw new JqwikException(String.format("Regular expression [%s] does not match any string", regex));
+		}
+		return automaton;
+	}
+
+	/**
+	 * Split all code points leaving a set of NFA states into disjoint pieces with the same NFA targets
+	 */
+	private static Map<CodePointIntervals, BitSet> partition(Nfa nfa, BitSet nfaStates) {
+		List<CodePointIntervals> sets = new ArrayList<>();
+		List<Integer> targets = new ArrayList<>();
+		TreeSet<Integer> borders = new TreeSet<>();
+		nfaStates.stream().forEach(nfaState -> {
+			List<CodePointIntervals> codePoints = nfa.transitionCodePoints(nfaState);
+			for (int i = 0; i < codePoints.size(); i++) {
+				CodePointIntervals set = codePoints.get(i);
+				sets.add(set);
+				targets.add(nfa.transitionTargets(nfaState).get(i));
+				set.forEachInterval((min, max) -> {
+					borders.add(min);
+					borders.add(max + 1);
+				});
+			}
+		});
+
+		Map<BitSet, CodePointIntervals> piecesByTargets = new LinkedHashMap<>();
+		Integer lower = borders.isEmpty() ? null : borders.first();
+		while (lower != null) {
+			Integer upper = borders.higher(lower);
+			if (upper == null) {
+				break;
+			}
+			BitSet pieceTargets = new BitSet();
+			for (int i = 0; i < sets.size(); i++) {
+				if (sets.get(i).contains(lower)) {
+					pieceTargets.set(targets.get(i));
+				}
+			}
+			if (!pieceTargets.isEmpty()) {
+				piecesByTargets.merge(pieceTargets, CodePointIntervals.of(lower, upper - 1), CodePointIntervals::union);
+			}
+			lower = upper;
+		}
+
+		Map<CodePointIntervals, BitSet> pieces = new LinkedHashMap<>();
+		piecesByTargets.forEach((pieceTargets, codePoints) -> pieces.put(codePoints, pieceTargets));
+		return pieces;
+	}
+
+	private final boolean[] accepting;
+	private final CodePointIntervals[][] transitionCodePoints;
+	private final int[][] transitionTargets;
+
+	// matchesWithLength.get(n)[state] is true if a string with n code points leads from state to an accepting state
+	private final List<boolean[]> matchesWithLength = new ArrayList<>();
+
+	private RegexAutomaton(boolean[] accepting, List<List<CodePointIntervals>> transitionCodePoints, List<List<Integer>> transitionTargets) {
+		this.accepting = accepting;
+		boolean[] live = liveStates(accepting, transitionTargets);
+		int numberOfStates = accepting.length;
+		this.transitionCodePoints = new CodePointIntervals[numberOfStates][];
+		this.transitionTargets = new int[numberOfStates][];
+		for (int state = 0; state < numberOfStates; state++) {
+			List<Integer> liveTransitions = new ArrayList<>();
+			for (int i = 0; i < transitionTargets.get(state).size(); i++) {
+				if (live[transitionTargets.get(state).get(i)]) {
+					liveTransitions.add(i);
+				}
+			}
+			// Transitions are sorted by their lowest code point so that the first one is the simplest
+			List<CodePointIntervals> codePoints = transitionCodePoints.get(state);
+			liveTransitions.sort(Comparator.comparingInt(i -> codePoints.get(i).min()));
+			this.transitionCodePoints[state] = new CodePointIntervals[liveTransitions.size()];
+			this.transitionTargets[state] = new int[liveTransitions.size()];
+			for (int i = 0; i < liveTransitions.size(); i++) {
+				this.transitionCodePoints[state][i] = transitionCodePoints.get(state).get(liveTransitions.get(i));
+				this.transitionTargets[state][i] = transitionTargets.get(state).get(liveTransitions.get(i));
+			}
+		}
+		this.matchesWithLength.add(accepting.clone());
+	}
+
+	private static boolean[] liveStates(boolean[] accepting, List<List<Integer>> transitionTargets) {
+		boolean[] live = accepting.clone();
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (int state = 0; state < live.length; state++) {
+				if (live[state]) {
+					continue;
+				}
+				for (int target : transitionTargets.get(state)) {
+					if (live[target]) {
+						live[state] = true;
+						changed = true;
+						break;
+					}
+				}
+			}
+		}
+		return live;
+	}
+
+	private boolean isLive(int state) {
+		return accepting[state] || transitionTargets[state].length > 0;
+	}
+
+	public boolean matches(String aString) {
+		int[] states = states(aString.codePoints().toArray());
+		return states != null && accepting[states[states.length - 1]];
+	}
+
+	/**
+	 * @return the states visited when reading {@code codePoints} or null if the automaton gets stuck
+	 */
+	int[] states(int[] codePoints) {
+		int[] states = new int[codePoints.length + 1];
+		for (int i = 0; i < codePoints.length; i++) {
+			int next = next(states[i], codePoints[i]);
+			if (next < 0) {
+				return null;
+			}
+			states[i + 1] = next;
+		}
+		return states;
+	}
+
+	boolean matchesFrom(int state, int[] codePoints, int from) {
+		for (int i = from; i < codePoints.length; i++) {
+			state = next(state, codePoints[i]);
+			if (state < 0) {
+				return false;
+			}
+		}
+		return accepting[state];
+	}
+
+	/**
+	 * @return -1 if there is no transition for {@code codePoint}
+	 */
+	int next(int state, int codePoint) {
+		for (int i = 0; i < transitionCodePoints[state].length; i++) {
+			if (transitionCodePoints[state][i].contains(codePoint)) {
+				return transitionTargets[state][i];
+			}
+		}
+		return -1;
+	}
+
+	CodePointIntervals[] transitionCodePoints(int state) {
+		return transitionCodePoints[state];
+	}
+
+	int[] transitionTargets(int state) {
+		return transitionTargets[state];
+	}
+
+	/**
+	 * @return all lengths - counted in code points - within {@code minLength} and {@code maxLength} of matching strings
+	 */
+	public synchronized int[] matchingLengths(int minLength, int maxLength) {
+		return IntStream.rangeClosed(minLength, maxLength)
+						.filter(length -> matchesWithLength(length)[0])
+						.toArray();
+	}
+
+	/**
+	 * Generate a random matching string of exactly {@code length} code points.
+	 * Requires {@code length} to be one of {@linkplain #matchingLengths(int, int)}.
+	 */
+	public String generate(Random random, int length) {
+		int[] codePoints = new int[length];
+		int state = 0;
+		int[] candidates = new int[maxTransitions()];
+		for (int i = 0; i < length; i++) {
+			boolean[] matchesWithRest = matchesWithLength(length - i - 1);
+			int numberOfCandidates = 0;
+			for (int t = 0; t < transitionTargets[state].length; t++) {
+				if (matchesWithRest[transitionTargets[state][t]]) {
+					candidates[numberOfCandidates++] = t;
+				}
+			}
+			int transition = candidates[random.nextInt(numberOfCandidates)];
+			CodePointIntervals transitionCodePoints = this.transitionCodePoints[state][transition];
+			codePoints[i] = transitionCodePoints.codePointAt(random.nextInt(transitionCodePoints.size()));
+			state = transitionTargets[state][transition];
+		}
+		return new String(codePoints, 0, length);
+	}
+
+	/**
+	 * The simplest matching string of {@code length} code points always uses the lowest possible code point.
+	 * Requires {@code length} to be one of {@linkplain #matchingLengths(int, int)}.
+	 */
+	public String simplest(int length) {
+		int[] codePoints = simplestFrom(0, length);
+		return new String(codePoints, 0, length);
+	}
+
+	/**
+	 * @return the lowest code points leading from {@code state} to an accepting state
+	 * in exactly {@code length} steps or null if there are none
+	 */
+	int[] simplestFrom(int state, int length) {
+		if (!matchesWithLength(length)[state]) {
+			return null;
+		}
+		int[] codePoints = new int[length];
+		for (int i = 0; i < length; i++) {
+			boolean[] matchesWithRest = matchesWithLength(length - i - 1);
+			for (int t = 0; t < transitionTargets[state].length; t++) {
+				if (matchesWithRest[transitionTargets[state][t]]) {
+					codePoints[i] = transitionCodePoints[state][t].min();
+					state = transitionTargets[state][t];
+					break;
+				}
+			}
+		}
+		return codePoints;
+	}
+
+	private int maxTransitions() {
+		int max = 0;
+		for (int[] targets : transitionTargets) {
+			max = Math.max(max, targets.length);
+		}
+		return max;
+	}
+
+	private synchronized boolean[] matchesWithLength(int length) {
+		while (matchesWithLength.size() <= length) {
+			boolean[] shorter = matchesWithLength.get(matchesWithLength.size() - 1);
+			boolean[] matches = new boolean[accepting.length];
+			for (int state = 0; state < accepting.length; state++) {
+				for (int target : transitionTargets[state]) {
+					if (shorter[target]) {
+						matches[state] = true;
+						break;
+					}
+				}
+			}
+			matchesWithLength.add(matches);
+		}
+		return matchesWithLength.get(length);
+	}
+}
@@ -0,0 +1,109 @@
+package net.jqwik.engine.properties.arbitraries.regex;
+
+import java.util.*;
+
+import net.jqwik.engine.properties.*;
+
+/**
+ * The syntax tree of a parsed regular expression.
+ */
+abstract class RegexNode {
+
+	static RegexNode empty() {
+		return new Sequence(Collections.emptyList());
+	}
+
+	abstract int addTo(Nfa nfa, int from);
+
+	static class CharacterSet extends RegexNode {
+		private final CodePointIntervals codePoints;
+
+		CharacterSet(CodePointIntervals codePoints) {
+			this.codePoints = codePoints;
+		}
+
+		@Override
+		int addTo(Nfa nfa, int from) {
+			int to = nfa.newState();
+			nfa.addTransition(from, codePoints, to);
+			return to;
+		}
+	}
+
+	static class Sequence extends RegexNode {
+		private final List<RegexNode> elements;
+
+		Sequence(List<RegexNode> elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		int addTo(Nfa nfa, int from) {
+			int current = from;
+			for (RegexNode element : elements) {
+				current = element.addTo(nfa, current);
+			}
+			return current;
+		}
+	}
+
+	static class Alternatives extends RegexNode {
+		private final List<RegexNode> alternatives;
+
+		Alternatives(List<RegexNode> alternatives) {
+			this.alternatives = alternatives;
+		}
+
+		@Override
+		int addTo(Nfa nfa, int from) {
+			int to = nfa.newState();
+			for (RegexNode alternative : alternatives) {
+				int start = nfa.newState();
+				nfa.addEpsilon(from, start);
+				nfa.addEpsilon(alternative.addTo(nfa, start), to);
+			}
+			return to;
+		}
+	}
+
+	static class Repetition extends RegexNode {
+		static final int UNBOUNDED = -1;
+
+		private final RegexNode element;
+		private final int min;
+		private final int max;
+
+		Repetition(RegexNode element, int min, int max) {
+			this.element = element;
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		int addTo(Nfa nfa, int from) {
+			int current = from;
+			if (max == UNBOUNDED) {
+				// The last mandatory repetition is part of the loop so that the automaton
+				// reaches the same state after each repetition
+				for (int i = 1; i < min; i++) {
+					current = element.addTo(nfa, current);
+				}
+				int loop = nfa.newState();
+				nfa.addEpsilon(current, loop);
+				int afterElement = element.addTo(nfa, loop);
+				nfa.addEpsilon(afterElement, loop);
+				return min == 0 ? loop : afterElement;
+			}
+			for (int i = 0; i < min; i++) {
+				current = element.addTo(nfa, current);
+			}
+			for (int i = min; i < max; i++) {
+				int next = nfa.newState();
+				nfa.addEpsilon(current, next);
+				nfa.addEpsilon(element.addTo(nfa, current), next);
+				current = next;
+			}
+			return current;
+		}
+	}
+}
@@ -0,0 +1,338 @@
+package net.jqwik.engine.properties.arbitraries.regex;
+
+import java.util.*;
+import java.util.regex.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.*;
+
+/**
+ * Parses the subset of {@linkplain Pattern java.util.regex} syntax that describes a regular language:
+ * literals, escapes, character classes, groups, alternatives and all greedy or reluctant quantifiers.
+ * Constructs that cannot be expressed by a finite automaton - like back references, lookarounds,
+ * possessive quantifiers or embedded flags - are rejected.
+ */
+class RegexParser {
+
+	// '.' and negated classes never produce unpaired surrogates, private use characters or noncharacters
+	private static final CodePointIntervals ANY = DefaultCharacterArbitrary.DEFAULT_CHARACTERS;
+
+	private static final CodePointIntervals LINE_TERMINATORS =
+		CodePointIntervals.ofCodePoints(new int[]{'\n', '\r', 0x0085, 0x2028, 0x2029});
+
+	private static final CodePointIntervals DIGITS = CodePointIntervals.of('0', '9');
+
+	private static final CodePointIntervals WORD_CHARS =
+		CodePointIntervals.of('a', 'z')
+						  .union(CodePointIntervals.of('A', 'Z'))
+						  .union(DIGITS)
+						  .union(CodePointIntervals.ofChars(new char[]{'_'}));
+
+	private static final CodePointIntervals WHITESPACE =
+		CodePointIntervals.ofChars(new char[]{' ', '\t', '\n', '\u000B', '\f', '\r'});
+
+	private final String regex;
+	private final int[] codePoints;
+	private int position = 0;
+
+	RegexParser(String regex) {
+		this.regex = regex;
+		this.codePoints = regex.codePoints().toArray();
+	}
+
+	RegexNode parse() {
+		try {
+			Pattern.compile(regex);
+		} catch (PatternSyntaxException syntaxException) {
+			throw new JqwikException(syntaxException.getMessage());
+		}
+		if (peekIs('^')) {
+			position++;
+		}
+		RegexNode node = parseAlternatives();
+		if (!atEnd()) {
+			throw unsupported(String.format("unexpected <%s>", new String(Character.toChars(peek()))));
+		}
+		return node;
+	}
+
+	private RegexNode parseAlternatives() {
+		List<RegexNode> alternatives = new ArrayList<>();
+		alternatives.add(parseSequence());
+		while (peekIs('|')) {
+			position++;
+			alternatives.add(parseSequence());
+		}
+		return alternatives.size() == 1 ? alternatives.get(0) : new RegexNode.Alternatives(alternatives);
+	}
+
+	private RegexNode parseSequence() {
+		List<RegexNode> elements = new ArrayList<>();
+		while (!atEnd() && !peekIs('|') && !peekIs(')')) {
+			if (peekIs('$') && position == codePoints.length - 1) {
+				position++;
+				break;
+			}
+			if (peekIsQuoteStart()) {
+				// A quantifier after quoted text only applies to its last character
+				position += 2;
+				List<RegexNode> quoted = parseQuoted();
+				if (!quoted.isEmpty()) {
+					elements.addAll(quoted.subList(0, quoted.size() - 1));
+					elements.add(parseQuantifiers(quoted.get(quoted.size() - 1)));
+				}
+				continue;
+			}
+			elements.add(parseQuantifiers(parseAtom()));
+		}
+		return elements.size() == 1 ? elements.get(0) : new RegexNode.Sequence(elements);
+	}
+
+	private RegexNode parseQuantifiers(RegexNode atom) {
+		RegexNode node = atom;
+		while (!atEnd()) {
+			int min;
+			int max;
+			if (peekIs('*')) {
+				position++;
+				min = 0;
+				max = RegexNode.Repetition.UNBOUNDED;
+			} else if (peekIs('+')) {
+				position++;
+				min = 1;
+				max = RegexNode.Repetition.UNBOUNDED;
+			} else if (peekIs('?')) {
+				position++;
+				min = 0;
+				max = 1;
+			} else if (peekIs('{')) {
+				position++;
+				min = parseNumber();
+				max = min;
+				if (peekIs(',')) {
+					position++;
+					max = peekIs('}') ? RegexNode.Repetition.UNBOUNDED : parseNumber();
+				}
+				expect('}');
+			} else {
+				return node;
+			}
+			if (peekIs('?')) {
+				// Reluctant quantifiers describe the same language when the whole string must match
+				position++;
+			} else if (peekIs('+')) {
+				throw unsupported("possessive quantifiers");
+			}
+			node = new RegexNode.Repetition(node, min, max);
+		}
+		return node;
+	}
+
+	private RegexNode parseAtom() {
+		int next = next();
+		switch (next) {
+			case '(':
+				parseGroupPrefix();
+				RegexNode group = parseAlternatives();
+				expect(')');
+				return group;
+			case '[':
+				return new RegexNode.CharacterSet(parseClass());
+			case '.':
+				return new RegexNode.CharacterSet(ANY.minus(LINE_TERMINATORS));
+			case '\\':
+				return parseEscape();
+			case '^':
+			case '$':
+				throw unsupported("anchors within the expression");
+			default:
+				return literal(next);
+		}
+	}
+
+	private void parseGroupPrefix() {
+		if (!peekIs('?')) {
+			return;
+		}
+		position++;
+		if (peekIs(':')) {
+			position++;
+			return;
+		}
+		if (peekIs('<') && position + 1 < codePoints.length && Character.isLetter(codePoints[position + 1])) {
+			while (!atEnd() && next() != '>') ;
+			return;
+		}
+		throw unsupported("lookarounds, atomic groups and embedded flags");
+	}
+
+	private boolean peekIsQuoteStart() {
+		return peekIs('\\') && position + 1 < codePoints.length && codePoints[position + 1] == 'Q';
+	}
+
+	private List<RegexNode> parseQuoted() {
+		List<RegexNode> quoted = new ArrayList<>();
+		while (!atEnd() && !(peekIs('\\') && position + 1 < codePoints.length && codePoints[position + 1] == 'E')) {
+			quoted.add(literal(next()));
+		}
+		position = Math.min(position + 2, codePoints.length);
+		return quoted;
+	}
+
+	private RegexNode parseEscape() {
+		return new RegexNode.CharacterSet(escapedCodePoints(next()));
+	}
+
+	private CodePointIntervals escapedCodePoints(int escaped) {
+		switch (escaped) {
+			case 'd':
+				return DIGITS;
+			case 'D':
+				return ANY.minus(DIGITS);
+			case 'w':
+				return WORD_CHARS;
+			case 'W':
+				return ANY.minus(WORD_CHARS);
+			case 's':
+				return WHITESPACE;
+			case 'S':
+				return ANY.minus(WHITESPACE);
+			default:
+				return single(escapedCodePoint(escaped));
+		}
+	}
+
+	private int escapedCodePoint(int escaped) {
+		switch (escaped) {
+			case 't':
+				return '\t';
+			case 'n':
+				return '\n';
+			case 'r':
+				return '\r';
+			case 'f':
+				return '\f';
+			case 'a':
+				return '\u0007';
+			case 'e':
+				return '\u001B';
+			case '0':
+				return parseDigits(8, 3);
+			case 'x':
+				if (peekIs('{')) {
+					position++;
+					int codePoint = parseDigits(16, 8);
+					expect('}');
+					return codePoint;
+				}
+				return parseDigits(16, 2);
+			case 'u':
+				return parseDigits(16, 4);
+			case 'c':
+				return next() ^ 64;
+			default:
+				if (Character.isLetterOrDigit(escaped)) {
+					throw unsupported(String.format("escape sequence \\%s", new String(Character.toChars(escaped))));
+				}
+				return escaped;
+		}
+	}
+
+	private CodePointIntervals parseClass() {
+		boolean negated = false;
+		if (peekIs('^')) {
+			position++;
+			negated = true;
+		}
+		CodePointIntervals characters = CodePointIntervals.EMPTY;
+		boolean first = true;
+		while (first || !peekIs(']')) {
+			if (atEnd()) {
+				throw unsupported("unclosed character class");
+			}
+			first = false;
+			int next = next();
+			if (next == '[' || (next == '&' && peekIs('&'))) {
+				throw unsupported("nested character classes and intersections");
+			}
+			if (next == '\\') {
+				int escaped = next();
+				if ("dDwWsS".indexOf(escaped) >= 0) {
+					characters = characters.union(escapedCodePoints(escaped));
+					continue;
+				}
+				next = escapedCodePoint(escaped);
+			}
+			if (peekIs('-') && position + 1 < codePoints.length && codePoints[position + 1] != ']') {
+				position++;
+				int upper = next();
+				if (upper == '\\') {
+					upper = escapedCodePoint(next());
+				}
+				characters = characters.union(CodePointIntervals.of(next, upper));
+			} else {
+				characters = characters.union(single(next));
+			}
+		}
+		position++;
+		return negated ? ANY.minus(characters) : characters;
+	}
+
+	private int parseNumber() {
+		int start = position;
+		while (!atEnd() && Character.isDigit(peek())) {
+			position++;
+		}
+		if (start == position) {
+			throw unsupported("malformed quantifier");
+		}
+		return Integer.parseInt(new String(codePoints, start, position - start));
+	}
+
+	private int parseDigits(int radix, int maxDigits) {
+		int start = position;
+		while (!atEnd() && position - start < maxDigits && Character.digit(peek(), radix) >= 0) {
+			position++;
+		}
+		return Integer.parseInt(new String(codePoints, start, position - start), radix);
+	}
+
+	private RegexNode literal(int codePoint) {
+		return new RegexNode.CharacterSet(single(codePoint));
+	}
+
+	private CodePointIntervals single(int codePoint) {
+		return CodePointIntervals.of(codePoint, codePoint);
+	}
+
+	private void expect(int codePoint) {
+		if (atEnd() || next() != codePoint) {
+			throw unsupported(String.format("expected <%s>", new String(Character.toChars(codePoint))));
+		}
+	}
+
+	private boolean peekIs(int codePoint) {
+		return !atEnd() && peek() == codePoint;
+	}
+
+	private int peek() {
+		return codePoints[position];
+	}
+
+	private int next() {
+		if (atEnd()) {
+			throw unsupported("unexpected end");
+		}
+		return codePoints[position++];
+	}
+
+	private boolean atEnd() {
+		return position >= codePoints.length;
+	}
+
+	private JqwikException unsupported(String what) {
+		String message = String.format("Cannot generate strings matching regular expression [%s]: %s is not supported", regex, what);
+		return new JqwikException(message);
+	}
+}
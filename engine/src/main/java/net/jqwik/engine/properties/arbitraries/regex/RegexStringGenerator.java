@@ -0,0 +1,54 @@
+package net.jqwik.engine.properties.arbitraries.regex;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Generates strings by randomly walking a {@linkplain RegexAutomaton}.
+ * The length is chosen first so that only walks which end in an accepting state are taken.
+ */
+public class RegexStringGenerator implements RandomGenerator<String> {
+
+	private final RegexAutomaton automaton;
+	private final int minLength;
+	private final int[] lengths;
+	private final int numberOfLengthsUpToCutoff;
+
+	public RegexStringGenerator(RegexAutomaton automaton, int minLength, int maxLength, int cutoffLength) {
+		this.automaton = automaton;
+		this.minLength = minLength;
+		this.lengths = matchingLengths(automaton, minLength, maxLength);
+		this.numberOfLengthsUpToCutoff = (int) Arrays.stream(lengths).filter(length -> length <= cutoffLength).count();
+	}
+
+	static int[] matchingLengths(RegexAutomaton automaton, int minLength, int maxLength) {
+		int[] lengths = automaton.matchingLengths(minLength, maxLength);
+		if (lengths.length == 0) {
+			String message = String.format("No string with length between %s and %s matches the regular expression", minLength, maxLength);
+			throw new JqwikException(message);
+		}
+		return lengths;
+	}
+
+	@Override
+	public Shrinkable<String> next(Random random) {
+		String value = automaton.generate(random, chooseLength(random));
+		return new ShrinkableRegexString(value, automaton, minLength);
+	}
+
+	private int chooseLength(Random random) {
+		// Prefer lengths below cutoff with probability of 0.9 like for all other strings and collections
+		if (numberOfLengthsUpToCutoff > 0 && numberOfLengthsUpToCutoff < lengths.length && random.nextDouble() > 0.1) {
+			return lengths[random.nextInt(numberOfLengthsUpToCutoff)];
+		}
+		return lengths[random.nextInt(lengths.length)];
+	}
+
+	public static EdgeCases<String> edgeCases(RegexAutomaton automaton, int minLength, int maxLength) {
+		int shortestLength = matchingLengths(automaton, minLength, maxLength)[0];
+		return EdgeCases.fromSupplier(
+			() -> new ShrinkableRegexString(automaton.simplest(shortestLength), automaton, minLength)
+		);
+	}
+}
@@ -0,0 +1,108 @@
+package net.jqwik.engine.properties.arbitraries.regex;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Shrinks a string by removing or simplifying code points.
+ * All shrinking candidates still match the regular expression.
+ */
+class ShrinkableRegexString extends AbstractShrinkable<String> {
+
+	private final RegexAutomaton automaton;
+	private final int minLength;
+
+	ShrinkableRegexString(String value, RegexAutomaton automaton, int minLength) {
+		super(value);
+		this.automaton = automaton;
+		this.minLength = minLength;
+	}
+
+	@Override
+	public Set<Shrinkable<String>> shrinkCandidatesFor(Shrinkable<String> shrinkable) {
+		int[] codePoints = shrinkable.value().codePoints().toArray();
+		int[] states = automaton.states(codePoints);
+		Set<Shrinkable<String>> candidates = new HashSet<>();
+		if (states == null) {
+			return candidates;
+		}
+		if (codePoints.length > minLength) {
+			addRemovalCandidates(codePoints, states, candidates);
+		}
+		addSimplificationCandidates(codePoints, states, candidates);
+		return candidates;
+	}
+
+	private void addRemovalCandidates(int[] codePoints, int[] states, Set<Shrinkable<String>> candidates) {
+		for (int from = 0; from < codePoints.length; from++) {
+			// Removing a loop - a part that starts and ends in the same state - keeps the string matching
+			int shortestLoop = -1;
+			int longestLoop = -1;
+			for (int to = from + 1; to <= codePoints.length; to++) {
+				if (states[to] == states[from] && codePoints.length - (to - from) >= minLength) {
+					if (shortestLoop < 0) {
+						shortestLoop = to;
+					}
+					longestLoop = to;
+				}
+			}
+			if (shortestLoop > 0) {
+				addCandidate(remove(codePoints, from, shortestLoop), candidates);
+				addCandidate(remove(codePoints, from, longestLoop), candidates);
+			}
+
+			int[] withoutOne = remove(codePoints, from, from + 1);
+			if (automaton.matchesFrom(states[from], withoutOne, from)) {
+				addCandidate(withoutOne, candidates);
+			}
+		}
+	}
+
+	private void addSimplificationCandidates(int[] codePoints, int[] states, Set<Shrinkable<String>> candidates) {
+		for (int i = 0; i < codePoints.length; i++) {
+			CodePointIntervals[] transitionCodePoints = automaton.transitionCodePoints(states[i]);
+			int[] transitionTargets = automaton.transitionTargets(states[i]);
+			// Transitions are sorted so that only earlier transitions can provide a simpler code point
+			boolean restSimplified = false;
+			for (int t = 0; t < transitionTargets.length && transitionCodePoints[t].min() < codePoints[i]; t++) {
+				int[] simplified = codePoints.clone();
+				simplified[i] = transitionCodePoints[t].min();
+				if (automaton.matchesFrom(transitionTargets[t], simplified, i + 1)) {
+					addCandidate(simplified, candidates);
+					break;
+				}
+				if (restSimplified) {
+					continue;
+				}
+				// Otherwise the rest of the string must change as well, e.g. to switch between alternatives
+				int[] simplestRest = automaton.simplestFrom(transitionTargets[t], codePoints.length - i - 1);
+				if (simplestRest != null) {
+					System.arraycopy(simplestRest, 0, simplified, i + 1, simplestRest.length);
+					addCandidate(simplified, candidates);
+					restSimplified = true;
+				}
+			}
+		}
+	}
+
+	private int[] remove(int[] codePoints, int from, int to) {
+		int[] removed = new int[codePoints.length - (to - from)];
+		System.arraycopy(codePoints, 0, removed, 0, from);
+		System.arraycopy(codePoints, to, removed, from, codePoints.length - to);
+		return removed;
+	}
+
+	private void addCandidate(int[] codePoints, Set<Shrinkable<String>> candidates) {
+		candidates.add(new ShrinkableRegexString(new String(codePoints, 0, codePoints.length), automaton, minLength));
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		String value = value();
+		long sumOfCodePoints = value.codePoints().asLongStream().sum();
+		return ShrinkingDistance.of(value.codePointCount(0, value.length()), sumOfCodePoints);
+	}
+}
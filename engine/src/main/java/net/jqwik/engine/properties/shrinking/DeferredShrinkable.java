@@ -0,0 +1,67 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * A shrinkable whose value is known right away but whose shrinking behaviour
+ * is only created when it is needed. Most generated values are never shrunk.
+ */
+public class DeferredShrinkable<T> implements Shrinkable<T> {
+
+	private final T value;
+	private final Supplier<Shrinkable<T>> delegateSupplier;
+	private Shrinkable<T> delegate;
+
+	public DeferredShrinkable(T value, Supplier<Shrinkable<T>> delegateSupplier) {
+		this.value = value;
+		this.delegateSupplier = delegateSupplier;
+	}
+
+	@Override
+	public T value() {
+		return value;
+	}
+
+	@Override
+	public ShrinkingSequence<T> shrink(Falsifier<T> falsifier) {
+		return delegate().shrink(falsifier);
+	}
+
+	@Override
+	public List<Shrinkable<T>> shrinkingSuggestions() {
+		return delegate().shrinkingSuggestions();
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return delegate().distance();
+	}
+
+	private synchronized Shrinkable<T> delegate() {
+		if (delegate == null) {
+			delegate = delegateSupplier.get();
+		}
+		return delegate;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		DeferredShrinkable<?> that = (DeferredShrinkable<?>) o;
+		return delegate().equals(that.delegate());
+	}
+
+	@Override
+	public int hashCode() {
+		return delegate().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Deferred<%s>(%s)", value.getClass().getSimpleName(), value);
+	}
+}
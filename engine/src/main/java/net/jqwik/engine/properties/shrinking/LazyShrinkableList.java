@@ -0,0 +1,99 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+/**
+ * A list whose elements are only generated when they are accessed.
+ * Each element is derived from the list's seed and its index so that
+ * elements are reproducible regardless of the order in which they are accessed.
+ * All elements are generated as soon as the list is shrunk.
+ */
+public class LazyShrinkableList<T> implements Shrinkable<List<T>> {
+
+	private final RandomGenerator<T> elementGenerator;
+	private final long seed;
+	private final int minSize;
+	private final Shrinkable<T>[] elements;
+	private final List<T> value;
+
+	@SuppressWarnings("unchecked")
+	public LazyShrinkableList(RandomGenerator<T> elementGenerator, long seed, int size, int minSize) {
+		this.elementGenerator = elementGenerator;
+		this.seed = seed;
+		this.minSize = minSize;
+		this.elements = (Shrinkable<T>[]) new Shrinkable<?>[size];
+		this.value = new LazyList();
+	}
+
+	@Override
+	public List<T> value() {
+		return value;
+	}
+
+	private synchronized Shrinkable<T> elementAt(int index) {
+		if (elements[index] == null) {
+			elements[index] = elementGenerator.next(SourceOfRandomness.newRandom(seed, index));
+		}
+		return elements[index];
+	}
+
+	private ShrinkableList<T> materialize() {
+		List<Shrinkable<T>> allElements = new ArrayList<>(elements.length);
+		for (int index = 0; index < elements.length; index++) {
+			allElements.add(elementAt(index));
+		}
+		return new ShrinkableList<>(allElements, minSize);
+	}
+
+	@Override
+	public ShrinkingSequence<List<T>> shrink(Falsifier<List<T>> falsifier) {
+		return materialize().shrink(falsifier);
+	}
+
+	@Override
+	public List<Shrinkable<List<T>>> shrinkingSuggestions() {
+		return materialize().shrinkingSuggestions();
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return materialize().distance();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		LazyShrinkableList<?> that = (LazyShrinkableList<?>) o;
+		return seed == that.seed && elements.length == that.elements.length && elementGenerator.equals(that.elementGenerator);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(seed, elements.length);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s<%s>(seed=%s, size=%s)", getClass().getSimpleName(), value.getClass().getSimpleName(), seed, elements.length);
+	}
+
+	private class LazyList extends AbstractList<T> implements RandomAccess {
+
+		@Override
+		public T get(int index) {
+			if (index < 0 || index >= elements.length) {
+				throw new IndexOutOfBoundsException(String.format("Index [%s] is not within [0..%s]", index, elements.length - 1));
+			}
+			return elementAt(index).value();
+		}
+
+		@Override
+		public int size() {
+			return elements.length;
+		}
+	}
+}
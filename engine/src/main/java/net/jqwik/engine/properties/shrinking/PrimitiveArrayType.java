@@ -0,0 +1,202 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+/**
+ * Gives uniform access to arrays of integral primitive types so that they can be generated
+ * and shrunk without boxing their elements. All elements are accessed as {@code long}.
+ */
+public abstract class PrimitiveArrayType<A> {
+
+	public static final PrimitiveArrayType<byte[]> BYTES = new PrimitiveArrayType<byte[]>(byte.class) {
+		@Override
+		public byte[] newArray(int length) {
+			return new byte[length];
+		}
+
+		@Override
+		public int length(byte[] array) {
+			return array.length;
+		}
+
+		@Override
+		public long get(byte[] array, int index) {
+			return array[index];
+		}
+
+		@Override
+		public void set(byte[] array, int index, long value) {
+			array[index] = (byte) value;
+		}
+
+		@Override
+		boolean equals(byte[] left, byte[] right) {
+			return Arrays.equals(left, right);
+		}
+
+		@Override
+		int hashCode(byte[] array) {
+			return Arrays.hashCode(array);
+		}
+
+		@Override
+		String toString(byte[] array) {
+			return Arrays.toString(array);
+		}
+	};
+
+	public static final PrimitiveArrayType<short[]> SHORTS = new PrimitiveArrayType<short[]>(short.class) {
+		@Override
+		public short[] newArray(int length) {
+			return new short[length];
+		}
+
+		@Override
+		public int length(short[] array) {
+			return array.length;
+		}
+
+		@Override
+		public long get(short[] array, int index) {
+			return array[index];
+		}
+
+		@Override
+		public void set(short[] array, int index, long value) {
+			array[index] = (short) value;
+		}
+
+		@Override
+		boolean equals(short[] left, short[] right) {
+			return Arrays.equals(left, right);
+		}
+
+		@Override
+		int hashCode(short[] array) {
+			return Arrays.hashCode(array);
+		}
+
+		@Override
+		String toString(short[] array) {
+			return Arrays.toString(array);
+		}
+	};
+
+	public static final PrimitiveArrayType<int[]> INTS = new PrimitiveArrayType<int[]>(int.class) {
+		@Override
+		public int[] newArray(int length) {
+			return new int[length];
+		}
+
+		@Override
+		public int length(int[] array) {
+			return array.length;
+		}
+
+		@Override
+		public long get(int[] array, int index) {
+			return array[index];
+		}
+
+		@Override
+		public void set(int[] array, int index, long value) {
+			array[index] = (int) value;
+		}
+
+		@Override
+		boolean equals(int[] left, int[] right) {
+			return Arrays.equals(left, right);
+		}
+
+		@Override
+		int hashCode(int[] array) {
+			return Arrays.hashCode(array);
+		}
+
+		@Override
+		String toString(int[] array) {
+			return Arrays.toString(array);
+		}
+	};
+
+	public static final PrimitiveArrayType<long[]> LONGS = new PrimitiveArrayType<long[]>(long.class) {
+		@Override
+		public long[] newArray(int length) {
+			return new long[length];
+		}
+
+		@Override
+		public int length(long[] array) {
+			return array.length;
+		}
+
+		@Override
+		public long get(long[] array, int index) {
+			return array[index];
+		}
+
+		@Override
+		public void set(long[] array, int index, long value) {
+			array[index] = value;
+		}
+
+		@Override
+		boolean equals(long[] left, long[] right) {
+			return Arrays.equals(left, right);
+		}
+
+		@Override
+		int hashCode(long[] array) {
+			return Arrays.hashCode(array);
+		}
+
+		@Override
+		String toString(long[] array) {
+			return Arrays.toString(array);
+		}
+	};
+
+	private static final List<PrimitiveArrayType<?>> ALL = Arrays.asList(BYTES, SHORTS, INTS, LONGS);
+
+	public static Optional<PrimitiveArrayType<?>> forComponentType(Class<?> componentType) {
+		return ALL.stream().filter(arrayType -> arrayType.componentType == componentType).findFirst();
+	}
+
+	private final Class<?> componentType;
+
+	private PrimitiveArrayType(Class<?> componentType) {
+		this.componentType = componentType;
+	}
+
+	public Class<?> componentType() {
+		return componentType;
+	}
+
+	public abstract A newArray(int length);
+
+	public abstract int length(A array);
+
+	public abstract long get(A array, int index);
+
+	public abstract void set(A array, int index, long value);
+
+	abstract boolean equals(A left, A right);
+
+	abstract int hashCode(A array);
+
+	abstract String toString(A array);
+
+	A copyWithout(A array, int from, int to) {
+		int length = length(array);
+		A copy = newArray(length - (to - from));
+		System.arraycopy(array, 0, copy, 0, from);
+		System.arraycopy(array, to, copy, from, length - to);
+		return copy;
+	}
+
+	A copy(A array) {
+		A copy = newArray(length(array));
+		System.arraycopy(array, 0, copy, 0, length(array));
+		return copy;
+	}
+}
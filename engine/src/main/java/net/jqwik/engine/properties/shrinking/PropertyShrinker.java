@@ -8,6 +8,9 @@ import java.util.stream.*;
 import org.junit.platform.engine.reporting.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.metrics.*;
+import net.jqwik.engine.jfr.*;
+import net.jqwik.engine.metrics.*;
 import net.jqwik.engine.support.*;
 
 public class PropertyShrinker {
@@ -36,18 +39,30 @@ public class PropertyShrinker {
 			return new PropertyShrinkingResult(toValues(parameters), 0, originalError);
 		}
 
+		ShrinkingRecording recording = JqwikEvents.startShrinking();
+		AtomicInteger falsifierCallsCounter = new AtomicInteger(0);
+		Falsifier<List<Object>> countingFalsifier = params -> {
+			falsifierCallsCounter.incrementAndGet();
+			return forAllFalsifier.execute(params);
+		};
+
 		Function<List<Shrinkable<Object>>, ShrinkingDistance> distanceFunction = ShrinkingDistance::combine;
-		ShrinkingSequence<List<Object>> sequence = new ShrinkElementsSequence<>(parameters, forAllFalsifier, distanceFunction);
-		sequence.init(FalsificationResult.falsified(Shrinkable.unshrinkable(toValues(parameters)), originalError));
+		ShrinkingSequence<List<Object>> sequence = new ShrinkElementsSequence<>(parameters, countingFalsifier, distanceFunction);
+		AtomicInteger shrinkingStepsCounter = new AtomicInteger(0);
+		try {
+			sequence.init(FalsificationResult.falsified(Shrinkable.unshrinkable(toValues(parameters)), originalError));
 
-		Consumer<FalsificationResult<List<Object>>> falsifiedReporter = isFalsifiedReportingOn() ? this::reportFalsifiedParams : ignore -> {};
+			Consumer<FalsificationResult<List<Object>>> falsifiedReporter = isFalsifiedReportingOn() ? this::reportFalsifiedParams : ignore -> {};
 
-		AtomicInteger shrinkingStepsCounter = new AtomicInteger(0);
-		while (sequence.next(shrinkingStepsCounter::incrementAndGet, falsifiedReporter)) {
-			if (shrinkingMode == ShrinkingMode.BOUNDED && shrinkingStepsCounter.get() >= BOUNDED_SHRINK_STEPS) {
-				reportShrinkingBoundReached(shrinkingStepsCounter.get(), toValues(this.parameters), sequence.current().value());
-				break;
+			while (sequence.next(shrinkingStepsCounter::incrementAndGet, falsifiedReporter)) {
+				if (shrinkingMode == ShrinkingMode.BOUNDED && shrinkingStepsCounter.get() >= BOUNDED_SHRINK_STEPS) {
+					reportShrinkingBoundReached(shrinkingStepsCounter.get(), toValues(this.parameters), sequence.current().value());
+					break;
+				}
 			}
+		} finally {
+			recording.finish(shrinkingStepsCounter.get(), falsifierCallsCounter.get());
+			EngineMetrics.record(MetricNames.SHRINKING_STEPS, shrinkingStepsCounter.get());
 		}
 		FalsificationResult<List<Object>> current = sequence.current();
 		return new PropertyShrinkingResult(current.value(), shrinkingStepsCounter.get(), current.throwable().orElse(null));
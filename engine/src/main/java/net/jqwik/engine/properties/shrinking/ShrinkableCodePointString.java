@@ -0,0 +1,53 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+
+/**
+ * A shrinkable string whose elements are unicode code points instead of chars
+ * so that supplementary characters are never split into surrogates.
+ */
+public class ShrinkableCodePointString extends ShrinkableContainer<String, Integer> {
+
+	private final int minSize;
+
+	public ShrinkableCodePointString(List<Shrinkable<Integer>> elements, int minSize) {
+		super(elements, minSize);
+		this.minSize = minSize;
+	}
+
+	/**
+	 * Create a shrinkable string from its value. Code points are only turned into shrinkables
+	 * when the string is shrunk or its shrinking distance is needed.
+	 *
+	 * @param codePointShrinkable creates the shrinkable of a single code point of {@code value}
+	 */
+	public ShrinkableCodePointString(String value, IntFunction<Shrinkable<Integer>> codePointShrinkable, int minSize) {
+		super(value, () -> shrinkablesFor(value, codePointShrinkable), minSize);
+		this.minSize = minSize;
+	}
+
+	private static List<Shrinkable<Integer>> shrinkablesFor(String value, IntFunction<Shrinkable<Integer>> codePointShrinkable) {
+		return value.codePoints()
+					.mapToObj(codePointShrinkable)
+					.collect(Collectors.toList());
+	}
+
+	@Override
+	Collector<Integer, ?, String> containerCollector() {
+		return Collector.of(
+			StringBuilder::new,
+			StringBuilder::appendCodePoint,
+			StringBuilder::append,
+			StringBuilder::toString
+		);
+	}
+
+	@Override
+	Shrinkable<String> createShrinkable(List<Shrinkable<Integer>> shrunkElements) {
+		return new ShrinkableCodePointString(shrunkElements, minSize);
+	}
+}
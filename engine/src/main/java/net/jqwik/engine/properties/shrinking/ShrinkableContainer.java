@@ -1,12 +1,14 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
 
 abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
-	private final List<Shrinkable<E>> elements;
+	private List<Shrinkable<E>> elements;
+	private Supplier<List<Shrinkable<E>>> elementsSupplier;
 	private final ListShrinkingCandidates<Shrinkable<E>> shrinkCandidates;
 	private final C value;
 
@@ -16,6 +18,24 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		this.value = createValue(elements);
 	}
 
+	/**
+	 * Use this constructor if creating the elements' shrinkables is expensive
+	 * and can be postponed until the container is actually shrunk.
+	 */
+	ShrinkableContainer(C value, Supplier<List<Shrinkable<E>>> elementsSupplier, int minSize) {
+		this.elementsSupplier = elementsSupplier;
+		this.shrinkCandidates = new ListShrinkingCandidates<>(minSize);
+		this.value = value;
+	}
+
+	private List<Shrinkable<E>> elements() {
+		if (elements == null) {
+			elements = elementsSupplier.get();
+			elementsSupplier = null;
+		}
+		return elements;
+	}
+
 	private C createValue(List<Shrinkable<E>> shrinkables) {
 		return shrinkables
 				   .stream()
@@ -32,7 +52,7 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	public ShrinkingSequence<C> shrink(Falsifier<C> falsifier) {
 		return new DeepSearchShrinkingSequence<>(this, this::shrinkCandidatesFor, falsifier)
 				   .andThen(shrinkableList -> {
-					   List<Shrinkable<E>> elements = ((ShrinkableContainer<C, E>) shrinkableList).elements;
+					   List<Shrinkable<E>> elements = ((ShrinkableContainer<C, E>) shrinkableList).elements();
 					   Falsifier<List<E>> listFalsifier = list -> falsifier.execute(toContainer(list));
 					   return new ContainerShrinkingSequence<>(elements, listFalsifier, ShrinkingDistance::forCollection, this::toContainerShrinkable);
 				   }).andThen(shrinkableContainer ->
@@ -62,7 +82,7 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	private Set<Shrinkable<C>> shrinkCandidatesFor(Shrinkable<C> shrinkable) {
 		ShrinkableContainer<C, E> listShrinkable = (ShrinkableContainer<C, E>) shrinkable;
-		return shrinkCandidates.candidatesFor(listShrinkable.elements)
+		return shrinkCandidates.candidatesFor(listShrinkable.elements())
 							   .stream()
 							   .map(this::createShrinkable)
 							   .collect(Collectors.toSet());
@@ -70,7 +90,7 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	@Override
 	public ShrinkingDistance distance() {
-		return ShrinkingDistance.forCollection(elements);
+		return ShrinkingDistance.forCollection(elements());
 	}
 
 	@Override
@@ -83,7 +103,7 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(elements);
+		return Objects.hash(elements());
 	}
 
 	@Override
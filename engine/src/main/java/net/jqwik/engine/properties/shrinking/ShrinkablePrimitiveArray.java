@@ -0,0 +1,185 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Shrinks arrays of integral primitives without creating a shrinkable for each element.
+ * Candidates cut off elements, reset whole ranges of indices to their shrinking target
+ * and - as soon as only a few elements are off target - shrink single elements.
+ * The array is never shared: {@linkplain #value()} hands out a fresh copy on each call.
+ */
+public class ShrinkablePrimitiveArray<A> extends AbstractShrinkable<A> {
+
+	// Limits the number of candidates to keep each shrinking step affordable for large arrays
+	private static final int MAX_RANGE_RESETS = 32;
+	private static final int MAX_ELEMENTS_TO_SHRINK = 16;
+
+	private final PrimitiveArrayType<A> arrayType;
+	private final LongUnaryOperator shrinkingTarget;
+	private final int minSize;
+
+	public ShrinkablePrimitiveArray(A value, PrimitiveArrayType<A> arrayType, LongUnaryOperator shrinkingTarget, int minSize) {
+		this(arrayType, arrayType.copy(value), shrinkingTarget, minSize);
+	}
+
+	// Only used for candidates whose arrays have been copied already
+	private ShrinkablePrimitiveArray(PrimitiveArrayType<A> arrayType, A ownArray, LongUnaryOperator shrinkingTarget, int minSize) {
+		super(ownArray);
+		this.arrayType = arrayType;
+		this.shrinkingTarget = shrinkingTarget;
+		this.minSize = minSize;
+	}
+
+	@Override
+	public A value() {
+		return arrayType.copy(array());
+	}
+
+	private A array() {
+		return super.value();
+	}
+
+	@Override
+	public Set<Shrinkable<A>> shrinkCandidatesFor(Shrinkable<A> shrinkable) {
+		A array = shrinkable instanceof ShrinkablePrimitiveArray
+					  ? ((ShrinkablePrimitiveArray<A>) shrinkable).array()
+					  : shrinkable.value();
+		Set<Shrinkable<A>> candidates = new HashSet<>();
+		addCuts(array, candidates);
+		addRangeResets(array, candidates);
+		addElementShrinks(array, candidates);
+		return candidates;
+	}
+
+	private void addCuts(A array, Set<Shrinkable<A>> candidates) {
+		int length = arrayType.length(array);
+		if (length <= minSize) {
+			return;
+		}
+		int elementsToCut = Math.min(rawElementsToCut(length), length - minSize);
+		addCandidate(arrayType.copyWithout(array, 0, elementsToCut), candidates);
+		addCandidate(arrayType.copyWithout(array, length - elementsToCut, length), candidates);
+		if (elementsToCut != 1) {
+			addCandidate(arrayType.copyWithout(array, 0, 1), candidates);
+			addCandidate(arrayType.copyWithout(array, length - 1, length), candidates);
+		}
+	}
+
+	private int rawElementsToCut(int length) {
+		// Same cut sizes as in ListShrinkingCandidates
+		if (length <= 10)
+			return 1;
+		if (length < 20)
+			return length - 9;
+		return length / 2;
+	}
+
+	private void addRangeResets(A array, Set<Shrinkable<A>> candidates) {
+		int length = arrayType.length(array);
+		int numberOfResets = 0;
+		for (int rangeSize = length; rangeSize >= 1; rangeSize /= 2) {
+			for (int from = 0; from < length; from += rangeSize) {
+				int to = Math.min(from + rangeSize, length);
+				if (isOnTarget(array, from, to)) {
+					continue;
+				}
+				if (numberOfResets++ >= MAX_RANGE_RESETS) {
+					return;
+				}
+				A reset = arrayType.copy(array);
+				for (int index = from; index < to; index++) {
+					arrayType.set(reset, index, targetOf(array, index));
+				}
+				addCandidate(reset, candidates);
+			}
+		}
+	}
+
+	private void addElementShrinks(A array, Set<Shrinkable<A>> candidates) {
+		int length = arrayType.length(array);
+		List<Integer> offTarget = new ArrayList<>();
+		for (int index = 0; index < length; index++) {
+			if (!isOnTarget(array, index, index + 1)) {
+				if (offTarget.size() >= MAX_ELEMENTS_TO_SHRINK) {
+					return;
+				}
+				offTarget.add(index);
+			}
+		}
+		for (int index : offTarget) {
+			long value = arrayType.get(array, index);
+			long target = targetOf(array, index);
+			long oneStepCloser = value > target ? value - 1 : value + 1;
+			// Average that cannot overflow
+			long halfway = (value >> 1) + (target >> 1) + (value & target & 1);
+			addElementCandidate(array, index, target, candidates);
+			addElementCandidate(array, index, oneStepCloser, candidates);
+			if (halfway != value) {
+				addElementCandidate(array, index, halfway, candidates);
+			}
+		}
+	}
+
+	private void addElementCandidate(A array, int index, long element, Set<Shrinkable<A>> candidates) {
+		A candidate = arrayType.copy(array);
+		arrayType.set(candidate, index, element);
+		addCandidate(candidate, candidates);
+	}
+
+	private boolean isOnTarget(A array, int from, int to) {
+		for (int index = from; index < to; index++) {
+			if (arrayType.get(array, index) != targetOf(array, index)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private long targetOf(A array, int index) {
+		return shrinkingTarget.applyAsLong(arrayType.get(array, index));
+	}
+
+	private void addCandidate(A array, Set<Shrinkable<A>> candidates) {
+		candidates.add(new ShrinkablePrimitiveArray<>(arrayType, array, shrinkingTarget, minSize));
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		A array = array();
+		long sumOfDistances = 0;
+		for (int index = 0; index < arrayType.length(array); index++) {
+			long value = arrayType.get(array, index);
+			long target = targetOf(array, index);
+			long distance = value > target ? value - target : target - value;
+			// Overflows are capped at Long.MAX_VALUE like for single numbers
+			if (distance < 0 || sumOfDistances + distance < 0) {
+				sumOfDistances = Long.MAX_VALUE;
+			} else {
+				sumOfDistances += distance;
+			}
+		}
+		return ShrinkingDistance.of(arrayType.length(array), sumOfDistances);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		@SuppressWarnings("unchecked")
+		ShrinkablePrimitiveArray<A> that = (ShrinkablePrimitiveArray<A>) o;
+		return arrayType == that.arrayType && arrayType.equals(array(), that.array());
+	}
+
+	@Override
+	public int hashCode() {
+		return arrayType.hashCode(array());
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s<%s>(%s:%s)", getClass().getSimpleName(), array().getClass().getSimpleName(), arrayType.toString(array()), distance());
+	}
+}
@@ -15,6 +15,25 @@ public class ShrinkableString extends ShrinkableContainer<String, Character> {
 		this.minSize = minSize;
 	}
 
+	/**
+	 * Create a shrinkable string from its value. Characters are only turned into shrinkables
+	 * when the string is shrunk or its shrinking distance is needed.
+	 *
+	 * @param charShrinkable creates the shrinkable of a single character of {@code value}
+	 */
+	public ShrinkableString(String value, Function<Character, Shrinkable<Character>> charShrinkable, int minSize) {
+		super(value, () -> shrinkablesFor(value, charShrinkable), minSize);
+		this.minSize = minSize;
+	}
+
+	private static List<Shrinkable<Character>> shrinkablesFor(String value, Function<Character, Shrinkable<Character>> charShrinkable) {
+		List<Shrinkable<Character>> shrinkables = new ArrayList<>(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			shrinkables.add(charShrinkable.apply(value.charAt(i)));
+		}
+		return shrinkables;
+	}
+
 	@Override
 	Collector<Character, ?, String> containerCollector() {
 		return new CharacterCollector();
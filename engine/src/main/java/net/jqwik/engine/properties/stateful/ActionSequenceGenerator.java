@@ -9,10 +9,10 @@ class ActionSequenceGenerator<M> implements RandomGenerator<ActionSequence<M>> {
 	private final int genSize;
 	private final int minSize;
 	private final int maxSize;
-	private final Arbitrary<Action<M>> actionArbitrary;
+	private final List<ActionType<M>> actionTypes;
 
-	ActionSequenceGenerator(Arbitrary<Action<M>> actionArbitrary, int genSize, int minSize, int maxSize) {
-		this.actionArbitrary = actionArbitrary;
+	ActionSequenceGenerator(List<ActionType<M>> actionTypes, int genSize, int minSize, int maxSize) {
+		this.actionTypes = actionTypes;
 		this.genSize = genSize;
 		this.minSize = minSize;
 		this.maxSize = maxSize;
@@ -20,7 +20,7 @@ class ActionSequenceGenerator<M> implements RandomGenerator<ActionSequence<M>> {
 
 	@Override
 	public Shrinkable<ActionSequence<M>> next(Random random) {
-		ActionGenerator<M> actionGenerator = new RandomActionGenerator<>(actionArbitrary, genSize, random);
+		ActionGenerator<M> actionGenerator = new RandomActionGenerator<>(actionTypes, genSize, random);
 		return new ShrinkableActionSequence<>(actionGenerator, minSize, maxSize, ShrinkingDistance.of(maxSize));
 	}
 
@@ -0,0 +1,88 @@
+package net.jqwik.engine.properties.stateful;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Shrinks a list by removing chunks of elements, starting with half of the list
+ * and going down to single elements, and continues with the first candidate that
+ * is still falsified. Unlike trying all single element removals in each step
+ * long lists need only a few runs per removed chunk.
+ */
+class ChunkedRemovalShrinkingSequence<E, T> implements ShrinkingSequence<T> {
+
+	private final Function<Shrinkable<T>, List<E>> toElements;
+	private final Function<List<E>, Shrinkable<T>> toShrinkable;
+	private final Falsifier<T> falsifier;
+
+	private FalsificationResult<T> currentBest;
+	private int chunkSize;
+	private int chunkStart = 0;
+	private boolean removedInThisSweep = false;
+
+	ChunkedRemovalShrinkingSequence(
+		Shrinkable<T> startingShrinkable,
+		Function<Shrinkable<T>, List<E>> toElements,
+		Function<List<E>, Shrinkable<T>> toShrinkable,
+		Falsifier<T> falsifier
+	) {
+		this.currentBest = FalsificationResult.falsified(startingShrinkable);
+		this.toElements = toElements;
+		this.toShrinkable = toShrinkable;
+		this.falsifier = falsifier;
+		this.chunkSize = initialChunkSize();
+	}
+
+	private int initialChunkSize() {
+		return Math.max(1, toElements.apply(currentBest.shrinkable()).size() / 2);
+	}
+
+	@Override
+	public boolean next(Runnable count, Consumer<FalsificationResult<T>> falsifiedReporter) {
+		while (true) {
+			List<E> elements = toElements.apply(currentBest.shrinkable());
+			if (elements.size() <= 1) {
+				return false;
+			}
+			while (chunkStart < elements.size()) {
+				int chunkEnd = Math.min(chunkStart + chunkSize, elements.size());
+				if (chunkEnd - chunkStart < elements.size()) {
+					List<E> candidate = new ArrayList<>(elements.subList(0, chunkStart));
+					candidate.addAll(elements.subList(chunkEnd, elements.size()));
+					FalsificationResult<T> result = falsifier.falsify(toShrinkable.apply(candidate));
+					if (result.status() == FalsificationResult.Status.FALSIFIED) {
+						count.run();
+						removedInThisSweep = true;
+						currentBest = result;
+						falsifiedReporter.accept(currentBest);
+						// Continue with the chunk that moved into the removed chunk's place
+						return true;
+					}
+				}
+				chunkStart = chunkEnd;
+			}
+			chunkStart = 0;
+			if (chunkSize > 1) {
+				chunkSize = Math.max(1, chunkSize / 2);
+			} else if (removedInThisSweep) {
+				// Removing small chunks might have made larger ones removable
+				removedInThisSweep = false;
+				chunkSize = initialChunkSize();
+			} else {
+				return false;
+			}
+		}
+	}
+
+	@Override
+	public FalsificationResult<T> current() {
+		return currentBest;
+	}
+
+	@Override
+	public void init(FalsificationResult<T> initialCurrent) {
+		currentBest = FalsificationResult.falsified(currentBest.shrinkable(), initialCurrent.throwable().orElse(null));
+	}
+}
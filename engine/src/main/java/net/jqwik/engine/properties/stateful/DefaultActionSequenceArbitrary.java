@@ -1,19 +1,24 @@
 package net.jqwik.engine.properties.stateful;
 
+import java.util.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.stateful.*;
 import net.jqwik.engine.properties.arbitraries.*;
 
 public class DefaultActionSequenceArbitrary<M> extends AbstractArbitraryBase implements ActionSequenceArbitrary<M> {
 
-	private final Arbitrary<Action<M>> actionArbitrary;
+	private final List<ActionType<M>> actionTypes;
 
 	private int minSize = 1;
 	private int maxSize = 0;
 
 	public DefaultActionSequenceArbitrary(Arbitrary<? extends Action<M>> actionArbitrary) {
-		//noinspection unchecked
-		this.actionArbitrary = (Arbitrary<Action<M>>) actionArbitrary;
+		this(Collections.singletonList(ActionType.of(actionArbitrary)));
+	}
+
+	public DefaultActionSequenceArbitrary(List<ActionType<M>> actionTypes) {
+		this.actionTypes = actionTypes;
 	}
 
 	@Override
@@ -35,7 +40,7 @@ public class DefaultActionSequenceArbitrary<M> extends AbstractArbitraryBase imp
 		final int effectiveMaxSize =
 			maxSize != 0 ? maxSize
 				: (int) Math.max(Math.round(Math.sqrt(genSize)), 10);
-		return new ActionSequenceGenerator<>(actionArbitrary, genSize, minSize, effectiveMaxSize);
+		return new ActionSequenceGenerator<>(actionTypes, genSize, minSize, effectiveMaxSize);
 	}
 
 	@Override
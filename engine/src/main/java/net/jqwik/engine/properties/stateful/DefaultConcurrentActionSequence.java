@@ -0,0 +1,199 @@
+package net.jqwik.engine.properties.stateful;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.stream.*;
+
+import org.opentest4j.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.stateful.*;
+import net.jqwik.engine.properties.stateful.LinearizabilityChecker.*;
+import net.jqwik.engine.support.*;
+
+class DefaultConcurrentActionSequence<S, M> implements ConcurrentActionSequence<S, M> {
+
+	static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+	private final List<ConcurrentAction<S, M>> prefix;
+	private final List<List<ConcurrentAction<S, M>>> branches;
+	private final Duration timeout;
+
+	private ActionSequence.RunState runState = ActionSequence.RunState.NOT_RUN;
+	private S system = null;
+	private List<List<Operation<S, M>>> history = Collections.emptyList();
+
+	DefaultConcurrentActionSequence(List<ConcurrentAction<S, M>> prefix, List<List<ConcurrentAction<S, M>>> branches) {
+		this(prefix, branches, DEFAULT_TIMEOUT);
+	}
+
+	DefaultConcurrentActionSequence(
+		List<ConcurrentAction<S, M>> prefix,
+		List<List<ConcurrentAction<S, M>>> branches,
+		Duration timeout
+	) {
+		this.prefix = prefix;
+		this.branches = branches;
+		this.timeout = timeout;
+	}
+
+	@Override
+	public List<ConcurrentAction<S, M>> prefix() {
+		return prefix;
+	}
+
+	@Override
+	public List<List<ConcurrentAction<S, M>>> branches() {
+		return branches;
+	}
+
+	@Override
+	public synchronized S run(S system, M model) {
+		if (runState != ActionSequence.RunState.NOT_RUN) {
+			return this.system;
+		}
+		runState = ActionSequence.RunState.RUNNING;
+		this.system = system;
+		try {
+			M afterPrefix = runPrefix(system, model);
+			history = runBranches(system);
+			if (!new LinearizabilityChecker<>(history).isLinearizable(afterPrefix)) {
+				throw new AssertionFailedError(createErrorMessage("No sequential order explains the results of concurrent actions"));
+			}
+		} catch (Throwable t) {
+			runState = ActionSequence.RunState.FAILED;
+			throw t;
+		}
+		runState = ActionSequence.RunState.SUCCEEDED;
+		return system;
+	}
+
+	private M runPrefix(S system, M model) {
+		for (ConcurrentAction<S, M> action : prefix) {
+			Object result;
+			try {
+				result = action.run(system);
+			} catch (Throwable t) {
+				JqwikExceptionSupport.rethrowIfBlacklisted(t);
+				throw new AssertionFailedError(String.format("Prefix action %s failed: %s", action, t.getMessage()), t);
+			}
+			if (!action.postcondition(model, result)) {
+				String message = String.format(
+					"Postcondition of prefix action %s failed for result %s and model %s",
+					action,
+					JqwikStringSupport.displayString(result),
+					JqwikStringSupport.displayString(model)
+				);
+				throw new AssertionFailedError(message);
+			}
+			model = action.nextModel(model);
+		}
+		return model;
+	}
+
+	private List<List<Operation<S, M>>> runBranches(S system) {
+		AtomicLong clock = new AtomicLong();
+		CountDownLatch start = new CountDownLatch(1);
+		List<List<Operation<S, M>>> operations = new ArrayList<>();
+		List<Throwable> failures = new CopyOnWriteArrayList<>();
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < branches.size(); i++) {
+			List<ConcurrentAction<S, M>> branch = branches.get(i);
+			// Operations are read by the main thread while hanging branches are still running
+			List<Operation<S, M>> branchOperations = new CopyOnWriteArrayList<>();
+			operations.add(branchOperations);
+			Runnable runBranch = () -> {
+				try {
+					start.await();
+					for (ConcurrentAction<S, M> action : branch) {
+						long invocation = clock.incrementAndGet();
+						long before = System.nanoTime();
+						Object result = action.run(system);
+						long duration = System.nanoTime() - before;
+						long response = clock.incrementAndGet();
+						branchOperations.add(new Operation<>(action, result, invocation, response, duration));
+					}
+				} catch (Throwable t) {
+					failures.add(t);
+				}
+			};
+			Thread thread = new Thread(runBranch, "jqwik-concurrent-branch-" + i);
+			// A branch that ignores interruption must not keep the JVM alive
+			thread.setDaemon(true);
+			threads.add(thread);
+		}
+		threads.forEach(Thread::start);
+		start.countDown();
+		long deadline = System.nanoTime() + timeout.toNanos();
+		for (Thread thread : threads) {
+			try {
+				TimeUnit.NANOSECONDS.timedJoin(thread, Math.max(1, deadline - System.nanoTime()));
+			} catch (InterruptedException e) {
+				threads.forEach(Thread::interrupt);
+				Thread.currentThread().interrupt();
+				throw new JqwikException("Interrupted while waiting for concurrent actions");
+			}
+		}
+		if (threads.stream().anyMatch(Thread::isAlive)) {
+			threads.forEach(Thread::interrupt);
+			history = operations.stream().<List<Operation<S, M>>>map(ArrayList::new).collect(Collectors.toList());
+			String cause = String.format("Concurrent actions did not finish within %s ms", timeout.toMillis());
+			throw new AssertionFailedError(createErrorMessage(cause));
+		}
+		if (!failures.isEmpty()) {
+			Throwable failure = failures.get(0);
+			JqwikExceptionSupport.rethrowIfBlacklisted(failure);
+			history = operations;
+			throw new AssertionFailedError(createErrorMessage("Concurrent action failed: " + failure.getMessage()), failure);
+		}
+		return operations;
+	}
+
+	private String createErrorMessage(String cause) {
+		List<String> lines = new ArrayList<>();
+		List<Operation<S, M>> operations = new ArrayList<>();
+		for (int branch = 0; branch < history.size(); branch++) {
+			for (Operation<S, M> operation : history.get(branch)) {
+				operations.add(operation);
+				lines.add(String.format("    [%s] %s", branch, operation));
+			}
+		}
+		String historyString = IntStream.range(0, operations.size())
+										.boxed()
+										.sorted(Comparator.comparingLong(index -> operations.get(index).invocation()))
+										.map(lines::get)
+										.collect(Collectors.joining(System.lineSeparator()));
+		return String.format(
+			"%s%n  prefix: %s%n  concurrent actions in order of invocation:%n%s",
+			cause,
+			JqwikStringSupport.displayString(prefix),
+			historyString
+		);
+	}
+
+	@Override
+	public ActionSequence.RunState runState() {
+		return runState;
+	}
+
+	@Override
+	public synchronized List<Long> branchActionDurations() {
+		return history.stream()
+					  .flatMap(Collection::stream)
+					  .sorted(Comparator.comparingLong(Operation::invocation))
+					  .map(Operation::durationNanos)
+					  .collect(Collectors.toList());
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"ConcurrentActionSequence[%s]: prefix=%s, branches=%s",
+			runState.name(),
+			JqwikStringSupport.displayString(prefix),
+			JqwikStringSupport.displayString(branches)
+		);
+	}
+}
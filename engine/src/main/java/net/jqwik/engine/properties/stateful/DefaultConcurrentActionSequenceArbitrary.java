@@ -0,0 +1,78 @@
+package net.jqwik.engine.properties.stateful;
+
+import java.time.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.stateful.*;
+import net.jqwik.engine.properties.arbitraries.*;
+
+public class DefaultConcurrentActionSequenceArbitrary<S, M> extends AbstractArbitraryBase implements ConcurrentActionSequenceArbitrary<S, M> {
+
+	private final Arbitrary<ConcurrentAction<S, M>> actionArbitrary;
+
+	private int maxPrefixSize = 5;
+	private int maxBranchSize = 10;
+	private int numberOfBranches = 2;
+	private Duration timeout = DefaultConcurrentActionSequence.DEFAULT_TIMEOUT;
+
+	@SuppressWarnings("unchecked")
+	public DefaultConcurrentActionSequenceArbitrary(Arbitrary<? extends ConcurrentAction<S, M>> actionArbitrary) {
+		this.actionArbitrary = (Arbitrary<ConcurrentAction<S, M>>) actionArbitrary;
+	}
+
+	@Override
+	public ConcurrentActionSequenceArbitrary<S, M> ofMaxPrefixSize(int maxPrefixSize) {
+		DefaultConcurrentActionSequenceArbitrary<S, M> clone = typedClone();
+		clone.maxPrefixSize = Math.max(0, maxPrefixSize);
+		return clone;
+	}
+
+	@Override
+	public ConcurrentActionSequenceArbitrary<S, M> ofMaxBranchSize(int maxBranchSize) {
+		DefaultConcurrentActionSequenceArbitrary<S, M> clone = typedClone();
+		clone.maxBranchSize = Math.max(1, maxBranchSize);
+		return clone;
+	}
+
+	@Override
+	public ConcurrentActionSequenceArbitrary<S, M> withBranches(int numberOfBranches) {
+		if (numberOfBranches < 2) {
+			String message = String.format("Number of branches [%s] must be at least 2", numberOfBranches);
+			throw new IllegalArgumentException(message);
+		}
+		DefaultConcurrentActionSequenceArbitrary<S, M> clone = typedClone();
+		clone.numberOfBranches = numberOfBranches;
+		return clone;
+	}
+
+	@Override
+	public ConcurrentActionSequenceArbitrary<S, M> withTimeout(Duration timeout) {
+		if (timeout.isNegative() || timeout.isZero()) {
+			String message = String.format("Timeout [%s] must be positive", timeout);
+			throw new IllegalArgumentException(message);
+		}
+		DefaultConcurrentActionSequenceArbitrary<S, M> clone = typedClone();
+		clone.timeout = timeout;
+		return clone;
+	}
+
+	@Override
+	public RandomGenerator<ConcurrentActionSequence<S, M>> generator(int genSize) {
+		return sequences().generator(genSize);
+	}
+
+	private Arbitrary<ConcurrentActionSequence<S, M>> sequences() {
+		Arbitrary<List<ConcurrentAction<S, M>>> prefix = actionArbitrary.list().ofMaxSize(maxPrefixSize);
+		Arbitrary<List<List<ConcurrentAction<S, M>>>> branches =
+			actionArbitrary.list().ofMinSize(1).ofMaxSize(maxBranchSize)
+						   .list().ofSize(numberOfBranches);
+		return Combinators.combine(prefix, branches).as((p, b) -> new DefaultConcurrentActionSequence<>(p, b, timeout));
+	}
+
+	@Override
+	public EdgeCases<ConcurrentActionSequence<S, M>> edgeCases() {
+		return EdgeCases.none();
+	}
+
+}
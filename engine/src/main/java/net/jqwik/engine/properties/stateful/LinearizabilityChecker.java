@@ -0,0 +1,125 @@
+package net.jqwik.engine.properties.stateful;
+
+import java.util.*;
+
+import net.jqwik.api.stateful.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Searches for a sequential order of concurrently run actions that explains their results.
+ * Actions of the same branch keep their order and an action can only be ordered before
+ * all actions that were invoked after it had returned.
+ *
+ * <p>
+ * Since an action's place in the order is only constrained by the actions of its own branch
+ * the search state consists of the number of ordered actions per branch and the model state.
+ * States that have already been explored are remembered so that different orders
+ * leading to the same state are only followed once.
+ * </p>
+ */
+class LinearizabilityChecker<S, M> {
+
+	static class Operation<S, M> {
+		private final ConcurrentAction<S, M> action;
+		private final Object result;
+		private final long invocation;
+		private final long response;
+		private final long durationNanos;
+
+		Operation(ConcurrentAction<S, M> action, Object result, long invocation, long response, long durationNanos) {
+			this.action = action;
+			this.result = result;
+			this.invocation = invocation;
+			this.response = response;
+			this.durationNanos = durationNanos;
+		}
+
+		long invocation() {
+			return invocation;
+		}
+
+		long durationNanos() {
+			return durationNanos;
+		}
+
+		@Override
+		public String toString() {
+			return String.format(
+				"%s -> %s [%s..%s, %s ns]",
+				action,
+				JqwikStringSupport.displayString(result),
+				invocation,
+				response,
+				durationNanos
+			);
+		}
+	}
+
+	private static class State<M> {
+		private final int[] ordered;
+		private final M model;
+
+		private State(int[] ordered, M model) {
+			this.ordered = ordered;
+			this.model = model;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			State<?> state = (State<?>) o;
+			return Arrays.equals(ordered, state.ordered) && Objects.equals(model, state.model);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Arrays.hashCode(ordered) + Objects.hashCode(model);
+		}
+	}
+
+	private final List<List<Operation<S, M>>> branches;
+	private final Set<State<M>> explored = new HashSet<>();
+
+	LinearizabilityChecker(List<List<Operation<S, M>>> branches) {
+		this.branches = branches;
+	}
+
+	boolean isLinearizable(M initialModel) {
+		explored.clear();
+		return search(new int[branches.size()], initialModel);
+	}
+
+	private boolean search(int[] ordered, M model) {
+		long earliestResponse = Long.MAX_VALUE;
+		for (int branch = 0; branch < branches.size(); branch++) {
+			if (ordered[branch] < branches.get(branch).size()) {
+				earliestResponse = Math.min(earliestResponse, branches.get(branch).get(ordered[branch]).response);
+			}
+		}
+		if (earliestResponse == Long.MAX_VALUE) {
+			return true;
+		}
+		if (!explored.add(new State<>(ordered, model))) {
+			return false;
+		}
+		for (int branch = 0; branch < branches.size(); branch++) {
+			if (ordered[branch] == branches.get(branch).size()) {
+				continue;
+			}
+			Operation<S, M> operation = branches.get(branch).get(ordered[branch]);
+			if (operation.invocation > earliestResponse) {
+				continue;
+			}
+			if (!operation.action.postcondition(model, operation.result)) {
+				continue;
+			}
+			int[] next = ordered.clone();
+			next[branch]++;
+			if (search(next, operation.action.nextModel(model))) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
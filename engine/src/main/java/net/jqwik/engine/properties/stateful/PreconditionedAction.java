@@ -0,0 +1,31 @@
+package net.jqwik.engine.properties.stateful;
+
+import java.util.function.*;
+
+import net.jqwik.api.stateful.*;
+
+class PreconditionedAction<M> implements Action<M> {
+
+	private final Predicate<M> precondition;
+	private final Action<M> action;
+
+	PreconditionedAction(Predicate<M> precondition, Action<M> action) {
+		this.precondition = precondition;
+		this.action = action;
+	}
+
+	@Override
+	public boolean precondition(M state) {
+		return precondition.test(state) && action.precondition(state);
+	}
+
+	@Override
+	public M run(M state) {
+		return action.run(state);
+	}
+
+	@Override
+	public String toString() {
+		return action.toString();
+	}
+}
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.stateful;
 
 import java.util.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.stateful.*;
@@ -9,20 +10,32 @@ class RandomActionGenerator<T> implements ActionGenerator<T> {
 
 	private static final int MAX_TRIES = 1000;
 
-	private final RandomGenerator<Action<T>> randomGenerator;
+	private final List<ActionType<T>> actionTypes;
+	private final List<RandomGenerator<Action<T>>> randomGenerators;
+	private final int genSize;
 	private final Random random;
 	private List<Shrinkable<Action<T>>> shrinkableActions = new ArrayList<>();
 
 	RandomActionGenerator(Arbitrary<Action<T>> actionArbitrary, int genSize, Random random) {
+		this(Collections.singletonList(ActionType.of(actionArbitrary)), genSize, random);
+	}
+
+	RandomActionGenerator(List<ActionType<T>> actionTypes, int genSize, Random random) {
+		this.actionTypes = actionTypes;
+		this.randomGenerators = new ArrayList<>(Collections.nCopies(actionTypes.size(), null));
+		this.genSize = genSize;
 		this.random = random;
-		this.randomGenerator = actionArbitrary.generator(genSize);
 	}
 
 	@Override
 	public Action<T> next(T model) {
 		int tries = 0;
 		while (tries++ < MAX_TRIES) {
-			Shrinkable<Action<T>> shrinkable = randomGenerator.next(random);
+			int actionType = chooseEnabledActionType(model);
+			if (actionType < 0) {
+				throw new NoSuchElementException("No action type is enabled");
+			}
+			Shrinkable<Action<T>> shrinkable = randomGenerator(actionType).next(random);
 			boolean precondition = shrinkable.value().precondition(model);
 			if (!precondition) {
 				continue;
@@ -34,6 +47,47 @@ class RandomActionGenerator<T> implements ActionGenerator<T> {
 		throw new NoSuchElementException(message);
 	}
 
+	/**
+	 * @return -1 if no action type is enabled
+	 */
+	private int chooseEnabledActionType(T model) {
+		if (actionTypes.size() == 1) {
+			return actionTypes.get(0).isEnabled(model) ? 0 : -1;
+		}
+		boolean[] enabled = new boolean[actionTypes.size()];
+		int countEnabled = 0;
+		for (int i = 0; i < actionTypes.size(); i++) {
+			if (actionTypes.get(i).isEnabled(model)) {
+				enabled[i] = true;
+				countEnabled++;
+			}
+		}
+		if (countEnabled == 0) {
+			return -1;
+		}
+		int chosen = random.nextInt(countEnabled);
+		for (int i = 0; i < enabled.length; i++) {
+			if (enabled[i] && chosen-- == 0) {
+				return i;
+			}
+		}
+		throw new IllegalStateException("Enabled action type must have been chosen");
+	}
+
+	private RandomGenerator<Action<T>> randomGenerator(int actionType) {
+		if (randomGenerators.get(actionType) == null) {
+			ActionType<T> type = actionTypes.get(actionType);
+			RandomGenerator<Action<T>> generator = type.actions().generator(genSize);
+			Optional<Predicate<T>> typePrecondition = type.precondition();
+			if (typePrecondition.isPresent()) {
+				// Shrunk sequences must also respect the action type's precondition
+				generator = generator.map(action -> new PreconditionedAction<>(typePrecondition.get(), action));
+			}
+			randomGenerators.set(actionType, generator);
+		}
+		return randomGenerators.get(actionType);
+	}
+
 	@Override
 	public List<Shrinkable<Action<T>>> generated() {
 		return shrinkableActions;
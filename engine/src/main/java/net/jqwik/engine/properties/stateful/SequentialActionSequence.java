@@ -22,12 +22,22 @@ class SequentialActionSequence<M> implements ActionSequence<M> {
 	protected RunState runState = RunState.NOT_RUN;
 	private M currentModel = null;
 
+	private final SnapshotTrail<M> snapshotTrail;
+
 	SequentialActionSequence(ActionGenerator<M> actionGenerator, int intendedSize) {
+		this(actionGenerator, intendedSize, null);
+	}
+
+	/**
+	 * @param snapshotTrail is only used if actionGenerator is a {@linkplain ShrinkablesActionGenerator}
+	 */
+	SequentialActionSequence(ActionGenerator<M> actionGenerator, int intendedSize, SnapshotTrail<M> snapshotTrail) {
 		if (intendedSize < 1) {
 			throw new IllegalArgumentException("The intended size of an ActionSequence must not be 0");
 		}
 		this.actionGenerator = actionGenerator;
 		this.intendedSize = intendedSize;
+		this.snapshotTrail = actionGenerator instanceof ShrinkablesActionGenerator ? snapshotTrail : null;
 	}
 
 	@Override
@@ -42,7 +52,10 @@ class SequentialActionSequence<M> implements ActionSequence<M> {
 		}
 		runState = RunState.RUNNING;
 		currentModel = model;
-		for (int i = 0; i < intendedSize; i++) {
+		if (snapshotTrail != null) {
+			sequence.addAll(snapshotTrail.restore((ShrinkablesActionGenerator<M>) actionGenerator, model));
+		}
+		for (int i = sequence.size(); i < intendedSize; i++) {
 			Action<M> action;
 			try {
 				action = actionGenerator.next(currentModel);
@@ -54,6 +67,9 @@ class SequentialActionSequence<M> implements ActionSequence<M> {
 				currentModel = action.run(currentModel);
 				callModelPeekers();
 				checkInvariants();
+				if (snapshotTrail != null) {
+					snapshotTrail.record((ShrinkablesActionGenerator<M>) actionGenerator, model, currentModel);
+				}
 			} catch (InvariantFailedError ife) {
 				runState = RunState.FAILED;
 				throw ife;
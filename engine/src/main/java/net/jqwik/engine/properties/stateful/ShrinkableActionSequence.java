@@ -10,18 +10,26 @@ import net.jqwik.engine.properties.shrinking.*;
 
 class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 
-	private final ComprehensiveListShrinkingCandidates listShrinkingCandidates = new ComprehensiveListShrinkingCandidates();
-
 	private final ActionSequence<T> value;
 	private final ActionGenerator<T> actionGenerator;
 	private final int minSize;
 	private final ShrinkingDistance distance;
 
 	ShrinkableActionSequence(ActionGenerator<T> actionGenerator, int minSize, int maxSize, ShrinkingDistance distance) {
+		this(actionGenerator, minSize, maxSize, distance, null);
+	}
+
+	private ShrinkableActionSequence(
+		ActionGenerator<T> actionGenerator,
+		int minSize,
+		int maxSize,
+		ShrinkingDistance distance,
+		SnapshotTrail<T> snapshotTrail
+	) {
 		this.actionGenerator = actionGenerator;
 		this.minSize = minSize;
 		this.distance = distance;
-		this.value = new SequentialActionSequence<>(actionGenerator, maxSize);
+		this.value = new SequentialActionSequence<>(actionGenerator, maxSize, snapshotTrail);
 	}
 
 	@Override
@@ -33,8 +41,9 @@ class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 	public ShrinkingSequence<ActionSequence<T>> shrink(Falsifier<ActionSequence<T>> falsifier) {
 		Falsifier<ActionSequence<T>> minRespectingFalsifier =
 			falsifier.withPostFilter(actionSequence -> actionSequence.runActions().size() >= minSize);
+		SnapshotTrail<T> snapshotTrail = new SnapshotTrail<>();
 
-		return shrinkSequenceOfActions(minRespectingFalsifier)
+		return shrinkSequenceOfActions(minRespectingFalsifier, snapshotTrail)
 				   .andThen(shrinkableList -> { //
 					   ShrinkableActionSequence<T> shrinkableSequence = (ShrinkableActionSequence<T>) shrinkableList;
 					   Falsifier<List<Action<T>>> listFalsifier = list -> minRespectingFalsifier.execute(toRunnableActionSequence(list));
@@ -48,17 +57,17 @@ class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 	}
 
 	private Function<Shrinkable<List<Action<T>>>, ShrinkingSequence<List<Action<T>>>> shrinkListOfActions(Falsifier<List<Action<T>>> listFalsifier) {
-		return shrinkableListOfActions ->
-				   new DeepSearchShrinkingSequence<>(shrinkableListOfActions, this::shrinkActionListCandidates, listFalsifier);
+		return shrinkableListOfActions -> new ChunkedRemovalShrinkingSequence<>(
+			shrinkableListOfActions,
+			Shrinkable::value,
+			this::toShrinkableActionList,
+			listFalsifier
+		);
 	}
 
-	private Set<Shrinkable<List<Action<T>>>> shrinkActionListCandidates(Shrinkable<List<Action<T>>> shrinkableList) {
-		return listShrinkingCandidates
-				   .candidatesFor(shrinkableList.value())
-				   .stream()
-				   .map(elements -> elements.stream().map(Shrinkable::unshrinkable).collect(Collectors.toList()))
-				   .map((List<Shrinkable<Action<T>>> shrinkableElements) -> (Shrinkable<List<Action<T>>>) new ShrinkableList(shrinkableElements, 1))
-				   .collect(Collectors.toSet());
+	private Shrinkable<List<Action<T>>> toShrinkableActionList(List<Action<T>> actions) {
+		List<Shrinkable<Action<T>>> shrinkableElements = actions.stream().map(Shrinkable::unshrinkable).collect(Collectors.toList());
+		return new ShrinkableList<>(shrinkableElements, 1);
 	}
 
 	private ShrinkingSequence<List<Action<T>>> shrinkIndividualActions(
@@ -81,23 +90,22 @@ class ShrinkableActionSequence<T> implements Shrinkable<ActionSequence<T>> {
 		return new SequentialActionSequence<T>(newActionGenerator, listOfActions.size());
 	}
 
-	private ShrinkableActionSequence<T> toShrinkableActionSequence(List<Shrinkable<Action<T>>> list) {
+	private ShrinkableActionSequence<T> toShrinkableActionSequence(List<Shrinkable<Action<T>>> list, SnapshotTrail<T> snapshotTrail) {
 		ActionGenerator<T> newGenerator = new ShrinkablesActionGenerator<>(list);
 		ShrinkingDistance newDistance = ShrinkingDistance.forCollection(list);
-		return new ShrinkableActionSequence<>(newGenerator, 1, list.size(), newDistance);
+		return new ShrinkableActionSequence<>(newGenerator, 1, list.size(), newDistance, snapshotTrail);
 	}
 
-	private DeepSearchShrinkingSequence<ActionSequence<T>> shrinkSequenceOfActions(Falsifier<ActionSequence<T>> falsifier) {
-		return new DeepSearchShrinkingSequence<>(this, this::shrinkSequenceCandidates, falsifier);
-	}
-
-	private Set<Shrinkable<ActionSequence<T>>> shrinkSequenceCandidates(Shrinkable<ActionSequence<T>> shrinkable) {
-		ShrinkableActionSequence<T> shrinkableSequence = (ShrinkableActionSequence<T>) shrinkable;
-		return listShrinkingCandidates
-				   .candidatesFor(shrinkableSequence.actionGenerator.generated())
-				   .stream()
-				   .map(this::toShrinkableActionSequence)
-				   .collect(Collectors.toSet());
+	private ShrinkingSequence<ActionSequence<T>> shrinkSequenceOfActions(
+		Falsifier<ActionSequence<T>> falsifier,
+		SnapshotTrail<T> snapshotTrail
+	) {
+		return new ChunkedRemovalShrinkingSequence<>(
+			this,
+			shrinkable -> ((ShrinkableActionSequence<T>) shrinkable).actionGenerator.generated(),
+			list -> toShrinkableActionSequence(list, snapshotTrail),
+			falsifier
+		);
 	}
 
 	@Override
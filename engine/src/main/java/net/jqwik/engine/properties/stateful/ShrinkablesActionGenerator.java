@@ -7,17 +7,18 @@ import net.jqwik.api.stateful.*;
 
 class ShrinkablesActionGenerator<T> implements ActionGenerator<T> {
 
-	private final Iterator<Shrinkable<Action<T>>> iterator;
+	private final List<Shrinkable<Action<T>>> candidates;
+	private int position = 0;
 	private List<Shrinkable<Action<T>>> shrinkables = new ArrayList<>();
 
-	ShrinkablesActionGenerator(List<Shrinkable<Action<T>>> shrinkables) {
-		iterator = shrinkables.iterator();
+	ShrinkablesActionGenerator(List<Shrinkable<Action<T>>> candidates) {
+		this.candidates = candidates;
 	}
 
 	@Override
 	public Action<T> next(T model) {
-		while (iterator.hasNext()) {
-			Shrinkable<Action<T>> next = iterator.next();
+		while (position < candidates.size()) {
+			Shrinkable<Action<T>> next = candidates.get(position++);
 			if (!next.value().precondition(model)) {
 				continue;
 			}
@@ -31,4 +32,23 @@ class ShrinkablesActionGenerator<T> implements ActionGenerator<T> {
 	public List<Shrinkable<Action<T>>> generated() {
 		return shrinkables;
 	}
+
+	List<Shrinkable<Action<T>>> candidates() {
+		return candidates;
+	}
+
+	/**
+	 * @return number of candidates already consumed including those with failing precondition
+	 */
+	int position() {
+		return position;
+	}
+
+	/**
+	 * Continue as if the first {@code position} candidates had already been consumed
+	 */
+	void skipTo(int position, List<Shrinkable<Action<T>>> alreadyGenerated) {
+		this.position = position;
+		this.shrinkables = new ArrayList<>(alreadyGenerated);
+	}
 }
@@ -0,0 +1,93 @@
+package net.jqwik.engine.properties.stateful;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.stateful.*;
+
+/**
+ * Keeps the snapshots of a {@linkplain Snapshottable} model taken while running shrinking candidates.
+ * A snapshot is keyed by the candidate actions consumed before it was taken, so that any later candidate
+ * starting with the same actions can restore the latest matching snapshot instead of running them again.
+ */
+class SnapshotTrail<M> {
+
+	private static final int MAX_SNAPSHOTS = 1000;
+
+	private static class Entry<M> {
+		private final List<Shrinkable<Action<M>>> consumed;
+		private final List<Shrinkable<Action<M>>> generated;
+		private final Object snapshot;
+
+		private Entry(List<Shrinkable<Action<M>>> consumed, List<Shrinkable<Action<M>>> generated, Object snapshot) {
+			this.consumed = consumed;
+			this.generated = generated;
+			this.snapshot = snapshot;
+		}
+	}
+
+	// Entries are keyed by the hash of the consumed actions; collisions are resolved by comparing the actions
+	private final Map<Integer, Entry<M>> entries = new LinkedHashMap<Integer, Entry<M>>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, Entry<M>> eldest) {
+			return size() > MAX_SNAPSHOTS;
+		}
+	};
+
+	/**
+	 * @return the actions that need not be run again because {@code model} was brought into the state after them
+	 */
+	@SuppressWarnings("unchecked")
+	synchronized List<Action<M>> restore(ShrinkablesActionGenerator<M> generator, M model) {
+		if (!(model instanceof Snapshottable) || entries.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<Shrinkable<Action<M>>> candidates = generator.candidates();
+		int[] prefixHashes = prefixHashes(candidates);
+		for (int position = candidates.size(); position > 0; position--) {
+			Entry<M> entry = entries.get(prefixHashes[position]);
+			if (entry != null && isSame(entry.consumed, candidates.subList(0, position))) {
+				((Snapshottable<Object>) model).restore(entry.snapshot);
+				generator.skipTo(position, entry.generated);
+				return entry.generated.stream().map(Shrinkable::value).collect(Collectors.toList());
+			}
+		}
+		return Collections.emptyList();
+	}
+
+	synchronized void record(ShrinkablesActionGenerator<M> generator, M initialModel, M currentModel) {
+		if (currentModel != initialModel || !(currentModel instanceof Snapshottable)) {
+			return;
+		}
+		Object snapshot = ((Snapshottable<?>) currentModel).snapshot();
+		List<Shrinkable<Action<M>>> consumed = new ArrayList<>(generator.candidates().subList(0, generator.position()));
+		List<Shrinkable<Action<M>>> generated = new ArrayList<>(generator.generated());
+		entries.put(hash(consumed), new Entry<>(consumed, generated, snapshot));
+	}
+
+	private static <M> int[] prefixHashes(List<Shrinkable<Action<M>>> actions) {
+		int[] hashes = new int[actions.size() + 1];
+		hashes[0] = 1;
+		for (int i = 0; i < actions.size(); i++) {
+			hashes[i + 1] = 31 * hashes[i] + System.identityHashCode(actions.get(i));
+		}
+		return hashes;
+	}
+
+	private static <M> int hash(List<Shrinkable<Action<M>>> actions) {
+		return prefixHashes(actions)[actions.size()];
+	}
+
+	private static <M> boolean isSame(List<Shrinkable<Action<M>>> left, List<Shrinkable<Action<M>>> right) {
+		if (left.size() != right.size()) {
+			return false;
+		}
+		for (int i = 0; i < left.size(); i++) {
+			if (left.get(i) != right.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
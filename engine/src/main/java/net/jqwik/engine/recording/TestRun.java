@@ -1,6 +1,7 @@
 package net.jqwik.engine.recording;
 
 import java.io.*;
+import java.time.*;
 import java.util.*;
 
 import org.junit.platform.engine.*;
@@ -13,12 +14,63 @@ public class TestRun implements Serializable {
 	private final int statusOrdinal;
 	private final String randomSeed;
 	private final List<Object> falsifiedSample;
+	private final long durationNanos;
+	private final int countTries;
+	private final int failingTry;
+	private final String fingerprint;
+	private final int countSkippedAsUnchanged;
 
 	public TestRun(UniqueId uniqueId, PropertyExecutionResult.Status status, String randomSeed, List<Object> falsifiedSample) {
-		this.uniqueIdString = uniqueId.toString();
-		this.statusOrdinal = status.ordinal();
+		this(uniqueId, status, randomSeed, falsifiedSample, null, 0);
+	}
+
+	public TestRun(
+		UniqueId uniqueId,
+		PropertyExecutionResult.Status status,
+		String randomSeed,
+		List<Object> falsifiedSample,
+		Duration duration,
+		int countTries
+	) {
+		this(uniqueId, status, randomSeed, falsifiedSample, duration, countTries, null);
+	}
+
+	/**
+	 * @param duration   Is null if execution time is unknown
+	 * @param failingTry Index of the try that detected a failure with {@code randomSeed}, null if unknown
+	 */
+	public TestRun(
+		UniqueId uniqueId,
+		PropertyExecutionResult.Status status,
+		String randomSeed,
+		List<Object> falsifiedSample,
+		Duration duration,
+		int countTries,
+		Integer failingTry
+	) {
+		this(uniqueId.toString(), status.ordinal(), randomSeed, falsifiedSample, duration, countTries, failingTry, null, 0);
+	}
+
+	private TestRun(
+		String uniqueIdString,
+		int statusOrdinal,
+		String randomSeed,
+		List<Object> falsifiedSample,
+		Duration duration,
+		int countTries,
+		Integer failingTry,
+		String fingerprint,
+		int countSkippedAsUnchanged
+	) {
+		this.uniqueIdString = uniqueIdString;
+		this.statusOrdinal = statusOrdinal;
 		this.randomSeed = randomSeed;
 		this.falsifiedSample = falsifiedSample;
+		this.durationNanos = duration == null ? -1 : duration.toNanos();
+		this.countTries = countTries;
+		this.failingTry = failingTry == null ? -1 : failingTry;
+		this.fingerprint = fingerprint;
+		this.countSkippedAsUnchanged = countSkippedAsUnchanged;
 	}
 
 	boolean hasUniqueId(UniqueId uniqueId) {
@@ -45,13 +97,56 @@ public class TestRun implements Serializable {
 		return Optional.ofNullable(falsifiedSample);
 	}
 
+	public Optional<Duration> duration() {
+		return durationNanos < 0 ? Optional.empty() : Optional.of(Duration.ofNanos(durationNanos));
+	}
+
+	public int countTries() {
+		return countTries;
+	}
+
+	public Optional<Integer> failingTry() {
+		return failingTry < 0 ? Optional.empty() : Optional.of(failingTry);
+	}
+
+	/**
+	 * @return the fingerprint of the code and configuration a property was run with
+	 */
+	public Optional<String> fingerprint() {
+		return Optional.ofNullable(fingerprint);
+	}
+
+	/**
+	 * @return the number of consecutive runs in which the property has been skipped because it was unchanged
+	 */
+	public int countSkippedAsUnchanged() {
+		return countSkippedAsUnchanged;
+	}
+
 	@Override
 	public String toString() {
 		String randomSeedString = randomSeed().map(s -> ":" + s).orElse("");
 		return String.format("TestRun[%s:%s%s]", uniqueIdString, getStatus(), randomSeedString);
 	}
 
+	public TestRun withFingerprint(String fingerprint) {
+		return new TestRun(
+			uniqueIdString, statusOrdinal, randomSeed, falsifiedSample, duration().orElse(null), countTries, failingTry().orElse(null),
+			fingerprint, 0
+		);
+	}
+
+	public TestRun skippedAsUnchanged() {
+		return new TestRun(
+			uniqueIdString, statusOrdinal, randomSeed, falsifiedSample, duration().orElse(null), countTries, failingTry().orElse(null),
+			fingerprint, countSkippedAsUnchanged + 1
+		);
+	}
+
 	TestRun withoutFalsifiedSample() {
-		return new TestRun(getUniqueId(), getStatus(), randomSeed, null);
+		return new TestRun(
+			uniqueIdString, statusOrdinal, randomSeed, null, duration().orElse(null), countTries, failingTry().orElse(null),
+			fingerprint, countSkippedAsUnchanged
+		);
 	}
 }
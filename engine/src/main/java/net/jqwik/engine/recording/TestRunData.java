@@ -1,5 +1,6 @@
 package net.jqwik.engine.recording;
 
+import java.time.*;
 import java.util.*;
 import java.util.stream.*;
 
@@ -40,4 +41,19 @@ public class TestRunData {
 	public Stream<TestRun> allNonSuccessfulTests() {
 		return data.stream().filter(TestRun::isNotSuccessful);
 	}
+
+	/**
+	 * @return the recorded durations of all properties and containers that have one
+	 */
+	public Map<UniqueId, Duration> allDurations() {
+		try {
+			Map<UniqueId, Duration> durations = new HashMap<>();
+			data.forEach(testRun -> testRun.duration().ifPresent(duration -> durations.put(testRun.getUniqueId(), duration)));
+			return durations;
+		} catch (Throwable t) {
+			// See byUniqueId()
+			JqwikExceptionSupport.rethrowIfBlacklisted(t);
+			return Collections.emptyMap();
+		}
+	}
 }
@@ -5,6 +5,9 @@ import java.nio.file.*;
 import java.util.*;
 import java.util.logging.*;
 
+import net.jqwik.api.metrics.*;
+import net.jqwik.engine.metrics.*;
+
 public class TestRunDatabase {
 
 	private static final Logger LOG = Logger.getLogger(TestRunDatabase.class.getName());
@@ -23,6 +26,7 @@ public class TestRunDatabase {
 			return new TestRunData();
 		}
 
+		long start = EngineMetrics.startTiming();
 		try (ObjectInputStream ois = createObjectInputStream()) {
 			List<TestRun> data = readAllTestRuns(ois);
 			return new TestRunData(data);
@@ -30,6 +34,8 @@ public class TestRunDatabase {
 			logReadException(e);
 			deleteDatabase();
 			return new TestRunData();
+		} finally {
+			EngineMetrics.timeSince(MetricNames.DATABASE_READ, start);
 		}
 	}
 
@@ -95,9 +101,11 @@ public class TestRunDatabase {
 		private void record(TestRun testRun, boolean secondTry) {
 			if (stopRecording)
 				return;
+			long start = EngineMetrics.startTiming();
 			try {
 				checkSerializability(testRun);
 				objectOutputStream.writeObject(testRun);
+				EngineMetrics.timeSince(MetricNames.DATABASE_WRITE, start);
 			} catch (NotSerializableException e) {
 				if (!secondTry) {
 					record(testRun.withoutFalsifiedSample(), true);
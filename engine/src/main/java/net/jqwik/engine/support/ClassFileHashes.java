@@ -0,0 +1,156 @@
+package net.jqwik.engine.support;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.jar.*;
+import java.util.stream.*;
+import java.util.zip.*;
+
+/**
+ * Hashes of the class files classes have been loaded from.
+ * Class files are only read once per instance.
+ */
+public class ClassFileHashes {
+
+	private final Map<Class<?>, Optional<Long>> nestHashes = new ConcurrentHashMap<>();
+
+	/**
+	 * The hash covers the class itself, its superclasses and interfaces.
+	 * For each of those all class files of its top level class are hashed,
+	 * i.e. {@code Outer.class} and every {@code Outer$*.class} next to it.
+	 * That's how member, local and anonymous classes are covered, too.
+	 *
+	 * @return empty if one of the relevant class files cannot be read
+	 */
+	public Optional<Long> hierarchyHash(Class<?> candidate) {
+		Set<Class<?>> topLevelClasses = new LinkedHashSet<>();
+		try {
+			Set<Class<?>> hierarchy = new LinkedHashSet<>();
+			collectTypeHierarchy(candidate, hierarchy);
+			for (Class<?> type : hierarchy) {
+				topLevelClasses.add(topLevelClass(type));
+			}
+		} catch (LinkageError cannotBeLoaded) {
+			return Optional.empty();
+		}
+		long hash = 1;
+		for (Class<?> topLevelClass : topLevelClasses) {
+			if (topLevelClass.getClassLoader() == null) {
+				// Classes of the platform do not change between runs
+				continue;
+			}
+			Optional<Long> nestHash = nestHashes.computeIfAbsent(topLevelClass, ClassFileHashes::nestHash);
+			if (!nestHash.isPresent()) {
+				return Optional.empty();
+			}
+			hash = 31 * hash + nestHash.get();
+		}
+		return Optional.of(hash);
+	}
+
+	private static void collectTypeHierarchy(Class<?> type, Set<Class<?>> types) {
+		if (type == null || type == Object.class || !types.add(type)) {
+			return;
+		}
+		collectTypeHierarchy(type.getSuperclass(), types);
+		for (Class<?> anInterface : type.getInterfaces()) {
+			collectTypeHierarchy(anInterface, types);
+		}
+	}
+
+	private static Class<?> topLevelClass(Class<?> type) {
+		Class<?> topLevelClass = type;
+		while (topLevelClass.getEnclosingClass() != null) {
+			topLevelClass = topLevelClass.getEnclosingClass();
+		}
+		return topLevelClass;
+	}
+
+	private static Optional<Long> nestHash(Class<?> topLevelClass) {
+		String resourceName = topLevelClass.getName().replace('.', '/') + ".class";
+		URL classFile = topLevelClass.getClassLoader().getResource(resourceName);
+		if (classFile == null) {
+			return Optional.empty();
+		}
+		CRC32 crc = new CRC32();
+		try {
+			switch (classFile.getProtocol()) {
+				case "file":
+					updateWithDirectoryNest(crc, Paths.get(classFile.toURI()));
+					break;
+				case "jar":
+					updateWithJarNest(crc, classFile, resourceName);
+					break;
+				default:
+					// Nested class files cannot be listed so only the top level class is covered
+					try (InputStream content = classFile.openStream()) {
+						updateWithContent(crc, content);
+					}
+			}
+			return Optional.of(crc.getValue());
+		} catch (IOException | URISyntaxException | RuntimeException e) {
+			return Optional.empty();
+		}
+	}
+
+	private static void updateWithDirectoryNest(CRC32 crc, Path classFile) throws IOException {
+		String nestPrefix = nestPrefix(classFile.getFileName().toString());
+		List<Path> nestFiles;
+		try (Stream<Path> siblings = Files.list(classFile.getParent())) {
+			nestFiles = siblings.filter(sibling -> isNestFile(sibling.getFileName().toString(), nestPrefix))
+								.sorted()
+								.collect(Collectors.toList());
+		}
+		for (Path nestFile : nestFiles) {
+			updateWithName(crc, nestFile.getFileName().toString());
+			try (InputStream content = Files.newInputStream(nestFile)) {
+				updateWithContent(crc, content);
+			}
+		}
+	}
+
+	private static void updateWithJarNest(CRC32 crc, URL classFile, String resourceName) throws IOException {
+		JarURLConnection connection = (JarURLConnection) classFile.openConnection();
+		// Jar files handed out by cached connections are shared with the class loader and must not be closed
+		JarFile jar = connection.getJarFile();
+		String nestPrefix = nestPrefix(resourceName);
+		List<JarEntry> nestEntries = jar.stream()
+										.filter(entry -> isNestFile(entry.getName(), nestPrefix))
+										.sorted(Comparator.comparing(JarEntry::getName))
+										.collect(Collectors.toList());
+		for (JarEntry nestEntry : nestEntries) {
+			updateWithName(crc, nestEntry.getName());
+			try (InputStream content = jar.getInputStream(nestEntry)) {
+				updateWithContent(crc, content);
+			}
+		}
+		if (!connection.getUseCaches()) {
+			jar.close();
+		}
+	}
+
+	private static String nestPrefix(String classFileName) {
+		return classFileName.substring(0, classFileName.length() - ".class".length());
+	}
+
+	private static boolean isNestFile(String fileName, String nestPrefix) {
+		return fileName.equals(nestPrefix + ".class")
+				   || (fileName.startsWith(nestPrefix + "$") && fileName.endsWith(".class"));
+	}
+
+	private static void updateWithName(CRC32 crc, String name) {
+		crc.update(name.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static void updateWithContent(Checksum checksum, InputStream content) throws IOException {
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = content.read(buffer)) > 0) {
+			checksum.update(buffer, 0, read);
+		}
+	}
+}
@@ -3,17 +3,38 @@ package net.jqwik.engine.support;
 import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apiguardian.api.*;
 import org.junit.platform.commons.support.*;
 
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.engine.discovery.predicates.*;
 
 /**
  * Provide stuff that org.junit.commons.support.AnnotationSupport does not.
+ *
+ * <p>
+ * Lookups on classes, members and parameters are cached until the end of an engine execution
+ * since they are repeated for every property, parameter and hook.
+ * Other annotated elements, e.g. annotated types, are not cached because
+ * they are created anew by each reflective call.
+ * </p>
  */
 public class JqwikAnnotationSupport {
 
+	private static final Map<AnnotatedElement, List<Annotation>> allAnnotationsCache = new ConcurrentHashMap<>();
+	private static final Map<Tuple2<AnnotatedElement, Class<?>>, Optional<?>> elementOrContainerCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Cached elements must not outlive an engine execution since they keep their class loaders alive.
+	 */
+	public static void clearCaches() {
+		allAnnotationsCache.clear();
+		elementOrContainerCache.clear();
+	}
+
 	/**
 	 * Find all annotations in an element, even if they are repeatable or only present through meta-annotations
 	 *
@@ -21,7 +42,17 @@ public class JqwikAnnotationSupport {
 	 * @return a list of all found annotations
 	 */
 	public static List<Annotation> findAllAnnotations(AnnotatedElement element) {
+		if (!isCacheable(element)) {
+			return collectAllAnnotations(element);
+		}
+		return new ArrayList<>(allAnnotationsCache.computeIfAbsent(element, JqwikAnnotationSupport::collectAllAnnotations));
+	}
 
+	static boolean isCacheable(AnnotatedElement element) {
+		return element instanceof Class || element instanceof Member || element instanceof Parameter;
+	}
+
+	private static List<Annotation> collectAllAnnotations(AnnotatedElement element) {
 		List<Annotation> annotations = new ArrayList<>();
 		List<Annotation> presentAnnotations = Arrays.asList(getDeclaredAnnotations(element));
 		annotations.addAll(presentAnnotations);
@@ -56,11 +87,28 @@ public class JqwikAnnotationSupport {
 		return (annotationType != null && annotationType.getName().startsWith("java.lang.annotation"));
 	}
 
+	@SuppressWarnings("unchecked")
 	public static <A extends Annotation> Optional<A> findAnnotationOnElementOrContainer(
 		AnnotatedElement element,
 		Class<A> annotationType
 	) {
+		if (!isCacheable(element)) {
+			return lookupAnnotationOnElementOrContainer(element, annotationType);
+		}
+		// Not computeIfAbsent() because the lookup recursively fills the cache for containers
+		Tuple2<AnnotatedElement, Class<?>> key = Tuple.of(element, annotationType);
+		Optional<?> cached = elementOrContainerCache.get(key);
+		if (cached == null) {
+			cached = lookupAnnotationOnElementOrContainer(element, annotationType);
+			elementOrContainerCache.putIfAbsent(key, cached);
+		}
+		return (Optional<A>) cached;
+	}
 
+	private static <A extends Annotation> Optional<A> lookupAnnotationOnElementOrContainer(
+		AnnotatedElement element,
+		Class<A> annotationType
+	) {
 		Optional<A> onElement = AnnotationSupport.findAnnotation(element, annotationType);
 		if (onElement.isPresent()) {
 			return onElement;
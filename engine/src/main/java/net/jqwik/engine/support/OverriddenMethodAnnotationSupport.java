@@ -3,14 +3,31 @@ package net.jqwik.engine.support;
 import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.junit.platform.commons.support.*;
 
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+
 /**
  * Adapted from https://stackoverflow.com/a/49164791/32352
+ *
+ * <p>
+ * Found annotations are cached per method and annotation type until the end of an engine execution.
+ * </p>
  */
 public final class OverriddenMethodAnnotationSupport {
 
+	private static final Map<Tuple2<Method, Class<?>>, Optional<?>> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * Cached methods must not outlive an engine execution since they keep their class loaders alive.
+	 */
+	public static void clearCache() {
+		cache.clear();
+	}
+
 	/**
 	 * Returns the optional first element of the list returned by
 	 * {@code getAnnotations}, or {@code null} if the
@@ -24,7 +41,12 @@ public final class OverriddenMethodAnnotationSupport {
 	 * {@code m} overrides.
 	 * @throws NullPointerException if any argument is {@code null}.
 	 */
+	@SuppressWarnings("unchecked")
 	public static <A extends Annotation> Optional<A> findDeclaredOrInheritedAnnotation(Method m, Class<A> t) {
+		return (Optional<A>) cache.computeIfAbsent(Tuple.of(m, t), ignore -> lookupDeclaredOrInheritedAnnotation(m, t));
+	}
+
+	private static <A extends Annotation> Optional<A> lookupDeclaredOrInheritedAnnotation(Method m, Class<A> t) {
 		List<A> list = getAnnotations(m, t);
 		return list.isEmpty() ? Optional.empty() : Optional.of(list.get(0));
 	}
@@ -366,6 +366,20 @@ class ArbitrariesEdgeCasesTests {
 			assertThat(values(edgeCases)).hasSize(7);
 		}
 
+		@Example
+		void doublesWithSpecialValues() {
+			DoubleArbitrary arbitrary = Arbitraries.doubles()
+												   .between(1.0, 2.0)
+												   .ofScale(0)
+												   .withStandardSpecialValues();
+			EdgeCases<Double> edgeCases = arbitrary.edgeCases();
+			assertThat(values(edgeCases)).containsExactlyInAnyOrder(
+				1.0, 2.0,
+				Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+				-0.0, Double.MIN_VALUE, Double.MIN_NORMAL
+			);
+		}
+
 		@Example
 		void floats() {
 			int scale = 2;
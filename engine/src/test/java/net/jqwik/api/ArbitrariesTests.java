@@ -2,12 +2,15 @@ package net.jqwik.api;
 
 import java.math.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.stream.*;
 
 import net.jqwik.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.constraints.*;
+import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 import static java.math.BigInteger.*;
 import static org.assertj.core.api.Assertions.*;
@@ -651,6 +654,29 @@ class ArbitrariesTests {
 			assertAllGenerated(generator, value -> value >= min);
 		}
 
+		@Example
+		void doublesWithStandardSpecialValues() {
+			Arbitrary<Double> doubleArbitrary = Arbitraries.doubles().between(1.0, 10.0).withStandardSpecialValues();
+			RandomGenerator<Double> generator = doubleArbitrary.generator(100);
+
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value.isNaN());
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == Double.POSITIVE_INFINITY);
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == Double.NEGATIVE_INFINITY);
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value.equals(-0.0));
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == Double.MIN_VALUE);
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == Double.MIN_NORMAL);
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value > 1.0 && value < 10.0);
+		}
+
+		@Example
+		void doublesWithSpecialValue() {
+			Arbitrary<Double> doubleArbitrary = Arbitraries.doubles().between(1.0, 10.0).withSpecialValue(Double.NaN);
+			RandomGenerator<Double> generator = doubleArbitrary.generator(100);
+
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value.isNaN());
+			assertAllGenerated(generator, value -> value.isNaN() || (value >= 1.0 && value <= 10.0));
+		}
+
 		@Example
 		void doublesWithShrinkingTargetOutsideBorders() {
 			Arbitrary<Double> arbitrary = Arbitraries.doubles()
@@ -726,6 +752,20 @@ class ArbitrariesTests {
 			assertAllGenerated(generator, value -> value >= min);
 		}
 
+		@Example
+		void floatsWithStandardSpecialValues() {
+			Arbitrary<Float> floatArbitrary = Arbitraries.floats().between(1.0f, 10.0f).withStandardSpecialValues();
+			RandomGenerator<Float> generator = floatArbitrary.generator(100);
+
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value.isNaN());
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == Float.POSITIVE_INFINITY);
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == Float.NEGATIVE_INFINITY);
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value.equals(-0.0f));
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == Float.MIN_VALUE);
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value == Float.MIN_NORMAL);
+			ArbitraryTestHelper.assertAtLeastOneGenerated(generator, value -> value > 1.0f && value < 10.0f);
+		}
+
 		@Example
 		void floatsWithShrinkingTargetOutsideBorders() {
 			Arbitrary<Float> arbitrary = Arbitraries.floats()
@@ -863,6 +903,40 @@ class ArbitrariesTests {
 			assertGeneratedSet(generator, 2, 5);
 		}
 
+		@Example
+		void setWithAlmostAllValuesOfRange(@ForAll Random random) {
+			Arbitrary<Set<Integer>> setArbitrary = Arbitraries.integers().between(1, 1000).set().ofMinSize(900).ofMaxSize(1000);
+
+			RandomGenerator<Set<Integer>> generator = setArbitrary.generator(1000);
+
+			for (int i = 0; i < 20; i++) {
+				Set<Integer> set = generator.next(random).value();
+				assertThat(set.size()).isBetween(900, 1000);
+				assertThat(set).allMatch(anInt -> anInt >= 1 && anInt <= 1000);
+			}
+		}
+
+		@Example
+		void setWithAllChoices(@ForAll Random random) {
+			List<String> values = Arrays.asList("a", "b", "c", "b", "d", "e", "f", "g", "h", "i", "j");
+			Arbitrary<Set<String>> setArbitrary = Arbitraries.of(values).set().ofSize(10);
+
+			RandomGenerator<Set<String>> generator = setArbitrary.generator(1000);
+
+			for (int i = 0; i < 20; i++) {
+				assertThat(generator.next(random).value()).containsExactlyInAnyOrderElementsOf(new HashSet<>(values));
+			}
+		}
+
+		@Example
+		void setLargerThanChoicesFails(@ForAll Random random) {
+			Arbitrary<Set<Integer>> setArbitrary = Arbitraries.of(1, 2, 3).set().ofSize(4);
+
+			RandomGenerator<Set<Integer>> generator = setArbitrary.generator(1000);
+
+			assertThatThrownBy(() -> generator.next(random)).isInstanceOf(JqwikException.class);
+		}
+
 		@Example
 		void stream(@ForAll Random random) {
 			Arbitrary<Integer> integerArbitrary = Arbitraries.integers().between(1, 10);
@@ -876,6 +950,44 @@ class ArbitrariesTests {
 			assertGeneratedStream(generator.next(random));
 		}
 
+		@Example
+		void streamElementsAreOnlyGeneratedWhenConsumed(@ForAll Random random) {
+			AtomicInteger generatedElements = new AtomicInteger(0);
+			Arbitrary<Integer> countingIntegers = Arbitraries.integers().map(i -> {
+				generatedElements.incrementAndGet();
+				return i;
+			});
+			Arbitrary<Stream<Integer>> streamArbitrary = countingIntegers.stream().ofMinSize(90_000).ofMaxSize(100_000);
+
+			Stream<Integer> stream = streamArbitrary.generator(1000).next(random).value();
+			assertThat(stream.limit(3)).hasSize(3);
+			assertThat(generatedElements.get()).isEqualTo(3);
+		}
+
+		@Example
+		void iteratorElementsAreOnlyGeneratedWhenConsumed(@ForAll Random random) {
+			AtomicInteger generatedElements = new AtomicInteger(0);
+			Arbitrary<Integer> countingIntegers = Arbitraries.integers().map(i -> {
+				generatedElements.incrementAndGet();
+				return i;
+			});
+			Arbitrary<Iterator<Integer>> iteratorArbitrary = countingIntegers.iterator().ofMinSize(90_000).ofMaxSize(100_000);
+
+			Iterator<Integer> iterator = iteratorArbitrary.generator(1000).next(random).value();
+			iterator.next();
+			assertThat(generatedElements.get()).isEqualTo(1);
+		}
+
+		@Property(tries = 10)
+		void lazyStreamCanBeShrunk(@ForAll Random random) {
+			Arbitrary<Stream<Integer>> streamArbitrary = Arbitraries.integers().between(0, 1000).stream().ofMaxSize(1000);
+			Falsifier<Stream<Integer>> falsifier = stream -> stream.anyMatch(i -> i > 10)
+																 ? TryExecutionResult.falsified(null)
+																 : TryExecutionResult.satisfied();
+			Stream<Integer> shrunkValue = falsifyThenShrink(streamArbitrary, random, falsifier);
+			assertThat(shrunkValue).containsExactly(11);
+		}
+
 		@Example
 		void optional() {
 			Arbitrary<String> stringArbitrary = Arbitraries.of("one", "two");
@@ -931,6 +1043,75 @@ class ArbitrariesTests {
 			assertThat(actual).isSubsetOf(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
 		}
 
+		@Example
+		void arraysOfIntegralPrimitivesAreGeneratedWithoutBoxing(@ForAll Random random) {
+			RandomGenerator<byte[]> bytes = Arbitraries.bytes().between((byte) -5, (byte) 5).array(byte[].class).ofMaxSize(10).generator(100);
+			RandomGenerator<short[]> shorts = Arbitraries.shorts().between((short) 100, (short) 200).array(short[].class).ofMaxSize(10).generator(100);
+			RandomGenerator<long[]> longs = Arbitraries.longs().between(Long.MIN_VALUE, -1L).array(long[].class).ofMaxSize(10).generator(100);
+
+			assertThat(bytes.next(random)).isInstanceOf(ShrinkablePrimitiveArray.class);
+			assertAllGenerated(bytes, array -> {
+				for (byte aByte : array) assertThat(aByte).isBetween((byte) -5, (byte) 5);
+			});
+			assertAllGenerated(shorts, array -> {
+				for (short aShort : array) assertThat(aShort).isBetween((short) 100, (short) 200);
+			});
+			assertAllGenerated(longs, array -> {
+				for (long aLong : array) assertThat(aLong).isNegative();
+			});
+			assertAtLeastOneGenerated(longs, array -> array.length > 0 && array[0] < Integer.MIN_VALUE);
+		}
+
+		@Example
+		void arrayOfBytesWithFullRangeIsFilledAtOnce() {
+			Arbitrary<byte[]> arrayArbitrary = Arbitraries.bytes().array(byte[].class).ofSize(4096);
+			RandomGenerator<byte[]> generator = arrayArbitrary.generator(1000);
+
+			assertAllGenerated(generator, array -> {
+				assertThat(array).hasSize(4096);
+			});
+			assertAtLeastOneGenerated(generator, array -> array[0] == Byte.MIN_VALUE);
+			assertAtLeastOneGenerated(generator, array -> array[0] == Byte.MAX_VALUE);
+		}
+
+		@Example
+		void arrayOfBytesFilledAtOnceContainsEdgeCases(@ForAll Random random) {
+			Arbitrary<byte[]> arrayArbitrary = Arbitraries.bytes().array(byte[].class).ofSize(4096);
+			RandomGenerator<byte[]> generator = arrayArbitrary.generator(1000);
+
+			int zeros = 0;
+			for (int i = 0; i < 10; i++) {
+				for (byte aByte : generator.next(random).value()) {
+					if (aByte == 0) zeros++;
+				}
+			}
+			// Uniformly distributed bytes would contain about 160 zeros
+			assertThat(zeros).isGreaterThan(320);
+		}
+
+		@Example
+		void arrayOfPrimitivesWithUnmatchingElementsUsesBoxedElements(@ForAll Random random) {
+			Arbitrary<Integer> evenNumbers = Arbitraries.integers().between(1, 10).filter(i -> i % 2 == 0);
+			RandomGenerator<int[]> generator = evenNumbers.array(int[].class).ofMaxSize(5).generator(1);
+
+			assertThat(generator.next(random)).isNotInstanceOf(ShrinkablePrimitiveArray.class);
+			assertAllGenerated(generator, array -> {
+				assertThat(IntStream.of(array)).allMatch(i -> i % 2 == 0);
+			});
+		}
+
+		@Example
+		void reducePrimitiveArray() {
+			StreamableArbitrary<Integer, int[]> streamableArbitrary =
+				Arbitraries.integers().between(1, 5).array(int[].class).ofMinSize(1).ofMaxSize(10);
+
+			Arbitrary<Integer> integerArbitrary = streamableArbitrary.reduce(0, Integer::sum);
+
+			assertAllGenerated(integerArbitrary.generator(1000), sum -> {
+				assertThat(sum).isBetween(1, 50);
+			});
+		}
+
 		@Example
 		void map() {
 			Arbitrary<Integer> keys = Arbitraries.integers().between(1, 10);
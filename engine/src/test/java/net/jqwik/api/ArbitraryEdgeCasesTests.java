@@ -271,6 +271,22 @@ class ArbitraryEdgeCasesTests {
 			assertThat(values(arbitrary.edgeCases())).hasSize(8);
 		}
 
+		@Example
+		void primitiveArraysHaveSameEdgeCasesAsBoxedArrays() {
+			IntegerArbitrary ints = Arbitraries.integers().between(-10, 10);
+			StreamableArbitrary<Integer, int[]> arbitrary = ints.array(int[].class);
+			assertThat(values(arbitrary.edgeCases())).containsExactlyInAnyOrder(
+				new int[]{},
+				new int[]{-10},
+				new int[]{-2},
+				new int[]{-1},
+				new int[]{0},
+				new int[]{1},
+				new int[]{2},
+				new int[]{10}
+			);
+		}
+
 		@Example
 		void tupleEdgeCases() {
 			Arbitrary<Integer> ints = Arbitraries.constant(42);
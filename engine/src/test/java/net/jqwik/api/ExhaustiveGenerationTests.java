@@ -492,7 +492,7 @@ class ExhaustiveGenerationTests {
 
 			ExhaustiveGenerator<Character> generator = optionalGenerator.get();
 			assertThat(generator.maxCount()).isEqualTo(7);
-			assertThat(generator).containsExactly('a', 'c', 'e', '1', '2', '3', '4');
+			assertThat(generator).containsExactly('1', '2', '3', '4', 'a', 'c', 'e');
 		}
 
 		@Example
@@ -1,6 +1,7 @@
 package net.jqwik.api;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
 import org.assertj.core.api.*;
@@ -24,6 +25,39 @@ class FunctionsTests {
 		assertThat(function.apply("hello")).isEqualTo(valueForHello);
 	}
 
+	@Example
+	void function_generates_result_only_once_for_same_input(@ForAll Random random) {
+		AtomicInteger generatedResults = new AtomicInteger(0);
+		Arbitrary<Integer> integers = Arbitraries.integers().between(1, 10).map(i -> {
+			generatedResults.incrementAndGet();
+			return i;
+		});
+		Arbitrary<Function<String, Integer>> functions =
+			Functions.function(Function.class).returns(integers);
+
+		Function<String, Integer> function = functions.generator(10).next(random).value();
+
+		for (int i = 0; i < 100; i++) {
+			function.apply("hello");
+		}
+		assertThat(generatedResults.get()).isEqualTo(1);
+	}
+
+	@Example
+	void function_creates_same_result_after_many_other_inputs(@ForAll Random random) {
+		Arbitrary<Integer> integers = Arbitraries.integers();
+		Arbitrary<Function<Integer, Integer>> functions =
+			Functions.function(Function.class).returns(integers);
+
+		Function<Integer, Integer> function = functions.generator(10).next(random).value();
+
+		Integer valueForZero = function.apply(0);
+		for (int i = 1; i < 5000; i++) {
+			function.apply(i);
+		}
+		assertThat(function.apply(0)).isEqualTo(valueForZero);
+	}
+
 	@Example
 	void some_functions_create_different_result_for_different_input() {
 		Arbitrary<Integer> integers = Arbitraries.integers().between(1, 10);
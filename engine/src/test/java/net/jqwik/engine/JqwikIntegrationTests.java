@@ -16,6 +16,7 @@ import org.junit.platform.engine.reporting.*;
 import org.junit.platform.testkit.engine.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.metrics.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
@@ -70,6 +71,16 @@ class JqwikIntegrationTests {
 			public boolean reportOnlyFailures() {
 				return true;
 			}
+
+			@Override
+			public boolean reportPerformance() {
+				return false;
+			}
+
+			@Override
+			public List<MetricsRecorder> metricsRecorders() {
+				return Collections.emptyList();
+			}
 		};
 	}
 
@@ -14,6 +14,7 @@ class JqwikPropertiesTests {
 		properties = new JqwikProperties("nosuchfile.properties");
 
 		assertThat(properties.runFailuresFirst()).isEqualTo(false);
+		assertThat(properties.runLongestFirst()).isEqualTo(false);
 		assertThat(properties.databasePath()).isEqualTo(".jqwik-database");
 
 		assertThat(properties.defaultTries()).isEqualTo(1000);
@@ -28,5 +29,13 @@ class JqwikPropertiesTests {
 		assertThat(properties.defaultGeneration()).isEqualTo(GenerationMode.AUTO);
 
 		assertThat(properties.defaultEdgeCases()).isEqualTo(EdgeCasesMode.MIXIN);
+
+		assertThat(properties.shardIndex()).isEqualTo(0);
+		assertThat(properties.shardCount()).isEqualTo(1);
+		assertThat(properties.shardByDuration()).isEqualTo(false);
+
+		assertThat(properties.incremental()).isEqualTo(false);
+		assertThat(properties.incrementalClasspath()).isEqualTo("");
+		assertThat(properties.incrementalFullRunAfter()).isEqualTo(10);
 	}
 }
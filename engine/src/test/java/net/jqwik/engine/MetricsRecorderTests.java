@@ -0,0 +1,158 @@
+package net.jqwik.engine;
+
+import java.util.*;
+
+import org.junit.platform.testkit.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.api.metrics.*;
+import net.jqwik.engine.discovery.*;
+import net.jqwik.engine.metrics.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.*;
+
+class MetricsRecorderTests {
+
+	private final InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+
+	@Example
+	void triesDiscardsAndTimings() {
+		execute(ContainerWithProperties.class);
+
+		assertThat(recorder.counter(MetricNames.TRIES)).isEqualTo(20);
+		assertThat(recorder.counter(MetricNames.DISCARDS)).isGreaterThan(0).isLessThan(20);
+		assertThat(recorder.timings(MetricNames.TRY_DURATION)).hasSize(20);
+		assertThat(recorder.timings(MetricNames.TRY_DURATION)).allMatch(nanos -> nanos >= 0);
+	}
+
+	@Example
+	void metricsAreRecordedPerProperty() {
+		execute(ContainerWithProperties.class);
+
+		String propertyId = JqwikUniqueIdBuilder.uniqueIdForClassContainer(ContainerWithProperties.class)
+												 .append(JqwikUniqueIDs.PROPERTY_SEGMENT_TYPE, "withFilter(int)")
+												 .toString();
+		assertThat(recorder.counter(MetricNames.TRIES, propertyId)).isEqualTo(10);
+		assertThat(recorder.counter(MetricNames.FILTER_MISSES, propertyId)).isGreaterThan(0);
+		assertThat(recorder.histogram(MetricNames.FILTER_MISSES_PER_VALUE)).isNotEmpty();
+	}
+
+	@Example
+	void generatingSetsDoesNotCountFilterMisses() {
+		execute(ContainerWithSetProperty.class);
+
+		assertThat(recorder.counter(MetricNames.TRIES)).isEqualTo(10);
+		assertThat(recorder.counter(MetricNames.FILTER_MISSES)).isEqualTo(0);
+		assertThat(recorder.histogram(MetricNames.FILTER_MISSES_PER_VALUE)).isEmpty();
+	}
+
+	@Example
+	void edgeCasesAndShrinking() {
+		execute(ContainerWithFailingProperty.class);
+
+		assertThat(recorder.counter(MetricNames.EDGE_CASES)).isGreaterThan(0);
+		assertThat(recorder.histogram(MetricNames.SHRINKING_STEPS)).hasSize(1);
+		assertThat(recorder.histogram(MetricNames.SHRINKING_STEPS).get(0)).isGreaterThan(0);
+		assertThat(recorder.timings(MetricNames.SHRINKING_DURATION)).hasSize(1);
+	}
+
+	@Example
+	void tryThatThrowsIsTimed() {
+		execute(ContainerWithThrowingProperty.class);
+
+		assertThat(recorder.counter(MetricNames.TRIES)).isEqualTo(3);
+		assertThat(recorder.timings(MetricNames.TRY_DURATION)).hasSize(3);
+	}
+
+	@Example
+	void noMetricsWithoutRecorder() {
+		EngineMetrics.use(Collections.emptyList());
+		assertThat(EngineMetrics.isEnabled()).isFalse();
+		assertThat(EngineMetrics.startTiming()).isEqualTo(0L);
+	}
+
+	@Example
+	void severalRecordersAllGetMetrics() {
+		InMemoryMetricsRecorder other = new InMemoryMetricsRecorder();
+		EngineMetrics.use(Arrays.asList(recorder, other));
+		try {
+			EngineMetrics.count(MetricNames.TRIES, 3);
+		} finally {
+			EngineMetrics.use(Collections.emptyList());
+		}
+
+		assertThat(recorder.counter(MetricNames.TRIES)).isEqualTo(3);
+		assertThat(other.counter(MetricNames.TRIES)).isEqualTo(3);
+	}
+
+	@Example
+	void recorderCanBeConfiguredByClassName() {
+		List<MetricsRecorder> recorders = RegisteredMetricsRecorders.load(InMemoryMetricsRecorder.class.getName());
+		assertThat(recorders).hasAtLeastOneElementOfType(InMemoryMetricsRecorder.class);
+
+		assertThatThrownBy(() -> RegisteredMetricsRecorders.load(String.class.getName()))
+			.isInstanceOf(JqwikException.class);
+	}
+
+	private void execute(Class<?> containerClass) {
+		try {
+			EngineTestKit
+				.engine(new JqwikTestEngine(() -> TestHelper.jqwikConfiguration(false, Collections.singletonList(recorder))))
+				.selectors(selectClass(containerClass))
+				.execute();
+		} finally {
+			EngineMetrics.use(Collections.emptyList());
+		}
+	}
+
+	static class ContainerWithProperties {
+
+		@Property(tries = 10)
+		void withAssumption(@ForAll int anInt) {
+			Assume.that(anInt % 2 == 0);
+		}
+
+		@Property(tries = 10)
+		void withFilter(@ForAll("oddNumbers") int anInt) {
+		}
+
+		@Provide
+		Arbitrary<Integer> oddNumbers() {
+			return Arbitraries.integers().between(0, 1000).filter(i -> i % 2 == 1);
+		}
+	}
+
+	static class ContainerWithSetProperty {
+
+		@Property(tries = 10)
+		void withSet(@ForAll @Size(5) Set<@IntRange(min = 1, max = 20) Integer> aSet) {
+		}
+	}
+
+	static class ContainerWithThrowingProperty {
+
+		private int countTries = 0;
+
+		@Property(tries = 10)
+		void throwsErrorInThirdTry(@ForAll int anInt) {
+			if (++countTries == 3) {
+				throw new Error("not an exception");
+			}
+		}
+	}
+
+	static class ContainerWithFailingProperty {
+
+		@Property(edgeCases = EdgeCasesMode.FIRST)
+		boolean failing(@ForAll("largeNumbers") int anInt) {
+			return anInt < 100;
+		}
+
+		@Provide
+		Arbitrary<Integer> largeNumbers() {
+			return Arbitraries.integers().between(0, 10000);
+		}
+	}
+}
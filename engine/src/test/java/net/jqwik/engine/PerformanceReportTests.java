@@ -0,0 +1,116 @@
+package net.jqwik.engine;
+
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.platform.engine.reporting.*;
+import org.junit.platform.testkit.engine.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.*;
+
+class PerformanceReportTests {
+
+	@Example
+	void propertiesWithReportingPerformanceAreProfiled() {
+		List<ReportEntry> entries = reportEntries(false, ContainerWithProfiledProperty.class);
+
+		Map<String, String> performance = entryWithKeyEndingIn(entries, "profiled performance");
+		String report = performance.values().iterator().next();
+		assertThat(report).contains("total-time = ");
+		assertThat(report).contains("generation = ");
+		assertThat(report).contains("property-body = ");
+		assertThat(report).contains("lifecycle-hooks = ");
+		assertThat(report).contains("shrinking = ");
+		assertThat(report).contains("| 100 tries");
+		assertThat(report).contains("avg-try = ");
+		assertThat(report).contains("p99-try = ");
+		assertThat(report).containsPattern("filter-misses = [1-9]");
+		assertThat(report).containsPattern("edge-cases = [1-9]");
+
+		assertThat(entries).noneMatch(entry -> entry.getKeyValuePairs().keySet().stream().anyMatch(key -> key.endsWith("notProfiled performance")));
+	}
+
+	@Example
+	void slowestPropertiesAreSummarized() {
+		List<ReportEntry> entries = reportEntries(false, ContainerWithProfiledProperty.class);
+
+		Map<String, String> summary = entryWithKeyEndingIn(entries, "slowest properties");
+		String report = summary.values().iterator().next();
+		assertThat(report).contains("profiled (100 tries)");
+		assertThat(report).doesNotContain("notProfiled");
+	}
+
+	@Example
+	void allPropertiesAreProfiledWhenConfigured() {
+		List<ReportEntry> entries = reportEntries(true, ContainerWithProfiledProperty.class);
+
+		entryWithKeyEndingIn(entries, "profiled performance");
+		entryWithKeyEndingIn(entries, "notProfiled performance");
+		String summary = entryWithKeyEndingIn(entries, "slowest properties").values().iterator().next();
+		assertThat(summary).contains("notProfiled (10 tries)");
+	}
+
+	@Example
+	void shrinkingTimeIsMeasured() {
+		List<ReportEntry> entries = reportEntries(false, ContainerWithFailingProperty.class);
+
+		String report = entryWithKeyEndingIn(entries, "failing performance").values().iterator().next();
+		assertThat(report).doesNotContain("shrinking = 0.000 ms");
+	}
+
+	private Map<String, String> entryWithKeyEndingIn(List<ReportEntry> entries, String keySuffix) {
+		List<Map<String, String>> matching =
+			entries.stream()
+				   .map(ReportEntry::getKeyValuePairs)
+				   .filter(pairs -> pairs.keySet().stream().anyMatch(key -> key.endsWith(keySuffix)))
+				   .collect(Collectors.toList());
+		assertThat(matching).hasSize(1);
+		return matching.get(0);
+	}
+
+	private List<ReportEntry> reportEntries(boolean reportPerformance, Class<?> containerClass) {
+		return EngineTestKit
+				   .engine(new JqwikTestEngine(() -> TestHelper.jqwikConfiguration(reportPerformance, Collections.emptyList())))
+				   .selectors(selectClass(containerClass))
+				   .execute()
+				   .allEvents()
+				   .reportingEntryPublished()
+				   .stream()
+				   .map(event -> event.getPayload(ReportEntry.class).orElseThrow(IllegalStateException::new))
+				   .collect(Collectors.toList());
+	}
+
+	static class ContainerWithProfiledProperty {
+
+		@Property(edgeCases = EdgeCasesMode.FIRST)
+		@Report(Reporting.PERFORMANCE)
+		void profiled(@ForAll("evenNumbers") int anInt) {
+		}
+
+		@Provide
+		Arbitrary<Integer> evenNumbers() {
+			return Arbitraries.integers().between(0, 1000).filter(i -> i % 2 == 0);
+		}
+
+		@Property(tries = 10)
+		void notProfiled(@ForAll int anInt) {
+		}
+	}
+
+	static class ContainerWithFailingProperty {
+
+		@Property
+		@Report(Reporting.PERFORMANCE)
+		boolean failing(@ForAll("largeNumbers") int anInt) {
+			return anInt < 100;
+		}
+
+		@Provide
+		Arbitrary<Integer> largeNumbers() {
+			return Arbitraries.integers().between(0, 10000);
+		}
+	}
+}
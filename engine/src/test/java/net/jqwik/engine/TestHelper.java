@@ -9,9 +9,12 @@ import org.junit.platform.engine.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.metrics.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
 
 import static net.jqwik.engine.support.JqwikReflectionSupport.*;
@@ -51,12 +54,14 @@ public class TestHelper {
 			seed,
 			null,
 			null,
+			null,
 			tries,
 			maxDiscardRatio,
 			shrinking,
 			GenerationMode.AUTO,
 			AfterFailureMode.PREVIOUS_SEED,
-			EdgeCasesMode.MIXIN
+			EdgeCasesMode.MIXIN,
+			TryPartition.ALL
 		);
 		return new PropertyMethodDescriptor(uniqueId, method, containerClass, propertyConfig);
 	}
@@ -156,4 +161,59 @@ public class TestHelper {
 			}
 		};
 	}
+
+	public static JqwikConfiguration jqwikConfiguration(boolean reportPerformance, List<MetricsRecorder> metricsRecorders) {
+		return new JqwikConfiguration() {
+			@Override
+			public PropertyDefaultValues propertyDefaultValues() {
+				return PropertyDefaultValues.with(
+					100,
+					5,
+					AfterFailureMode.RANDOM_SEED,
+					GenerationMode.AUTO,
+					EdgeCasesMode.MIXIN
+				);
+			}
+
+			@Override
+			public TestEngineConfiguration testEngineConfiguration() {
+				return new TestEngineConfiguration() {
+					@Override
+					public TestRunRecorder recorder() {
+						return TestRunRecorder.NULL;
+					}
+
+					@Override
+					public TestRunData previousRun() {
+						return new TestRunData();
+					}
+
+					@Override
+					public Set<UniqueId> previousFailures() {
+						return Collections.emptySet();
+					}
+				};
+			}
+
+			@Override
+			public boolean useJunitPlatformReporter() {
+				return true;
+			}
+
+			@Override
+			public boolean reportOnlyFailures() {
+				return true;
+			}
+
+			@Override
+			public boolean reportPerformance() {
+				return reportPerformance;
+			}
+
+			@Override
+			public List<MetricsRecorder> metricsRecorders() {
+				return metricsRecorders;
+			}
+		};
+	}
 }
@@ -0,0 +1,81 @@
+package net.jqwik.engine.discovery;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.nio.file.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import examples.packageWithSingleContainer.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DiscoveryIndexTests {
+
+	private final AtomicInteger reflections = new AtomicInteger(0);
+	private final Predicate<Class<?>> isTestContainer = candidate -> {
+		reflections.incrementAndGet();
+		return candidate == SimpleExampleTests.class;
+	};
+
+	@Example
+	void unchangedClassesAreOnlyReflectedOnce() {
+		DiscoveryIndex index = DiscoveryIndex.inMemory();
+
+		assertThat(index.isTestContainer(SimpleExampleTests.class, isTestContainer)).isTrue();
+		assertThat(index.isTestContainer(SimpleExampleTests.class, isTestContainer)).isTrue();
+		assertThat(index.isTestContainer(String.class, isTestContainer)).isFalse();
+		assertThat(index.isTestContainer(String.class, isTestContainer)).isFalse();
+
+		assertThat(reflections.get()).isEqualTo(2);
+	}
+
+	@Example
+	void indexIsKeptBetweenRuns() throws IOException {
+		Path indexPath = Files.createTempFile("jqwik-discovery", ".index");
+		try {
+			Files.delete(indexPath);
+			DiscoveryIndex firstRun = DiscoveryIndex.persistent(indexPath);
+			assertThat(firstRun.isTestContainer(SimpleExampleTests.class, isTestContainer)).isTrue();
+			firstRun.save();
+
+			DiscoveryIndex secondRun = DiscoveryIndex.persistent(indexPath);
+			assertThat(secondRun.isTestContainer(SimpleExampleTests.class, isTestContainer)).isTrue();
+
+			assertThat(reflections.get()).isEqualTo(1);
+		} finally {
+			Files.deleteIfExists(indexPath);
+		}
+	}
+
+	@Example
+	void unreadableIndexIsIgnored() throws IOException {
+		Path indexPath = Files.createTempFile("jqwik-discovery", ".index");
+		try {
+			Files.write(indexPath, "not an index".getBytes());
+			DiscoveryIndex index = DiscoveryIndex.persistent(indexPath);
+
+			assertThat(index.isTestContainer(SimpleExampleTests.class, isTestContainer)).isTrue();
+			assertThat(reflections.get()).isEqualTo(1);
+		} finally {
+			Files.deleteIfExists(indexPath);
+		}
+	}
+
+	@Example
+	void classesWithoutClassFileAreAlwaysReflected() {
+		Class<?> proxyClass = Proxy.newProxyInstance(
+			getClass().getClassLoader(),
+			new Class<?>[]{Runnable.class},
+			(proxy, method, args) -> null
+		).getClass();
+		DiscoveryIndex index = DiscoveryIndex.inMemory();
+
+		index.isTestContainer(proxyClass, isTestContainer);
+		index.isTestContainer(proxyClass, isTestContainer);
+
+		assertThat(reflections.get()).isEqualTo(2);
+	}
+}
@@ -124,7 +124,7 @@ class ContainerExecutionTests {
 	}
 
 	private void executeTests(TestDescriptor engineDescriptor) {
-		new JqwikExecutor(new LifecycleHooksRegistry(), TestRunRecorder.NULL, Collections.emptySet(), true, false).execute(engineDescriptor, eventRecorder);
+		new JqwikExecutor(new LifecycleHooksRegistry(), TestRunRecorder.NULL, Collections.emptySet(), true, false, false).execute(engineDescriptor, eventRecorder);
 	}
 
 	private static class ContainerClass {
@@ -0,0 +1,138 @@
+package net.jqwik.engine.execution;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.recording.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IncrementalRunTests {
+
+	private final UniqueId uniqueId = UniqueId.root("test", "property");
+
+	@Example
+	void fingerprintOfUnchangedPropertyIsStable() {
+		PropertyMethodDescriptor property = property(100);
+
+		Optional<String> first = IncrementalRun.of(true, Collections.emptyList(), 10).fingerprint(property);
+		Optional<String> second = IncrementalRun.of(true, Collections.emptyList(), 10).fingerprint(property(100));
+
+		assertThat(first).isPresent();
+		assertThat(first).isEqualTo(second);
+	}
+
+	@Example
+	void fingerprintChangesWithConfiguration() {
+		IncrementalRun incrementalRun = IncrementalRun.of(true, Collections.emptyList(), 10);
+
+		assertThat(incrementalRun.fingerprint(property(100))).isNotEqualTo(incrementalRun.fingerprint(property(200)));
+	}
+
+	@Example
+	void fingerprintChangesWithClasspathContent() throws IOException {
+		Path classes = Files.createTempDirectory("jqwik-classes");
+		Path classFile = classes.resolve("Production.class");
+		try {
+			Files.write(classFile, "version 1".getBytes(StandardCharsets.UTF_8));
+			Optional<String> before = IncrementalRun.of(true, Collections.singletonList(classes), 10).fingerprint(property(100));
+
+			Files.write(classFile, "version 2".getBytes(StandardCharsets.UTF_8));
+			Optional<String> after = IncrementalRun.of(true, Collections.singletonList(classes), 10).fingerprint(property(100));
+
+			assertThat(before).isPresent();
+			assertThat(after).isPresent();
+			assertThat(before).isNotEqualTo(after);
+		} finally {
+			Files.deleteIfExists(classFile);
+			Files.deleteIfExists(classes);
+		}
+	}
+
+	@Example
+	void successfulRunWithSameFingerprintIsUnchanged() {
+		IncrementalRun incrementalRun = IncrementalRun.of(true, Collections.emptyList(), 2);
+		TestRun previousRun = new TestRun(uniqueId, Status.SUCCESSFUL, "42", null).withFingerprint("fingerprint");
+
+		assertThat(incrementalRun.isUnchanged(previousRun, "fingerprint")).isTrue();
+		assertThat(incrementalRun.isUnchanged(previousRun, "other fingerprint")).isFalse();
+		assertThat(IncrementalRun.off().isUnchanged(previousRun, "fingerprint")).isFalse();
+	}
+
+	@Example
+	void failedRunIsNeverUnchanged() {
+		IncrementalRun incrementalRun = IncrementalRun.of(true, Collections.emptyList(), 2);
+		TestRun previousRun = new TestRun(uniqueId, Status.FAILED, "42", null).withFingerprint("fingerprint");
+
+		assertThat(incrementalRun.isUnchanged(previousRun, "fingerprint")).isFalse();
+	}
+
+	@Example
+	void propertyIsRunAgainAfterBeingSkippedFullRunAfterTimes() {
+		IncrementalRun incrementalRun = IncrementalRun.of(true, Collections.emptyList(), 2);
+		TestRun previousRun = new TestRun(uniqueId, Status.SUCCESSFUL, "42", null).withFingerprint("fingerprint");
+
+		TestRun skippedOnce = previousRun.skippedAsUnchanged();
+		TestRun skippedTwice = skippedOnce.skippedAsUnchanged();
+
+		assertThat(incrementalRun.isUnchanged(skippedOnce, "fingerprint")).isTrue();
+		assertThat(incrementalRun.isUnchanged(skippedTwice, "fingerprint")).isFalse();
+		assertThat(skippedTwice.withFingerprint("fingerprint").countSkippedAsUnchanged()).isEqualTo(0);
+	}
+
+	@Example
+	void configurationParametersOverrideIncrementalRun() {
+		Map<String, String> parameters = new HashMap<>();
+		parameters.put(IncrementalRun.PARAMETER, "true");
+		parameters.put(IncrementalRun.CLASSPATH_PARAMETER, "build/classes, lib/production.jar");
+		parameters.put(IncrementalRun.FULL_RUN_AFTER_PARAMETER, "5");
+
+		IncrementalRun incrementalRun = IncrementalRun.off().overriddenBy(configurationParameters(parameters));
+
+		assertThat(incrementalRun.isEnabled()).isTrue();
+		assertThat(incrementalRun.classpath()).containsExactly(Paths.get("build/classes"), Paths.get("lib/production.jar"));
+		assertThat(incrementalRun.fullRunAfter()).isEqualTo(5);
+	}
+
+	@Example
+	void invalidFullRunAfter() {
+		assertThatThrownBy(() -> IncrementalRun.of(true, Collections.emptyList(), -1)).isInstanceOf(JqwikException.class);
+	}
+
+	private PropertyMethodDescriptor property(int tries) {
+		return TestHelper.createPropertyMethodDescriptor(Container.class, "aProperty", "", tries, 5, ShrinkingMode.FULL);
+	}
+
+	private ConfigurationParameters configurationParameters(Map<String, String> parameters) {
+		return new ConfigurationParameters() {
+			@Override
+			public Optional<String> get(String key) {
+				return Optional.ofNullable(parameters.get(key));
+			}
+
+			@Override
+			public Optional<Boolean> getBoolean(String key) {
+				return get(key).map(Boolean::parseBoolean);
+			}
+
+			@Override
+			public int size() {
+				return parameters.size();
+			}
+		};
+	}
+
+	private static class Container {
+		@Property
+		void aProperty() {
+		}
+	}
+}
@@ -1,21 +1,26 @@
 package net.jqwik.engine.execution;
 
+import java.time.*;
 import java.util.*;
 
 import org.junit.platform.engine.*;
 import org.mockito.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.recording.*;
+
+import static org.assertj.core.api.Assertions.*;
 
 import static net.jqwik.engine.matchers.TestDescriptorMatchers.*;
 
 public class JqwikExecutorTests {
 
 	private Set<UniqueId> previouslyFailedTests = new HashSet<>();
-	private JqwikExecutor executor = new JqwikExecutor(new LifecycleHooksRegistry(), testRun -> {}, previouslyFailedTests, true, false);
+	private JqwikExecutor executor = new JqwikExecutor(new LifecycleHooksRegistry(), testRun -> {}, previouslyFailedTests, true, false, false);
 
 	@Example
 	void previouslyFailedTestsAreRunFirst() {
@@ -33,6 +38,185 @@ public class JqwikExecutorTests {
 		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test1"));
 	}
 
+	@Example
+	void previouslyLongestTestsAreRunFirst() {
+		TestDescriptor descriptor = TestDescriptorBuilder.forClass(TestContainer.class, "test1", "test2", "test3").build();
+		EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+
+		TestRunData previousRun = new TestRunData();
+		previousRun.add(runWithDuration(testId(descriptor, "test2()"), Duration.ofMillis(10)));
+		previousRun.add(runWithDuration(testId(descriptor, "test3()"), Duration.ofSeconds(3)));
+
+		longestFirstExecutorFor(previousRun).execute(descriptor, listener);
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test3"));
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test2"));
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test1"));
+	}
+
+	@Example
+	void previouslyLongestTestsAreNotRunFirstUnlessEnabled() {
+		TestDescriptor descriptor = TestDescriptorBuilder.forClass(TestContainer.class, "test1", "test2", "test3").build();
+		EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+
+		TestRunData previousRun = new TestRunData();
+		previousRun.add(runWithDuration(testId(descriptor, "test2()"), Duration.ofMillis(10)));
+		previousRun.add(runWithDuration(testId(descriptor, "test3()"), Duration.ofSeconds(3)));
+
+		executorFor(previousRun).execute(descriptor, listener);
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test1"));
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test2"));
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test3"));
+	}
+
+	@Example
+	void previouslyFailedTestsAreRunBeforeLongestTests() {
+		TestDescriptor descriptor = TestDescriptorBuilder.forClass(TestContainer.class, "test1", "test2", "test3").build();
+		EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+
+		TestRunData previousRun = new TestRunData();
+		previousRun.add(runWithDuration(testId(descriptor, "test2()"), Duration.ofSeconds(3)));
+		previouslyFailedTests.add(testId(descriptor, "test3()"));
+
+		longestFirstExecutorFor(previousRun).execute(descriptor, listener);
+
+		InOrder events = Mockito.inOrder(listener);
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test3"));
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test2"));
+		events.verify(listener).executionStarted(isPropertyDescriptorFor(TestContainer.class, "test1"));
+	}
+
+	@Example
+	void durationAndTriesOfPropertiesAreRecorded() {
+		TestDescriptor descriptor = TestDescriptorBuilder.forClass(TestContainer.class, "test1").build();
+		EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+		List<TestRun> recorded = new ArrayList<>();
+
+		new JqwikExecutor(new LifecycleHooksRegistry(), recorded::add, previouslyFailedTests, true, false, false)
+			.execute(descriptor, listener);
+
+		TestRun propertyRun = recorded.stream()
+									  .filter(run -> run.getUniqueId().equals(testId(descriptor, "test1()")))
+									  .findFirst().get();
+		assertThat(propertyRun.duration()).isPresent();
+		assertThat(propertyRun.countTries()).isPositive();
+	}
+
+	@Example
+	void failingTryOfFailedPropertiesIsRecorded() {
+		TestDescriptor descriptor = TestDescriptorBuilder.forClass(TestContainer.class)
+														 .with(TestDescriptorBuilder.forMethod(TestContainer.class, "failingProperty", int.class))
+														 .build();
+		EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+		List<TestRun> recorded = new ArrayList<>();
+
+		new JqwikExecutor(new LifecycleHooksRegistry(), recorded::add, previouslyFailedTests, true, false, false)
+			.execute(descriptor, listener);
+
+		TestRun propertyRun = recorded.stream()
+									  .filter(run -> run.getUniqueId().equals(testId(descriptor, "failingProperty(int)")))
+									  .findFirst().get();
+		assertThat(propertyRun.getStatus()).isEqualTo(Status.FAILED);
+		assertThat(propertyRun.randomSeed()).hasValue("42");
+		assertThat(propertyRun.failingTry()).hasValue(0);
+	}
+
+	@Example
+	void propertiesOfOtherShardsAreSkipped() {
+		TestDescriptor descriptor = TestDescriptorBuilder.forClass(TestContainer.class, "test1", "test2", "test3").build();
+		Shard shard = Shard.of(0, 2, false);
+		Set<UniqueId> owned = shard.ownedDescriptors(descriptor, Collections.emptyMap());
+		EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+
+		executorFor(new TestRunData(), shard).execute(descriptor, listener);
+
+		for (TestDescriptor property : descriptor.getChildren()) {
+			if (owned.contains(property.getUniqueId())) {
+				Mockito.verify(listener).executionStarted(property);
+			} else {
+				Mockito.verify(listener).executionSkipped(property, "Not part of shard [0] of [2]");
+			}
+		}
+	}
+
+	@Example
+	void unchangedSuccessfulPropertiesAreSkippedInIncrementalRun() {
+		TestDescriptor descriptor = TestDescriptorBuilder.forClass(TestContainer.class, "test1", "test2").build();
+		IncrementalRun incrementalRun = IncrementalRun.of(true, Collections.emptyList(), 1);
+
+		List<TestRun> firstRun = new ArrayList<>();
+		incrementalExecutorFor(new TestRunData(), firstRun, incrementalRun)
+			.execute(descriptor, Mockito.mock(EngineExecutionListener.class));
+
+		List<TestRun> secondRun = new ArrayList<>();
+		EngineExecutionListener secondListener = Mockito.mock(EngineExecutionListener.class);
+		incrementalExecutorFor(new TestRunData(firstRun), secondRun, incrementalRun).execute(descriptor, secondListener);
+
+		for (TestDescriptor property : descriptor.getChildren()) {
+			Mockito.verify(secondListener).executionSkipped(property, "unchanged since last successful run");
+			Mockito.verify(secondListener, Mockito.never()).executionStarted(property);
+		}
+		assertThat(recordedRun(secondRun, testId(descriptor, "test1()")).countSkippedAsUnchanged()).isEqualTo(1);
+
+		EngineExecutionListener thirdListener = Mockito.mock(EngineExecutionListener.class);
+		incrementalExecutorFor(new TestRunData(secondRun), new ArrayList<>(), incrementalRun).execute(descriptor, thirdListener);
+
+		for (TestDescriptor property : descriptor.getChildren()) {
+			Mockito.verify(thirdListener).executionStarted(property);
+		}
+	}
+
+	@Example
+	void failedPropertiesAreNotSkippedInIncrementalRun() {
+		TestDescriptor descriptor = TestDescriptorBuilder.forClass(TestContainer.class)
+														 .with(TestDescriptorBuilder.forMethod(TestContainer.class, "failingProperty", int.class))
+														 .build();
+		IncrementalRun incrementalRun = IncrementalRun.of(true, Collections.emptyList(), 10);
+
+		List<TestRun> firstRun = new ArrayList<>();
+		incrementalExecutorFor(new TestRunData(), firstRun, incrementalRun)
+			.execute(descriptor, Mockito.mock(EngineExecutionListener.class));
+
+		EngineExecutionListener listener = Mockito.mock(EngineExecutionListener.class);
+		incrementalExecutorFor(new TestRunData(firstRun), new ArrayList<>(), incrementalRun).execute(descriptor, listener);
+
+		for (TestDescriptor property : descriptor.getChildren()) {
+			Mockito.verify(listener).executionStarted(property);
+		}
+	}
+
+	private JqwikExecutor incrementalExecutorFor(TestRunData previousRun, List<TestRun> recorded, IncrementalRun incrementalRun) {
+		return new JqwikExecutor(
+			new LifecycleHooksRegistry(), recorded::add, previousRun, previouslyFailedTests, Shard.all(), incrementalRun, true, false, false
+		);
+	}
+
+	private TestRun recordedRun(List<TestRun> recorded, UniqueId uniqueId) {
+		return recorded.stream().filter(run -> run.getUniqueId().equals(uniqueId)).findFirst().get();
+	}
+
+	private JqwikExecutor executorFor(TestRunData previousRun) {
+		return executorFor(previousRun, Shard.all());
+	}
+
+	private JqwikExecutor longestFirstExecutorFor(TestRunData previousRun) {
+		return new JqwikExecutor(
+			new LifecycleHooksRegistry(), testRun -> {}, previousRun, previouslyFailedTests,
+			Shard.all(), IncrementalRun.off(), true, true, false, false
+		);
+	}
+
+	private JqwikExecutor executorFor(TestRunData previousRun, Shard shard) {
+		return new JqwikExecutor(new LifecycleHooksRegistry(), testRun -> {}, previousRun, previouslyFailedTests, shard, true, false, false);
+	}
+
+	private TestRun runWithDuration(UniqueId uniqueId, Duration duration) {
+		return new TestRun(uniqueId, Status.SUCCESSFUL, null, null, duration, 1000);
+	}
+
 	private UniqueId testId(TestDescriptor descriptor, String value) {
 		return descriptor.getUniqueId().append(JqwikUniqueIDs.PROPERTY_SEGMENT_TYPE, value);
 	}
@@ -46,5 +230,10 @@ public class JqwikExecutorTests {
 
 		@Property void test3() {
 		}
+
+		@Property(seed = "42")
+		boolean failingProperty(@ForAll int anInt) {
+			return false;
+		}
 	}
 }
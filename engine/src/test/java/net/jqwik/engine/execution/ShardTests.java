@@ -0,0 +1,170 @@
+package net.jqwik.engine.execution;
+
+import java.time.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ShardTests {
+
+	private final TestDescriptor container =
+		TestDescriptorBuilder.forClass(Container.class, "p1", "p2", "p3", "p4", "p5", "p6")
+							 .with(TestDescriptorBuilder.forClass(Container.InnerGroup.class, "g1", "g2"))
+							 .build();
+
+	@Example
+	void eachPropertyBelongsToExactlyOneShard() {
+		List<TestDescriptor> properties = properties();
+		Map<UniqueId, Integer> owners = new HashMap<>();
+		for (int index = 0; index < 3; index++) {
+			Set<UniqueId> owned = Shard.of(index, 3, false).ownedDescriptors(container, Collections.emptyMap());
+			for (TestDescriptor property : properties) {
+				if (owned.contains(property.getUniqueId())) {
+					assertThat(owners.put(property.getUniqueId(), index)).isNull();
+				}
+			}
+		}
+		assertThat(owners).hasSize(properties.size());
+	}
+
+	@Example
+	void assignmentByHashIsStable() {
+		Set<UniqueId> first = Shard.of(1, 4, false).ownedDescriptors(container, Collections.emptyMap());
+		Set<UniqueId> second = Shard.of(1, 4, false).ownedDescriptors(container, Collections.emptyMap());
+		assertThat(first).isEqualTo(second);
+	}
+
+	@Example
+	void containersOfOwnedPropertiesAreOwned() {
+		TestDescriptor group = container.getChildren().stream()
+										.filter(child -> !child.isTest())
+										.findFirst().get();
+		for (int index = 0; index < 3; index++) {
+			Set<UniqueId> owned = Shard.of(index, 3, false).ownedDescriptors(container, Collections.emptyMap());
+			boolean ownsGroupProperty = group.getChildren().stream().anyMatch(property -> owned.contains(property.getUniqueId()));
+			assertThat(owned.contains(group.getUniqueId())).isEqualTo(ownsGroupProperty);
+			assertThat(owned.contains(container.getUniqueId())).isEqualTo(!owned.isEmpty());
+		}
+	}
+
+	@Example
+	void balancedByPreviousDurations() {
+		List<TestDescriptor> properties = properties();
+		Map<UniqueId, Duration> durations = new HashMap<>();
+		durations.put(property("p1").getUniqueId(), Duration.ofSeconds(10));
+		durations.put(property("p2").getUniqueId(), Duration.ofSeconds(9));
+		durations.put(property("p3").getUniqueId(), Duration.ofSeconds(8));
+		durations.put(property("p4").getUniqueId(), Duration.ofSeconds(1));
+		durations.put(property("p5").getUniqueId(), Duration.ofSeconds(1));
+		durations.put(property("p6").getUniqueId(), Duration.ofSeconds(1));
+		durations.put(property("g1").getUniqueId(), Duration.ofMillis(500));
+		durations.put(property("g2").getUniqueId(), Duration.ofMillis(500));
+
+		Set<UniqueId> first = Shard.of(0, 2, true).ownedDescriptors(container, durations);
+		Set<UniqueId> second = Shard.of(1, 2, true).ownedDescriptors(container, durations);
+
+		assertThat(ownedNames(first, properties)).containsExactlyInAnyOrder("p1", "p4", "p5", "p6", "g1", "g2");
+		assertThat(ownedNames(second, properties)).containsExactlyInAnyOrder("p2", "p3");
+	}
+
+	@Example
+	void shardsWithDisjointDurationsStillCoverAllProperties() {
+		List<TestDescriptor> properties = properties();
+		Map<UniqueId, Duration> firstDurations = new HashMap<>();
+		firstDurations.put(property("p1").getUniqueId(), Duration.ofSeconds(10));
+		firstDurations.put(property("p2").getUniqueId(), Duration.ofSeconds(5));
+		firstDurations.put(property("g1").getUniqueId(), Duration.ofSeconds(1));
+		Map<UniqueId, Duration> secondDurations = new HashMap<>();
+		secondDurations.put(property("p3").getUniqueId(), Duration.ofSeconds(10));
+		secondDurations.put(property("p4").getUniqueId(), Duration.ofSeconds(5));
+		secondDurations.put(property("g2").getUniqueId(), Duration.ofSeconds(1));
+
+		Set<UniqueId> first = Shard.of(0, 2, true).ownedDescriptors(container, firstDurations);
+		Set<UniqueId> second = Shard.of(1, 2, true).ownedDescriptors(container, secondDurations);
+
+		List<String> allOwned = new ArrayList<>(ownedNames(first, properties));
+		allOwned.addAll(ownedNames(second, properties));
+		assertThat(allOwned).containsExactlyInAnyOrder("p1", "p2", "p3", "p4", "p5", "p6", "g1", "g2");
+	}
+
+	@Example
+	void configurationParametersOverrideShard() {
+		Map<String, String> parameters = new HashMap<>();
+		parameters.put(Shard.INDEX_PARAMETER, "2");
+		parameters.put(Shard.COUNT_PARAMETER, "5");
+
+		Shard shard = Shard.all().overriddenBy(configurationParameters(parameters));
+
+		assertThat(shard.index()).isEqualTo(2);
+		assertThat(shard.count()).isEqualTo(5);
+		assertThat(shard.byDuration()).isFalse();
+	}
+
+	@Example
+	void invalidShards() {
+		assertThatThrownBy(() -> Shard.of(0, 0, false)).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> Shard.of(3, 3, false)).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> Shard.of(-1, 3, false)).isInstanceOf(JqwikException.class);
+	}
+
+	private List<TestDescriptor> properties() {
+		return container.getDescendants().stream().filter(TestDescriptor::isTest).collect(Collectors.toList());
+	}
+
+	private TestDescriptor property(String name) {
+		return properties().stream().filter(property -> property.getDisplayName().equals(name)).findFirst().get();
+	}
+
+	private List<String> ownedNames(Set<UniqueId> owned, List<TestDescriptor> properties) {
+		return properties.stream()
+						 .filter(property -> owned.contains(property.getUniqueId()))
+						 .map(TestDescriptor::getDisplayName)
+						 .collect(Collectors.toList());
+	}
+
+	private ConfigurationParameters configurationParameters(Map<String, String> parameters) {
+		return new ConfigurationParameters() {
+			@Override
+			public Optional<String> get(String key) {
+				return Optional.ofNullable(parameters.get(key));
+			}
+
+			@Override
+			public Optional<Boolean> getBoolean(String key) {
+				return get(key).map(Boolean::parseBoolean);
+			}
+
+			@Override
+			public int size() {
+				return parameters.size();
+			}
+		};
+	}
+
+	private static class Container {
+		@Property void p1() {}
+
+		@Property void p2() {}
+
+		@Property void p3() {}
+
+		@Property void p4() {}
+
+		@Property void p5() {}
+
+		@Property void p6() {}
+
+		@Group
+		class InnerGroup {
+			@Property void g1() {}
+
+			@Property void g2() {}
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package net.jqwik.engine.execution.profiling;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PropertyProfileTests {
+
+	private static final long MILLI = 1_000_000L;
+
+	@Example
+	void latenciesOfFewTriesAreExact() {
+		PropertyProfile profile = new PropertyProfile("aProperty");
+		for (int i = 1; i <= 100; i++) {
+			profile.tryFinished(System.nanoTime() - i * MILLI);
+		}
+
+		assertThat(profile.p99TryNanos()).isBetween(99 * MILLI, 100 * MILLI);
+		assertThat(profile.averageTryNanos()).isGreaterThanOrEqualTo(50 * MILLI);
+	}
+
+	@Example
+	void latenciesOfManyTriesAreSampled() {
+		PropertyProfile profile = new PropertyProfile("aProperty");
+		int tries = 100 * PropertyProfile.MAX_SAMPLED_LATENCIES;
+		for (int i = 0; i < tries; i++) {
+			long latency = i % 20 == 0 ? 1000 * MILLI : 0;
+			profile.tryFinished(System.nanoTime() - latency);
+		}
+
+		// 5 percent of tries are slow so the 99th percentile must be slow, too
+		assertThat(profile.p99TryNanos()).isGreaterThanOrEqualTo(1000 * MILLI);
+		assertThat(profile.averageTryNanos()).isBetween(50 * MILLI, 51 * MILLI);
+	}
+
+	@Example
+	void onlyFiltersCountFilterMisses(@ForAll Random random) {
+		PropertyProfile profile = new PropertyProfile("aProperty");
+		profile.start();
+		try {
+			Arbitraries.integers().between(1, 5).set().ofSize(5).generator(10).next(random);
+			Arbitraries.integers().between(1, 5).unique().list().ofSize(5).generator(10).next(random);
+			assertThat(profile.filterMisses()).isEqualTo(0);
+
+			Arbitraries.integers().between(1, 100).filter(i -> i == 50).generator(10).next(random);
+			assertThat(profile.filterMisses()).isGreaterThan(0);
+		} finally {
+			profile.finish(0, 0);
+		}
+	}
+
+	@Example
+	void disabledProfileIgnoresLatencies() {
+		PropertyProfile profile = PropertyProfile.disabled();
+		profile.tryFinished(System.nanoTime() - MILLI);
+
+		assertThat(profile.averageTryNanos()).isEqualTo(0);
+		assertThat(profile.p99TryNanos()).isEqualTo(0);
+	}
+}
@@ -0,0 +1,168 @@
+package net.jqwik.engine.jfr;
+
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+import java.util.stream.*;
+
+import jdk.jfr.*;
+import jdk.jfr.consumer.*;
+import org.junit.platform.testkit.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.*;
+
+class JqwikEventsTests {
+
+	private static final List<String> EVENT_NAMES = Arrays.asList(
+		"net.jqwik.Property", "net.jqwik.Try", "net.jqwik.Generation", "net.jqwik.Shrinking", "net.jqwik.FilterMisses"
+	);
+
+	@Example
+	void propertyTryAndGenerationEvents() throws Exception {
+		List<RecordedEvent> events = recordEvents(SucceedingProperty.class);
+
+		List<RecordedEvent> propertyEvents = eventsOfType(events, "net.jqwik.Property");
+		assertThat(propertyEvents).hasSize(1);
+		RecordedEvent propertyEvent = propertyEvents.get(0);
+		assertThat(propertyEvent.getString("property")).contains("succeeding");
+		assertThat(propertyEvent.getString("seed")).isEqualTo("42");
+		assertThat(propertyEvent.getString("phase")).isEqualTo("property");
+		assertThat(propertyEvent.getString("status")).isEqualTo("SUCCESSFUL");
+		assertThat(propertyEvent.getInt("countTries")).isEqualTo(10);
+
+		List<RecordedEvent> tryEvents = eventsOfType(events, "net.jqwik.Try");
+		assertThat(tryEvents).hasSize(10);
+		assertThat(tryEvents.stream().map(e -> e.getInt("tryIndex")))
+			.containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+		assertThat(tryEvents).allMatch(e -> e.getString("status").equals("SATISFIED"));
+		assertThat(tryEvents).allMatch(e -> e.getString("property").equals(propertyEvent.getString("property")));
+
+		List<RecordedEvent> generationEvents = eventsOfType(events, "net.jqwik.Generation");
+		assertThat(generationEvents).isNotEmpty();
+		assertThat(generationEvents).allMatch(e -> e.getString("seed").equals("42"));
+		assertThat(generationEvents).allMatch(e -> e.getString("phase").equals("generation"));
+	}
+
+	@Example
+	void shrinkingEvent() throws Exception {
+		List<RecordedEvent> events = recordEvents(FailingProperty.class);
+
+		List<RecordedEvent> shrinkingEvents = eventsOfType(events, "net.jqwik.Shrinking");
+		assertThat(shrinkingEvents).hasSize(1);
+		RecordedEvent shrinkingEvent = shrinkingEvents.get(0);
+		assertThat(shrinkingEvent.getString("property")).contains("failing");
+		assertThat(shrinkingEvent.getInt("steps")).isGreaterThan(0);
+		assertThat(shrinkingEvent.getInt("falsifierCalls")).isGreaterThanOrEqualTo(shrinkingEvent.getInt("steps"));
+
+		RecordedEvent propertyEvent = eventsOfType(events, "net.jqwik.Property").get(0);
+		assertThat(propertyEvent.getString("status")).isEqualTo("FAILED");
+	}
+
+	@Example
+	void filterMissesEvents() throws Exception {
+		List<RecordedEvent> events = recordEvents(FilteringProperty.class);
+
+		List<RecordedEvent> missesEvents = eventsOfType(events, "net.jqwik.FilterMisses");
+		assertThat(missesEvents).isNotEmpty();
+		assertThat(missesEvents).allMatch(e -> e.getLong("misses") > 0);
+		assertThat(missesEvents).allMatch(e -> e.getInt("tryIndex") > 0);
+	}
+
+	@Example
+	void noFilterMissesEventsForDuplicatesInSets() throws Exception {
+		List<RecordedEvent> events = recordEvents(SetProperty.class);
+
+		assertThat(eventsOfType(events, "net.jqwik.Try")).hasSize(10);
+		assertThat(eventsOfType(events, "net.jqwik.FilterMisses")).isEmpty();
+	}
+
+	@Example
+	void noEventsWhenDisabled() throws Exception {
+		try (Recording recording = new Recording()) {
+			for (String eventName : EVENT_NAMES) {
+				recording.disable(eventName);
+			}
+			recording.start();
+			executeProperty(SucceedingProperty.class);
+			recording.stop();
+			List<RecordedEvent> events = readEvents(recording);
+			assertThat(events).noneMatch(e -> e.getEventType().getName().startsWith("net.jqwik"));
+		}
+	}
+
+	private List<RecordedEvent> recordEvents(Class<?> containerClass) throws Exception {
+		try (Recording recording = new Recording()) {
+			for (String eventName : EVENT_NAMES) {
+				recording.enable(eventName).withThreshold(Duration.ZERO);
+			}
+			recording.start();
+			executeProperty(containerClass);
+			recording.stop();
+			return readEvents(recording);
+		}
+	}
+
+	private List<RecordedEvent> readEvents(Recording recording) throws Exception {
+		Path dump = Files.createTempFile("jqwik-events", ".jfr");
+		try {
+			recording.dump(dump);
+			return RecordingFile.readAllEvents(dump);
+		} finally {
+			Files.deleteIfExists(dump);
+		}
+	}
+
+	private List<RecordedEvent> eventsOfType(List<RecordedEvent> events, String eventName) {
+		return events.stream()
+					 .filter(event -> event.getEventType().getName().equals(eventName))
+					 .collect(Collectors.toList());
+	}
+
+	private void executeProperty(Class<?> containerClass) {
+		EngineTestKit.engine(new JqwikTestEngine())
+					 .selectors(selectClass(containerClass))
+					 .execute();
+	}
+
+	static class SucceedingProperty {
+		@Property(tries = 10, seed = "42", edgeCases = EdgeCasesMode.NONE)
+		boolean succeeding(@ForAll int anInt) {
+			return true;
+		}
+	}
+
+	static class FailingProperty {
+		@Property(seed = "42")
+		boolean failing(@ForAll int anInt) {
+			return anInt < 1000;
+		}
+	}
+
+	static class SetProperty {
+		@Property(tries = 10, seed = "42", edgeCases = EdgeCasesMode.NONE)
+		boolean withSet(@ForAll("sets") Set<Integer> aSet) {
+			return true;
+		}
+
+		@Provide
+		Arbitrary<Set<Integer>> sets() {
+			return Arbitraries.integers().between(1, 20).set().ofSize(10);
+		}
+	}
+
+	static class FilteringProperty {
+		@Property(tries = 10, seed = "42", edgeCases = EdgeCasesMode.NONE)
+		boolean filtering(@ForAll("evens") int anInt) {
+			return true;
+		}
+
+		@Provide
+		Arbitrary<Integer> evens() {
+			return Arbitraries.integers().between(1, 100).filter(i -> i % 10 == 0);
+		}
+	}
+}
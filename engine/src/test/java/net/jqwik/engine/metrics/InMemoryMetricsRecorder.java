@@ -0,0 +1,94 @@
+package net.jqwik.engine.metrics;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.metrics.*;
+
+/**
+ * A {@linkplain MetricsRecorder} for tests that keeps all recorded metrics in memory.
+ */
+public class InMemoryMetricsRecorder implements MetricsRecorder {
+
+	private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+	private final Map<String, Queue<Long>> timers = new ConcurrentHashMap<>();
+	private final Map<String, Queue<Long>> histograms = new ConcurrentHashMap<>();
+
+	@Override
+	public void count(String metric, String propertyId, long increment) {
+		counters.computeIfAbsent(key(metric, propertyId), ignore -> new LongAdder()).add(increment);
+	}
+
+	@Override
+	public void time(String metric, String propertyId, long nanos) {
+		timers.computeIfAbsent(key(metric, propertyId), ignore -> new ConcurrentLinkedQueue<>()).add(nanos);
+	}
+
+	@Override
+	public void record(String metric, String propertyId, long value) {
+		histograms.computeIfAbsent(key(metric, propertyId), ignore -> new ConcurrentLinkedQueue<>()).add(value);
+	}
+
+	/**
+	 * @return Sum of a counter over all properties
+	 */
+	public long counter(String metric) {
+		return sumOf(counters, metric);
+	}
+
+	public long counter(String metric, String propertyId) {
+		LongAdder counter = counters.get(key(metric, propertyId));
+		return counter == null ? 0 : counter.sum();
+	}
+
+	/**
+	 * @return All recorded durations in nanoseconds over all properties
+	 */
+	public List<Long> timings(String metric) {
+		return valuesOf(timers, metric);
+	}
+
+	/**
+	 * @return All recorded values over all properties
+	 */
+	public List<Long> histogram(String metric) {
+		return valuesOf(histograms, metric);
+	}
+
+	public void clear() {
+		counters.clear();
+		timers.clear();
+		histograms.clear();
+	}
+
+	private static long sumOf(Map<String, LongAdder> counters, String metric) {
+		return counters.entrySet().stream()
+					   .filter(entry -> isKeyOf(entry.getKey(), metric))
+					   .mapToLong(entry -> entry.getValue().sum())
+					   .sum();
+	}
+
+	private static List<Long> valuesOf(Map<String, Queue<Long>> values, String metric) {
+		List<Long> result = new ArrayList<>();
+		values.forEach((key, queue) -> {
+			if (isKeyOf(key, metric)) {
+				result.addAll(queue);
+			}
+		});
+		return result;
+	}
+
+	private static boolean isKeyOf(String key, String metric) {
+		return key.startsWith(metric + "|");
+	}
+
+	private static String key(String metric, String propertyId) {
+		return metric + "|" + propertyId;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("InMemoryMetricsRecorder[counters=%s]", counters);
+	}
+}
@@ -231,6 +231,81 @@ class CheckedPropertyTests {
 			assertThat(check.randomSeed()).isEqualTo("4242");
 		}
 
+		@Example
+		@Label("index of failing try is reported")
+		void failingTryIsReported() {
+			List<Integer> allGeneratedInts = new ArrayList<>();
+			CheckedFunction failInTry37 = params -> allGeneratedInts.add((int) params.get(0)) && allGeneratedInts.size() != 37;
+			CheckedProperty checkedProperty = createCheckedProperty(
+				"prop1", failInTry37, getParametersForMethod("prop1"),
+				p -> Collections.singleton(new GenericArbitrary(Arbitraries.integers().between(-1000, 1000))),
+				Optional.empty(),
+				aConfig().withSeed("4711").withShrinking(ShrinkingMode.OFF).build(),
+				lifecycleContextForMethod("prop1", int.class)
+			);
+
+			PropertyCheckResult check = checkedProperty.check(NULL_PUBLISHER, new Reporting[0]);
+			assertThat(check.checkStatus()).isEqualTo(FAILED);
+			assertThat(check.countTries()).isEqualTo(37);
+			assertThat(check.failingTry()).hasValue(36);
+		}
+
+		@Example
+		@Label("previous failing try will be run first if onFailure=PREVIOUS_TRY_FIRST")
+		void previousFailingTryWillBeRunFirst() {
+			List<Integer> previousRunInts = new ArrayList<>();
+			CheckedProperty previousRun = createCheckedProperty(
+				"prop1", params -> previousRunInts.add((int) params.get(0)), getParametersForMethod("prop1"),
+				p -> Collections.singleton(new GenericArbitrary(Arbitraries.integers().between(-1000, 1000))),
+				Optional.empty(),
+				aConfig().withSeed("4711").withTries(50).build(),
+				lifecycleContextForMethod("prop1", int.class)
+			);
+			previousRun.check(NULL_PUBLISHER, new Reporting[0]);
+
+			List<Integer> allGeneratedInts = new ArrayList<>();
+			CheckedProperty checkedProperty = createCheckedProperty(
+				"prop1", params -> allGeneratedInts.add((int) params.get(0)), getParametersForMethod("prop1"),
+				p -> Collections.singleton(new GenericArbitrary(Arbitraries.integers().between(-1000, 1000))),
+				Optional.empty(),
+				aConfig()
+					.withSeed("")
+					.withTries(50)
+					.withPreviousSeed("4711")
+					.withPreviousFailingTry(42)
+					.withAfterFailure(AfterFailureMode.PREVIOUS_TRY_FIRST).build(),
+				lifecycleContextForMethod("prop1", int.class)
+			);
+
+			PropertyCheckResult check = checkedProperty.check(NULL_PUBLISHER, new Reporting[0]);
+			assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+			assertThat(check.randomSeed()).isEqualTo("4711");
+			assertThat(allGeneratedInts.get(0)).isEqualTo(previousRunInts.get(42));
+			assertThat(allGeneratedInts.subList(1, 50)).isEqualTo(previousRunInts.subList(0, 49));
+		}
+
+		@Example
+		@Label("previous failing try is reported again if it still fails")
+		void previousFailingTryIsReportedAgain() {
+			CheckedProperty checkedProperty = createCheckedProperty(
+				"prop1", params -> false, getParametersForMethod("prop1"),
+				p -> Collections.singleton(new GenericArbitrary(Arbitraries.integers().between(-1000, 1000))),
+				Optional.empty(),
+				aConfig()
+					.withSeed("")
+					.withPreviousSeed("4711")
+					.withPreviousFailingTry(42)
+					.withShrinking(ShrinkingMode.OFF)
+					.withAfterFailure(AfterFailureMode.PREVIOUS_TRY_FIRST).build(),
+				lifecycleContextForMethod("prop1", int.class)
+			);
+
+			PropertyCheckResult check = checkedProperty.check(NULL_PUBLISHER, new Reporting[0]);
+			assertThat(check.checkStatus()).isEqualTo(FAILED);
+			assertThat(check.countTries()).isEqualTo(1);
+			assertThat(check.failingTry()).hasValue(42);
+		}
+
 		@SuppressWarnings("unchecked")
 		@Group
 		class DataDrivenProperty {
@@ -470,6 +545,53 @@ class CheckedPropertyTests {
 				assertThat(check.falsifiedSample()).isEmpty();
 			}
 		}
+
+		@Group
+		class WithTryPartition {
+
+			@Example
+			void partitionsTogetherCheckTheTriesOfUnpartitionedRun() {
+				List<Object> unpartitionedValues = checkPartition(aConfig().withTries(20));
+
+				List<Object> partitionedValues = new ArrayList<>();
+				for (int index = 0; index < 3; index++) {
+					TryPartition partition = TryPartition.of(index, 3, null);
+					partitionedValues.addAll(checkPartition(aConfig().withTries(20).withTryPartition(partition)));
+				}
+
+				assertThat(partitionedValues).isEqualTo(unpartitionedValues);
+			}
+
+			@Example
+			void partitionsWithoutFixedSeedShareTheirSeed() {
+				PropertyConfigurationBuilder config = aConfig().withSeed(Property.SEED_NOT_SET).withTries(10);
+
+				Optional<String> firstSeed = checkPartitionResult(config.withTryPartition(TryPartition.of(0, 2, "4711")), new ArrayList<>()).seed();
+				Optional<String> secondSeed = checkPartitionResult(config.withTryPartition(TryPartition.of(1, 2, "4711")), new ArrayList<>()).seed();
+
+				assertThat(firstSeed).isPresent();
+				assertThat(firstSeed).isEqualTo(secondSeed);
+			}
+
+			private List<Object> checkPartition(PropertyConfigurationBuilder config) {
+				List<Object> values = new ArrayList<>();
+				PropertyCheckResult check = checkPartitionResult(config, values);
+				assertThat(check.checkStatus()).isEqualTo(SUCCESSFUL);
+				assertThat(check.countTries()).isEqualTo(values.size());
+				return values;
+			}
+
+			private PropertyCheckResult checkPartitionResult(PropertyConfigurationBuilder config, List<Object> values) {
+				CheckedProperty checkedProperty = createCheckedProperty(
+					"prop1", params -> values.add(params.get(0)), getParametersForMethod("prop1"),
+					p -> Collections.singleton(new GenericArbitrary(Arbitraries.integers().between(-1000, 1000))),
+					Optional.empty(),
+					config.build(),
+					lifecycleContextForMethod("prop1", int.class)
+				);
+				return checkedProperty.check(NULL_PUBLISHER, new Reporting[0]);
+			}
+		}
 	}
 
 	private CheckedProperty createCheckedProperty(
@@ -0,0 +1,79 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CodePointIntervalsTests {
+
+	@Example
+	void adjacentAndOverlappingIntervalsAreMerged() {
+		CodePointIntervals intervals = CodePointIntervals.of('a', 'f')
+														 .union(CodePointIntervals.of('g', 'k'))
+														 .union(CodePointIntervals.of('c', 'd'))
+														 .union(CodePointIntervals.of('0', '9'));
+
+		assertThat(intervals.countIntervals()).isEqualTo(2);
+		assertThat(intervals.size()).isEqualTo(21);
+		assertThat(intervals.min()).isEqualTo('0');
+		assertThat(intervals.max()).isEqualTo('k');
+	}
+
+	@Example
+	void charsAreSortedAndDeduplicated() {
+		CodePointIntervals intervals = CodePointIntervals.ofChars(new char[]{'x', 'b', 'a', 'x', 'c'});
+
+		assertThat(intervals.countIntervals()).isEqualTo(2);
+		assertThat(codePointsAsString(intervals)).isEqualTo("abcx");
+	}
+
+	@Example
+	void minus() {
+		CodePointIntervals intervals = CodePointIntervals.of('a', 'z')
+														 .minus(CodePointIntervals.of('c', 'e'))
+														 .minus(CodePointIntervals.ofChars(new char[]{'a', 'x', 'z'}))
+														 .minus(CodePointIntervals.of('0', '9'));
+
+		assertThat(codePointsAsString(intervals)).isEqualTo("bfghijklmnopqrstuvwy");
+	}
+
+	@Example
+	void emptyIntervals() {
+		CodePointIntervals intervals = CodePointIntervals.of('a', 'c').minus(CodePointIntervals.of('a', 'z'));
+
+		assertThat(intervals.isEmpty()).isTrue();
+		assertThat(intervals).isEqualTo(CodePointIntervals.EMPTY);
+		assertThat(intervals.indexOf('a')).isEqualTo(-1);
+	}
+
+	@Property(tries = 100)
+	void indexAndCodePointAreInverse(
+		@ForAll @CharRange(from = 'a', to = 'z') char c1,
+		@ForAll @CharRange(from = 'a', to = 'z') char c2,
+		@ForAll @IntRange(min = 0, max = 0x1ffff) int start,
+		@ForAll @IntRange(min = 0, max = 1000) int length
+	) {
+		CodePointIntervals intervals = CodePointIntervals.ofChars(new char[]{c1, c2})
+														 .union(CodePointIntervals.of(start, start + length));
+
+		List<Integer> codePoints = intervals.codePoints().boxed().collect(Collectors.toList());
+		assertThat(codePoints).hasSize(intervals.size()).isSorted();
+		for (int index = 0; index < intervals.size(); index++) {
+			int codePoint = intervals.codePointAt(index);
+			assertThat(codePoint).isEqualTo(codePoints.get(index));
+			assertThat(intervals.indexOf(codePoint)).isEqualTo(index);
+			assertThat(intervals.contains(codePoint)).isTrue();
+		}
+		assertThat(intervals.contains(intervals.max() + 1)).isFalse();
+	}
+
+	private String codePointsAsString(CodePointIntervals intervals) {
+		return intervals.codePoints()
+						.collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+						.toString();
+	}
+}
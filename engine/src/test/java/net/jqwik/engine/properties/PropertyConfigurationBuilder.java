@@ -14,12 +14,14 @@ class PropertyConfigurationBuilder {
 	private String seed = "1000";
 	private String previousSeed = null;
 	private List<Object> falsifiedSample = null;
+	private Integer previousFailingTry = null;
 	private int tries = 100;
 	private int maxDiscardRatio = 5;
 	private ShrinkingMode shrinkingMode = ShrinkingMode.FULL;
 	private GenerationMode generationMode = GenerationMode.AUTO;
 	private AfterFailureMode afterFailureMode = AfterFailureMode.PREVIOUS_SEED;
 	private EdgeCasesMode edgeCasesMode = EdgeCasesMode.MIXIN;
+	private TryPartition tryPartition = TryPartition.ALL;
 
 
 	PropertyConfigurationBuilder withSeed(String seed) {
@@ -37,6 +39,11 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	PropertyConfigurationBuilder withPreviousFailingTry(int failingTry) {
+		this.previousFailingTry = failingTry;
+		return this;
+	}
+
 	PropertyConfigurationBuilder withTries(int tries) {
 		this.tries = tries;
 		return this;
@@ -66,6 +73,11 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	PropertyConfigurationBuilder withTryPartition(TryPartition tryPartition) {
+		this.tryPartition = tryPartition;
+		return this;
+	}
+
 
 	PropertyConfiguration build() {
 		return new PropertyConfiguration(
@@ -73,12 +85,14 @@ class PropertyConfigurationBuilder {
 			seed,
 			previousSeed,
 			falsifiedSample,
+			previousFailingTry,
 			tries,
 			maxDiscardRatio,
 			shrinkingMode,
 			generationMode,
 			afterFailureMode,
-			edgeCasesMode
+			edgeCasesMode,
+			tryPartition
 		);
 
 	}
@@ -26,6 +26,23 @@ class RandomizedShrinkablesGeneratorTests {
 		Assertions.assertThat(shrinkables.get(1).value()).isInstanceOf(Integer.class);
 	}
 
+	@Property(tries = 10)
+	void skippedTriesDoNotChangeValuesOfLaterTries(@ForAll long seed, @ForAll EdgeCasesMode edgeCasesMode) {
+		Assume.that(edgeCasesMode != EdgeCasesMode.NOT_SET);
+
+		RandomizedShrinkablesGenerator generator = createGenerator(seed, "simpleParameters", edgeCasesMode);
+		List<List<Object>> allValues = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			allValues.add(values(generator.next()));
+		}
+
+		RandomizedShrinkablesGenerator skippingGenerator = createGenerator(seed, "simpleParameters", edgeCasesMode);
+		skippingGenerator.skip(30);
+		for (int i = 30; i < 50; i++) {
+			assertThat(values(skippingGenerator.next())).isEqualTo(allValues.get(i));
+		}
+	}
+
 	@Example
 	void severalFittingArbitraries(@ForAll Random random) {
 
@@ -140,7 +157,16 @@ class RandomizedShrinkablesGeneratorTests {
 		PropertyMethodDescriptor methodDescriptor = createDescriptor(methodName);
 		List<MethodParameter> parameters = TestHelper.getParameters(methodDescriptor);
 
-		return RandomizedShrinkablesGenerator.forParameters(parameters, arbitraryResolver, random, 1000, EdgeCasesMode.NONE);
+		return RandomizedShrinkablesGenerator.forParameters(parameters, arbitraryResolver, random.nextLong(), 1000, EdgeCasesMode.NONE);
+	}
+
+	private RandomizedShrinkablesGenerator createGenerator(long seed, String methodName, EdgeCasesMode edgeCasesMode) {
+		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
+			MyProperties.class, new MyProperties(),
+			DomainContext.global()
+		);
+		List<MethodParameter> parameters = TestHelper.getParameters(createDescriptor(methodName));
+		return RandomizedShrinkablesGenerator.forParameters(parameters, arbitraryResolver, seed, 1000, edgeCasesMode);
 	}
 
 	private PropertyMethodDescriptor createDescriptor(String methodName) {
@@ -0,0 +1,93 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.engine.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TryPartitionTests {
+
+	@Property
+	void partitionsCoverAllTriesExactlyOnce(@ForAll @IntRange(min = 0, max = 10000) int tries, @ForAll @IntRange(min = 1, max = 20) int count) {
+		int nextTry = 0;
+		for (int index = 0; index < count; index++) {
+			TryPartition partition = TryPartition.of(index, count, null);
+			assertThat(partition.firstTry(tries)).isEqualTo(nextTry);
+			nextTry += partition.countTries(tries);
+		}
+		assertThat(nextTry).isEqualTo(tries);
+	}
+
+	@Example
+	void unpartitionedChecksAllTries() {
+		assertThat(TryPartition.ALL.isPartitioned()).isFalse();
+		assertThat(TryPartition.ALL.firstTry(1000)).isEqualTo(0);
+		assertThat(TryPartition.ALL.countTries(1000)).isEqualTo(1000);
+	}
+
+	@Example
+	void parse() {
+		TryPartition partition = TryPartition.parse(" 1/4 ", "42");
+		assertThat(partition.isPartitioned()).isTrue();
+		assertThat(partition.toString()).isEqualTo("1/4");
+		assertThat(partition.firstTry(1000)).isEqualTo(250);
+		assertThat(partition.countTries(1000)).isEqualTo(250);
+
+		assertThat(TryPartition.parse("", null)).isSameAs(TryPartition.ALL);
+		assertThat(TryPartition.parse(null, null)).isSameAs(TryPartition.ALL);
+	}
+
+	@Example
+	void invalidPartitions() {
+		assertThatThrownBy(() -> TryPartition.parse("4/4", null)).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> TryPartition.parse("1/0", null)).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> TryPartition.parse("x", null)).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> TryPartition.parse("1/2", "no seed")).isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void seedForPropertyIsDeterministic() {
+		TryPartition first = TryPartition.of(0, 2, "4711");
+		TryPartition second = TryPartition.of(1, 2, "4711");
+
+		assertThat(first.seedFor("aProperty")).isEqualTo(second.seedFor("aProperty"));
+		assertThat(first.seedFor("aProperty")).isNotEqualTo(first.seedFor("anotherProperty"));
+		assertThat(first.seedFor("aProperty")).isNotEqualTo(TryPartition.of(0, 2, "4712").seedFor("aProperty"));
+	}
+
+	@Example
+	void configurationParametersOverridePartition() {
+		Map<String, String> parameters = new HashMap<>();
+		parameters.put(TryPartition.PARAMETER, "2/3");
+		parameters.put(TryPartition.SEED_PARAMETER, "42");
+
+		TryPartition partition = TryPartition.ALL.overriddenBy(configurationParameters(parameters));
+
+		assertThat(partition.toString()).isEqualTo("2/3");
+		assertThat(partition.seedFor("aProperty")).isEqualTo(TryPartition.of(0, 3, "42").seedFor("aProperty"));
+	}
+
+	private ConfigurationParameters configurationParameters(Map<String, String> parameters) {
+		return new ConfigurationParameters() {
+			@Override
+			public Optional<String> get(String key) {
+				return Optional.ofNullable(parameters.get(key));
+			}
+
+			@Override
+			public Optional<Boolean> getBoolean(String key) {
+				return get(key).map(Boolean::parseBoolean);
+			}
+
+			@Override
+			public int size() {
+				return parameters.size();
+			}
+		};
+	}
+}
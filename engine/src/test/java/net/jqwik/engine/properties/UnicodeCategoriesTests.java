@@ -0,0 +1,37 @@
+package net.jqwik.engine.properties;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UnicodeCategoriesTests {
+
+	@Property
+	void codePointIsInTableOfItsCategoryOnly(@ForAll @IntRange(min = 0, max = Character.MAX_CODE_POINT) int codePoint) {
+		int category = Character.getType(codePoint);
+		assertThat(UnicodeCategories.codePointsOf(category).contains(codePoint)).isTrue();
+
+		int otherCategory = category == Character.UPPERCASE_LETTER ? Character.LOWERCASE_LETTER : Character.UPPERCASE_LETTER;
+		assertThat(UnicodeCategories.codePointsOf(otherCategory).contains(codePoint)).isFalse();
+	}
+
+	@Example
+	void allCodePointsAreCovered() {
+		int total = 0;
+		for (int category = 0; category <= Character.FINAL_QUOTE_PUNCTUATION; category++) {
+			if (UnicodeCategories.isCategory(category)) {
+				total += UnicodeCategories.codePointsOf(category).size();
+			}
+		}
+		assertThat(total).isEqualTo(Character.MAX_CODE_POINT + 1);
+	}
+
+	@Example
+	void unknownCategory() {
+		assertThat(UnicodeCategories.isCategory(17)).isFalse();
+		assertThatThrownBy(() -> UnicodeCategories.codePointsOf(17)).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> UnicodeCategories.codePointsOf(-1)).isInstanceOf(JqwikException.class);
+		assertThatThrownBy(() -> UnicodeCategories.codePointsOf(42)).isInstanceOf(JqwikException.class);
+	}
+}
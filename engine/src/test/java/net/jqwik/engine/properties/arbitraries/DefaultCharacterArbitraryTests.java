@@ -3,8 +3,11 @@ package net.jqwik.engine.properties.arbitraries;
 import java.util.*;
 import java.util.function.Predicate;
 
+import org.assertj.core.api.*;
+
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 import static net.jqwik.api.ArbitraryTestHelper.*;
 
@@ -114,6 +117,38 @@ class DefaultCharacterArbitraryTests {
 		assertAtLeastOneGeneratedOf(all.generator(1000), toCharacterArray(DefaultCharacterArbitrary.WHITESPACE_CHARS));
 	}
 
+	@Example
+	void defaultCharactersAreNotFiltered() {
+		Shrinkable<Character> shrinkable = this.arbitrary.generator(1000).next(new Random(42));
+		Assertions.assertThat(shrinkable).isNotInstanceOf(FilteredShrinkable.class);
+	}
+
+	@Property(tries = 10)
+	void rangesAndCharsAreShrunkToLowestCharacter(@ForAll Random random) {
+		CharacterArbitrary all = this.arbitrary.range('x', 'z').with('m', 'q').digit();
+		ArbitraryTestHelper.assertAllValuesAreShrunkTo('0', all, random);
+	}
+
+	@Example
+	void exhaustiveGenerationOfSeveralParts() {
+		CharacterArbitrary all = this.arbitrary.range('x', 'z').with('q', 'a', 'y');
+
+		Optional<ExhaustiveGenerator<Character>> optionalGenerator = all.exhaustive();
+		Assertions.assertThat(optionalGenerator).isPresent();
+		ExhaustiveGenerator<Character> generator = optionalGenerator.get();
+		Assertions.assertThat(generator.maxCount()).isEqualTo(5);
+		Assertions.assertThat(generator).containsExactly('a', 'q', 'x', 'y', 'z');
+	}
+
+	@Example
+	void exhaustiveGenerationOfDefaultCharacters() {
+		Optional<ExhaustiveGenerator<Character>> optionalGenerator = this.arbitrary.exhaustive();
+		Assertions.assertThat(optionalGenerator).isPresent();
+		Assertions.assertThat(optionalGenerator.get()).allMatch(
+			c -> !DefaultCharacterArbitrary.isNoncharacter(c) && !DefaultCharacterArbitrary.isPrivateUseCharacter(c)
+		);
+	}
+
 	private Character[] toCharacterArray(char[] chars) {
 		Character[] result = new Character[chars.length];
 		for (int i=0; i<chars.length; i++) {
@@ -1,11 +1,18 @@
 package net.jqwik.engine.properties.arbitraries;
 
+import java.util.*;
+import java.util.regex.*;
+
 import org.assertj.core.api.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.constraints.*;
+import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.statistics.Statistics;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 
 import static net.jqwik.api.ArbitraryTestHelper.*;
 
@@ -172,4 +179,233 @@ class DefaultStringArbitraryTests {
 				  .coverage(checker -> checker.check(true).count(c -> c > 10));
 	}
 
+	@Group
+	class CodePoints {
+
+		@Example
+		void supplementaryCodePoints() {
+			StringArbitrary stringArbitrary = arbitrary.withCodePoints(0x1F600, 0x1F64F).ofMinLength(1).ofMaxLength(5);
+			assertAllGenerated(stringArbitrary.generator(10), (String s) -> {
+				Assertions.assertThat(s.codePoints()).allMatch(codePoint -> codePoint >= 0x1F600 && codePoint <= 0x1F64F);
+				Assertions.assertThat(s.codePointCount(0, s.length())).isBetween(1, 5);
+			});
+			assertAtLeastOneGenerated(stringArbitrary.generator(10), s -> s.codePointAt(0) == 0x1F600);
+			assertAtLeastOneGenerated(stringArbitrary.generator(10), s -> s.codePointAt(0) == 0x1F64F);
+		}
+
+		@Example
+		void unicodeCategories() {
+			StringArbitrary letters = arbitrary.withUnicodeCategories(Character.UPPERCASE_LETTER, Character.LOWERCASE_LETTER);
+			assertAllGenerated(letters.generator(10), (String s) -> {
+				Assertions.assertThat(s.codePoints()).allMatch(Character::isLetter);
+			});
+			assertAtLeastOneGenerated(letters.generator(10), s -> s.codePoints().anyMatch(codePoint -> codePoint > 0xFFFF));
+		}
+
+		@Example
+		void combinedWithChars() {
+			StringArbitrary stringArbitrary = arbitrary.withChars('x').withCodePoints(0x10000, 0x10000).ofMinLength(1);
+			assertAllGenerated(stringArbitrary.generator(10), (String s) -> {
+				Assertions.assertThat(s.codePoints()).allMatch(codePoint -> codePoint == 'x' || codePoint == 0x10000);
+			});
+			assertAtLeastOneGenerated(stringArbitrary.generator(10), s -> s.contains("x"));
+			assertAtLeastOneGenerated(stringArbitrary.generator(10), s -> s.codePoints().anyMatch(codePoint -> codePoint == 0x10000));
+		}
+
+		@Property(tries = 10)
+		void shrinkWithinCategory(@ForAll Random random) {
+			StringArbitrary letters = arbitrary.withUnicodeCategories(Character.UPPERCASE_LETTER, Character.LOWERCASE_LETTER)
+											   .ofMinLength(1);
+			String shrunkValue = falsifyThenShrink(letters, random, ignore -> TryExecutionResult.falsified(null));
+			Assertions.assertThat(shrunkValue).isIn("A", "a");
+		}
+
+		@Example
+		void exhaustiveGeneration() {
+			StringArbitrary stringArbitrary = arbitrary.withCodePoints(0x1F600, 0x1F601).ofLength(2);
+			Optional<ExhaustiveGenerator<String>> generator = stringArbitrary.exhaustive();
+			Assertions.assertThat(generator).isPresent();
+			Assertions.assertThat(generator.get().maxCount()).isEqualTo(4);
+			Assertions.assertThat(generator.get()).containsExactly(
+				"\uD83D\uDE00\uD83D\uDE00",
+				"\uD83D\uDE00\uD83D\uDE01",
+				"\uD83D\uDE01\uD83D\uDE00",
+				"\uD83D\uDE01\uD83D\uDE01"
+			);
+		}
+
+		@Example
+		void edgeCases() {
+			StringArbitrary stringArbitrary = arbitrary.withCodePoints(0x1F600, 0x1F64F).ofLength(1);
+			List<String> edgeCases = new ArrayList<>();
+			stringArbitrary.edgeCases().forEach(shrinkable -> edgeCases.add(shrinkable.value()));
+			Assertions.assertThat(edgeCases).containsExactlyInAnyOrder("\uD83D\uDE00", "\uD83D\uDE4F");
+		}
+
+		@Property(tries = 20)
+		void surrogatesAreNeverGenerated(@ForAll Random random) {
+			StringArbitrary stringArbitrary = arbitrary.withCodePoints(0xD7FE, 0xE001).ofLength(4);
+			assertAllGenerated(stringArbitrary.generator(10), (String s) -> {
+				Assertions.assertThat(s.codePointCount(0, s.length())).isEqualTo(4);
+				Assertions.assertThat(s.codePoints()).noneMatch(codePoint -> codePoint >= 0xD800 && codePoint <= 0xDFFF);
+			});
+			String shrunkValue = falsifyThenShrink(stringArbitrary, random, ignore -> TryExecutionResult.falsified(null));
+			Assertions.assertThat(shrunkValue.codePointCount(0, shrunkValue.length())).isEqualTo(4);
+			Assertions.assertThat(shrunkValue.codePoints()).noneMatch(codePoint -> codePoint >= 0xD800 && codePoint <= 0xDFFF);
+		}
+
+		@Example
+		void invalidCodePointsAndCategories() {
+			Assertions.assertThatThrownBy(() -> arbitrary.withCodePoints(0xD800, 0xDFFF)).isInstanceOf(JqwikException.class);
+			Assertions.assertThatThrownBy(() -> arbitrary.withCodePoints(-1, 10)).isInstanceOf(JqwikException.class);
+			Assertions.assertThatThrownBy(() -> arbitrary.withCodePoints(0, Character.MAX_CODE_POINT + 1))
+					  .isInstanceOf(JqwikException.class);
+			Assertions.assertThatThrownBy(() -> arbitrary.withUnicodeCategories(17)).isInstanceOf(JqwikException.class);
+		}
+
+		@Example
+		void cannotBeCombinedWithCharacterArbitrary() {
+			StringArbitrary stringArbitrary = arbitrary.withChars(Arbitraries.of('a')).withCodePoints(0x10000, 0x10001);
+			Assertions.assertThatThrownBy(() -> stringArbitrary.generator(10)).isInstanceOf(JqwikException.class);
+		}
+	}
+
+	@Group
+	class PackedGeneration {
+
+		@Property(tries = 20)
+		void defaultCharacters(@ForAll long seed) {
+			assertPackedGenerationIsUnchanged(new DefaultCharacterArbitrary(), seed);
+		}
+
+		@Property(tries = 20)
+		void characterRange(@ForAll long seed) {
+			assertPackedGenerationIsUnchanged(new DefaultCharacterArbitrary().range('a', 'z'), seed);
+		}
+
+		@Property(tries = 20)
+		void chosenCharacters(@ForAll long seed) {
+			assertPackedGenerationIsUnchanged(new DefaultCharacterArbitrary().with('x', 'a', 'm'), seed);
+		}
+
+		@Property(tries = 20)
+		void severalParts(@ForAll long seed) {
+			assertPackedGenerationIsUnchanged(new DefaultCharacterArbitrary().range('a', 'z').with('0', '_').digit(), seed);
+		}
+
+		@Example
+		void customCharacterArbitraryCannotBeGeneratedAsPrimitives() {
+			DefaultCharacterArbitrary characters = (DefaultCharacterArbitrary) new DefaultCharacterArbitrary()
+																				   .range('a', 'z')
+																				   .with(Arbitraries.of('0'));
+			Assertions.assertThat(characters.primitiveGenerator(1)).isEmpty();
+		}
+
+		private void assertPackedGenerationIsUnchanged(CharacterArbitrary characters, long seed) {
+			RandomGenerator<String> elementwise = RandomGenerators.strings(characters.generator(1), 0, 30, 30);
+			PrimitiveCharacterGenerator primitive = ((PrimitiveCharacterArbitrary) characters).primitiveGenerator(1).get();
+			RandomGenerator<String> packed = RandomGenerators.strings(primitive, 0, 30, 30);
+
+			Random elementwiseRandom = new Random(seed);
+			Random packedRandom = new Random(seed);
+			for (int i = 0; i < 20; i++) {
+				Shrinkable<String> expected = elementwise.next(elementwiseRandom);
+				Shrinkable<String> actual = packed.next(packedRandom);
+				Assertions.assertThat(actual.value()).isEqualTo(expected.value());
+				Assertions.assertThat(actual.distance()).isEqualTo(expected.distance());
+				Assertions.assertThat(shrinkToEnd(actual)).isEqualTo(shrinkToEnd(expected));
+			}
+		}
+
+		private Tuple2<String, Integer> shrinkToEnd(Shrinkable<String> shrinkable) {
+			Falsifier<String> falsifier = s -> s.length() < 3 ? TryExecutionResult.satisfied() : TryExecutionResult.falsified(null);
+			int[] steps = {0};
+			ShrinkingSequence<String> sequence = shrinkable.shrink(falsifier);
+			while (sequence.next(() -> steps[0]++, ignore -> { })) ;
+			return Tuple.of(sequence.current().value(), steps[0]);
+		}
+	}
+
+	@Group
+	class Regex {
+
+		@Example
+		void generatedStringsMatch() {
+			String regex = "[a-c]{2,4}-\\d+(x|yz)?";
+			StringArbitrary matching = arbitrary.matching(regex);
+			assertAllGenerated(matching.generator(10), (String s) -> {
+				Assertions.assertThat(s).matches(regex);
+			});
+			assertAtLeastOneGenerated(matching.generator(10), s -> s.endsWith("yz"));
+			assertAtLeastOneGenerated(matching.generator(10), s -> s.endsWith("x"));
+		}
+
+		@Example
+		void quantifierAfterQuotedTextAppliesToLastCharacter() {
+			for (String regex : Arrays.asList("\\Qa.b\\E+", "x\\Q.*\\E{2,3}y", "\\Qab\\E?")) {
+				StringArbitrary matching = arbitrary.matching(regex);
+				assertAllGenerated(matching.generator(10), (String s) -> {
+					Assertions.assertThat(Pattern.matches(regex, s)).describedAs("%s matches %s", s, regex).isTrue();
+				});
+			}
+			assertAtLeastOneGenerated(arbitrary.matching("\\Qa.b\\E+").generator(10), s -> s.endsWith("bb"));
+		}
+
+		@Example
+		void otherCharSettingsAreIgnored() {
+			StringArbitrary matching = arbitrary.alpha().withCodePoints(0x10000, 0x10010).matching("[0-9]+");
+			assertAllGenerated(matching.generator(10), (String s) -> {
+				Assertions.assertThat(s).matches("[0-9]+");
+			});
+		}
+
+		@Example
+		void lengthIsRespected() {
+			StringArbitrary matching = arbitrary.matching("a*b*").ofMinLength(3).ofMaxLength(5);
+			assertAllGenerated(matching.generator(10), (String s) -> {
+				Assertions.assertThat(s).matches("a*b*");
+				Assertions.assertThat(s).hasSizeBetween(3, 5);
+			});
+		}
+
+		@Example
+		void noMatchWithinLength() {
+			StringArbitrary matching = arbitrary.matching("abc").ofMaxLength(2);
+			Assertions.assertThatThrownBy(() -> matching.generator(10)).isInstanceOf(JqwikException.class);
+		}
+
+		@Example
+		void edgeCaseIsShortestSimplestMatch() {
+			StringArbitrary matching = arbitrary.matching("[x-z]+[0-9]");
+			Assertions.assertThat(matching.edgeCases()).extracting(Shrinkable::value).containsExactly("x0");
+		}
+
+		@Property(tries = 20)
+		void shrinkingStaysWithinLanguage(@ForAll Random random) {
+			String shrunkValue = shrinkToEnd(arbitrary.matching("(abc)+[d-z]"), random);
+			Assertions.assertThat(shrunkValue).isEqualTo("abcd");
+		}
+
+		@Property(tries = 20)
+		void shrinkingWithFalsifier(@ForAll Random random) {
+			StringArbitrary matching = arbitrary.matching("[a-z]{1,10}@[a-z]{2,5}\\.(com|org)");
+			TestingFalsifier<String> falsifier = s -> s.indexOf('@') < 3;
+			String shrunkValue = falsifyThenShrink(matching, random, falsifier);
+			Assertions.assertThat(shrunkValue).isEqualTo("aaa@aa.com");
+		}
+
+		@Example
+		void unsupportedConstructs() {
+			for (String regex : Arrays.asList("(a)\\1", "a(?=b)", "a*+", "(?i)a", "[a-z&&[^b]]", "\\bword")) {
+				Assertions.assertThatThrownBy(() -> arbitrary.matching(regex))
+						  .describedAs(regex)
+						  .isInstanceOf(JqwikException.class);
+			}
+		}
+
+		@Example
+		void illegalRegex() {
+			Assertions.assertThatThrownBy(() -> arbitrary.matching("(a")).isInstanceOf(JqwikException.class);
+		}
+	}
 }
@@ -0,0 +1,32 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InjectDuplicatesGeneratorTests {
+
+	@Example
+	void duplicatesAreOnlyChosenFromMostRecentSeeds(@ForAll Random random) {
+		InjectDuplicatesGenerator<Integer> generator = new InjectDuplicatesGenerator<>(Arbitraries.integers().generator(1000), 0.5);
+
+		Set<Long> allSeeds = new HashSet<>();
+		LinkedHashSet<Long> recentSeeds = new LinkedHashSet<>();
+		int duplicates = 0;
+		for (int i = 0; i < 20 * InjectDuplicatesGenerator.MAX_PREVIOUS_SEEDS; i++) {
+			long seed = generator.chooseSeed(random);
+			if (allSeeds.add(seed)) {
+				recentSeeds.add(seed);
+				if (recentSeeds.size() > InjectDuplicatesGenerator.MAX_PREVIOUS_SEEDS) {
+					recentSeeds.remove(recentSeeds.iterator().next());
+				}
+			} else {
+				assertThat(recentSeeds).contains(seed);
+				duplicates++;
+			}
+		}
+		assertThat(duplicates).isGreaterThan(0);
+	}
+}
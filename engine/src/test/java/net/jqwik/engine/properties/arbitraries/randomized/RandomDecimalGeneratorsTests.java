@@ -0,0 +1,62 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.engine.properties.arbitraries.randomized.RandomDecimalGenerators.*;
+
+class RandomDecimalGeneratorsTests {
+
+	@Property
+	void primitiveDoublesAreSameAsBigDecimalValues(
+		@ForAll @LongRange(min = -MAX_EXACT_DOUBLE_UNSCALED, max = MAX_EXACT_DOUBLE_UNSCALED) long unscaled,
+		@ForAll @IntRange(min = 0, max = MAX_EXACT_DOUBLE_SCALE) int scale,
+		@ForAll Random random
+	) {
+		RandomGenerator<Double> generator = primitiveDoubles(singularGenerator(unscaled), unscaledRange(unscaled), scale);
+
+		double value = generator.next(random).value();
+		assertThat(value).isEqualTo(new BigDecimal(BigInteger.valueOf(unscaled), scale).doubleValue());
+	}
+
+	@Property
+	void primitiveFloatsAreSameAsBigDecimalValues(
+		@ForAll @LongRange(min = -MAX_EXACT_FLOAT_UNSCALED, max = MAX_EXACT_FLOAT_UNSCALED) long unscaled,
+		@ForAll @IntRange(min = 0, max = MAX_EXACT_FLOAT_SCALE) int scale,
+		@ForAll Random random
+	) {
+		RandomGenerator<Float> generator = primitiveFloats(singularGenerator(unscaled), unscaledRange(unscaled), scale);
+
+		float value = generator.next(random).value();
+		assertThat(value).isEqualTo(new BigDecimal(BigInteger.valueOf(unscaled), scale).floatValue());
+	}
+
+	@Example
+	void shrinkingUsesUnscaledRangeAndTarget(@ForAll Random random) {
+		PrimitiveIntegralGenerator unscaledGenerator =
+			RandomGenerators.primitiveIntegrals(100, 10000, ignore -> 100L, new long[0], 1000);
+		RandomGenerator<Double> generator = primitiveDoubles(unscaledGenerator, Range.of(BigInteger.valueOf(100), BigInteger.valueOf(10000)), 2);
+
+		Shrinkable<Double> shrinkable = generator.next(random);
+		assertThat(shrinkable.value()).isBetween(1.0, 100.0);
+
+		ShrinkingSequence<Double> sequence = shrinkable.shrink(ignore -> TryExecutionResult.falsified(null));
+		while (sequence.next(() -> {}, ignore -> {})) ;
+		assertThat(sequence.current().value()).isEqualTo(1.0);
+	}
+
+	private PrimitiveIntegralGenerator singularGenerator(long unscaled) {
+		return RandomGenerators.primitiveIntegrals(unscaled, unscaled, ignore -> unscaled, new long[0], 1000);
+	}
+
+	private Range<BigInteger> unscaledRange(long unscaled) {
+		return Range.of(BigInteger.valueOf(unscaled), BigInteger.valueOf(unscaled));
+	}
+}
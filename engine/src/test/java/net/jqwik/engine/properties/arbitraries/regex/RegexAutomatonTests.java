@@ -0,0 +1,98 @@
+package net.jqwik.engine.properties.arbitraries.regex;
+
+import java.util.*;
+import java.util.regex.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RegexAutomatonTests {
+
+	@Example
+	void automatonsAreCached() {
+		assertThat(RegexAutomaton.forRegex("a|b")).isSameAs(RegexAutomaton.forRegex("a|b"));
+	}
+
+	@Example
+	void leastRecentlyUsedAutomatonsAreEvicted() {
+		RegexAutomaton automaton = RegexAutomaton.forRegex("x|y");
+		for (int i = 0; i < RegexAutomaton.MAX_CACHED_AUTOMATONS; i++) {
+			RegexAutomaton.forRegex("x" + i);
+		}
+		assertThat(RegexAutomaton.forRegex("x|y")).isNotSameAs(automaton);
+	}
+
+	@Property(tries = 50)
+	void generatedStringsMatchPattern(@ForAll("regexes") String regex, @ForAll Random random) {
+		RegexAutomaton automaton = RegexAutomaton.forRegex(regex);
+		Pattern pattern = Pattern.compile(regex);
+		for (int length : automaton.matchingLengths(0, 10)) {
+			String generated = automaton.generate(random, length);
+			assertThat(generated.codePointCount(0, generated.length())).isEqualTo(length);
+			assertThat(pattern.matcher(generated).matches()).describedAs(generated).isTrue();
+			assertThat(automaton.matches(generated)).isTrue();
+		}
+	}
+
+	@Property(tries = 50)
+	void automatonAgreesWithPattern(@ForAll("regexes") String regex, @ForAll("candidates") String candidate) {
+		boolean expected = Pattern.compile(regex).matcher(candidate).matches();
+		assertThat(RegexAutomaton.forRegex(regex).matches(candidate)).isEqualTo(expected);
+	}
+
+	@Provide
+	Arbitrary<String> regexes() {
+		return Arbitraries.of(
+			"abc",
+			"a*b+c?",
+			"(ab|cd)*",
+			"[a-c]{2,3}x??",
+			"[^a-y]",
+			"\\d\\s\\w",
+			"(?:a|b)(?<name>c|d){1,}",
+			"^\\Qa.b\\E$",
+			"\\Qa.b\\E+",
+			"(\\Qab\\E){2}\\Qc\\E?",
+			"\\x41\\u0042\\x{1F600}",
+			"."
+		);
+	}
+
+	@Provide
+	Arbitrary<String> candidates() {
+		return Arbitraries.strings().withChars("abcdxyz1 .AB").ofMaxLength(6);
+	}
+
+	@Example
+	void matchingLengths() {
+		RegexAutomaton automaton = RegexAutomaton.forRegex("(ab)+c?");
+		assertThat(automaton.matchingLengths(0, 6)).containsExactly(2, 3, 4, 5, 6);
+		assertThat(RegexAutomaton.forRegex("(ab){2}").matchingLengths(0, 6)).containsExactly(4);
+	}
+
+	@Example
+	void simplestString() {
+		RegexAutomaton automaton = RegexAutomaton.forRegex("[x-z]+|[b-d]{3}");
+		assertThat(automaton.simplest(1)).isEqualTo("x");
+		assertThat(automaton.simplest(3)).isEqualTo("bbb");
+	}
+
+	@Example
+	void dotDoesNotMatchLineTerminators() {
+		RegexAutomaton automaton = RegexAutomaton.forRegex(".");
+		assertThat(automaton.matches("\n")).isFalse();
+		assertThat(automaton.matches(" ")).isFalse();
+		assertThat(automaton.matches("a")).isTrue();
+	}
+
+	@Example
+	void emptyLanguageIsRejected() {
+		assertThatThrownBy(() -> RegexAutomaton.forRegex("[^\\x00-\\x{10FFFF}]")).isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void tooComplexRegexIsRejected() {
+		assertThatThrownBy(() -> RegexAutomaton.forRegex("(a{1,100}){1,100}b{100000}")).isInstanceOf(JqwikException.class);
+	}
+}
@@ -39,6 +39,13 @@ class ArbitraryShrinkingTests {
 		assertAllValuesAreShrunkTo(new HashSet<>(Arrays.asList(1, 2, 3)), arbitrary, random);
 	}
 
+	@Property(tries = 10)
+	void setWithMostValuesOfRange(@ForAll Random random) {
+		Arbitrary<Set<Integer>> arbitrary =
+			Arbitraries.integers().between(1, 10).set().ofMinSize(8);
+		assertAllValuesAreShrunkTo(new HashSet<>(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8)), arbitrary, random);
+	}
+
 	@Property(tries = 10)
 	void mapped(@ForAll Random random) {
 		Arbitrary<String> arbitrary =
@@ -0,0 +1,70 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Label("LazyShrinkableList")
+class LazyShrinkableListTests {
+
+	private final AtomicInteger generatedElements = new AtomicInteger(0);
+
+	private final RandomGenerator<Integer> elementGenerator = random -> {
+		generatedElements.incrementAndGet();
+		return Shrinkable.unshrinkable(random.nextInt(1000));
+	};
+
+	@Example
+	void elementsAreGeneratedOnAccess() {
+		LazyShrinkableList<Integer> shrinkable = new LazyShrinkableList<>(elementGenerator, 42L, 1000, 0);
+		List<Integer> list = shrinkable.value();
+
+		assertThat(list).hasSize(1000);
+		assertThat(generatedElements.get()).isEqualTo(0);
+
+		list.get(500);
+		list.get(500);
+		assertThat(generatedElements.get()).isEqualTo(1);
+	}
+
+	@Example
+	void elementsDoNotDependOnAccessOrder() {
+		List<Integer> forward = new LazyShrinkableList<>(elementGenerator, 42L, 10, 0).value();
+		List<Integer> backward = new LazyShrinkableList<>(elementGenerator, 42L, 10, 0).value();
+
+		List<Integer> backwardElements = new ArrayList<>();
+		for (int index = 9; index >= 0; index--) {
+			backwardElements.add(0, backward.get(index));
+		}
+		assertThat(forward).containsExactlyElementsOf(backwardElements);
+	}
+
+	@Example
+	void differentSeedsCreateDifferentElements() {
+		List<Integer> list1 = new LazyShrinkableList<>(elementGenerator, 1L, 20, 0).value();
+		List<Integer> list2 = new LazyShrinkableList<>(elementGenerator, 2L, 20, 0).value();
+
+		assertThat(list1).isNotEqualTo(list2);
+	}
+
+	@Example
+	void indexOutOfBounds() {
+		List<Integer> list = new LazyShrinkableList<>(elementGenerator, 42L, 3, 0).value();
+		assertThatThrownBy(() -> list.get(3)).isInstanceOf(IndexOutOfBoundsException.class);
+	}
+
+	@Example
+	void shrinkingGeneratesAllElements() {
+		LazyShrinkableList<Integer> shrinkable = new LazyShrinkableList<>(elementGenerator, 42L, 5, 2);
+
+		ShrinkingSequence<List<Integer>> sequence = shrinkable.shrink((TestingFalsifier<List<Integer>>) List::isEmpty);
+		while (sequence.next(() -> {}, ignore -> {})) ;
+
+		assertThat(generatedElements.get()).isEqualTo(5);
+		assertThat(sequence.current().value()).hasSize(2);
+	}
+}
@@ -59,6 +59,20 @@ class ShrinkTowardsTests {
 		Assertions.assertThat(shrunkValue).isEqualTo(target);
 	}
 
+	@Property(tries = 10)
+	void floatsInSmallRange(@ForAll Random random, @ForAll @FloatRange(min = -100, max = 100) @Scale(0) float target) {
+		Arbitrary<Float> floats = Arbitraries.floats().between(-100.0f, 100.0f).ofScale(1).shrinkTowards(target);
+		float shrunkValue = ArbitraryTestHelper.shrinkToEnd(floats, random);
+		Assertions.assertThat(shrunkValue).isEqualTo(target);
+	}
+
+	@Property(tries = 10)
+	void doublesInSmallRange(@ForAll Random random, @ForAll @DoubleRange(min = -100, max = 100) @Scale(3) double target) {
+		Arbitrary<Double> doubles = Arbitraries.doubles().between(-100.0, 100.0).ofScale(3).shrinkTowards(target);
+		double shrunkValue = ArbitraryTestHelper.shrinkToEnd(doubles, random);
+		Assertions.assertThat(shrunkValue).isEqualTo(target);
+	}
+
 	@Property(tries = 10)
 	void bigDecimals(@ForAll Random random, @ForAll @BigRange(min = "-1000", max = "1000") @Scale(0) BigDecimal target) {
 		Arbitrary<BigDecimal> bigDecimals = Arbitraries.bigDecimals().shrinkTowards(target);
@@ -0,0 +1,113 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Label("ShrinkablePrimitiveArray")
+class ShrinkablePrimitiveArrayTests {
+
+	private final AtomicInteger counter = new AtomicInteger(0);
+	private final Runnable count = counter::incrementAndGet;
+	private final LongUnaryOperator towardsZero = ignore -> 0L;
+
+	@Example
+	void creation() {
+		Shrinkable<int[]> shrinkable = new ShrinkablePrimitiveArray<>(new int[]{1, -2, 3}, PrimitiveArrayType.INTS, towardsZero, 0);
+		assertThat(shrinkable.value()).containsExactly(1, -2, 3);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(3, 6));
+	}
+
+	@Example
+	void distanceIsCappedForExtremeValues() {
+		Shrinkable<long[]> shrinkable = new ShrinkablePrimitiveArray<>(
+			new long[]{Long.MIN_VALUE, Long.MAX_VALUE}, PrimitiveArrayType.LONGS, ignore -> Long.MAX_VALUE, 0
+		);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(2, Long.MAX_VALUE));
+	}
+
+	@Example
+	void shrinkToEmptyArray() {
+		Shrinkable<int[]> shrinkable = new ShrinkablePrimitiveArray<>(new int[]{5, 6, 7, 8}, PrimitiveArrayType.INTS, towardsZero, 0);
+		ShrinkingSequence<int[]> sequence = shrinkable.shrink(ignore -> TryExecutionResult.falsified(null));
+
+		while (sequence.next(count, ignore -> {})) ;
+		assertThat(sequence.current().value()).isEmpty();
+	}
+
+	@Example
+	void shrinkToMinSizeAndTarget() {
+		Shrinkable<short[]> shrinkable = new ShrinkablePrimitiveArray<>(new short[]{5, 6, 7, 8, 9}, PrimitiveArrayType.SHORTS, ignore -> 3L, 2);
+		ShrinkingSequence<short[]> sequence = shrinkable.shrink(ignore -> TryExecutionResult.falsified(null));
+
+		while (sequence.next(count, ignore -> {})) ;
+		assertThat(sequence.current().value()).containsExactly((short) 3, (short) 3);
+	}
+
+	@Example
+	void shrinkSingleElementWithinLargeArray() {
+		byte[] bytes = new byte[2000];
+		new Random(42).nextBytes(bytes);
+		bytes[1234] = 100;
+		Shrinkable<byte[]> shrinkable = new ShrinkablePrimitiveArray<>(bytes, PrimitiveArrayType.BYTES, towardsZero, 2000);
+
+		TestingFalsifier<byte[]> falsifier = array -> {
+			for (byte aByte : array) {
+				if (aByte > 50) return false;
+			}
+			return true;
+		};
+		ShrinkingSequence<byte[]> sequence = shrinkable.shrink(falsifier);
+
+		while (sequence.next(count, ignore -> {})) ;
+		byte[] shrunkValue = sequence.current().value();
+		assertThat(shrunkValue).hasSize(2000);
+		assertThat(shrunkValue).containsOnlyOnce((byte) 51);
+		assertThat(sequence.current().distance()).isEqualTo(ShrinkingDistance.of(2000, 51));
+		assertThat(counter.get()).isLessThan(200);
+	}
+
+	@Example
+	void candidatesAreLimitedForLargeArrays() {
+		long[] longs = new long[10_000];
+		Arrays.fill(longs, 42L);
+		ShrinkablePrimitiveArray<long[]> shrinkable = new ShrinkablePrimitiveArray<>(longs, PrimitiveArrayType.LONGS, towardsZero, 0);
+
+		assertThat(shrinkable.shrinkCandidatesFor(shrinkable)).hasSizeLessThan(50);
+	}
+
+	@Example
+	void shrinkingKeepsOriginalArrayUnchanged() {
+		int[] original = {10, 20, 30};
+		Shrinkable<int[]> shrinkable = new ShrinkablePrimitiveArray<>(original, PrimitiveArrayType.INTS, towardsZero, 0);
+		ShrinkingSequence<int[]> sequence = shrinkable.shrink(ignore -> TryExecutionResult.falsified(null));
+
+		while (sequence.next(count, ignore -> {})) ;
+		assertThat(original).containsExactly(10, 20, 30);
+	}
+
+	@Example
+	void arrayIsNotSharedWithCallers() {
+		int[] original = {1, 2, 3};
+		Shrinkable<int[]> shrinkable = new ShrinkablePrimitiveArray<>(original, PrimitiveArrayType.INTS, towardsZero, 0);
+		original[0] = 42;
+		shrinkable.value()[1] = 42;
+
+		assertThat(shrinkable.value()).containsExactly(1, 2, 3);
+		assertThat(shrinkable.value()).isNotSameAs(shrinkable.value());
+	}
+
+	@Example
+	void equalityUsesArrayContent() {
+		Shrinkable<int[]> shrinkable1 = new ShrinkablePrimitiveArray<>(new int[]{1, 2}, PrimitiveArrayType.INTS, towardsZero, 0);
+		Shrinkable<int[]> shrinkable2 = new ShrinkablePrimitiveArray<>(new int[]{1, 2}, PrimitiveArrayType.INTS, towardsZero, 0);
+		assertThat(shrinkable1).isEqualTo(shrinkable2);
+		assertThat(shrinkable1.hashCode()).isEqualTo(shrinkable2.hashCode());
+	}
+}
@@ -202,6 +202,45 @@ public class ShrinkableStringTests {
 	}
 
 
+	@Group
+	class CreatedFromValue {
+
+		@Example
+		void characterShrinkablesAreCreatedLazily() {
+			AtomicInteger created = new AtomicInteger(0);
+			Shrinkable<String> shrinkable = new ShrinkableString("abcd", aChar -> {
+				created.incrementAndGet();
+				return new OneStepShrinkable(aChar, 'a').map(anInt -> (char) (int) anInt);
+			}, 0);
+
+			assertThat(shrinkable.value()).isEqualTo("abcd");
+			assertThat(created.get()).isEqualTo(0);
+
+			assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(4, 6));
+			assertThat(created.get()).isEqualTo(4);
+		}
+
+		@Example
+		void shrinksLikeStringCreatedFromShrinkables() {
+			Shrinkable<String> fromValue = new ShrinkableString(
+				"bcdef",
+				aChar -> new OneStepShrinkable(aChar, 'a').map(anInt -> (char) (int) anInt),
+				2
+			);
+			Shrinkable<String> fromShrinkables = createShrinkableString("bcdef", 2);
+
+			TestingFalsifier<String> falsifier = aString -> !aString.contains("c");
+			ShrinkingSequence<String> sequence = fromValue.shrink(falsifier);
+			ShrinkingSequence<String> expectedSequence = fromShrinkables.shrink(falsifier);
+			while (expectedSequence.next(count, reporter)) {
+				assertThat(sequence.next(count, reporter)).isTrue();
+				assertThat(sequence.current().value()).isEqualTo(expectedSequence.current().value());
+			}
+			assertThat(sequence.next(count, reporter)).isFalse();
+			assertThat(sequence.current().value()).hasSize(2).contains("c");
+		}
+	}
+
 	public static Shrinkable<String> createShrinkableString(String aString, int minSize) {
 		List<Shrinkable<Character>> elementShrinkables = aString //
 																 .chars() //
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.stateful;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 
 import net.jqwik.*;
 import net.jqwik.api.*;
@@ -77,6 +78,53 @@ class ActionGeneratorTests {
 			assertThatThrownBy(() -> actionGenerator.next(42)).isInstanceOf(NoSuchElementException.class);
 			assertThat(actionGenerator.generated()).hasSize(0);
 		}
+
+		@Example
+		void onlyGeneratesActionsOfEnabledTypes(@ForAll Random random) {
+			AtomicInteger disabledGenerated = new AtomicInteger(0);
+			List<ActionType<Integer>> actionTypes = Arrays.asList(
+				ActionType.of(model -> model > 100, Arbitraries.constant(PLUS_1).map(action -> {
+					disabledGenerated.incrementAndGet();
+					return action;
+				})),
+				ActionType.of(model -> model < 100, Arbitraries.constant(PLUS_2))
+			);
+
+			RandomActionGenerator<Integer> actionGenerator = new RandomActionGenerator<>(actionTypes, 1000, random);
+
+			for (int i = 0; i < 10; i++) {
+				assertThat(actionGenerator.next(42).toString()).isEqualTo("+2");
+			}
+			assertThat(actionGenerator.generated()).hasSize(10);
+			assertThat(disabledGenerated.get()).isEqualTo(0);
+		}
+
+		@Example
+		void actionsKeepTheirTypesPrecondition(@ForAll Random random) {
+			List<ActionType<Integer>> actionTypes = Collections.singletonList(
+				ActionType.of(model -> model < 100, Arbitraries.constant(PLUS_1))
+			);
+
+			RandomActionGenerator<Integer> actionGenerator = new RandomActionGenerator<>(actionTypes, 1000, random);
+
+			Action<Integer> action = actionGenerator.next(42);
+			assertThat(action.precondition(42)).isTrue();
+			assertThat(action.precondition(142)).isFalse();
+			assertThat(action.run(42)).isEqualTo(44);
+		}
+
+		@Example
+		void failsIfNoActionTypeIsEnabled(@ForAll Random random) {
+			List<ActionType<Integer>> actionTypes = Arrays.asList(
+				ActionType.of(model -> model > 100, Arbitraries.constant(PLUS_1)),
+				ActionType.of(model -> model > 200, Arbitraries.constant(PLUS_2))
+			);
+
+			RandomActionGenerator<Integer> actionGenerator = new RandomActionGenerator<>(actionTypes, 1000, random);
+
+			assertThatThrownBy(() -> actionGenerator.next(42)).isInstanceOf(NoSuchElementException.class);
+			assertThat(actionGenerator.generated()).hasSize(0);
+		}
 	}
 
 	@Group
@@ -51,6 +51,52 @@ class ActionSequenceProperties {
 		return Arbitraries.sequences(Arbitraries.oneOf(addX(), addZ()));
 	}
 
+	@Property
+	void onlyEnabledActionTypesAreUsed(@ForAll("pushOrPop") @Size(10) ActionSequence<String> actions) {
+		String result = actions.run("");
+
+		Assertions.assertThat(actions.runActions()).hasSize(10);
+		Assertions.assertThat(result.length()).isEqualTo(
+			actions.runActions().stream().mapToInt(action -> action.toString().equals("push") ? 1 : -1).sum()
+		);
+	}
+
+	@Provide
+	Arbitrary<ActionSequence<String>> pushOrPop() {
+		return Arbitraries.sequences(Arrays.asList(
+			ActionType.of(push()),
+			ActionType.of(model -> !model.isEmpty(), pop())
+		));
+	}
+
+	private Arbitrary<Action<String>> push() {
+		return Arbitraries.constant(new Action<String>() {
+			@Override
+			public String run(String state) {
+				return state + "x";
+			}
+
+			@Override
+			public String toString() {
+				return "push";
+			}
+		});
+	}
+
+	private Arbitrary<Action<String>> pop() {
+		return Arbitraries.constant(new Action<String>() {
+			@Override
+			public String run(String state) {
+				return state.substring(1);
+			}
+
+			@Override
+			public String toString() {
+				return "pop";
+			}
+		});
+	}
+
 	@Example
 	void errorsAreWrappedInAssertionFailedError(@ForAll Random random) {
 		Arbitrary<ActionSequence<String>> arbitrary = Arbitraries.sequences(error());
@@ -0,0 +1,219 @@
+package net.jqwik.engine.properties.stateful;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.opentest4j.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.stateful.*;
+import net.jqwik.engine.properties.stateful.LinearizabilityChecker.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class ConcurrentActionSequenceTests {
+
+	@Property(tries = 50)
+	void atomicCounterIsLinearizable(@ForAll("counterSequences") ConcurrentActionSequence<AtomicInteger, Integer> sequence) {
+		AtomicInteger counter = sequence.run(new AtomicInteger(), 0);
+
+		int increments = (int) (sequence.prefix().stream().filter(action -> action instanceof Increment).count()
+									+ sequence.branches().stream().flatMap(Collection::stream).filter(action -> action instanceof Increment).count());
+		assertThat(counter.get()).isEqualTo(increments);
+		assertThat(sequence.runState()).isEqualTo(ActionSequence.RunState.SUCCEEDED);
+		assertThat(sequence.branchActionDurations())
+			.hasSize(sequence.branches().stream().mapToInt(List::size).sum())
+			.allMatch(nanos -> nanos >= 0);
+	}
+
+	@Provide
+	ConcurrentActionSequenceArbitrary<AtomicInteger, Integer> counterSequences() {
+		return Arbitraries.concurrentSequences(Arbitraries.of(new Increment(), new Get()))
+						  .withBranches(3)
+						  .ofMaxBranchSize(20);
+	}
+
+	@Example
+	void wrongResultsAreReported(@ForAll Random random) {
+		ConcurrentActionSequence<AtomicInteger, Integer> sequence =
+			Arbitraries.concurrentSequences(Arbitraries.constant(new IncrementByTwo()))
+					   .ofMaxPrefixSize(0)
+					   .generator(10).next(random).value();
+
+		assertThatThrownBy(() -> sequence.run(new AtomicInteger(), 0))
+			.isInstanceOf(AssertionFailedError.class)
+			.hasMessageContaining("No sequential order explains");
+		assertThat(sequence.runState()).isEqualTo(ActionSequence.RunState.FAILED);
+	}
+
+	@Example
+	void failingPrefixIsReported() {
+		ConcurrentActionSequence<AtomicInteger, Integer> sequence = new DefaultConcurrentActionSequence<>(
+			asList(new Increment(), new Get()),
+			asList(asList(new Get()), asList(new Get()))
+		);
+
+		assertThatThrownBy(() -> sequence.run(new AtomicInteger(5), 0))
+			.isInstanceOf(AssertionFailedError.class)
+			.hasMessageContaining("Postcondition of prefix action increment failed");
+	}
+
+	@Example
+	void hangingBranchesFailAfterTimeoutWithHistory() {
+		ConcurrentActionSequence<AtomicInteger, Integer> sequence = new DefaultConcurrentActionSequence<>(
+			Collections.emptyList(),
+			asList(asList(new Increment(), new Hang()), asList(new Get())),
+			Duration.ofMillis(100)
+		);
+
+		assertThatThrownBy(() -> sequence.run(new AtomicInteger(), 0))
+			.isInstanceOf(AssertionFailedError.class)
+			.hasMessageContaining("Concurrent actions did not finish within 100 ms")
+			.hasMessageContaining("[0] increment")
+			.hasMessageContaining("[1] get");
+		assertThat(sequence.runState()).isEqualTo(ActionSequence.RunState.FAILED);
+	}
+
+	@Example
+	void timeoutMustBePositive() {
+		ConcurrentActionSequenceArbitrary<AtomicInteger, Integer> sequences =
+			Arbitraries.concurrentSequences(Arbitraries.of(new Increment(), new Get()));
+
+		assertThatThrownBy(() -> sequences.withTimeout(Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Group
+	class Linearizability {
+
+		@Example
+		void overlappingActionsCanBeOrderedFreely() {
+			// get() returned 1 although it was invoked before increment() since both overlap
+			List<List<Operation<AtomicInteger, Integer>>> history = asList(
+				asList(new Operation<>(new Get(), 1, 1, 4, 0)),
+				asList(new Operation<>(new Increment(), 0, 2, 3, 0))
+			);
+
+			assertThat(new LinearizabilityChecker<>(history).isLinearizable(0)).isTrue();
+		}
+
+		@Example
+		void realTimeOrderOfNonOverlappingActionsIsRespected() {
+			// get() returned 1 although it had returned before increment() was invoked
+			List<List<Operation<AtomicInteger, Integer>>> history = asList(
+				asList(new Operation<>(new Get(), 1, 1, 2, 0)),
+				asList(new Operation<>(new Increment(), 0, 3, 4, 0))
+			);
+
+			assertThat(new LinearizabilityChecker<>(history).isLinearizable(0)).isFalse();
+		}
+
+		@Example
+		void orderWithinBranchIsRespected() {
+			List<List<Operation<AtomicInteger, Integer>>> history = asList(
+				asList(
+					new Operation<>(new Get(), 1, 1, 10, 0),
+					new Operation<>(new Increment(), 0, 11, 12, 0)
+				),
+				asList(new Operation<>(new Get(), 0, 2, 9, 0))
+			);
+
+			assertThat(new LinearizabilityChecker<>(history).isLinearizable(0)).isFalse();
+		}
+
+		@Example
+		void searchStaysTractableForDozensOfActionsPerBranch() {
+			// All actions overlap so that every interleaving must be considered
+			int branches = 3;
+			int actionsPerBranch = 30;
+			List<List<Operation<AtomicInteger, Integer>>> history = new ArrayList<>();
+			for (int branch = 0; branch < branches; branch++) {
+				List<Operation<AtomicInteger, Integer>> operations = new ArrayList<>();
+				for (int i = 0; i < actionsPerBranch; i++) {
+					// the results cannot be explained since the last get() returns a count that is too high
+					Object result = i == actionsPerBranch - 1 ? branches * actionsPerBranch : null;
+					ConcurrentAction<AtomicInteger, Integer> action = i == actionsPerBranch - 1 ? new Get() : new IncrementWithoutResult();
+					operations.add(new Operation<>(action, result, i * branches + branch, 1000 + i * branches + branch, 0));
+				}
+				history.add(operations);
+			}
+
+			assertThat(new LinearizabilityChecker<>(history).isLinearizable(0)).isFalse();
+		}
+	}
+
+	private static class Increment implements ConcurrentAction<AtomicInteger, Integer> {
+		@Override
+		public Object run(AtomicInteger system) {
+			return system.getAndIncrement();
+		}
+
+		@Override
+		public boolean postcondition(Integer model, Object result) {
+			return model.equals(result);
+		}
+
+		@Override
+		public Integer nextModel(Integer model) {
+			return model + 1;
+		}
+
+		@Override
+		public String toString() {
+			return "increment";
+		}
+	}
+
+	private static class IncrementWithoutResult extends Increment {
+		@Override
+		public boolean postcondition(Integer model, Object result) {
+			return true;
+		}
+	}
+
+	private static class IncrementByTwo extends Increment {
+		@Override
+		public Object run(AtomicInteger system) {
+			return system.getAndAdd(2);
+		}
+	}
+
+	private static class Hang extends Get {
+		@Override
+		public Object run(AtomicInteger system) {
+			try {
+				Thread.sleep(Long.MAX_VALUE);
+			} catch (InterruptedException ignore) {
+			}
+			return system.get();
+		}
+
+		@Override
+		public String toString() {
+			return "hang";
+		}
+	}
+
+	private static class Get implements ConcurrentAction<AtomicInteger, Integer> {
+		@Override
+		public Object run(AtomicInteger system) {
+			return system.get();
+		}
+
+		@Override
+		public boolean postcondition(Integer model, Object result) {
+			return model.equals(result);
+		}
+
+		@Override
+		public Integer nextModel(Integer model) {
+			return model;
+		}
+
+		@Override
+		public String toString() {
+			return "get";
+		}
+	}
+}
@@ -72,14 +72,12 @@ class ShrinkableActionSequenceTests {
 		verify(valueReporter).accept(any(ActionSequence.class));
 		assertThat(sequence.next(count, reporter)).isTrue();
 		verify(valueReporter, times(2)).accept(any(ActionSequence.class));
-		assertThat(sequence.next(count, reporter)).isTrue();
-		verify(valueReporter, times(3)).accept(any(ActionSequence.class));
 		assertThat(sequence.next(count, reporter)).isFalse();
 
 		assertThat(sequence.current().value().runActions()).hasSize(1);
 		assertThat(sequence.current().value().run("")).isEqualTo("x");
 
-		assertThat(counter.get()).isEqualTo(3);
+		assertThat(counter.get()).isEqualTo(2);
 		verifyNoMoreInteractions(valueReporter);
 	}
 
@@ -156,6 +154,102 @@ class ShrinkableActionSequenceTests {
 		assertThat(shrunkValue.runActions().get(0).run("")).isEqualTo("aa");
 	}
 
+	@Example
+	void longSequenceIsShrunkByRemovingChunks() {
+		AtomicInteger actionRuns = new AtomicInteger(0);
+		List<Shrinkable<Action<String>>> actions = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			actions.add(countingAction(i == 250 ? "!" : "x", actionRuns));
+		}
+		Shrinkable<ActionSequence<String>> shrinkable = createAndRunShrinkableSequence(actions);
+
+		ShrinkingSequence<ActionSequence<String>> sequence = shrinkable.shrink((TestingFalsifier<ActionSequence<String>>) seq -> {
+			String result = seq.run("");
+			return !result.contains("!");
+		});
+
+		actionRuns.set(0);
+		while (sequence.next(count, reporter)) ;
+
+		assertThat(sequence.current().value().run("")).isEqualTo("!");
+		assertThat(counter.get()).isLessThan(20);
+		assertThat(actionRuns.get()).isLessThan(5000);
+	}
+
+	@Example
+	void snapshottableModelIsRestoredInsteadOfRunningSharedActions() {
+		AtomicInteger runsWithSnapshots = new AtomicInteger(0);
+		List<Integer> shrunkWithSnapshots = shrinkCounterSequence(SnapshottableCounter::new, runsWithSnapshots);
+
+		AtomicInteger runsWithoutSnapshots = new AtomicInteger(0);
+		List<Integer> shrunkWithoutSnapshots = shrinkCounterSequence(Counter::new, runsWithoutSnapshots);
+
+		assertThat(shrunkWithSnapshots).isEqualTo(shrunkWithoutSnapshots);
+		assertThat(shrunkWithSnapshots).containsExactly(3);
+		assertThat(runsWithSnapshots.get()).isLessThan(runsWithoutSnapshots.get());
+	}
+
+	private List<Integer> shrinkCounterSequence(Supplier<Counter> modelSupplier, AtomicInteger actionRuns) {
+		List<Shrinkable<Action<Counter>>> actions = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			int increment = i == 20 ? 3 : 0;
+			actions.add(Shrinkable.unshrinkable(new Action<Counter>() {
+				@Override
+				public Counter run(Counter model) {
+					actionRuns.incrementAndGet();
+					model.add(increment);
+					return model;
+				}
+
+				@Override
+				public String toString() {
+					return "add " + increment;
+				}
+			}));
+		}
+		ActionGenerator<Counter> actionGenerator = new ShrinkablesActionGenerator<>(actions);
+		Shrinkable<ActionSequence<Counter>> shrinkable = new ShrinkableActionSequence<>(
+			actionGenerator, 1, actions.size(), ShrinkingDistance.of(50)
+		);
+		shrinkable.value().run(modelSupplier.get());
+
+		ShrinkingSequence<ActionSequence<Counter>> sequence = shrinkable.shrink((TestingFalsifier<ActionSequence<Counter>>) seq -> {
+			Counter model = seq.run(modelSupplier.get());
+			return model.value < 3;
+		});
+		actionRuns.set(0);
+		while (sequence.next(() -> {}, result -> {})) ;
+
+		List<Integer> increments = new ArrayList<>();
+		Counter model = new Counter();
+		for (Action<Counter> action : sequence.current().value().runActions()) {
+			int before = model.value;
+			action.run(model);
+			increments.add(model.value - before);
+		}
+		return increments;
+	}
+
+	private static class Counter {
+		int value = 0;
+
+		void add(int increment) {
+			value += increment;
+		}
+	}
+
+	private static class SnapshottableCounter extends Counter implements Snapshottable<Integer> {
+		@Override
+		public Integer snapshot() {
+			return value;
+		}
+
+		@Override
+		public void restore(Integer snapshot) {
+			value = snapshot;
+		}
+	}
+
 	@Property(tries = 100)
 	void alwaysShrinkToSingleAction(@ForAll("stringActions") @Size(max = 50) List<Shrinkable<Action<String>>> actions) {
 		actions.add(shrinkableAddX()); // to ensure that at least one action is valid
@@ -204,6 +298,13 @@ class ShrinkableActionSequenceTests {
 				   .map(aString -> model -> model + aString);
 	}
 
+	private Shrinkable<Action<String>> countingAction(String toAdd, AtomicInteger actionRuns) {
+		return Shrinkable.unshrinkable(model -> {
+			actionRuns.incrementAndGet();
+			return model + toAdd;
+		});
+	}
+
 	private Shrinkable<ActionSequence<String>> createAndRunShrinkableSequence(List<Shrinkable<Action<String>>> actions) {
 		ActionGenerator<String> actionGenerator = new ShrinkablesActionGenerator<>(actions);
 		Shrinkable<ActionSequence<String>> shrinkable = new ShrinkableActionSequence<>(
@@ -1,6 +1,7 @@
 package net.jqwik.engine.statistics;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import net.jqwik.api.*;
 import net.jqwik.engine.hooks.statistics.*;
@@ -66,6 +67,43 @@ class StatisticsCollectionTests {
 			assertThatThrownBy(() -> collector.collect("just a string")).isInstanceOf(IllegalArgumentException.class);
 			assertThatThrownBy(() -> collector.collect("a string", 3, new Object())).isInstanceOf(IllegalArgumentException.class);
 		}
+
+		@Example
+		void singleValueListsAndNullAreNotConfusedWithMultipleValues() {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			collector.collect(asList("one", 1));
+			collector.collect(asList("one", 1));
+			collector.collect((Object) null);
+
+			Map<List<Object>, Integer> counts = collector.getCounts();
+			assertThat(counts.get(asList(asList("one", 1)))).isEqualTo(2);
+			assertThat(counts.get(Collections.singletonList(null))).isEqualTo(1);
+			assertThat(counts.get(asList("one", 1))).isNull();
+		}
+
+		@Example
+		void collectingFromSeveralThreads() throws Exception {
+			StatisticsCollectorImpl collector = new StatisticsCollectorImpl("a label");
+
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int thread = 0; thread < 4; thread++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 10000; i++) {
+						collector.collect(i % 2 == 0 ? "even" : "odd");
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			executor.shutdown();
+
+			assertThat(collector.countAllCollects()).isEqualTo(40000);
+			assertThat(collector.count("even")).isEqualTo(20000);
+			assertThat(collector.count("odd")).isEqualTo(20000);
+		}
 	}
 
 	@Group
@@ -0,0 +1,124 @@
+package net.jqwik.engine.support;
+
+import java.io.*;
+import java.net.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.jar.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClassFileHashesTests {
+
+	private static final String PACKAGE_PATH = "net/jqwik/engine/support/";
+	private static final String FIXTURE = "ClassFileHashesFixture";
+
+	@Example
+	void hashIsStable() {
+		Optional<Long> first = new ClassFileHashes().hierarchyHash(ClassFileHashesFixture.class);
+		Optional<Long> second = new ClassFileHashes().hierarchyHash(ClassFileHashesFixture.class);
+
+		assertThat(first).isPresent();
+		assertThat(first).isEqualTo(second);
+	}
+
+	@Example
+	void hashCoversAnonymousClassesInDirectories() throws Exception {
+		Path original = Files.createTempDirectory("jqwik-classes");
+		Path changed = Files.createTempDirectory("jqwik-classes");
+		try {
+			writeFixture(original, anonymousClassFile());
+			writeFixture(changed, changedAnonymousClassFile());
+
+			assertThat(fixtureHash(original)).isPresent();
+			assertThat(fixtureHash(original)).isNotEqualTo(fixtureHash(changed));
+		} finally {
+			deleteRecursively(original);
+			deleteRecursively(changed);
+		}
+	}
+
+	@Example
+	void hashCoversAnonymousClassesInJars() throws Exception {
+		Path original = Files.createTempFile("jqwik-classes", ".jar");
+		Path changed = Files.createTempFile("jqwik-classes", ".jar");
+		try {
+			writeFixtureJar(original, anonymousClassFile());
+			writeFixtureJar(changed, changedAnonymousClassFile());
+
+			assertThat(fixtureHash(original)).isPresent();
+			assertThat(fixtureHash(original)).isNotEqualTo(fixtureHash(changed));
+		} finally {
+			Files.deleteIfExists(original);
+			Files.deleteIfExists(changed);
+		}
+	}
+
+	private Optional<Long> fixtureHash(Path classpathEntry) throws Exception {
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[]{classpathEntry.toUri().toURL()}, null)) {
+			Class<?> fixture = classLoader.loadClass(ClassFileHashesFixture.class.getName());
+			return new ClassFileHashes().hierarchyHash(fixture);
+		}
+	}
+
+	private void writeFixture(Path directory, byte[] anonymousClassFile) throws IOException {
+		Path packageDirectory = Files.createDirectories(directory.resolve(PACKAGE_PATH));
+		Files.write(packageDirectory.resolve(FIXTURE + ".class"), classFile(FIXTURE));
+		Files.write(packageDirectory.resolve(FIXTURE + "$1.class"), anonymousClassFile);
+	}
+
+	private void writeFixtureJar(Path jar, byte[] anonymousClassFile) throws IOException {
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+			out.putNextEntry(new JarEntry(PACKAGE_PATH + FIXTURE + ".class"));
+			out.write(classFile(FIXTURE));
+			out.putNextEntry(new JarEntry(PACKAGE_PATH + FIXTURE + "$1.class"));
+			out.write(anonymousClassFile);
+		}
+	}
+
+	private byte[] anonymousClassFile() throws IOException {
+		return classFile(FIXTURE + "$1");
+	}
+
+	private byte[] changedAnonymousClassFile() throws IOException {
+		byte[] classFile = anonymousClassFile();
+		byte[] changed = Arrays.copyOf(classFile, classFile.length + 1);
+		changed[classFile.length] = 42;
+		return changed;
+	}
+
+	private byte[] classFile(String simpleName) throws IOException {
+		try (InputStream in = getClass().getClassLoader().getResourceAsStream(PACKAGE_PATH + simpleName + ".class")) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) > 0) {
+				out.write(buffer, 0, read);
+			}
+			return out.toByteArray();
+		}
+	}
+
+	private void deleteRecursively(Path path) throws IOException {
+		if (Files.isDirectory(path)) {
+			try (DirectoryStream<Path> children = Files.newDirectoryStream(path)) {
+				for (Path child : children) {
+					deleteRecursively(child);
+				}
+			}
+		}
+		Files.deleteIfExists(path);
+	}
+}
+
+class ClassFileHashesFixture {
+	Runnable anonymous() {
+		return new Runnable() {
+			@Override
+			public void run() {
+			}
+		};
+	}
+}
@@ -14,52 +14,86 @@ class JqwikAnnotationSupportTests {
 
 	@Example
 	void singlePresentAnnotationIsFound() throws NoSuchMethodException {
-		Stream<Class> types = typesFromMethod("singleAnnotation");
+		Stream<Class<? extends Annotation>> types = typesFromMethod("singleAnnotation");
 		assertThat(types).containsExactly(ForAll.class);
 	}
 
 	@Example
 	void twoAnnotationsAreFound() throws NoSuchMethodException {
-		Stream<Class> types = typesFromMethod("twoAnnotations");
+		Stream<Class<? extends Annotation>> types = typesFromMethod("twoAnnotations");
 		assertThat(types).containsExactly(ForAll.class, StringLength.class);
 	}
 
 	@Example
 	void repeatableAnnotationsAreFound() throws NoSuchMethodException {
-		Stream<Class> types = typesFromMethod("repeatableAnnotations");
+		Stream<Class<? extends Annotation>> types = typesFromMethod("repeatableAnnotations");
 		assertThat(types).containsExactly(CharsList.class);
 	}
 
 	@Example
 	void mixedAnnotationsAreFound() throws NoSuchMethodException {
-		Stream<Class> types = typesFromMethod("mixedAnnotations");
+		Stream<Class<? extends Annotation>> types = typesFromMethod("mixedAnnotations");
 		assertThat(types).containsExactly(ForAll.class, CharsList.class);
 	}
 
 	@Example
 	void simpleMetaAnnotation() throws NoSuchMethodException {
-		Stream<Class> types = typesFromMethod("simpleMetaAnnotations");
+		Stream<Class<? extends Annotation>> types = typesFromMethod("simpleMetaAnnotations");
 		assertThat(types).containsExactly(ForAny.class, ForAll.class);
 	}
 
 	@Example
 	void repeatedMetaAnnotations() throws NoSuchMethodException {
-		Stream<Class> types = typesFromMethod("repeatedMetaAnnotations");
+		Stream<Class<? extends Annotation>> types = typesFromMethod("repeatedMetaAnnotations");
 		assertThat(types).containsExactly(AlphaNumeric.class, CharsList.class, StringLength.class);
 	}
 
 	@Example
 	void nestedMetaAnnotations() throws NoSuchMethodException {
-		Stream<Class> types = typesFromMethod("nestedMetaAnnotations");
+		Stream<Class<? extends Annotation>> types = typesFromMethod("nestedMetaAnnotations");
 		assertThat(types).containsExactly(Nested.class, AlphaNumeric.class, CharsList.class, StringLength.class);
 	}
 
 	@Example
 	void handleCircularMetaAnnotations() throws NoSuchMethodException {
-		Stream<Class> types = typesFromMethod("circularMetaAnnotations");
+		Stream<Class<? extends Annotation>> types = typesFromMethod("circularMetaAnnotations");
 		assertThat(types).containsExactly(One.class, Two.class);
 	}
 
+	@Example
+	void repeatedLookupReturnsIndependentCopies() throws NoSuchMethodException {
+		List<Annotation> first = annotationsFromMethod("twoAnnotations");
+		first.clear();
+
+		Stream<Class<? extends Annotation>> types = typesFromMethod("twoAnnotations");
+		assertThat(types).containsExactly(ForAll.class, StringLength.class);
+	}
+
+	@Example
+	void annotationOnElementOrContainer() throws NoSuchMethodException {
+		Method inContainer = AnnotatedContainer.class.getDeclaredMethod("inContainer");
+		Method onMethod = AnnotatedContainer.class.getDeclaredMethod("onMethod");
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(JqwikAnnotationSupport.findAnnotationOnElementOrContainer(inContainer, Label.class))
+				.hasValueSatisfying(label -> assertThat(label.value()).isEqualTo("container"));
+			assertThat(JqwikAnnotationSupport.findAnnotationOnElementOrContainer(onMethod, Label.class))
+				.hasValueSatisfying(label -> assertThat(label.value()).isEqualTo("method"));
+			assertThat(JqwikAnnotationSupport.findAnnotationOnElementOrContainer(onMethod, Tag.class))
+				.isEmpty();
+		}
+	}
+
+	@Label("container")
+	static class AnnotatedContainer {
+		void inContainer() {
+		}
+
+		@Label("method")
+		void onMethod() {
+		}
+	}
+
 	static class AClass {
 		void singleAnnotation(@ForAll String param) {
 		}
@@ -127,7 +161,7 @@ class JqwikAnnotationSupportTests {
 		return AClass.class.getDeclaredMethod(methodName, String.class).getParameters()[0];
 	}
 
-	private Stream<Class> typesFromMethod(String methodName) throws NoSuchMethodException {
+	private Stream<Class<? extends Annotation>> typesFromMethod(String methodName) throws NoSuchMethodException {
 		List<Annotation> annotations = annotationsFromMethod(methodName);
 		return annotations.stream().map(a -> a.annotationType());
 	}